@@ -30,6 +30,8 @@ import java.util.Collection;
 
 import javax.imageio.stream.ImageInputStream;
 
+import com.ibm.j9ddr.corereaders.memory.AbstractMemory;
+import com.ibm.j9ddr.corereaders.memory.IAddressSpace;
 import com.ibm.j9ddr.corereaders.memory.IMemorySource;
 
 /**
@@ -194,6 +196,11 @@ public abstract class AbstractCoreReader implements ICore
 	}
 
 	public void close() throws IOException {
+		for (IAddressSpace addressSpace : getAddressSpaces()) {
+			if (addressSpace instanceof AbstractMemory) {
+				((AbstractMemory) addressSpace).releaseCachedPages();
+			}
+		}
 		if (_fileReader != null) {
 			_fileReader.close();
 		}
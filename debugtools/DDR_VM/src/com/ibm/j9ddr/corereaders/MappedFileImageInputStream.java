@@ -0,0 +1,187 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * An ImageInputStream over a file which is memory mapped in fixed size windows
+ * rather than read through a RandomAccessFile.
+ *
+ * A single MappedByteBuffer can address at most 2GB, so large core files are
+ * split into windows which are mapped lazily on first access. In addition to
+ * the usual stream interface, {@link #readFully(long, byte[], int, int)} reads
+ * at an absolute position without moving the stream pointer, which allows
+ * memory sources to copy straight out of the mapping without a seek.
+ */
+public class MappedFileImageInputStream extends ImageInputStreamImpl {
+
+	/**
+	 * The default size of each mapped window of the file.
+	 */
+	public static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long length;
+	private final long windowSize;
+	private final AtomicReferenceArray<MappedByteBuffer> windows;
+
+	public MappedFileImageInputStream(File file) throws IOException {
+		this(file, DEFAULT_WINDOW_SIZE);
+	}
+
+	public MappedFileImageInputStream(File file, long windowSize) throws IOException {
+		if ((windowSize <= 0) || (windowSize > Integer.MAX_VALUE)) {
+			throw new IllegalArgumentException("Invalid window size: " + windowSize);
+		}
+		this.file = new RandomAccessFile(file, "r");
+		this.channel = this.file.getChannel();
+		this.length = channel.size();
+		this.windowSize = windowSize;
+		this.windows = new AtomicReferenceArray<>((int) ((length + windowSize - 1) / windowSize));
+	}
+
+	public MappedFileImageInputStream(File file, ByteOrder endian) throws IOException {
+		this(file);
+		setByteOrder(endian);
+	}
+
+	private MappedByteBuffer getWindow(int index) throws IOException {
+		MappedByteBuffer window = windows.get(index);
+
+		if (window == null) {
+			long start = index * windowSize;
+			long size = Math.min(windowSize, length - start);
+
+			window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+			if (!windows.compareAndSet(index, null, window)) {
+				// another thread mapped the same window first
+				window = windows.get(index);
+			}
+		}
+
+		return window;
+	}
+
+	/**
+	 * Read up to len bytes at the given absolute position in the file without
+	 * affecting the stream position. This method may be called concurrently
+	 * from several threads.
+	 *
+	 * @param position file offset to read from
+	 * @param b destination array
+	 * @param off offset in destination array
+	 * @param len maximum number of bytes to read
+	 * @return the number of bytes read, or -1 if position is at or beyond the end of the file
+	 * @throws IOException
+	 */
+	public int read(long position, byte[] b, int off, int len) throws IOException {
+		if ((off < 0) || (len < 0) || (off + len > b.length) || (off + len < 0)) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (position < 0) {
+			throw new IOException("Negative position: " + position);
+		}
+		if (position >= length) {
+			return -1;
+		}
+
+		int toRead = (int) Math.min(len, length - position);
+		int copied = 0;
+
+		while (copied < toRead) {
+			long current = position + copied;
+			int index = (int) (current / windowSize);
+			int windowOffset = (int) (current % windowSize);
+			ByteBuffer window = getWindow(index).duplicate();
+			int chunk = Math.min(toRead - copied, window.capacity() - windowOffset);
+
+			((Buffer) window).position(windowOffset);
+			window.get(b, off + copied, chunk);
+			copied += chunk;
+		}
+
+		return copied;
+	}
+
+	/**
+	 * Read exactly len bytes at the given absolute position in the file without
+	 * affecting the stream position.
+	 *
+	 * @see #read(long, byte[], int, int)
+	 */
+	public void readFully(long position, byte[] b, int off, int len) throws IOException {
+		if (read(position, b, off, len) != len) {
+			throw new EOFException("Read of " + len + " bytes at 0x" + Long.toHexString(position) + " extends beyond end of file");
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		if (streamPos >= length) {
+			return -1;
+		}
+		long position = streamPos++;
+		return 0xFF & getWindow((int) (position / windowSize)).get((int) (position % windowSize));
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		if (len == 0) {
+			return 0;
+		}
+		int count = read(streamPos, b, off, len);
+		if (count > 0) {
+			streamPos += count;
+		}
+		return count;
+	}
+
+	@Override
+	public long length() {
+		return length;
+	}
+
+	@Override
+	public void close() throws IOException {
+		super.close();
+		// the mappings remain valid until they are collected
+		file.close();
+	}
+
+}
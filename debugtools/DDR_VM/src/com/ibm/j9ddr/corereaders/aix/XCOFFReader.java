@@ -238,9 +238,11 @@ public class XCOFFReader implements IModuleFile
 			long startPoint = address - baseAddress;
 			
 			try {
-				_backing.seek(_startOffset + startPoint);
-				
-				_backing.readFully(buffer, offset, length);
+				synchronized (_backing) {
+					_backing.seek(_startOffset + startPoint);
+					
+					_backing.readFully(buffer, offset, length);
+				}
 			} catch (IOException e) {
 				throw new MemoryFault(address,"Memory fault caused by IOException reading file " + _library);
 			}
@@ -61,6 +61,11 @@ public class ELF32FileReader extends ELFFileReader {
 		super(file, byteOrder);
 	}
 
+	public ELF32FileReader(File file, ByteOrder byteOrder, boolean mapped)
+			throws IOException, InvalidDumpFormatException {
+		super(file, byteOrder, mapped);
+	}
+
 	public ELF32FileReader(ImageInputStream in, long offset, long limit)
 			throws IOException, InvalidDumpFormatException {
 		super(in, offset, limit);
@@ -61,6 +61,11 @@ public class ELF64FileReader extends ELFFileReader {
 		super(file, byteOrder);
 	}
 
+	public ELF64FileReader(File file, ByteOrder byteOrder, boolean mapped)
+			throws IOException, InvalidDumpFormatException {
+		super(file, byteOrder, mapped);
+	}
+
 	public ELF64FileReader(ImageInputStream in, long offset, long limit)
 			throws IOException, InvalidDumpFormatException {
 		super(in, offset, limit);
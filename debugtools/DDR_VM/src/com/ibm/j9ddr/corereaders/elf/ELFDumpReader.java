@@ -195,6 +195,8 @@ public abstract class ELFDumpReader implements ILibraryDependentCore {
 
 	@Override
 	public void close() throws IOException {
+		// discard the cached data of the dump
+		_process.releaseCachedPages();
 		// close the handle to the dump
 		_reader.close();
 		// now close any open module handles
@@ -244,7 +246,11 @@ public abstract class ELFDumpReader implements ILibraryDependentCore {
 	}
 
 	public static ELFDumpReader getELFDumpReader(File file) throws IOException, InvalidDumpFormatException {
-		ELFFileReader reader = ELFFileReader.getELFFileReader(file);
+		return getELFDumpReader(file, false);
+	}
+
+	public static ELFDumpReader getELFDumpReader(File file, boolean mapped) throws IOException, InvalidDumpFormatException {
+		ELFFileReader reader = ELFFileReader.getELFFileReader(file, mapped);
 		return getELFDumpReader(reader);
 	}
 
@@ -38,10 +38,34 @@ import com.ibm.j9ddr.corereaders.InvalidDumpFormatException;
 public class ELFDumpReaderFactory implements ICoreFileReader
 {
 
+	/**
+	 * Setting this system property (to anything) will cause core files to be
+	 * memory mapped rather than read through a FileImageInputStream. This is
+	 * much faster for heap walks over large cores, but requires enough virtual
+	 * address space to map the whole file.
+	 *
+	 * The system property name matches the field name, so it can be set with:
+	 * -Dcom.ibm.j9ddr.corereaders.elf.ELFDumpReaderFactory.USEMAPPEDREADER=true
+	 * at the command line.
+	 */
+	public static final String USEMAPPEDREADER = "com.ibm.j9ddr.corereaders.elf.ELFDumpReaderFactory.USEMAPPEDREADER";
+
+	private final boolean useMappedReader;
+
+	public ELFDumpReaderFactory()
+	{
+		this(System.getProperty(USEMAPPEDREADER) != null);
+	}
+
+	public ELFDumpReaderFactory(boolean useMappedReader)
+	{
+		this.useMappedReader = useMappedReader;
+	}
+
 	public ICore processDump(String path) throws InvalidDumpFormatException,
 			IOException
 	{
-		return ELFDumpReader.getELFDumpReader(new File(path));
+		return ELFDumpReader.getELFDumpReader(new File(path), useMappedReader);
 	}
 	
 	public ICore processDump(ImageInputStream in) throws InvalidDumpFormatException, IOException {
@@ -41,6 +41,7 @@ import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
 
 import com.ibm.j9ddr.corereaders.InvalidDumpFormatException;
+import com.ibm.j9ddr.corereaders.MappedFileImageInputStream;
 import com.ibm.j9ddr.corereaders.memory.IMemorySource;
 import com.ibm.j9ddr.corereaders.memory.ISymbol;
 import com.ibm.j9ddr.corereaders.memory.Symbol;
@@ -146,8 +147,16 @@ public abstract class ELFFileReader {
 
 	// Use openELFFile to get an ELFFile instance.
 	protected ELFFileReader(File file, ByteOrder byteOrder) throws IOException, InvalidDumpFormatException {
+		this(file, byteOrder, false);
+	}
+
+	protected ELFFileReader(File file, ByteOrder byteOrder, boolean mapped) throws IOException, InvalidDumpFormatException {
 		try {
-			is = new FileImageInputStream(file);
+			if (mapped) {
+				is = new MappedFileImageInputStream(file);
+			} else {
+				is = new FileImageInputStream(file);
+			}
 			is.setByteOrder(byteOrder);
 			this._file = file;
 			sourceName = file.getAbsolutePath();
@@ -226,6 +235,20 @@ public abstract class ELFFileReader {
 	// ELF files can be either Big Endian (for example on Linux/PPC)
 	// or Little Endian (Linux/IA).
 	public static ELFFileReader getELFFileReader(File file) throws IOException, InvalidDumpFormatException {
+		return getELFFileReader(file, false);
+	}
+
+	/**
+	 * Open an ELF file, optionally memory mapping it rather than reading
+	 * it through a FileImageInputStream.
+	 *
+	 * @param file the ELF file
+	 * @param mapped whether to memory map the file
+	 * @return a reader for the file
+	 * @throws IOException
+	 * @throws InvalidDumpFormatException
+	 */
+	public static ELFFileReader getELFFileReader(File file, boolean mapped) throws IOException, InvalidDumpFormatException {
 		// Figure out which combination of bitness and architecture we are
 		try (ImageInputStream in = new FileImageInputStream(file)) {
 			if (!isFormatValid(in)) {
@@ -234,9 +257,9 @@ public abstract class ELFFileReader {
 			int bitness = in.read();
 			ByteOrder byteOrder = getByteOrder(in);
 			if (ELFCLASS64 == bitness) {
-				return new ELF64FileReader(file, byteOrder);
+				return new ELF64FileReader(file, byteOrder, mapped);
 			} else {
-				return new ELF32FileReader(file, byteOrder);
+				return new ELF32FileReader(file, byteOrder, mapped);
 			}
 		}
 	}
@@ -721,6 +744,30 @@ public abstract class ELFFileReader {
 		is.readFully(b, off, len);
 	}
 
+	/**
+	 * Read len bytes at the given offset in the ELF file. When the file is
+	 * memory mapped the bytes are copied directly from the mapping and the
+	 * current position of the reader is not changed; otherwise this is
+	 * equivalent to a seek followed by readFully, done while holding the
+	 * lock on the stream so that concurrent callers do not interleave.
+	 *
+	 * @param pos offset relative to the start of the ELF file
+	 * @param b destination array
+	 * @param off offset in destination array
+	 * @param len number of bytes to read
+	 * @throws IOException
+	 */
+	public void readFullyAt(long pos, byte[] b, int off, int len) throws IOException {
+		if (is instanceof MappedFileImageInputStream) {
+			((MappedFileImageInputStream) is).readFully(baseOffset + pos, b, off, len);
+		} else {
+			synchronized (is) {
+				seek(pos);
+				is.readFully(b, off, len);
+			}
+		}
+	}
+
 	/**
 	 * Reads a string from the readers current position until
 	 * it is terminated by a null (0) byte.
@@ -21,21 +21,16 @@
  */
 package com.ibm.j9ddr.corereaders.memory;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.nio.ByteOrder;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collection;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TreeMap;
 import java.util.logging.Logger;
 
-import com.ibm.j9ddr.util.WeakValueMap;
-
 import static java.util.logging.Level.*;
 
 
@@ -61,10 +56,12 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 	
 	private static final String ENABLE_CACHE_STATS_SYSTEM_PROPERTY = "ddr.track.core.cache.stats";
 	
+	private static final String CACHE_PAGE_SIZE_SYSTEM_PROPERTY = "ddr.core.data.cache.page.bytes";
+	
 	/**
-	 * Size of data block used for caching core data.
+	 * Default size of the pages used for caching core data.
 	 */
-	private static final long CACHE_BLOCK_SIZE = 1024l;
+	private static final int DEFAULT_CACHE_PAGE_SIZE = 4096;
 	
 	/**
 	 * Global boolean for enabling/disabling core file caching
@@ -76,29 +73,11 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 	 */
 	static final boolean RECORDING_CACHE_STATS;
 	
-	/* Cache stats counters */
-	private static long cacheHits = 0;
-	private static long cacheMisses = 0;
-	private static long bytesReadFromDisk = 0;
-	private static long bytesReadFromBlockCache = 0;
-	private static long purgedBlocks = 0;
-	private static long purgedBytes = 0;
-	private static long cacheByteHighWaterMark = 0;
-	
-	
-	/* A global list to hold strong references to the blocks used by all CachingMemorySource's
-	 * either in their blockMap or singleBlockRef fields.
-	 * Updates must be synchronized on the list to prevent multiple threads from interfering with
-	 * each other.
-	 * It is never read from directly, blocks are retrieved from the blockMap or singleBlockRef.
-	 * This list ensures that at least MAXIMUM_CORE_FILE_CACHE_BYTES worth of blocks are kept
-	 * alive by strong references and GC doesn't clear all the WeakReferences to blocks in one go.
+	/**
+	 * The cache shared by the memory sources of all cores. When caching is disabled
+	 * it holds nothing but still counts the reads.
 	 */
-	private static final List<CacheBlock> keepAliveList = new ArrayList<CacheBlock>();
-	
-	/* Current core file cache size
-	 * Access should be synchronized on keepAliveList */
-	private static long cacheSize = 0;
+	private static final PageCache pageCache;
 	
 	private final ByteOrder byteOrder;
 	
@@ -136,6 +115,30 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 			GLOBAL_CACHE_ENABLED = true;
 		}
 
+		String cachePageSize = AccessController.doPrivileged(new PrivilegedAction<String>() {
+
+			public String run()
+			{
+				return System.getProperty(CACHE_PAGE_SIZE_SYSTEM_PROPERTY);
+			}
+			
+		});
+
+		int pageSize = DEFAULT_CACHE_PAGE_SIZE;
+		if (cachePageSize != null) {
+			try {
+				pageSize = Integer.parseInt(cachePageSize);
+			} catch (NumberFormatException e) {
+				logger.logp(WARNING,"AbstractMemory","<clinit>","Invalid value for {0}: {1}",new Object[]{CACHE_PAGE_SIZE_SYSTEM_PROPERTY,cachePageSize});
+			}
+			if ((pageSize <= 0) || ((pageSize & (pageSize - 1)) != 0)) {
+				logger.logp(WARNING,"AbstractMemory","<clinit>","Core memory cache page size {0} is not a power of two, using {1}",new Object[]{pageSize,DEFAULT_CACHE_PAGE_SIZE});
+				pageSize = DEFAULT_CACHE_PAGE_SIZE;
+			}
+		}
+
+		pageCache = new PageCache(Math.max(size, 0), pageSize);
+
 		String enableCacheStats = AccessController.doPrivileged(new PrivilegedAction<String>() {
 
 			public String run()
@@ -307,6 +310,9 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 		
 		if (wrappedSource != null) {
 			memorySources.removeMemorySource(wrappedSource);
+			if (wrappedSource instanceof CachingMemorySource) {
+				((CachingMemorySource) wrappedSource).releaseCachedPages();
+			}
 		} else {
 			memorySources.removeMemorySource(source);
 		}
@@ -361,240 +367,58 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 	}
 	
 	/**
-	 * Record used for tracking cached memory bytes.
-	 * 
-	 * @author andhall
-	 *
+	 * Discard the cached data of this memory. This is called when the core it was read
+	 * from is closed, so that the shared cache does not hold on to data which will not be read again.
 	 */
-	static class CacheBlock
+	public void releaseCachedPages()
 	{
-		public CacheBlock(byte[] buffer)
-		{
-			this.buffer = buffer;
+		for (IMemorySource wrappedSource : decoratorMappingTable.values()) {
+			if (wrappedSource instanceof CachingMemorySource) {
+				((CachingMemorySource) wrappedSource).releaseCachedPages();
+			}
 		}
-		
-		public final byte[] buffer;
 	}
 	
 	/**
-	 * Dummy memory range that adds byte caching to the delegate memory range.
+	 * @return the cache used for the data read from all cores
+	 */
+	public static PageCache getPageCache()
+	{
+		return pageCache;
+	}
+	
+	/**
+	 * @return true if the data read from cores is cached
+	 */
+	public static boolean isCacheEnabled()
+	{
+		return GLOBAL_CACHE_ENABLED;
+	}
+	
+	/**
+	 * Dummy memory range that adds page caching to the delegate memory range.
 	 * @author andhall
 	 *
 	 */
 	private final static class CachingMemorySource extends DelegatingMemorySource
 	{
-		//For ranges smaller than a block, we have an optimised path to the single cache block
-		//that represents this range
-		private final boolean singleBlockRange;
-		
-		private final WeakValueMap<Integer, CacheBlock> blockMap;
-		
-		private Reference<CacheBlock> singleBlockRef;
+		private final long sourceId = pageCache.newSourceId();
 
 		public CachingMemorySource(IMemorySource source)
 		{
 			super(source);
-			
-			if (delegate.getSize() <= CACHE_BLOCK_SIZE) {
-				singleBlockRange = true;
-				blockMap = null;
-			} else {
-				singleBlockRange = false;
-				blockMap = new WeakValueMap<Integer, CacheBlock>();
-			}
 		}
 
 		public int getBytes(long address, byte[] buffer, int offset, int length)
 				throws MemoryFault
 		{
-			if (singleBlockRange) {
-				CacheBlock block;
-				boolean cacheHit = false;
-				if (singleBlockRef == null || (block = singleBlockRef.get()) == null) {
-					if (RECORDING_CACHE_STATS) {
-						cacheHit = true;
-					}
-					block = loadBlock(this.getBaseAddress(),address,(int)this.getSize());
-					singleBlockRef = new WeakReference<CacheBlock>(block);
-				} else {
-					if (RECORDING_CACHE_STATS) {
-						cacheHit = false;
-					}
-				}
-				
-				System.arraycopy(block.buffer, (int)(address - delegate.getBaseAddress()), buffer, offset, length);
-				
-				if (RECORDING_CACHE_STATS) {
-					if (cacheHit) {
-						cacheHits++;
-						bytesReadFromBlockCache += length;
-					} else {
-						cacheMisses++;
-					}
-				}
-				
-				return length;
-			} else {
-				int read = 0;
-				int destIndex = offset;
-				int toRead;
-			
-				while ((toRead = length - read) > 0) {
-					long rangeOffset = address - this.getBaseAddress();
-					int blockIndex = (int)(rangeOffset / CACHE_BLOCK_SIZE);
-					long blockBase = delegate.getBaseAddress() + (CACHE_BLOCK_SIZE * ((long)blockIndex));
-					long sizeToEndOfRange = delegate.getTopAddress() - blockBase + 1;
-					int blockSize = (int)(sizeToEndOfRange > CACHE_BLOCK_SIZE ? CACHE_BLOCK_SIZE : sizeToEndOfRange);
-					boolean cacheHit = false;
-					
-					CacheBlock block = blockMap.get(blockIndex);
-					
-					if (RECORDING_CACHE_STATS) {
-						cacheHit = block != null;
-					}
-					
-					if (block == null) {
-						block = loadBlock(blockBase,address,blockSize);
-						blockMap.put(blockIndex, block);
-					}
-					
-					long offsetInBlock = address - blockBase;
-					long remainingInBlock = blockSize - offsetInBlock;
-					long amountToReadInBlock = remainingInBlock > toRead ? toRead : remainingInBlock;
-					
-					System.arraycopy(block.buffer,(int)offsetInBlock,buffer,destIndex,(int)amountToReadInBlock);
-					
-					if (RECORDING_CACHE_STATS) {
-						if (cacheHit) {
-							cacheHits++;
-							bytesReadFromBlockCache += amountToReadInBlock;
-						} else {
-							cacheMisses++;
-						}
-					}
-					
-					address += amountToReadInBlock;
-					read += amountToReadInBlock;
-					destIndex += amountToReadInBlock;
-				}
-			
-				return read;
-			}
+			return pageCache.getBytes(delegate, sourceId, address, buffer, offset, length);
 		}
 
-		private CacheBlock loadBlock(long blockBaseAddress, long actualAddress, int blockSize) throws MemoryFault
+		void releaseCachedPages()
 		{
-			byte[] buffer = new byte[blockSize];
-			
-			/* Avoid throwing 2 memory faults when accessing unbacked Memory.
-			 * Elf core dumps often include large unbacked ranges so this is
-			 * significant.
-			 */
-			if( delegate.isBacked() ) {
-				try {
-					delegate.getBytes(blockBaseAddress, buffer, 0, blockSize);
-				} catch (MemoryFault e) {
-					throw new MemoryFault(actualAddress, "MemoryFault loading cache block",e);
-				}
-			} else {
-				throw new MemoryFault(actualAddress, "MemoryFault loading cache block, unbacked memory");
-			}
-			
-			if (RECORDING_CACHE_STATS) {
-				bytesReadFromDisk += blockSize;
-			}
-			
-			CacheBlock block = new CacheBlock(buffer);
-			
-			synchronized (keepAliveList) {
-				cacheSize += blockSize;
-				
-				if (cacheSize > MAXIMUM_CORE_FILE_CACHE_BYTES) {
-					trimCache();
-				}
-				
-				if (RECORDING_CACHE_STATS) {
-					if (cacheSize > cacheByteHighWaterMark) {
-						cacheByteHighWaterMark = cacheSize;
-					}
-				}
-				keepAliveList.add(block);
-			}
-			
-			return block;
+			pageCache.release(sourceId);
 		}
-		
-		/*
-		 * Clear the keepAliveList so that GC can collect the items removed from
-		 * blockMap. 
-		 */
-		private static void trimCache()
-		{
-			synchronized (keepAliveList) {
-				// Drop entries from the cache until we're under the cache limit
-				// At the moment we just randomly drop things - a caching strategy that's proving hard to beat.
-				while (cacheSize > MAXIMUM_CORE_FILE_CACHE_BYTES && keepAliveList.size() > 0) {
-					CacheBlock block = keepAliveList.remove(0);
-					
-					cacheSize -= block.buffer.length;
-					
-					if (RECORDING_CACHE_STATS) {
-						purgedBlocks++;
-						purgedBytes += block.buffer.length;
-					}
-				}
-			}
-		}
-		
-		
-
-		@Override
-		public int hashCode()
-		{
-			final int prime = 31;
-			int result = super.hashCode();
-			result = prime * result
-					+ ((blockMap == null) ? 0 : blockMap.hashCode());
-			result = prime * result + (singleBlockRange ? 1231 : 1237);
-			result = prime
-					* result
-					+ ((singleBlockRef == null) ? 0 : singleBlockRef.hashCode());
-			return result;
-		}
-
-		@Override
-		public boolean equals(Object obj)
-		{
-			if (this == obj) {
-				return true;
-			}
-			if (!super.equals(obj)) {
-				return false;
-			}
-			if (!(obj instanceof CachingMemorySource)) {
-				return false;
-			}
-			CachingMemorySource other = (CachingMemorySource) obj;
-			if (blockMap == null) {
-				if (other.blockMap != null) {
-					return false;
-				}
-			} else if (!blockMap.equals(other.blockMap)) {
-				return false;
-			}
-			if (singleBlockRange != other.singleBlockRange) {
-				return false;
-			}
-			if (singleBlockRef == null) {
-				if (other.singleBlockRef != null) {
-					return false;
-				}
-			} else if (!singleBlockRef.equals(other.singleBlockRef)) {
-				return false;
-			}
-			return true;
-		}
-
 	}
 	
 	/*
@@ -614,8 +438,7 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 		{
 			int read = super.getBytes(address, buffer, offset, length);
 			
-			cacheMisses++;
-			bytesReadFromDisk += read;
+			pageCache.recordUncachedRead(read);
 			
 			return read;
 		}
@@ -627,17 +450,16 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 
 		public void run()
 		{
+			PageCache.Statistics stats = pageCache.getStatistics();
 			System.err.println("**DDR Core Reader Cache Stats**");
 			System.err.println("Global cache enabled: " + GLOBAL_CACHE_ENABLED);
-			System.err.println("Cache hits: " + cacheHits);
-			System.err.println("Cache misses: " + cacheMisses);
-			double cacheHitRate = ((double)cacheHits / (cacheHits + cacheMisses)) * 100;
+			System.err.println("Cache hits: " + stats.hits);
+			System.err.println("Cache misses: " + stats.misses);
+			double cacheHitRate = stats.getHitRate();
 			System.err.println("Cache hit rate: " + cacheHitRate);
-			System.err.println("Bytes read from disk: " + bytesReadFromDisk);
-			System.err.println("Bytes read from cache: " + bytesReadFromBlockCache);
-			System.err.println("Purged blocks: " + purgedBlocks);
-			System.err.println("Purged bytes: " + purgedBytes);
-			System.err.println("Cache bytes high water mark: " + cacheByteHighWaterMark);
+			System.err.println("Bytes read from disk: " + stats.bytesFromSource);
+			System.err.println("Evicted pages: " + stats.evictions);
+			System.err.println("Cache bytes high water mark: " + stats.highWaterMark);
 			System.err.println("TLB Cache hits: " +  MemorySourceTable.tlbCacheHits);
 			System.err.println("TLB Cache misses: " +  MemorySourceTable.tlbCacheMisses);
 			double tlbHitRate = ((double)MemorySourceTable.tlbCacheHits / (MemorySourceTable.tlbCacheHits + MemorySourceTable.tlbCacheMisses)) * 100;
@@ -645,9 +467,9 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 			
 			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","DDR Core Reader Cache Stats");
 			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Global cache enabled: {0}",GLOBAL_CACHE_ENABLED);
-			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Cache hits: {0}, cache misses: {1}, cache hit rate: {2}", new Object[]{cacheHits,cacheMisses, cacheHitRate});
-			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Bytes read from disk: {0}, from cache: {1}, purged blocks: {2}, purged bytes: {3}", new Object[]{bytesReadFromDisk,bytesReadFromBlockCache,purgedBlocks,purgedBytes});
-			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Cache bytes high water mark {0}", new Object[]{cacheByteHighWaterMark});
+			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Cache hits: {0}, cache misses: {1}, cache hit rate: {2}", new Object[]{stats.hits,stats.misses, cacheHitRate});
+			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Bytes read from disk: {0}, evicted pages: {1}", new Object[]{stats.bytesFromSource,stats.evictions});
+			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","Cache bytes high water mark {0}", new Object[]{stats.highWaterMark});
 			logger.logp(FINE,"AbstractMemory","CacheStatsReporter","TLB Cache hits: {0}, misses: {1}, hit rate:{2}",new Object[]{MemorySourceTable.tlbCacheHits,MemorySourceTable.tlbCacheMisses,tlbHitRate});
 		}
 	}
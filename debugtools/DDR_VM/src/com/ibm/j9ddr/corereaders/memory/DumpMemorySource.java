@@ -107,8 +107,11 @@ public class DumpMemorySource extends ProtectedMemoryRange implements IMemorySou
 		}
 
 		try {
-			coreReader.seek(fileOffset + rangeOffset);
-			coreReader.readFully(buffer, offset, length);
+			// the reader is shared by all the memory sources of the dump
+			synchronized (coreReader) {
+				coreReader.seek(fileOffset + rangeOffset);
+				coreReader.readFully(buffer, offset, length);
+			}
 		} catch (IOException ex) {
 			throw new MemoryFault(address,
 					"Memory fault caused by IOException reading dump.", ex);
@@ -411,14 +411,17 @@ public class MemorySourceTable {
 		}
 
 		private IMemorySource tlbCheck(long address) {
-			if (tlbEntry1 != null && tlbEntry1.contains(address)) {
+			// Read each entry once: another thread may replace it between the check and the return
+			IMemorySource entry1 = tlbEntry1;
+			if (entry1 != null && entry1.contains(address)) {
 				entry1HitCount++;
-				return tlbEntry1;
+				return entry1;
 			}
 
-			if (tlbEntry2 != null && tlbEntry2.contains(address)) {
+			IMemorySource entry2 = tlbEntry2;
+			if (entry2 != null && entry2.contains(address)) {
 				entry2HitCount++;
-				return tlbEntry2;
+				return entry2;
 			}
 
 			return null;
@@ -0,0 +1,383 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.memory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of pages read from memory sources, evicting the least recently used
+ * pages once the cache is full.
+ * <p>
+ * Pages are aligned to the page size in the address space and clipped to the bounds
+ * of their memory source. The cache is divided into segments, each with its own lock
+ * and an equal share of the capacity, so that several threads can read at once; the
+ * eviction order is therefore least recently used within a segment.
+ * <p>
+ * Pages are keyed on an identifier obtained from {@link #newSourceId()} rather than on the
+ * memory source itself, so the cache does not keep the sources of closed cores reachable,
+ * and a source created later can never be served pages read by an earlier one.
+ */
+public final class PageCache
+{
+	private static final int SEGMENT_COUNT = 16;
+
+	private final int pageSize;
+	private final long capacity;
+	private final Segment[] segments;
+	private final AtomicLong nextSourceId = new AtomicLong();
+	private final AtomicLong size = new AtomicLong();
+	private final AtomicLong highWaterMark = new AtomicLong();
+
+	/**
+	 * @param capacity the maximum number of bytes to cache
+	 * @param pageSize the page size in bytes, a power of two
+	 */
+	public PageCache(long capacity, int pageSize)
+	{
+		if ((pageSize <= 0) || ((pageSize & (pageSize - 1)) != 0)) {
+			throw new IllegalArgumentException("Page size must be a power of two: " + pageSize);
+		}
+		this.pageSize = pageSize;
+		this.capacity = capacity;
+		this.segments = new Segment[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment(capacity / SEGMENT_COUNT);
+		}
+	}
+
+	public int getPageSize()
+	{
+		return pageSize;
+	}
+
+	public long getCapacity()
+	{
+		return capacity;
+	}
+
+	/**
+	 * @return a new identifier for the pages of a memory source
+	 */
+	public long newSourceId()
+	{
+		return nextSourceId.incrementAndGet();
+	}
+
+	/**
+	 * Read bytes from source through the cache.
+	 *
+	 * @param source the memory source to read on a miss
+	 * @param sourceId the identifier of source, from {@link #newSourceId()}
+	 * @see IMemorySource#getBytes(long, byte[], int, int)
+	 */
+	public int getBytes(IMemorySource source, long sourceId, long address, byte[] buffer, int offset, int length) throws MemoryFault
+	{
+		long sourceBase = source.getBaseAddress();
+		long sourceTop = source.getTopAddress();
+		long pageMask = ~((long) pageSize - 1);
+		int read = 0;
+
+		while (read < length) {
+			long current = address + read;
+			long pageBase = current & pageMask;
+			long pageTop = pageBase + pageSize - 1;
+			if (Addresses.lessThan(pageBase, sourceBase)) {
+				pageBase = sourceBase;
+			}
+			if (Addresses.greaterThan(pageTop, sourceTop)) {
+				pageTop = sourceTop;
+			}
+
+			byte[] page = getPage(source, sourceId, pageBase, (int) (pageTop - pageBase + 1), current);
+			int offsetInPage = (int) (current - pageBase);
+			int toCopy = Math.min(page.length - offsetInPage, length - read);
+			System.arraycopy(page, offsetInPage, buffer, offset + read, toCopy);
+			read += toCopy;
+		}
+
+		return read;
+	}
+
+	private byte[] getPage(IMemorySource source, long sourceId, long pageBase, int pageLength, long address) throws MemoryFault
+	{
+		PageKey key = new PageKey(sourceId, pageBase);
+		Segment segment = segments[(key.hashCode() >>> 1) % SEGMENT_COUNT];
+		byte[] page = segment.get(key);
+
+		if (page == null) {
+			/* Avoid throwing 2 memory faults when accessing unbacked memory.
+			 * ELF core dumps often include large unbacked ranges so this is
+			 * significant.
+			 */
+			if (!source.isBacked()) {
+				throw new MemoryFault(address, "MemoryFault loading cache page, unbacked memory");
+			}
+			page = new byte[pageLength];
+			try {
+				source.getBytes(pageBase, page, 0, pageLength);
+			} catch (MemoryFault e) {
+				throw new MemoryFault(address, "MemoryFault loading cache page", e);
+			}
+			/* loaded outside the lock: if two threads miss on the same page, both read it and the last one is kept */
+			addSize(segment.put(key, page));
+		}
+
+		return page;
+	}
+
+	/**
+	 * Track the number of bytes held by all segments, and its highest value.
+	 */
+	private void addSize(long delta)
+	{
+		long current = size.addAndGet(delta);
+		long highest;
+		while (current > (highest = highWaterMark.get())) {
+			if (highWaterMark.compareAndSet(highest, current)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Record a read which bypassed the cache, so that it appears as a miss in the statistics.
+	 */
+	void recordUncachedRead(int length)
+	{
+		segments[0].recordUncachedRead(length);
+	}
+
+	/**
+	 * Discard the cached pages of a memory source which will not be read again.
+	 *
+	 * @param sourceId the identifier of the source
+	 */
+	public void release(long sourceId)
+	{
+		for (Segment segment : segments) {
+			addSize(-segment.release(sourceId));
+		}
+	}
+
+	/**
+	 * Discard all cached pages.
+	 */
+	public void clear()
+	{
+		for (Segment segment : segments) {
+			addSize(-segment.clear());
+		}
+	}
+
+	/**
+	 * @return a snapshot of the cache counters
+	 */
+	public Statistics getStatistics()
+	{
+		Statistics statistics = new Statistics(capacity, pageSize);
+		for (Segment segment : segments) {
+			segment.addTo(statistics);
+		}
+		statistics.highWaterMark = highWaterMark.get();
+		return statistics;
+	}
+
+	/**
+	 * Reset the hit, miss and eviction counters.
+	 */
+	public void resetStatistics()
+	{
+		for (Segment segment : segments) {
+			segment.resetStatistics();
+		}
+		highWaterMark.set(size.get());
+	}
+
+	/**
+	 * A snapshot of the counters of a PageCache.
+	 */
+	public static final class Statistics
+	{
+		public final long capacity;
+		public final int pageSize;
+		public long hits;
+		public long misses;
+		public long evictions;
+		public long bytesFromSource;
+		public long cachedPages;
+		public long cachedBytes;
+		/** the most bytes held by the whole cache at once since it was created or its statistics were reset */
+		public long highWaterMark;
+
+		Statistics(long capacity, int pageSize)
+		{
+			this.capacity = capacity;
+			this.pageSize = pageSize;
+		}
+
+		/**
+		 * @return the percentage of page lookups which were hits
+		 */
+		public double getHitRate()
+		{
+			long lookups = hits + misses;
+			return (lookups == 0) ? 0.0 : ((double) hits * 100) / lookups;
+		}
+	}
+
+	private static final class PageKey
+	{
+		final long sourceId;
+		final long base;
+
+		PageKey(long sourceId, long base)
+		{
+			this.sourceId = sourceId;
+			this.base = base;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			long h = base ^ (base >>> 32);
+			h = (h * 0x9E3779B97F4A7C15L) ^ (sourceId * 0xC2B2AE3D27D4EB4FL);
+			return (int) (h ^ (h >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof PageKey)) {
+				return false;
+			}
+			PageKey other = (PageKey) obj;
+			return (sourceId == other.sourceId) && (base == other.base);
+		}
+	}
+
+	private static final class Segment
+	{
+		private final long capacity;
+		private final LinkedHashMap<PageKey, byte[]> pages = new LinkedHashMap<PageKey, byte[]>(64, 0.75f, true);
+		private long size;
+		private long hits;
+		private long misses;
+		private long evictions;
+		private long bytesFromSource;
+
+		Segment(long capacity)
+		{
+			this.capacity = capacity;
+		}
+
+		synchronized byte[] get(PageKey key)
+		{
+			byte[] page = pages.get(key);
+			if (page != null) {
+				hits += 1;
+			} else {
+				misses += 1;
+			}
+			return page;
+		}
+
+		/**
+		 * @return the change in the number of bytes held
+		 */
+		synchronized long put(PageKey key, byte[] page)
+		{
+			long oldSize = size;
+			byte[] previous = pages.put(key, page);
+			if (previous != null) {
+				size -= previous.length;
+			}
+			size += page.length;
+			bytesFromSource += page.length;
+
+			Iterator<Map.Entry<PageKey, byte[]>> eldest = pages.entrySet().iterator();
+			while ((size > capacity) && eldest.hasNext()) {
+				byte[] evicted = eldest.next().getValue();
+				eldest.remove();
+				size -= evicted.length;
+				evictions += 1;
+			}
+
+			return size - oldSize;
+		}
+
+		synchronized void recordUncachedRead(int length)
+		{
+			misses += 1;
+			bytesFromSource += length;
+		}
+
+		/**
+		 * @return the number of bytes released
+		 */
+		synchronized long release(long sourceId)
+		{
+			long released = 0;
+			Iterator<Map.Entry<PageKey, byte[]>> entries = pages.entrySet().iterator();
+			while (entries.hasNext()) {
+				Map.Entry<PageKey, byte[]> entry = entries.next();
+				if (entry.getKey().sourceId == sourceId) {
+					released += entry.getValue().length;
+					entries.remove();
+				}
+			}
+			size -= released;
+			return released;
+		}
+
+		/**
+		 * @return the number of bytes released
+		 */
+		synchronized long clear()
+		{
+			long released = size;
+			pages.clear();
+			size = 0;
+			return released;
+		}
+
+		synchronized void addTo(Statistics statistics)
+		{
+			statistics.hits += hits;
+			statistics.misses += misses;
+			statistics.evictions += evictions;
+			statistics.bytesFromSource += bytesFromSource;
+			statistics.cachedPages += pages.size();
+			statistics.cachedBytes += size;
+		}
+
+		synchronized void resetStatistics()
+		{
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+			bytesFromSource = 0;
+		}
+	}
+}
@@ -358,14 +358,20 @@ public class AddressSpace implements Serializable {
     protected byte[] getBlockFromCacheOrDisk(long address) throws IOException {
         //assert (address & 0xfff) == 0;
         /* Now look to see if the block is in the lru cache */
-        byte[] block = (byte[])blockCache.get(address);
+        /* The lru cache is not thread safe; the file read itself is serialized on the dump */
+        byte[] block;
+        synchronized (blockCache) {
+            block = (byte[])blockCache.get(address);
+        }
         if (block == null) {
             //cacheMisses++;
             /* Not found in cache so read from the file itself */
             block = new byte[Dump.DATABLOCKSIZE];
             read(address, block);
             /* Put it in the cache */
-            blockCache.put(address, block);
+            synchronized (blockCache) {
+                blockCache.put(address, block);
+            }
             //if (log.isLoggable(Level.FINEST))
             //    log.finest("request to get block for address 0x" + hex(address) + " met by file read");
         //} else {
@@ -50,6 +50,7 @@ import com.ibm.j9ddr.exceptions.JVMNotDDREnabledException;
 import com.ibm.j9ddr.exceptions.JVMNotFoundException;
 import com.ibm.j9ddr.exceptions.MissingDDRStructuresException;
 import com.ibm.j9ddr.logging.LoggerNames;
+import com.ibm.j9ddr.tools.ddrinteractive.commands.CacheStatsCommand;
 import com.ibm.j9ddr.tools.ddrinteractive.commands.ForeachCommand;
 import com.ibm.j9ddr.tools.ddrinteractive.commands.LookupSymbolCommand;
 import com.ibm.j9ddr.tools.ddrinteractive.commands.NativeLibrariesCommand;
@@ -90,6 +91,7 @@ public class DDRInteractive implements Runnable
 		localCommandList.add(new ExtractMemoryCommand());
 		localCommandList.add(new TimeCommand());
 		localCommandList.add(new ForeachCommand());
+		localCommandList.add(new CacheStatsCommand());
 
 		nonVMCommands = Collections.unmodifiableList(localCommandList);
 	}
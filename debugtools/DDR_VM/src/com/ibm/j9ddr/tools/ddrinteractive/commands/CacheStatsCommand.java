@@ -0,0 +1,69 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.tools.ddrinteractive.commands;
+
+import java.io.PrintStream;
+
+import com.ibm.j9ddr.corereaders.memory.AbstractMemory;
+import com.ibm.j9ddr.corereaders.memory.PageCache;
+import com.ibm.j9ddr.tools.ddrinteractive.Command;
+import com.ibm.j9ddr.tools.ddrinteractive.Context;
+import com.ibm.j9ddr.tools.ddrinteractive.DDRInteractiveCommandException;
+
+/**
+ * Prints the counters of the cache of data read from the core file.
+ */
+public class CacheStatsCommand extends Command {
+
+	public CacheStatsCommand()
+	{
+		addCommand("cachestats", "[reset]", "print the core data cache statistics, or reset them");
+	}
+
+	public void run(String command, String[] args, Context context,
+			PrintStream out) throws DDRInteractiveCommandException {
+		PageCache cache = AbstractMemory.getPageCache();
+		if (args.length > 0) {
+			if ((args.length == 1) && args[0].equals("reset")) {
+				cache.resetStatistics();
+				out.println("Core data cache statistics reset");
+			} else {
+				out.println("Usage: !cachestats [reset]");
+			}
+			return;
+		}
+
+		PageCache.Statistics stats = cache.getStatistics();
+		out.println("Cache enabled:       " + AbstractMemory.isCacheEnabled());
+		out.println("Capacity (bytes):    " + stats.capacity);
+		out.println("Page size (bytes):   " + stats.pageSize);
+		out.println("Cached pages:        " + stats.cachedPages);
+		out.println("Cached bytes:        " + stats.cachedBytes);
+		out.println("High water mark:     " + stats.highWaterMark);
+		out.println("Hits:                " + stats.hits);
+		out.println("Misses:              " + stats.misses);
+		out.printf("Hit rate:            %.2f%%%n", stats.getHitRate());
+		out.println("Evicted pages:       " + stats.evictions);
+		out.println("Bytes read from dump: " + stats.bytesFromSource);
+	}
+
+}
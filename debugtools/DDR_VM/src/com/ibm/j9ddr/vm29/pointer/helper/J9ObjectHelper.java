@@ -44,12 +44,15 @@ import static com.ibm.j9ddr.vm29.structure.J9Consts.*;
 
 public class J9ObjectHelper
 {
-	private static int cacheSize = 32;
-	private static J9ObjectPointer[] keys;
-	private static J9ClassPointer[] values;
-	private static int[] counts;
-	private static long probes;
-	private static long hits;
+	private static final int cacheSize = 32;
+	/* The class cache is kept per thread so that objects can be examined on several threads at once */
+	private static final ThreadLocal<ClassCache> classCache = new ThreadLocal<ClassCache>() {
+		@Override
+		protected ClassCache initialValue()
+		{
+			return new ClassCache();
+		}
+	};
 	public static final boolean mixedReferenceMode;
 	public static final boolean compressObjectReferences;
 
@@ -59,7 +62,6 @@ public class J9ObjectHelper
 	private static Boolean isStringBackedByByteArray = null;
 
 	static {
-		initializeCache();
 		try {
 			mixedReferenceMode = AlgorithmVersion.getVersionOf(AlgorithmVersion.MIXED_REFERENCE_MODE).getAlgorithmVersion() > 0;
 			if (mixedReferenceMode) {
@@ -126,12 +128,13 @@ public class J9ObjectHelper
 
 	public static J9ClassPointer clazz(J9ObjectPointer objPointer) throws CorruptDataException
 	{
-		J9ClassPointer classPointer = checkClassCache(objPointer);
+		ClassCache cache = classCache.get();
+		J9ClassPointer classPointer = cache.check(objPointer);
 		if(null == classPointer) {
 			long bitmask = ~(J9Consts.J9_REQUIRED_CLASS_ALIGNMENT - 1);
 			UDATA clazz = rawClazz(objPointer);
 			classPointer = J9ClassPointer.cast(clazz.bitAnd(bitmask));
-			setClassCache(objPointer, classPointer);
+			cache.set(objPointer, classPointer);
 		}
 		return classPointer;
 	}
@@ -430,43 +433,47 @@ public class J9ObjectHelper
 		throw new NoSuchElementException(String.format("No field named %s with signature %s in %s", name, signature, J9ObjectHelper.getClassName(objPointer)));
 	}
 
-	private static J9ClassPointer checkClassCache(J9ObjectPointer objPointer)
+	private static final class ClassCache
 	{
-		probes++;
-		for (int i = 0; i < cacheSize; i++) {
-			if (keys[i].equals(objPointer)) {
-				hits++;
-				counts[i]++;
-				return values[i];
+		final J9ObjectPointer[] keys = new J9ObjectPointer[cacheSize];
+		final J9ClassPointer[] values = new J9ClassPointer[cacheSize];
+		final int[] counts = new int[cacheSize];
+		long probes;
+		long hits;
+
+		ClassCache()
+		{
+			for (int i = 0; i < cacheSize; i++) {
+				keys[i] = J9ObjectPointer.NULL;
 			}
 		}
-		return null;
-	}
 
-	private static void setClassCache(J9ObjectPointer objPointer, J9ClassPointer classPointer)
-	{
-		int min = counts[0];
-		int minIndex = 0;
-		for (int i = 1; i < cacheSize; i++) {
-			if (counts[i] < min) {
-				min = counts[i];
-				minIndex = i;
+		J9ClassPointer check(J9ObjectPointer objPointer)
+		{
+			probes++;
+			for (int i = 0; i < cacheSize; i++) {
+				if (keys[i].equals(objPointer)) {
+					hits++;
+					counts[i]++;
+					return values[i];
+				}
 			}
+			return null;
 		}
-		keys[minIndex] = objPointer;
-		values[minIndex] = classPointer;
-		counts[minIndex] = 1;
-	}
 
-	private static void initializeCache()
-	{
-		keys = new J9ObjectPointer[cacheSize];
-		values = new J9ClassPointer[cacheSize];
-		counts = new int[cacheSize];
-		probes = 0;
-		hits = 0;
-		for (int i = 0; i < cacheSize; i++) {
-			keys[i] = J9ObjectPointer.NULL;
+		void set(J9ObjectPointer objPointer, J9ClassPointer classPointer)
+		{
+			int min = counts[0];
+			int minIndex = 0;
+			for (int i = 1; i < cacheSize; i++) {
+				if (counts[i] < min) {
+					min = counts[i];
+					minIndex = i;
+				}
+			}
+			keys[minIndex] = objPointer;
+			values[minIndex] = classPointer;
+			counts[minIndex] = 1;
 		}
 	}
 
@@ -522,8 +529,9 @@ public class J9ObjectHelper
 
 	public static void reportClassCacheStats()
 	{
-		double hitRate = (double)hits / (double)probes * 100.0;
-		System.out.println("J9ObjectHelper probes: " + probes + " hit rate: " + hitRate + "%");
-		initializeCache();
+		ClassCache cache = classCache.get();
+		double hitRate = (double)cache.hits / (double)cache.probes * 100.0;
+		System.out.println("J9ObjectHelper probes: " + cache.probes + " hit rate: " + hitRate + "%");
+		classCache.remove();
 	}
 }
@@ -36,6 +36,7 @@ import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.BuildFlagsCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.BytecodesCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.CPDescriptionCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ClassForNameCommand;
+import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ClassHistogramCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ClassloadersSummaryCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.CompressedRefMappingCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ContinuationStackWalkCommand;
@@ -216,6 +217,7 @@ public class GetCommandsTask extends BaseJVMCommands implements IBootstrapRunnab
 		}
 		toPassBack.add(new VirtualThreadsCommand());
 		toPassBack.add(new FindInstances());
+		toPassBack.add(new ClassHistogramCommand());
 
 		loadPlugins(toPassBack, loader);
 
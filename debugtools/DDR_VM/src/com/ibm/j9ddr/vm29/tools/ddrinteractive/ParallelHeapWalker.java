@@ -0,0 +1,202 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+
+/**
+ * Walks every object in the heap, dividing the heap regions between several threads.
+ * <p>
+ * Each region is walked on its own into a fresh result from {@link #createResult()}, and
+ * the per-region results are then merged, in region order, into the result passed to
+ * {@link #walk(Object)}. The merged result is therefore the same whatever the number of threads.
+ * <p>
+ * Object boundaries are only known by walking a region from its start, so a region is the
+ * smallest unit of work: a heap consisting of one large region is walked by a single thread.
+ * <p>
+ * The number of threads defaults to the number of available processors and can be set with
+ * the system property named by {@link #THREADS}.
+ *
+ * @param <R> the type of the result
+ */
+public abstract class ParallelHeapWalker<R>
+{
+	public static final String THREADS = ParallelHeapWalker.class.getName() + ".THREADS";
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	/**
+	 * @return a new, empty result
+	 */
+	protected abstract R createResult();
+
+	/**
+	 * Visit one object. This is called from several threads at once, but never concurrently
+	 * for the same result.
+	 *
+	 * @param object the object
+	 * @param result the result for the region containing the object
+	 * @throws CorruptDataException to abandon the walk of the region
+	 */
+	protected abstract void visitObject(J9ObjectPointer object, R result) throws CorruptDataException;
+
+	/**
+	 * Merge the result of a region into the overall result. Regions are merged in order
+	 * on the thread which called {@link #walk(Object)}.
+	 *
+	 * @param into the overall result
+	 * @param from the result of a region
+	 */
+	protected abstract void merge(R into, R from);
+
+	/**
+	 * @return the number of threads to walk the heap with
+	 */
+	public static int getThreadCount() {
+		Integer threads = Integer.getInteger(THREADS);
+		if ((threads != null) && (threads.intValue() > 0)) {
+			return threads.intValue();
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Walk the whole heap, merging the objects found into result.
+	 * <p>
+	 * If a region is corrupt, the results of the regions preceding it are merged before
+	 * the exception is thrown, as would be the case when walking the regions in sequence.
+	 *
+	 * @param result the result to merge into
+	 * @throws CorruptDataException if the regions or the objects of a region could not be walked
+	 */
+	public void walk(R result) throws CorruptDataException {
+		/* the region iterator initializes the GC singletons; do that before starting other threads */
+		List<GCHeapRegionDescriptor> regions = new ArrayList<GCHeapRegionDescriptor>();
+		GCHeapRegionIterator regionIterator = GCHeapRegionIterator.from();
+		while (regionIterator.hasNext()) {
+			regions.add(regionIterator.next());
+		}
+
+		int threads = Math.min(getThreadCount(), regions.size());
+		if (threads <= 1) {
+			for (GCHeapRegionDescriptor region : regions) {
+				walkRegion(region, result);
+			}
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, "ParallelHeapWalker-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+
+		try {
+			List<Future<R>> futures = new ArrayList<Future<R>>(Collections.<Future<R>>nCopies(regions.size(), null));
+
+			/* start the largest regions first so that they do not finish last */
+			List<Integer> order = new ArrayList<Integer>(regions.size());
+			final long[] sizes = new long[regions.size()];
+			for (int i = 0; i < regions.size(); i++) {
+				order.add(Integer.valueOf(i));
+				sizes[i] = regions.get(i).getSize().longValue();
+			}
+			Collections.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer left, Integer right) {
+					return Long.compare(sizes[right.intValue()], sizes[left.intValue()]);
+				}
+			});
+			for (Integer index : order) {
+				final GCHeapRegionDescriptor region = regions.get(index.intValue());
+				futures.set(index.intValue(), executor.submit(new Callable<R>() {
+					@Override
+					public R call() throws CorruptDataException {
+						R regionResult = createResult();
+						walkRegion(region, regionResult);
+						return regionResult;
+					}
+				}));
+			}
+
+			for (Future<R> future : futures) {
+				merge(result, getResult(future));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void walkRegion(GCHeapRegionDescriptor region, R result) throws CorruptDataException {
+		GCObjectHeapIterator heapIterator = GCObjectHeapIterator.fromHeapRegionDescriptor(region, true, true);
+		while (heapIterator.hasNext()) {
+			visitObject(heapIterator.next(), result);
+		}
+	}
+
+	private static <R> R getResult(Future<R> future) throws CorruptDataException {
+		boolean interrupted = false;
+		try {
+			for (;;) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CorruptDataException) {
+				throw (CorruptDataException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
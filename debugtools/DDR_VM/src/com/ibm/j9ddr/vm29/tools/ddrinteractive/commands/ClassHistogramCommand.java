@@ -0,0 +1,174 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.tools.ddrinteractive.Command;
+import com.ibm.j9ddr.tools.ddrinteractive.Context;
+import com.ibm.j9ddr.tools.ddrinteractive.DDRInteractiveCommandException;
+import com.ibm.j9ddr.tools.ddrinteractive.Table;
+import com.ibm.j9ddr.vm29.j9.ObjectModel;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ClassHelper;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
+import com.ibm.j9ddr.vm29.tools.ddrinteractive.ParallelHeapWalker;
+
+public class ClassHistogramCommand extends Command
+{
+	public ClassHistogramCommand() {
+		addCommand("classhistogram", "[-a] [-n]", "list the number of instances and the space used by each class in the heap");
+	}
+
+	private static void printUsage(PrintStream out) {
+		out.println("classhistogram [-a] [-n] - list the number of instances and the space used by each class in the heap");
+		out.println("  -a: exclude array classes");
+		out.println("  -n: sort by number of instances rather than space used");
+	}
+
+	@Override
+	public void run(String command, String[] args, Context context, PrintStream out) throws DDRInteractiveCommandException {
+		boolean includeArrays = true;
+		boolean sortByCount = false;
+
+		if (args != null) {
+			for (String arg : args) {
+				if (arg.equals("-a")) {
+					includeArrays = false;
+				} else if (arg.equals("-n")) {
+					sortByCount = true;
+				} else {
+					if (!arg.equals("help")) {
+						out.println("Invalid argument: " + arg);
+					}
+					printUsage(out);
+					return;
+				}
+			}
+		}
+
+		Map<J9ClassPointer, InstanceCounts> counts = new LinkedHashMap<J9ClassPointer, InstanceCounts>();
+		try {
+			new InstanceCountWalker(includeArrays).walk(counts);
+		} catch (CorruptDataException e) {
+			e.printStackTrace();
+		}
+
+		List<Map.Entry<J9ClassPointer, InstanceCounts>> entries = new ArrayList<Map.Entry<J9ClassPointer, InstanceCounts>>(counts.entrySet());
+		Collections.sort(entries, sortByCount ? BY_INSTANCES : BY_SPACE_USED);
+
+		Table table = new Table("Class histogram");
+		table.row("Instances", "Space used", "!j9class", "Class name");
+		long totalInstances = 0;
+		long totalSpaceUsed = 0;
+		for (Map.Entry<J9ClassPointer, InstanceCounts> entry : entries) {
+			J9ClassPointer clazz = entry.getKey();
+			InstanceCounts classCounts = entry.getValue();
+			String name;
+			try {
+				name = J9ClassHelper.getJavaName(clazz);
+			} catch (CorruptDataException e) {
+				name = "<corrupt class name>";
+			}
+			table.row(Long.toString(classCounts.instances), Long.toString(classCounts.spaceUsed), clazz.getHexAddress(), name);
+			totalInstances += classCounts.instances;
+			totalSpaceUsed += classCounts.spaceUsed;
+		}
+		table.render(out);
+		out.format("Total: %d instances of %d classes using %d bytes%n", totalInstances, entries.size(), totalSpaceUsed);
+	}
+
+	private static final Comparator<Map.Entry<J9ClassPointer, InstanceCounts>> BY_SPACE_USED = new Comparator<Map.Entry<J9ClassPointer, InstanceCounts>>() {
+		@Override
+		public int compare(Map.Entry<J9ClassPointer, InstanceCounts> left, Map.Entry<J9ClassPointer, InstanceCounts> right) {
+			return Long.compare(right.getValue().spaceUsed, left.getValue().spaceUsed);
+		}
+	};
+
+	private static final Comparator<Map.Entry<J9ClassPointer, InstanceCounts>> BY_INSTANCES = new Comparator<Map.Entry<J9ClassPointer, InstanceCounts>>() {
+		@Override
+		public int compare(Map.Entry<J9ClassPointer, InstanceCounts> left, Map.Entry<J9ClassPointer, InstanceCounts> right) {
+			return Long.compare(right.getValue().instances, left.getValue().instances);
+		}
+	};
+
+	/**
+	 * The number of instances of a class and the heap space they use.
+	 */
+	static final class InstanceCounts {
+		long instances;
+		long spaceUsed;
+	}
+
+	/**
+	 * Counts the instances of each class in the heap. Classes are kept in the order their
+	 * first instance was found.
+	 */
+	static final class InstanceCountWalker extends ParallelHeapWalker<Map<J9ClassPointer, InstanceCounts>> {
+		private final boolean includeArrays;
+
+		InstanceCountWalker(boolean includeArrays) {
+			this.includeArrays = includeArrays;
+		}
+
+		@Override
+		protected Map<J9ClassPointer, InstanceCounts> createResult() {
+			return new LinkedHashMap<J9ClassPointer, InstanceCounts>();
+		}
+
+		@Override
+		protected void visitObject(J9ObjectPointer object, Map<J9ClassPointer, InstanceCounts> result) throws CorruptDataException {
+			J9ClassPointer objClass = J9ObjectHelper.clazz(object);
+			if (objClass.isNull() || (!includeArrays && J9ClassHelper.isArrayClass(objClass))) {
+				return;
+			}
+			InstanceCounts counts = result.get(objClass);
+			if (null == counts) {
+				counts = new InstanceCounts();
+				result.put(objClass, counts);
+			}
+			counts.instances += 1;
+			counts.spaceUsed += ObjectModel.getConsumedSizeInBytesWithHeader(object).longValue();
+		}
+
+		@Override
+		protected void merge(Map<J9ClassPointer, InstanceCounts> into, Map<J9ClassPointer, InstanceCounts> from) {
+			for (Map.Entry<J9ClassPointer, InstanceCounts> entry : from.entrySet()) {
+				InstanceCounts counts = into.get(entry.getKey());
+				if (null == counts) {
+					into.put(entry.getKey(), entry.getValue());
+				} else {
+					counts.instances += entry.getValue().instances;
+					counts.spaceUsed += entry.getValue().spaceUsed;
+				}
+			}
+		}
+	}
+}
@@ -30,10 +30,6 @@ import com.ibm.j9ddr.tools.ddrinteractive.Table;
 
 import com.ibm.j9ddr.vm29.j9.DataType;
 
-import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
-import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
-import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
-
 import com.ibm.j9ddr.vm29.j9.walkers.ClassSegmentIterator;
 
 import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
@@ -44,7 +40,11 @@ import com.ibm.j9ddr.vm29.pointer.helper.J9ClassHelper;
 import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
 import com.ibm.j9ddr.vm29.pointer.helper.J9RASHelper;
 
+import com.ibm.j9ddr.vm29.tools.ddrinteractive.ParallelHeapWalker;
+
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public class FindInstances extends Command
 {
@@ -129,31 +129,55 @@ public class FindInstances extends Command
 	}
 
 	private void scanHeap() {
+		Instances instances = new Instances();
 		try {
-			GCHeapRegionIterator regions = GCHeapRegionIterator.from();
-			while (regions.hasNext()) {
-				GCHeapRegionDescriptor region = regions.next();
-				scanObjects(region);
-			}
+			new InstanceWalker(classPointer).walk(instances);
 		} catch (CorruptDataException e) {
 			e.printStackTrace();
 		}
+		for (String[] row : instances.rows) {
+			data.row(row);
+		}
+		objectsFound = instances.found;
+		corruptCount = instances.corrupt;
+	}
 
+	private static final class Instances {
+		final List<String[]> rows = new ArrayList<>();
+		long found;
+		long corrupt;
 	}
 
-	private void scanObjects(GCHeapRegionDescriptor region) throws CorruptDataException	{
-		GCObjectHeapIterator heapIterator = GCObjectHeapIterator.fromHeapRegionDescriptor(region, true, true);
-		while (heapIterator.hasNext()) {
-			J9ObjectPointer object = heapIterator.next();
+	private static final class InstanceWalker extends ParallelHeapWalker<Instances> {
+		private final J9ClassPointer classPointer;
+
+		InstanceWalker(J9ClassPointer classPointer) {
+			this.classPointer = classPointer;
+		}
+
+		@Override
+		protected Instances createResult() {
+			return new Instances();
+		}
+
+		@Override
+		protected void visitObject(J9ObjectPointer object, Instances result) {
 			try {
 				J9ClassPointer objClass = J9ObjectHelper.clazz(object);
 				if (objClass.notNull() && J9ClassHelper.isSameOrSuperClassOf(classPointer, objClass)) {
-					data.row(object.getHexAddress(), J9ClassHelper.getJavaName(objClass));
-					objectsFound += 1;
+					result.rows.add(new String[] { object.getHexAddress(), J9ClassHelper.getJavaName(objClass) });
+					result.found += 1;
 				}
 			} catch (CorruptDataException e) {
-				corruptCount += 1;
+				result.corrupt += 1;
 			}
 		}
+
+		@Override
+		protected void merge(Instances into, Instances from) {
+			into.rows.addAll(from.rows);
+			into.found += from.found;
+			into.corrupt += from.corrupt;
+		}
 	}
 }
@@ -37,6 +37,8 @@ import static com.ibm.j9ddr.vm29.j9.ObjectFieldInfo.fj9object_t_SizeOf;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.TreeMap;
 
 import com.ibm.j9ddr.CorruptDataException;
@@ -45,21 +47,17 @@ import com.ibm.j9ddr.tools.ddrinteractive.CommandUtils;
 import com.ibm.j9ddr.tools.ddrinteractive.Context;
 import com.ibm.j9ddr.tools.ddrinteractive.DDRInteractiveCommandException;
 import com.ibm.j9ddr.tools.ddrinteractive.Table;
-import com.ibm.j9ddr.vm29.j9.ObjectModel;
 import com.ibm.j9ddr.vm29.types.U16;
 import com.ibm.j9ddr.vm29.types.U64;
 import com.ibm.j9ddr.vm29.types.U8;
 import com.ibm.j9ddr.vm29.j9.J9ObjectFieldOffsetIterator;
 import com.ibm.j9ddr.vm29.j9.J9ObjectFieldOffset;
 import com.ibm.j9ddr.vm29.j9.ObjectFieldInfo;
-import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
-import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
-import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
 import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
-import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9ROMFieldShapePointer;
 import com.ibm.j9ddr.vm29.pointer.helper.J9ClassHelper;
-import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
+import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ClassHistogramCommand.InstanceCounts;
+import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ClassHistogramCommand.InstanceCountWalker;
 import com.ibm.j9ddr.vm29.types.U32;
 import com.ibm.j9ddr.vm29.types.UDATA;
 
@@ -143,36 +141,25 @@ public class ObjectSizeInfo extends Command
 		summary.render(out);
 	}
 	
-	private void scanHeap() {
+	private void scanHeap() throws CorruptDataException {
+		Map<J9ClassPointer, InstanceCounts> counts = new LinkedHashMap<J9ClassPointer, InstanceCounts>();
 		try {
-			GCHeapRegionIterator regions = GCHeapRegionIterator.from();
-			while (regions.hasNext()) {
-				GCHeapRegionDescriptor region = regions.next();
-				scanObjects(region);
-			}
+			new InstanceCountWalker(includeArrays).walk(counts);
 		} catch (CorruptDataException e) {
 			e.printStackTrace();
 		}
 
-	}
-	
-	private void scanObjects(GCHeapRegionDescriptor region) throws CorruptDataException	{
-		GCObjectHeapIterator heapIterator = GCObjectHeapIterator.fromHeapRegionDescriptor(region, true, true);
-		while (heapIterator.hasNext()) {
-			J9ObjectPointer object = heapIterator.next();
-			J9ClassPointer objClass = J9ObjectHelper.clazz(object);
-			if (!objClass.isNull() &&
-					(!J9ClassHelper.isArrayClass(objClass) || includeArrays)
-					) {
-				String objClassString = J9ClassHelper.getJavaName(objClass);
-				if ((null == className) || className.equals(objClassString)) {
-					ClassFieldInfo cfInfo = fieldStats.get(objClassString);
-					if (null == cfInfo) {
-						cfInfo = new ClassFieldInfo(objClass);
-						fieldStats.put(objClassString, cfInfo);
-					} 
-					cfInfo.addInstance(object);
+		/* classes are in the order their first instance was found, as they would be in a sequential walk */
+		for (Map.Entry<J9ClassPointer, InstanceCounts> entry : counts.entrySet()) {
+			J9ClassPointer objClass = entry.getKey();
+			String objClassString = J9ClassHelper.getJavaName(objClass);
+			if ((null == className) || className.equals(objClassString)) {
+				ClassFieldInfo cfInfo = fieldStats.get(objClassString);
+				if (null == cfInfo) {
+					cfInfo = new ClassFieldInfo(objClass);
+					fieldStats.put(objClassString, cfInfo);
 				}
+				cfInfo.addInstances(entry.getValue());
 			}
 		}
 	}
@@ -326,9 +313,9 @@ public class ObjectSizeInfo extends Command
 			return accum;
 		}
 
-		public void addInstance(J9ObjectPointer object) throws CorruptDataException {
-			++instanceCount;
-			spaceUsed += ObjectModel.getConsumedSizeInBytesWithHeader(object).longValue();
+		public void addInstances(InstanceCounts counts) {
+			instanceCount += (int) counts.instances;
+			spaceUsed += counts.spaceUsed;
 		}
 		
 	}
@@ -21,6 +21,9 @@
  */
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
+import java.util.List;
+
+import com.ibm.j9ddr.CorruptDataException;
 import com.ibm.j9ddr.vm29.j9.gc.GCExtensions;
 import com.ibm.j9ddr.vm29.pointer.generated.J9JavaVMPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.MM_GCExtensionsPointer;
@@ -63,6 +66,28 @@ abstract class Check
 		getReporter().println("done (" + (endTime - startTime) + " ms).");
 	}
 
+	/**
+	 * Divide this check into independent parts, so that they can be run concurrently
+	 * when the check cycle is parallel. The parts are run in the order returned and
+	 * must each be initialized before use.
+	 *
+	 * @return the parts, or null if the check cannot be divided
+	 */
+	public List<Check> split() throws CorruptDataException
+	{
+		return null;
+	}
+
+	/**
+	 * Run one part of a divided check. Unlike run(), this does not report progress:
+	 * that is done once for the whole check.
+	 */
+	void runPart()
+	{
+		_engine.startNewCheck(this);
+		check();
+	}
+
 	public void initialize(CheckEngine engine)
 	{
 		_engine = engine;
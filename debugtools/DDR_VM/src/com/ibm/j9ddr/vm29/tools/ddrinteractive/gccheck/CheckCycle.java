@@ -23,7 +23,14 @@ package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import com.ibm.j9ddr.CorruptDataException;
 import com.ibm.j9ddr.vm29.pointer.generated.J9BuildFlags;
@@ -48,6 +55,7 @@ class CheckCycle
 //	J9PortLibrary *_portLibrary;
 	private CheckEngine _engine;
 	private boolean _printHelp;
+	private int _threads = 1;
 
 	static
 	{
@@ -149,6 +157,7 @@ private void printHelp()
 		reporter.println("  darkmatter");
 		reporter.println("  midscavenge");
 		reporter.println("  scavengerbackout");
+		reporter.println("  parallel[=threads]");
 		reporter.println();
 	}
 
@@ -328,6 +337,16 @@ private void printHelp()
 						continue;
 					}
 
+					if (miscOption.equals("parallel")) {
+						_threads = Runtime.getRuntime().availableProcessors();
+						continue;
+					}
+
+					if (miscOption.startsWith("parallel=")) {
+						_threads = Math.max(1, Integer.parseInt(miscOption.substring("parallel=".length())));
+						continue;
+					}
+
 					if (miscOption.equals("darkmatter")) {
 						miscFlags |= J9MODRON_GCCHK_MISC_DARKMATTER;
 						continue;
@@ -447,15 +466,143 @@ private void printHelp()
 			printHelp();
 		} else {
 			_engine.startCheckCycle(this);
-			for (int i = 0; i < _checks.length; i++) {
-				boolean check = (J9MODRON_GCCHK_MISC_CHECK == (_miscFlags & J9MODRON_GCCHK_MISC_CHECK));
-				boolean scan = (J9MODRON_GCCHK_MISC_SCAN == (_miscFlags & J9MODRON_GCCHK_MISC_SCAN));
-				_checks[i].run(check, scan);
+			boolean check = (J9MODRON_GCCHK_MISC_CHECK == (_miscFlags & J9MODRON_GCCHK_MISC_CHECK));
+			boolean scan = (J9MODRON_GCCHK_MISC_SCAN == (_miscFlags & J9MODRON_GCCHK_MISC_SCAN));
+			if (_threads > 1) {
+				runConcurrently(check, scan);
+			} else {
+				for (int i = 0; i < _checks.length; i++) {
+					_checks[i].run(check, scan);
+				}
 			}
 			_engine.endCheckCycle();
 		}
 	}
 
+	/**
+	 * Run the checks on a pool of threads. Each check, or each part of a check which can
+	 * be divided, runs with its own engine and its output is buffered. The buffers are
+	 * replayed in order on this thread, so the report, including the error numbers, is
+	 * the same as for a sequential run.
+	 */
+	private void runConcurrently(boolean check, boolean scan) throws CorruptDataException
+	{
+		CheckReporter reporter = _engine.getReporter();
+		ExecutorService executor = Executors.newFixedThreadPool(_threads, new ThreadFactory() {
+			private int _count;
+
+			public synchronized Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, "GCCheck-" + (++_count));
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+
+		try {
+			List<List<Future<CheckTask>>> results = new ArrayList<>(_checks.length);
+			boolean[] divided = new boolean[_checks.length];
+			for (int i = 0; i < _checks.length; i++) {
+				List<Check> parts = check ? _checks[i].split() : null;
+				List<Future<CheckTask>> futures = new ArrayList<>();
+				if (parts == null) {
+					futures.add(executor.submit(new CheckTask(_engine, _checks[i], true, check, scan)));
+				} else {
+					divided[i] = true;
+					for (Check part : parts) {
+						futures.add(executor.submit(new CheckTask(_engine, part, false, check, scan)));
+					}
+				}
+				results.add(futures);
+			}
+
+			for (int i = 0; i < _checks.length; i++) {
+				if (divided[i]) {
+					/* report progress once for all the parts, as run() would */
+					long startTime = Long.MAX_VALUE;
+					long endTime = Long.MIN_VALUE;
+					reporter.print("Checking " + _checks[i].getCheckName() + "...");
+					for (Future<CheckTask> future : results.get(i)) {
+						CheckTask task = getTask(future);
+						task._buffer.replay(reporter, this);
+						startTime = Math.min(startTime, task._startTime);
+						endTime = Math.max(endTime, task._endTime);
+					}
+					if (scan) {
+						_engine.startNewCheck(_checks[i]);
+						_checks[i].print();
+					}
+					reporter.println("done (" + Math.max(0, endTime - startTime) + " ms).");
+				} else {
+					getTask(results.get(i).get(0))._buffer.replay(reporter, this);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static CheckTask getTask(Future<CheckTask> future)
+	{
+		boolean interrupted = false;
+		try {
+			for (;;) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * A check, or part of one, to be run on its own engine with buffered output.
+	 */
+	private static final class CheckTask implements Callable<CheckTask>
+	{
+		final CheckReporterBuffer _buffer = new CheckReporterBuffer();
+		private final Check _check;
+		private final boolean _whole;
+		private final boolean _shouldCheck;
+		private final boolean _shouldPrint;
+		long _startTime;
+		long _endTime;
+
+		CheckTask(CheckEngine engine, Check check, boolean whole, boolean shouldCheck, boolean shouldPrint)
+		{
+			_check = check;
+			_whole = whole;
+			_shouldCheck = shouldCheck;
+			_shouldPrint = shouldPrint;
+			/* fork here, on the thread running the cycle, as the engine is not thread safe */
+			check.initialize(engine.fork(_buffer));
+		}
+
+		public CheckTask call()
+		{
+			_startTime = System.currentTimeMillis();
+			if (_whole) {
+				_check.run(_shouldCheck, _shouldPrint);
+			} else {
+				_check.runPart();
+			}
+			_endTime = System.currentTimeMillis();
+			return this;
+		}
+	}
+
 	public int nextErrorCount()
 	{
 		return ++_errorCount;
@@ -102,8 +102,13 @@ class CheckEngine
 
 	private GCHeapRegionManager _hrm;
 
+	/* Engines forked to run checks concurrently number their errors privately; see CheckReporterBuffer */
+	private final boolean _isFork;
+	private int _forkErrorCount;
+
 	public CheckEngine(J9JavaVMPointer vm, CheckReporter reporter) throws CorruptDataException
 	{
+		_isFork = false;
 		_javaVM = vm;
 		_reporter = reporter;
 
@@ -123,6 +128,38 @@ class CheckEngine
 		_hrm = GCHeapRegionManager.fromHeapRegionManager(hrmPtr);
 	}
 
+	/**
+	 * Create an engine for running a check concurrently with others. The new engine
+	 * shares the immutable state of this one, has its own caches and previous objects,
+	 * and reports to reporter.
+	 */
+	private CheckEngine(CheckEngine parent, CheckReporter reporter)
+	{
+		_isFork = true;
+		_javaVM = parent._javaVM;
+		_reporter = reporter;
+		_cycle = parent._cycle;
+		_classSegmentsTree = parent._classSegmentsTree;
+		_isVirtualLargeObjectHeapEnabled = parent._isVirtualLargeObjectHeapEnabled;
+		_hrm = parent._hrm;
+	}
+
+	/**
+	 * Create an engine for a check to run on another thread, once the check cycle has started.
+	 *
+	 * @param reporter the reporter for the check, normally a CheckReporterBuffer
+	 * @return the new engine
+	 */
+	public CheckEngine fork(CheckReporter reporter)
+	{
+		return new CheckEngine(this, reporter);
+	}
+
+	private int nextErrorCount()
+	{
+		return _isFork ? ++_forkErrorCount : _cycle.nextErrorCount();
+	}
+
 	public J9JavaVMPointer getJavaVM()
 	{
 		return _javaVM;
@@ -189,7 +226,7 @@ class CheckEngine
 				/* this is a hole */
 				result = checkJ9LinkedFreeHeader(GCHeapLinkedFreeHeader.fromJ9Object(object), regionDesc, _cycle.getCheckFlags());
 				if (J9MODRON_GCCHK_RC_OK != result) {
-					CheckError error = new CheckError(object, _cycle, _currentCheck, "Object", result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(object, _cycle, _currentCheck, "Object", result, nextErrorCount());
 					_reporter.report(error);
 					/* There are some error cases would not prevent further iteration */
 					if (!((J9MODRON_GCCHK_RC_DEAD_OBJECT_NEXT_IS_NOT_HOLE == result) ||
@@ -203,7 +240,7 @@ class CheckEngine
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
@@ -215,13 +252,13 @@ class CheckEngine
 			result = checkJ9Object(object, regionDesc, _cycle.getCheckFlags());
 		} catch (CorruptDataException cde) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
 		if (J9MODRON_GCCHK_RC_OK != result) {
 			String elementName = isIndexable ? "IObject " : "Object ";
-			CheckError error = new CheckError(object, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, elementName, result, nextErrorCount());
 			_reporter.report(error);
 			/* There are some error cases would not prevent further iteration */
 			if ((J9MODRON_GCCHK_RC_CLASS_IS_UNLOADED == result) || (J9MODRON_GCCHK_RC_INVALID_INDEXABLE_DATA_ADDRESS == result)) {
@@ -241,7 +278,7 @@ class CheckEngine
 				addressIterator = GCObjectIterator.fromJ9Object(object, true);
 			} catch (CorruptDataException e) {
 				// TODO : cde should be part of the error
-				CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+				CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 				_reporter.report(error);
 				return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 			}
@@ -302,14 +339,14 @@ class CheckEngine
 			scavengerEnabled = GCExtensions.scavengerEnabled();
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
 
 		if (J9MODRON_GCCHK_RC_OK != result) {
 			String elementName = isIndexable ? "IObject " : "Object ";
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, result, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_OK;
 		}
@@ -333,7 +370,7 @@ class CheckEngine
 						isOld = ObjectModel.isOld(object);
 					} catch (CorruptDataException e) {
 						// TODO : cde should be part of the error
-						CheckError error = new CheckError(objectIndirectBase, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+						CheckError error = new CheckError(objectIndirectBase, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 						_reporter.report(error);
 						return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 					}
@@ -341,7 +378,7 @@ class CheckEngine
 					/* Old objects that point to new objects should have remembered bit ON */
 					if (regionType.allBitsIn(MEMORY_TYPE_OLD) && objectRegionType.allBitsIn(MEMORY_TYPE_NEW) && !isRemembered) {
 						String elementName = isIndexable ? "IObject " : "Object ";
-						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_NEW_POINTER_NOT_REMEMBERED, _cycle.nextErrorCount());
+						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_NEW_POINTER_NOT_REMEMBERED, nextErrorCount());
 						_reporter.report(error);
 						return J9MODRON_SLOT_ITERATOR_OK;
 					}
@@ -349,7 +386,7 @@ class CheckEngine
 					/* Old objects that point to objects with old bit OFF should have remembered bit ON */
 					if (regionType.allBitsIn(MEMORY_TYPE_OLD) && !isOld && !isRemembered) {
 						String elementName = isIndexable ? "IObject " : "Object ";
-						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, _cycle.nextErrorCount());
+						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, nextErrorCount());
 						_reporter.report(error);
 						return J9MODRON_SLOT_ITERATOR_OK;
 					}
@@ -562,12 +599,12 @@ class CheckEngine
 			object = J9ObjectPointer.cast(objectIndirect.at(0));
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount(), objectType);
+				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, nextErrorCount(), objectType);
 				_reporter.report(error);
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount(), objectType);
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount(), objectType);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -583,12 +620,12 @@ class CheckEngine
 				result = checkStackObject(object);
 			}
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount(), objectType);
+				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, nextErrorCount(), objectType);
 				_reporter.report(error);
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount(), objectType);
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount(), objectType);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -604,13 +641,13 @@ class CheckEngine
 				result = checkStackObject(object);
 			}
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, result, nextErrorCount());
 				_reporter.report(error);
 				return J9MODRON_SLOT_ITERATOR_RECOVERABLE_ERROR;
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_RECOVERABLE_ERROR;
 		}
@@ -667,7 +704,7 @@ class CheckEngine
 
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, result, nextErrorCount());
 				_reporter.report(error);
 				return J9MODRON_SLOT_ITERATOR_OK;
 			}
@@ -678,14 +715,14 @@ class CheckEngine
 
 				if (objectRegion == null) {
 					/* shouldn't happen, since checkObjectIndirect() already verified this object */
-					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_NOT_FOUND, _cycle.nextErrorCount());
+					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_NOT_FOUND, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
 
 				/* we shouldn't have newspace references in the remembered set */
 				if (objectRegion.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW)) {
-					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_WRONG_SEGMENT, _cycle.nextErrorCount());
+					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_WRONG_SEGMENT, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -703,7 +740,7 @@ class CheckEngine
 				if (!skipObject) {
 					/* content of Remembered Set should be Old and Remembered */
 					if (!ObjectModel.isOld(object) || !ObjectModel.isRemembered(object)) {
-						CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_FLAGS, _cycle.nextErrorCount());
+						CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_FLAGS, nextErrorCount());
 						_reporter.report(error);
 						_reporter.reportObjectHeader(error, object, null);
 						return J9MODRON_SLOT_ITERATOR_OK;
@@ -712,7 +749,7 @@ class CheckEngine
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -725,12 +762,12 @@ class CheckEngine
 			object = J9ObjectPointer.cast(objectIndirect.at(0));
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount(), CheckError.check_type_other);
+				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, nextErrorCount(), CheckError.check_type_other);
 				_reporter.report(error);
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount(), CheckError.check_type_other);
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount(), CheckError.check_type_other);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -746,7 +783,7 @@ class CheckEngine
 		try {
 			result = checkJ9Class(clazz, segment, _cycle.getCheckFlags());
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 				_reporter.report(error);
 			}
 
@@ -773,7 +810,7 @@ class CheckEngine
 						elementName = "slots ";
 						break;
 					}
-					CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, elementName, result, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -782,7 +819,7 @@ class CheckEngine
 					/* If the slot has its old bit OFF, the class's remembered bit should be ON */
 					if (object.notNull() && !ObjectModel.isOld(object)) {
 						if (!ObjectModel.isRemembered(clazz.classObject())) {
-							CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, _cycle.nextErrorCount());
+							CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, nextErrorCount());
 							_reporter.report(error);
 							return J9MODRON_SLOT_ITERATOR_OK;
 						}
@@ -797,7 +834,7 @@ class CheckEngine
 			J9ClassPointer replaced = clazz.replacedClass();
 			if (replaced.notNull()) {
 				if (!J9ClassHelper.isSwappedOut(replaced)) {
-					CheckError error = new CheckError(clazz, clazz.replacedClassEA(), _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REPLACED_CLASS_HAS_NO_HOTSWAP_FLAG, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, clazz.replacedClassEA(), _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REPLACED_CLASS_HAS_NO_HOTSWAP_FLAG, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -843,14 +880,14 @@ class CheckEngine
 				}
 
 				if (J9MODRON_GCCHK_RC_OK != result) {
-					CheckError error = new CheckError(clazz, classSlotPtr, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, classSlotPtr, _cycle, _currentCheck, elementName, result, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 		}
 
@@ -875,7 +912,7 @@ class CheckEngine
 				if (J9ClassHelper.isArrayClass(clazz)) {
 					/* j9arrayclass should not be hot swapped */
 					result = J9MODRON_GCCHK_RC_CLASS_HOT_SWAPPED_FOR_ARRAY;
-					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 					_reporter.report(error);
 					return result;
 				}
@@ -928,7 +965,7 @@ class CheckEngine
 					/* an address must be in gc scan range */
 					if (!(address.gte(sectionStart) && address.lt(sectionEnd))) {
 						result = J9MODRON_GCCHK_RC_CLASS_STATICS_REFERENCE_IS_NOT_IN_SCANNING_RANGE;
-						CheckError error = new CheckError(clazz, address, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+						CheckError error = new CheckError(clazz, address, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 						_reporter.report(error);
 					}
 
@@ -945,14 +982,14 @@ class CheckEngine
 
 				if (!numberOfReferences.eq(romClazz.objectStaticCount())) {
 					result = J9MODRON_GCCHK_RC_CLASS_STATICS_WRONG_NUMBER_OF_REFERENCES;
-					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 					_reporter.report(error);
 				}
 			}
 
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 		}
 
@@ -1356,7 +1393,7 @@ class CheckEngine
 	{
 		int result = checkObjectIndirect(object);
 		if (J9MODRON_GCCHK_RC_OK != result) {
-			CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+			CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, result, nextErrorCount());
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -1368,7 +1405,7 @@ class CheckEngine
 		if (J9MODRON_GCCHK_RC_OK != result) {
 			CheckError error = new CheckError(
 					object, PointerPointer.NULL, _cycle, _currentCheck, result,
-					_cycle.nextErrorCount(), CheckError.check_type_finalizable);
+					nextErrorCount(), CheckError.check_type_finalizable);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
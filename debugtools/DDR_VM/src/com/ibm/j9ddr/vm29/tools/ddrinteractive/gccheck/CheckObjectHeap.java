@@ -21,6 +21,9 @@
  */
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.ibm.j9ddr.CorruptDataException;
 
 import com.ibm.j9ddr.vm29.j9.gc.GCExtensions;
@@ -36,46 +39,34 @@ import static com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck.CheckBase.*;
 
 class CheckObjectHeap extends Check
 {
+	/* the region to check, or null to check the whole heap */
+	private final GCHeapRegionDescriptor _region;
+
+	public CheckObjectHeap()
+	{
+		this(null);
+	}
+
+	private CheckObjectHeap(GCHeapRegionDescriptor region)
+	{
+		_region = region;
+	}
+
 	@Override
 	public void check()
 	{
 		// Design diverges here from GC_CheckObjectHeap
 		// Use iterators directly
 		try {
-			GCHeapRegionIterator regions = GCHeapRegionIterator.from();
 			boolean midScavenge = _engine.isMidscavengeFlagSet();
 			boolean isVLHGC = GCExtensions.isVLHGC();
 
-			while (regions.hasNext()) {
-				GCHeapRegionDescriptor region = GCHeapRegionDescriptor.fromHeapRegionDescriptor(regions.next());
-				boolean isRegionTypeNew = region.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW);
-				
-				GCObjectHeapIterator heapIterator = region.objectIterator(true, true);
-				while(heapIterator.hasNext()) {
-					J9ObjectPointer object = heapIterator.peek();
-
-					if (midScavenge && (isVLHGC || isRegionTypeNew)) {
-						GCScavengerForwardedHeader scavengerForwardedHeader = GCScavengerForwardedHeader.fromJ9Object(object);
-						if (scavengerForwardedHeader.isForwardedPointer()) {
-							//forwarded pointer is discovered
-							//report it
-							_engine.reportForwardedObject(object, scavengerForwardedHeader.getForwardedObject());
-							
-							//and skip it by advancing of iterator to the next object
-							UDATA objectSize = scavengerForwardedHeader.getObjectSize();
-							heapIterator.advance(objectSize);
-							_engine.pushPreviousObject(object);
-							continue;
-						}
-					}
-
-					int result = _engine.checkObjectHeap(object, region);
-					if(result != J9MODRON_SLOT_ITERATOR_OK) {
-						break;
-					}
-
-					heapIterator.next();
-					_engine.pushPreviousObject(object);
+			if (_region != null) {
+				checkRegion(_region, midScavenge, isVLHGC);
+			} else {
+				GCHeapRegionIterator regions = GCHeapRegionIterator.from();
+				while (regions.hasNext()) {
+					checkRegion(GCHeapRegionDescriptor.fromHeapRegionDescriptor(regions.next()), midScavenge, isVLHGC);
 				}
 			}
 		} catch (CorruptDataException e) {
@@ -83,6 +74,53 @@ class CheckObjectHeap extends Check
 		}
 	}
 
+	/**
+	 * Each region is walked on its own, so the heap can be checked one region per part.
+	 */
+	@Override
+	public List<Check> split() throws CorruptDataException
+	{
+		List<Check> parts = new ArrayList<Check>();
+		GCHeapRegionIterator regions = GCHeapRegionIterator.from();
+		while (regions.hasNext()) {
+			parts.add(new CheckObjectHeap(GCHeapRegionDescriptor.fromHeapRegionDescriptor(regions.next())));
+		}
+		return parts;
+	}
+
+	private void checkRegion(GCHeapRegionDescriptor region, boolean midScavenge, boolean isVLHGC) throws CorruptDataException
+	{
+		boolean isRegionTypeNew = region.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW);
+
+		GCObjectHeapIterator heapIterator = region.objectIterator(true, true);
+		while(heapIterator.hasNext()) {
+			J9ObjectPointer object = heapIterator.peek();
+
+			if (midScavenge && (isVLHGC || isRegionTypeNew)) {
+				GCScavengerForwardedHeader scavengerForwardedHeader = GCScavengerForwardedHeader.fromJ9Object(object);
+				if (scavengerForwardedHeader.isForwardedPointer()) {
+					//forwarded pointer is discovered
+					//report it
+					_engine.reportForwardedObject(object, scavengerForwardedHeader.getForwardedObject());
+
+					//and skip it by advancing of iterator to the next object
+					UDATA objectSize = scavengerForwardedHeader.getObjectSize();
+					heapIterator.advance(objectSize);
+					_engine.pushPreviousObject(object);
+					continue;
+				}
+			}
+
+			int result = _engine.checkObjectHeap(object, region);
+			if(result != J9MODRON_SLOT_ITERATOR_OK) {
+				break;
+			}
+
+			heapIterator.next();
+			_engine.pushPreviousObject(object);
+		}
+	}
+
 	@Override
 	public String getCheckName()
 	{
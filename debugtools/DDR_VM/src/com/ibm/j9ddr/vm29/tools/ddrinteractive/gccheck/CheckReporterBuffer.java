@@ -0,0 +1,171 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+
+/**
+ * Records everything reported by a check running on its own thread so that it
+ * can be replayed to the real reporter later, in a fixed order.
+ *
+ * Errors are numbered as they are replayed rather than as they are found, so the
+ * numbering, and the maxErrors limit, are the same as for a sequential run.
+ */
+class CheckReporterBuffer extends CheckReporter
+{
+	private interface Event
+	{
+		void replay(CheckReporter reporter);
+	}
+
+	private final List<Event> _events = new ArrayList<Event>();
+	private final List<CheckError> _errors = new ArrayList<CheckError>();
+
+	/**
+	 * Replay the recorded output to reporter, renumbering the errors from cycle.
+	 */
+	void replay(CheckReporter reporter, CheckCycle cycle)
+	{
+		IdentityHashMap<CheckError, Boolean> numbered = new IdentityHashMap<CheckError, Boolean>();
+		for (int i = 0; i < _events.size(); i++) {
+			CheckError error = _errors.get(i);
+			if ((error != null) && (numbered.put(error, Boolean.TRUE) == null)) {
+				error._errorNumber = cycle.nextErrorCount();
+			}
+			_events.get(i).replay(reporter);
+		}
+		_events.clear();
+		_errors.clear();
+	}
+
+	private void record(CheckError error, Event event)
+	{
+		_errors.add(error);
+		_events.add(event);
+	}
+
+	private static CheckElement copyOf(CheckElement element)
+	{
+		/* the engine keeps updating its previous objects, so take a snapshot */
+		CheckElement copy = new CheckElement();
+		copy.copyFrom(element);
+		return copy;
+	}
+
+	@Override
+	public void report(final CheckError error)
+	{
+		record(error, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.report(error);
+			}
+		});
+	}
+
+	@Override
+	public void reportObjectHeader(final CheckError error, final J9ObjectPointer objectPtr, final String prefix)
+	{
+		record(error, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.reportObjectHeader(error, objectPtr, prefix);
+			}
+		});
+	}
+
+	@Override
+	public void reportClass(final CheckError error, final J9ClassPointer clazz, final String prefix)
+	{
+		record(error, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.reportClass(error, clazz, prefix);
+			}
+		});
+	}
+
+	@Override
+	public void reportFatalError(final CheckError error)
+	{
+		record(error, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.reportFatalError(error);
+			}
+		});
+	}
+
+	@Override
+	public void reportHeapWalkError(final CheckError error, CheckElement previousObjectPtr1, CheckElement previousObjectPtr2, CheckElement previousObjectPtr3)
+	{
+		final CheckElement previous1 = copyOf(previousObjectPtr1);
+		final CheckElement previous2 = copyOf(previousObjectPtr2);
+		final CheckElement previous3 = copyOf(previousObjectPtr3);
+		record(error, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.reportHeapWalkError(error, previous1, previous2, previous3);
+			}
+		});
+	}
+
+	@Override
+	public void reportForwardedObject(final J9ObjectPointer object, final J9ObjectPointer newObject)
+	{
+		record(null, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.reportForwardedObject(object, newObject);
+			}
+		});
+	}
+
+	@Override
+	public void format(final String format, final Object... arguments)
+	{
+		record(null, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.format(format, arguments);
+			}
+		});
+	}
+
+	@Override
+	public void print(final String arg)
+	{
+		record(null, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.print(arg);
+			}
+		});
+	}
+
+	@Override
+	public void println(final String arg)
+	{
+		record(null, new Event() {
+			public void replay(CheckReporter reporter) {
+				reporter.println(arg);
+			}
+		});
+	}
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.stream.FileImageInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.dtfj.image.CorruptData;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImagePointer;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.dtfj.phd.parser.HeapdumpIndex;
+import com.ibm.dtfj.phd.parser.HeapdumpReader;
+import com.ibm.dtfj.phd.parser.HeapdumpWriter;
+import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
+import com.ibm.dtfj.phd.util.LongEnumeration;
+
+/**
+ * Checks that a heapdump decoded through a {@link HeapdumpIndex}, chunk by chunk,
+ * gives the same objects as decoding it sequentially.
+ */
+public class TestHeapdumpIndex
+{
+	private static final int OBJECT_COUNT = 1000;
+
+	private static final int CHUNK_SIZE = 100;
+
+	/** This object is the first in its chunk and has enough references to need a long object record */
+	private static final int LONG_RECORD_OBJECT = 500;
+
+	private static final int[] CLASSES = { 0x1000, 0x1008, 0x1010 };
+
+	private File file;
+
+	private long[] addresses;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		file = File.createTempFile("heap", ".phd");
+		addresses = new long[OBJECT_COUNT];
+
+		HeapdumpWriter writer = new HeapdumpWriter(file.getPath());
+		writer.classDump(CLASSES[0], 0, "java/lang/Object", 16, null);
+		writer.classDump(CLASSES[1], CLASSES[0], "Foo", 24, null);
+		writer.classDump(CLASSES[2], CLASSES[0], "Bar", 32, null);
+		int address = 0x100000;
+		for (int i = 0; i < OBJECT_COUNT; i++) {
+			int[] refs;
+			if (i == LONG_RECORD_OBJECT) {
+				refs = new int[10];
+				for (int j = 0; j < refs.length; j++) {
+					refs[j] = (int) addresses[j];
+				}
+			} else if (i > 0) {
+				refs = new int[] { (int) addresses[i - 1] };
+			} else {
+				refs = null;
+			}
+			writer.objectDump(address, CLASSES[i % CLASSES.length], refs);
+			addresses[i] = address;
+			address += 16 + ((i % 5) * 8);
+		}
+		writer.close();
+	}
+
+	@After
+	public void tearDown()
+	{
+		HeapdumpIndex.sidecarFile(file).delete();
+		file.delete();
+	}
+
+	private HeapdumpReader newReader(PHDImage image) throws Exception
+	{
+		return new HeapdumpReader(file, image);
+	}
+
+	private HeapdumpIndex buildAndSaveIndex(PHDImage image) throws Exception
+	{
+		HeapdumpReader reader = newReader(image);
+		try {
+			HeapdumpIndex index = HeapdumpIndex.build(reader, CHUNK_SIZE);
+			assertTrue(index.save(file));
+			return index;
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static JavaRuntime getRuntime(PHDImage image) throws Exception
+	{
+		ImageAddressSpace space = (ImageAddressSpace) image.getAddressSpaces().next();
+		ImageProcess process = (ImageProcess) space.getProcesses().next();
+		return (JavaRuntime) process.getRuntimes().next();
+	}
+
+	private static PHDJavaHeap getHeap(PHDImage image) throws Exception
+	{
+		return (PHDJavaHeap) getRuntime(image).getHeaps().next();
+	}
+
+	/**
+	 * Collects the addresses of objects (not classes) in file order.
+	 */
+	private static final class AddressCollector implements PortableHeapDumpListener
+	{
+		final List<Long> addresses = new ArrayList<Long>();
+		final int limit;
+
+		AddressCollector(int limit)
+		{
+			this.limit = limit;
+		}
+
+		private void add(HeapdumpReader reader, long address)
+		{
+			addresses.add(address);
+			if (addresses.size() == limit) {
+				reader.exitParse();
+			}
+		}
+
+		HeapdumpReader reader;
+
+		public void classDump(long address, long superAddress, String name, int size, int flags, int hashCode, LongEnumeration refs)
+		{
+			// classes are not numbered as objects
+		}
+
+		public void objectArrayDump(long address, long classAddress, int flags, int hashCode, LongEnumeration refs, int length, long instanceSize)
+		{
+			add(reader, address);
+		}
+
+		public void objectDump(long address, long classAddress, int flags, int hashCode, LongEnumeration refs, long instanceSize)
+		{
+			add(reader, address);
+		}
+
+		public void primitiveArrayDump(long address, int type, int length, int flags, int hashCode, long instanceSize)
+		{
+			add(reader, address);
+		}
+	}
+
+	@Test
+	public void testIndexRoundTrip() throws Exception
+	{
+		PHDImage image = new PHDImage(file);
+		HeapdumpIndex built = buildAndSaveIndex(image);
+		HeapdumpIndex loaded = HeapdumpIndex.load(file);
+
+		assertNotNull("Sidecar was not loaded", loaded);
+		assertEquals(OBJECT_COUNT, built.totalObjects());
+		assertEquals(OBJECT_COUNT / CHUNK_SIZE, built.getChunks().size());
+		assertEquals(built.getChunks().size(), loaded.getChunks().size());
+
+		for (int i = 0; i < built.getChunks().size(); i++) {
+			HeapdumpIndex.Chunk expected = built.getChunks().get(i);
+			HeapdumpIndex.Chunk actual = loaded.getChunks().get(i);
+
+			assertEquals(expected.objectNumber, actual.objectNumber);
+			assertEquals(expected.objectCount, actual.objectCount);
+			assertEquals(expected.offset, actual.offset);
+			assertEquals(expected.minAddress, actual.minAddress);
+			assertEquals(expected.maxAddress, actual.maxAddress);
+
+			// resuming a fresh reader at the chunk must decode the same objects as the sequential pass
+			HeapdumpReader reader = newReader(image);
+			try {
+				AddressCollector collector = new AddressCollector(actual.objectCount);
+				collector.reader = reader;
+				reader.resume(actual);
+				reader.parse(collector);
+				assertEquals("Objects in chunk " + i, actual.objectCount, collector.addresses.size());
+				for (int j = 0; j < actual.objectCount; j++) {
+					assertEquals(addresses[actual.objectNumber + j], collector.addresses.get(j).longValue());
+					assertTrue(actual.mayContain(addresses[actual.objectNumber + j]));
+				}
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	@Test
+	public void testStaleSidecarIsIgnored() throws Exception
+	{
+		buildAndSaveIndex(new PHDImage(file));
+		assertTrue(file.setLastModified(file.lastModified() - 10000));
+		assertNull(HeapdumpIndex.load(file));
+	}
+
+	private static String describe(JavaObject object) throws Exception
+	{
+		StringBuilder description = new StringBuilder();
+		JavaClass cls = object.getJavaClass();
+
+		description.append(Long.toHexString(object.getID().getAddress()));
+		description.append(' ').append((cls == null) ? null : cls.getName());
+		description.append(" size=").append(object.getSize());
+		for (Iterator<?> refs = object.getReferences(); refs.hasNext();) {
+			Object target = ((JavaReference) refs.next()).getTarget();
+			if (target instanceof JavaObject) {
+				description.append(" ->").append(Long.toHexString(((JavaObject) target).getID().getAddress()));
+			} else if (target instanceof JavaClass) {
+				description.append(" ->class ").append(((JavaClass) target).getName());
+			}
+		}
+		return description.toString();
+	}
+
+	private static List<String> describeAll(PHDJavaHeap heap) throws Exception
+	{
+		List<String> descriptions = new ArrayList<String>();
+		for (Iterator<JavaObject> objects = heap.getObjects(); objects.hasNext();) {
+			descriptions.add(describe(objects.next()));
+		}
+		return descriptions;
+	}
+
+	@Test
+	public void testIndexedMatchesSequential() throws Exception
+	{
+		buildAndSaveIndex(new PHDImage(file));
+
+		PHDJavaHeap indexed = getHeap(new PHDImage(file));
+		assertNotNull("Heap was not indexed", indexed.getIndex());
+		assertEquals(OBJECT_COUNT / CHUNK_SIZE, indexed.getIndex().getChunks().size());
+
+		FileImageInputStream stream = new FileImageInputStream(file);
+		try {
+			PHDJavaHeap sequential = getHeap(new PHDImage(file.toURI(), stream));
+			assertNull("Stream should be read sequentially", sequential.getIndex());
+
+			List<String> expected = describeAll(sequential);
+			assertEquals(OBJECT_COUNT, expected.size());
+			assertEquals(expected, describeAll(indexed));
+		} finally {
+			stream.close();
+		}
+	}
+
+	@Test
+	public void testIndexedObjectsAreCached() throws Exception
+	{
+		buildAndSaveIndex(new PHDImage(file));
+		PHDImage image = new PHDImage(file);
+		PHDJavaHeap heap = getHeap(image);
+		ImageAddressSpace space = (ImageAddressSpace) image.getAddressSpaces().next();
+
+		// nothing has been decoded yet
+		assertNull(heap.getCachedObjectAtAddress(space.getPointer(addresses[0]), false));
+
+		List<JavaObject> objects = new ArrayList<JavaObject>();
+		for (Iterator<JavaObject> it = heap.getObjects(); it.hasNext();) {
+			objects.add(it.next());
+		}
+		assertEquals(OBJECT_COUNT, objects.size());
+
+		// every chunk decoded by the iterator can now be found without decoding again
+		for (int i = 0; i < OBJECT_COUNT; i++) {
+			ImagePointer pointer = space.getPointer(addresses[i]);
+			JavaObject cached = heap.getCachedObjectAtAddress(pointer, false);
+			assertSame("Object " + i, objects.get(i), cached);
+			assertSame("Object " + i, cached, heap.getCachedObjectAtAddress(pointer, true));
+			assertSame("Object " + i, cached, getRuntime(image).getObjectAtAddress(pointer));
+		}
+		assertNull(heap.getCachedObjectAtAddress(space.getPointer(addresses[OBJECT_COUNT - 1] + 8), false));
+	}
+
+	@Test
+	public void testCorruptObjectAddress() throws Exception
+	{
+		HeapdumpIndex index = buildAndSaveIndex(new PHDImage(file));
+		HeapdumpIndex.Chunk chunk = index.getChunks().get(LONG_RECORD_OBJECT / CHUNK_SIZE);
+		assertEquals(LONG_RECORD_OBJECT, chunk.objectNumber);
+
+		// Make the reference count of the long object record run past the end of the file,
+		// keeping the length and modification time so that the saved index still applies.
+		long modified = file.lastModified();
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			raf.seek(chunk.offset);
+			assertEquals(HeapdumpWriter.LONG_OBJECT_RECORD, raf.readUnsignedByte());
+			int flags = raf.readUnsignedByte();
+			raf.skipBytes(1 << ((flags >> 6) & 3)); // address gap
+			raf.skipBytes(4); // class address
+			raf.writeInt(Integer.MAX_VALUE);
+		} finally {
+			raf.close();
+		}
+		assertTrue(file.setLastModified(modified));
+
+		PHDImage image = new PHDImage(file);
+		PHDJavaHeap heap = getHeap(image);
+		assertNotNull("Heap was not indexed", heap.getIndex());
+
+		List<Long> corrupt = new ArrayList<Long>();
+		int good = 0;
+		for (Iterator<JavaObject> it = heap.getObjects(); it.hasNext();) {
+			JavaObject object = it.next();
+			if (object instanceof CorruptData) {
+				corrupt.add(((CorruptData) object).getAddress().getAddress());
+			} else {
+				good += 1;
+			}
+		}
+		assertEquals(1, corrupt.size());
+		assertEquals(addresses[LONG_RECORD_OBJECT], corrupt.get(0).longValue());
+		// only the rest of the damaged chunk is lost
+		assertEquals(OBJECT_COUNT - CHUNK_SIZE, good);
+
+		ImageAddressSpace space = (ImageAddressSpace) image.getAddressSpaces().next();
+		JavaObject found = heap.getObjectAtAddress(space.getPointer(addresses[LONG_RECORD_OBJECT]), false);
+		assertTrue(found instanceof CorruptData);
+	}
+
+}
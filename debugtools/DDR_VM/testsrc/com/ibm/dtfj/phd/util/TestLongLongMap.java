@@ -0,0 +1,180 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TestLongLongMap
+{
+	private static final long MISSING = -12345;
+
+	/**
+	 * Find keys which all start probing at the same slot of a table with the given capacity.
+	 */
+	static long[] collidingKeys(int count, int capacity, int slot)
+	{
+		long[] keys = new long[count];
+		int found = 0;
+		for (long key = 8; found < count; key += 8) {
+			if ((LongLongMap.hash(key) & (capacity - 1)) == slot) {
+				keys[found++] = key;
+			}
+		}
+		return keys;
+	}
+
+	@Test
+	public void testPutGet()
+	{
+		LongLongMap map = new LongLongMap();
+
+		assertTrue(map.isEmpty());
+		assertTrue(map.put(0x1000, 1));
+		assertTrue(map.put(-8, 2));
+		assertTrue(map.put(Long.MIN_VALUE, 3));
+		assertFalse(map.put(0x1000, 4));
+
+		assertEquals(3, map.size());
+		assertEquals(4, map.get(0x1000, MISSING));
+		assertEquals(2, map.get(-8, MISSING));
+		assertEquals(3, map.get(Long.MIN_VALUE, MISSING));
+		assertEquals(MISSING, map.get(0x1008, MISSING));
+		assertFalse(map.containsKey(0x1008));
+	}
+
+	@Test
+	public void testZeroKey()
+	{
+		LongLongMap map = new LongLongMap();
+
+		assertFalse(map.containsKey(0));
+		assertEquals(MISSING, map.get(0, MISSING));
+		assertTrue(map.put(0, 7));
+		assertFalse(map.put(0, 8));
+		assertTrue(map.containsKey(0));
+		assertEquals(8, map.get(0, MISSING));
+		assertEquals(1, map.size());
+
+		assertTrue(map.remove(0));
+		assertFalse(map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void testCollisions()
+	{
+		LongLongMap map = new LongLongMap();
+		int capacity = map.keys.length;
+		// stay below the resize threshold so that all of the keys share one probe sequence
+		long[] keys = collidingKeys(capacity / 2, capacity, capacity - 2);
+
+		for (int i = 0; i < keys.length; i++) {
+			assertTrue(map.put(keys[i], i));
+		}
+		assertEquals(capacity, map.keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(i, map.get(keys[i], MISSING));
+		}
+
+		// removing from the start and middle of the run must not hide the entries after it,
+		// including those which wrapped around to the start of the table
+		assertTrue(map.remove(keys[0]));
+		assertTrue(map.remove(keys[3]));
+		assertFalse(map.remove(keys[3]));
+		for (int i = 0; i < keys.length; i++) {
+			if (i == 0 || i == 3) {
+				assertFalse(map.containsKey(keys[i]));
+			} else {
+				assertEquals(i, map.get(keys[i], MISSING));
+			}
+		}
+		assertEquals(keys.length - 2, map.size());
+
+		assertTrue(map.put(keys[3], 33));
+		assertEquals(33, map.get(keys[3], MISSING));
+		assertEquals(keys.length - 1, map.size());
+	}
+
+	@Test
+	public void testResize()
+	{
+		LongLongMap map = new LongLongMap(10);
+		int initialCapacity = map.keys.length;
+
+		for (long i = 0; i < 100000; i++) {
+			map.put(0x100000 + (i * 8), i);
+		}
+		assertEquals(100000, map.size());
+		assertTrue(map.keys.length > initialCapacity);
+		assertTrue(map.size() <= (map.keys.length >> 2) * 3);
+		for (long i = 0; i < 100000; i++) {
+			assertEquals(i, map.get(0x100000 + (i * 8), MISSING));
+		}
+	}
+
+	@Test
+	public void testExpectedSizeAvoidsResize()
+	{
+		LongLongMap map = new LongLongMap(1000);
+		int capacity = map.keys.length;
+
+		for (long i = 1; i <= 1000; i++) {
+			map.put(i, i);
+		}
+		assertEquals(capacity, map.keys.length);
+	}
+
+	@Test
+	public void testRandomAgainstHashMap()
+	{
+		Random random = new Random(5);
+		LongLongMap map = new LongLongMap();
+		Map<Long, Long> expected = new HashMap<Long, Long>();
+
+		for (int i = 0; i < 200000; i++) {
+			// a small key range so that puts, replacements and removes all happen often
+			long key = random.nextInt(4096) * 8L - 1024;
+			int op = random.nextInt(3);
+			if (op == 0) {
+				assertEquals(!expected.containsKey(key), map.put(key, i));
+				expected.put(key, (long) i);
+			} else if (op == 1) {
+				assertEquals(expected.remove(key) != null, map.remove(key));
+			} else {
+				Long value = expected.get(key);
+				assertEquals(value == null ? MISSING : value.longValue(), map.get(key, MISSING));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+			assertEquals(entry.getValue().longValue(), map.get(entry.getKey(), MISSING));
+		}
+	}
+
+}
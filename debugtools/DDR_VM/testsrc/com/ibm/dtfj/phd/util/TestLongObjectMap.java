@@ -0,0 +1,140 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TestLongObjectMap
+{
+	@Test
+	public void testPutGet()
+	{
+		LongObjectMap<String> map = new LongObjectMap<String>();
+
+		assertTrue(map.isEmpty());
+		assertNull(map.put(0, "zero"));
+		assertNull(map.put(0x1000, "a"));
+		assertNull(map.put(Long.MIN_VALUE, "min"));
+		assertEquals("a", map.put(0x1000, "b"));
+
+		assertEquals(3, map.size());
+		assertEquals("zero", map.get(0));
+		assertEquals("b", map.get(0x1000));
+		assertEquals("min", map.get(Long.MIN_VALUE));
+		assertNull(map.get(0x1008));
+		assertFalse(map.containsKey(0x1008));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullValue()
+	{
+		new LongObjectMap<String>().put(8, null);
+	}
+
+	@Test
+	public void testCollisions()
+	{
+		LongObjectMap<String> map = new LongObjectMap<String>();
+		int capacity = map.keys.length;
+		long[] keys = TestLongLongMap.collidingKeys(capacity / 2, capacity, capacity - 2);
+
+		for (int i = 0; i < keys.length; i++) {
+			assertNull(map.put(keys[i], "v" + i));
+		}
+		assertEquals(capacity, map.keys.length);
+
+		// removing from the start and middle of the run must not hide the entries after it,
+		// including those which wrapped around to the start of the table
+		assertEquals("v0", map.remove(keys[0]));
+		assertEquals("v3", map.remove(keys[3]));
+		assertNull(map.remove(keys[3]));
+		for (int i = 0; i < keys.length; i++) {
+			if (i == 0 || i == 3) {
+				assertNull(map.get(keys[i]));
+			} else {
+				assertEquals("v" + i, map.get(keys[i]));
+			}
+		}
+		assertEquals(keys.length - 2, map.size());
+	}
+
+	@Test
+	public void testResizeAndIterate()
+	{
+		LongObjectMap<Long> map = new LongObjectMap<Long>(10);
+		int initialCapacity = map.keys.length;
+		Set<Long> expected = new HashSet<Long>();
+
+		for (long i = 0; i < 100000; i++) {
+			map.put(i << 3, Long.valueOf(i));
+			expected.add(Long.valueOf(i));
+		}
+		assertEquals(100000, map.size());
+		assertTrue(map.keys.length > initialCapacity);
+		for (long i = 0; i < 100000; i++) {
+			assertEquals(Long.valueOf(i), map.get(i << 3));
+		}
+
+		Set<Long> seen = new HashSet<Long>();
+		for (Long value : map) {
+			assertTrue("Duplicate " + value, seen.add(value));
+		}
+		assertEquals(expected, seen);
+	}
+
+	@Test
+	public void testRandomAgainstHashMap()
+	{
+		Random random = new Random(7);
+		LongObjectMap<Integer> map = new LongObjectMap<Integer>();
+		Map<Long, Integer> expected = new HashMap<Long, Integer>();
+
+		for (int i = 0; i < 200000; i++) {
+			long key = random.nextInt(4096) * 8L - 1024;
+			int op = random.nextInt(3);
+			if (op == 0) {
+				assertEquals(expected.put(key, i), map.put(key, i));
+			} else if (op == 1) {
+				assertEquals(expected.remove(key), map.remove(key));
+			} else {
+				assertEquals(expected.get(key), map.get(key));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		int count = 0;
+		for (Integer value : map) {
+			assertNotNull(value);
+			count++;
+		}
+		assertEquals(expected.size(), count);
+	}
+
+}
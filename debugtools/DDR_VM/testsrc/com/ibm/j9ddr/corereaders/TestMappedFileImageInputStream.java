@@ -0,0 +1,159 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders;
+
+import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks MappedFileImageInputStream against the bytes of the underlying file,
+ * using a small window size so reads regularly span window boundaries.
+ */
+public class TestMappedFileImageInputStream
+{
+	private static final int WINDOW_SIZE = 64;
+
+	private static final int FILE_SIZE = (WINDOW_SIZE * 5) + 17;
+
+	private File file;
+
+	private byte[] contents;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		contents = new byte[FILE_SIZE];
+		new Random(42).nextBytes(contents);
+		file = File.createTempFile("mapped", ".bin");
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write(contents);
+		}
+	}
+
+	@After
+	public void tearDown()
+	{
+		file.delete();
+	}
+
+	@Test
+	public void testLength() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, WINDOW_SIZE)) {
+			assertEquals(FILE_SIZE, sut.length());
+		}
+	}
+
+	@Test
+	public void testPositionalReadAcrossWindows() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, WINDOW_SIZE)) {
+			for (int position = 0; position < FILE_SIZE; position += 7) {
+				int len = Math.min(WINDOW_SIZE * 2 + 3, FILE_SIZE - position);
+				byte[] buffer = new byte[len + 2];
+
+				sut.readFully(position, buffer, 1, len);
+				assertArrayEquals("Read at " + position, Arrays.copyOfRange(contents, position, position + len), Arrays.copyOfRange(buffer, 1, len + 1));
+				assertEquals("Positional read moved the stream", 0, sut.getStreamPosition());
+			}
+		}
+	}
+
+	@Test
+	public void testReadWholeFile() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, WINDOW_SIZE)) {
+			byte[] buffer = new byte[FILE_SIZE];
+
+			sut.readFully(0, buffer, 0, FILE_SIZE);
+			assertArrayEquals(contents, buffer);
+		}
+	}
+
+	@Test
+	public void testPartialReadAtEndOfFile() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, WINDOW_SIZE)) {
+			byte[] buffer = new byte[32];
+			int position = FILE_SIZE - 10;
+
+			assertEquals(10, sut.read(position, buffer, 0, buffer.length));
+			assertArrayEquals(Arrays.copyOfRange(contents, position, FILE_SIZE), Arrays.copyOf(buffer, 10));
+			assertEquals(-1, sut.read(FILE_SIZE, buffer, 0, buffer.length));
+			assertEquals(-1, sut.read(FILE_SIZE + 100, buffer, 0, buffer.length));
+		}
+	}
+
+	@Test
+	public void testReadFullyBeyondEndOfFile() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, WINDOW_SIZE)) {
+			try {
+				sut.readFully(FILE_SIZE - 4, new byte[8], 0, 8);
+				fail("Expected EOFException");
+			} catch (EOFException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testStreamReads() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, WINDOW_SIZE)) {
+			sut.seek(WINDOW_SIZE - 2);
+			assertEquals(contents[WINDOW_SIZE - 2] & 0xFF, sut.read());
+
+			byte[] buffer = new byte[WINDOW_SIZE];
+			sut.readFully(buffer);
+			assertArrayEquals(Arrays.copyOfRange(contents, WINDOW_SIZE - 1, (WINDOW_SIZE * 2) - 1), buffer);
+			assertEquals((WINDOW_SIZE * 2) - 1, sut.getStreamPosition());
+
+			sut.seek(FILE_SIZE - 1);
+			assertEquals(contents[FILE_SIZE - 1] & 0xFF, sut.read());
+			assertEquals(-1, sut.read());
+			assertEquals(-1, sut.read(buffer, 0, buffer.length));
+		}
+	}
+
+	@Test
+	public void testByteOrder() throws IOException
+	{
+		try (MappedFileImageInputStream sut = new MappedFileImageInputStream(file, ByteOrder.LITTLE_ENDIAN)) {
+			int expected = (contents[0] & 0xFF) | ((contents[1] & 0xFF) << 8) | ((contents[2] & 0xFF) << 16) | ((contents[3] & 0xFF) << 24);
+
+			assertEquals(expected, sut.readInt());
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.elf;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.ibm.j9ddr.corereaders.memory.IMemorySource;
+
+/**
+ * Compares the FileImageInputStream and memory mapped ELF readers by
+ * performing random pointer sized reads against a synthetic 64-bit
+ * little-endian core file consisting only of PT_LOAD segments.
+ *
+ * Usage: ELFReaderBenchmark [segmentCount [segmentSizeMB [reads]]]
+ */
+public class ELFReaderBenchmark
+{
+
+	private static final int PT_LOAD = 1;
+	private static final int PF_R = 4;
+	private static final int PF_W = 2;
+	private static final int HEADER_SIZE = 64;
+	private static final int PROGRAM_HEADER_SIZE = 56;
+	private static final long BASE_ADDRESS = 0x7f0000000000L;
+
+	public static void main(String[] args) throws Exception
+	{
+		int segmentCount = (args.length > 0) ? Integer.parseInt(args[0]) : 16;
+		long segmentSize = ((args.length > 1) ? Long.parseLong(args[1]) : 64) << 20;
+		int reads = (args.length > 2) ? Integer.parseInt(args[2]) : 5_000_000;
+
+		File core = File.createTempFile("elfbench", ".core");
+		core.deleteOnExit();
+		writeSyntheticCore(core, segmentCount, segmentSize);
+
+		System.out.println("Synthetic core: " + segmentCount + " segments of " + (segmentSize >> 20) + "MB, " + reads + " reads");
+
+		// run each reader twice so the second figures reflect a warm JIT and page cache
+		for (int pass = 0; pass < 2; pass++) {
+			run("stream", core, false, reads);
+			run("mapped", core, true, reads);
+		}
+	}
+
+	private static void run(String name, File core, boolean mapped, int reads) throws Exception
+	{
+		ELFFileReader reader = ELFFileReader.getELFFileReader(core, mapped);
+
+		try {
+			List<IMemorySource> sources = new ArrayList<>();
+
+			for (ProgramHeaderEntry entry : reader.getProgramHeaderEntries()) {
+				if (entry.isLoadable()) {
+					sources.add(entry.asMemorySource());
+				}
+			}
+
+			Random random = new Random(42);
+			byte[] buffer = new byte[8];
+			long checksum = 0;
+			long start = System.nanoTime();
+
+			for (int i = 0; i < reads; i++) {
+				IMemorySource source = sources.get(random.nextInt(sources.size()));
+				long offset = (random.nextLong() & Long.MAX_VALUE) % (source.getSize() - buffer.length);
+				source.getBytes(source.getBaseAddress() + (offset & ~7L), buffer, 0, buffer.length);
+				checksum += buffer[0];
+			}
+
+			long elapsed = System.nanoTime() - start;
+
+			System.out.println(String.format("%-8s %,12d reads/s (checksum %d)", name, (long) (reads * 1e9 / elapsed), checksum));
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static void writeSyntheticCore(File core, int segmentCount, long segmentSize) throws Exception
+	{
+		long dataOffset = (HEADER_SIZE + (segmentCount * PROGRAM_HEADER_SIZE) + 0xFFF) & ~0xFFFL;
+
+		try (RandomAccessFile file = new RandomAccessFile(core, "rw")) {
+			ByteBuffer header = ByteBuffer.allocate((int) dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+
+			header.put(new byte[] { 0x7F, 'E', 'L', 'F', ELFFileReader.ELFCLASS64, ELFFileReader.ELFDATA2LSB, 1 });
+			header.position(ELFFileReader.EI_NIDENT);
+			header.putShort(ELFFileReader.ET_CORE);
+			header.putShort((short) ELFFileReader.ARCH_AMD64);
+			header.putInt(1); // e_version
+			header.putLong(0); // e_entry
+			header.putLong(HEADER_SIZE); // e_phoff
+			header.putLong(0); // e_shoff
+			header.putInt(0); // e_flags
+			header.putShort((short) HEADER_SIZE);
+			header.putShort((short) PROGRAM_HEADER_SIZE);
+			header.putShort((short) segmentCount);
+			header.putShort((short) 64); // e_shentsize
+			header.putShort((short) 0); // e_shnum
+			header.putShort((short) 0); // e_shstrndx
+
+			for (int i = 0; i < segmentCount; i++) {
+				header.putInt(PT_LOAD);
+				header.putInt(PF_R | PF_W);
+				header.putLong(dataOffset + (i * segmentSize));
+				header.putLong(BASE_ADDRESS + (i * (segmentSize << 1)));
+				header.putLong(0);
+				header.putLong(segmentSize);
+				header.putLong(segmentSize);
+				header.putLong(0x1000);
+			}
+
+			file.write(header.array());
+
+			byte[] page = new byte[1 << 20];
+			new Random(0).nextBytes(page);
+			for (long written = 0; written < (segmentCount * segmentSize); written += page.length) {
+				file.write(page);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.memory;
+
+import static org.junit.Assert.*;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import com.ibm.j9ddr.corereaders.memory.TestAbstractMemory.MockMemory;
+
+/**
+ * Tests the hit, miss and eviction behaviour of PageCache, and that cached pages
+ * do not outlive the sources they were read from.
+ */
+public class TestPageCache
+{
+	private static final int PAGE_SIZE = 64;
+
+	/** The number of segments in a PageCache */
+	private static final int SEGMENT_COUNT = 16;
+
+	/**
+	 * A memory source over an array whose contents can be changed, which counts the reads made from it.
+	 */
+	static class ArraySource extends BaseMockMemoryRange implements IMemorySource
+	{
+		final byte[] data;
+		int reads;
+
+		ArraySource(long baseAddress, int size)
+		{
+			super(0, baseAddress, size);
+			data = new byte[size];
+			fill((byte) 0);
+		}
+
+		void fill(byte seed)
+		{
+			for (int i = 0; i < data.length; i++) {
+				data[i] = (byte) (seed + i);
+			}
+		}
+
+		public synchronized int getBytes(long address, byte[] buffer, int offset, int length) throws MemoryFault
+		{
+			reads += 1;
+			System.arraycopy(data, (int) (address - baseAddress), buffer, offset, length);
+			return length;
+		}
+
+		public String getName()
+		{
+			return "array";
+		}
+	}
+
+	private static byte[] read(PageCache cache, IMemorySource source, long sourceId, long address, int length) throws MemoryFault
+	{
+		byte[] buffer = new byte[length];
+		assertEquals(length, cache.getBytes(source, sourceId, address, buffer, 0, length));
+		return buffer;
+	}
+
+	private static void assertData(ArraySource source, long address, byte[] actual)
+	{
+		for (int i = 0; i < actual.length; i++) {
+			assertEquals("Byte at " + Long.toHexString(address + i), source.data[(int) (address + i - source.baseAddress)], actual[i]);
+		}
+	}
+
+	@Test
+	public void testHitsAndMisses() throws MemoryFault
+	{
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 8, PAGE_SIZE);
+		ArraySource source = new ArraySource(0x1000, PAGE_SIZE * 4);
+		long id = cache.newSourceId();
+
+		assertData(source, 0x1010, read(cache, source, id, 0x1010, 8));
+		assertEquals(1, source.reads);
+		assertData(source, 0x1000, read(cache, source, id, 0x1000, PAGE_SIZE));
+		assertEquals(1, source.reads);
+
+		// spans the first three pages, two of which are new
+		assertData(source, 0x1020, read(cache, source, id, 0x1020, PAGE_SIZE * 2));
+		assertEquals(3, source.reads);
+
+		PageCache.Statistics stats = cache.getStatistics();
+		assertEquals(2, stats.hits);
+		assertEquals(3, stats.misses);
+		assertEquals(3, stats.cachedPages);
+		assertEquals(3 * PAGE_SIZE, stats.cachedBytes);
+		assertEquals(3 * PAGE_SIZE, stats.bytesFromSource);
+		assertEquals(0, stats.evictions);
+	}
+
+	@Test
+	public void testPagesClippedToSource() throws MemoryFault
+	{
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 8, PAGE_SIZE);
+		// neither end of the source is page aligned
+		ArraySource source = new ArraySource(0x1010, PAGE_SIZE * 2);
+		long id = cache.newSourceId();
+
+		assertData(source, 0x1010, read(cache, source, id, 0x1010, PAGE_SIZE * 2));
+		assertEquals(3, cache.getStatistics().cachedPages);
+		assertEquals(PAGE_SIZE * 2, cache.getStatistics().cachedBytes);
+	}
+
+	@Test
+	public void testEviction() throws MemoryFault
+	{
+		long capacity = PAGE_SIZE * SEGMENT_COUNT * 2;
+		PageCache cache = new PageCache(capacity, PAGE_SIZE);
+		ArraySource source = new ArraySource(0x100000, PAGE_SIZE * SEGMENT_COUNT * 16);
+		long id = cache.newSourceId();
+
+		for (long address = source.getBaseAddress(); address < source.getTopAddress(); address += PAGE_SIZE) {
+			assertData(source, address, read(cache, source, id, address, PAGE_SIZE));
+			assertTrue(cache.getStatistics().cachedBytes <= capacity);
+		}
+
+		PageCache.Statistics stats = cache.getStatistics();
+		assertEquals(SEGMENT_COUNT * 16, stats.misses);
+		assertEquals(stats.misses - stats.cachedPages, stats.evictions);
+		assertTrue(stats.evictions > 0);
+		assertTrue(stats.highWaterMark <= capacity);
+
+		// the first pages have been evicted, so must be read again
+		int reads = source.reads;
+		source.fill((byte) 5);
+		assertData(source, source.getBaseAddress(), read(cache, source, id, source.getBaseAddress(), PAGE_SIZE));
+		assertEquals(reads + 1, source.reads);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedKept() throws MemoryFault
+	{
+		// two pages per segment
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 2, PAGE_SIZE);
+		ArraySource source = new ArraySource(0x100000, PAGE_SIZE * 1024);
+		long id = cache.newSourceId();
+
+		long hot = source.getBaseAddress();
+		read(cache, source, id, hot, 1);
+		for (long address = hot + PAGE_SIZE; address < source.getTopAddress(); address += PAGE_SIZE) {
+			read(cache, source, id, address, 1);
+			read(cache, source, id, hot, 1);
+		}
+
+		// the hot page was always the most recently used in its segment, so was never evicted
+		assertEquals(1024, source.reads);
+		assertTrue(cache.getStatistics().evictions > 0);
+	}
+
+	@Test
+	public void testHighWaterMark() throws MemoryFault
+	{
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 64, PAGE_SIZE);
+
+		for (int round = 0; round < 8; round++) {
+			ArraySource source = new ArraySource(0x100000, PAGE_SIZE * 10);
+			long id = cache.newSourceId();
+			read(cache, source, id, source.getBaseAddress(), PAGE_SIZE * 10);
+			cache.release(id);
+			assertEquals(0, cache.getStatistics().cachedBytes);
+		}
+
+		// at most 10 pages were ever cached at once, although they were spread over many segments
+		assertEquals(PAGE_SIZE * 10, cache.getStatistics().highWaterMark);
+
+		cache.resetStatistics();
+		assertEquals(0, cache.getStatistics().highWaterMark);
+	}
+
+	@Test
+	public void testRelease() throws MemoryFault
+	{
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 64, PAGE_SIZE);
+		ArraySource first = new ArraySource(0x1000, PAGE_SIZE * 8);
+		ArraySource second = new ArraySource(0x1000, PAGE_SIZE * 8);
+		long firstId = cache.newSourceId();
+		long secondId = cache.newSourceId();
+
+		read(cache, first, firstId, 0x1000, PAGE_SIZE * 8);
+		read(cache, second, secondId, 0x1000, PAGE_SIZE * 8);
+		assertEquals(16, cache.getStatistics().cachedPages);
+
+		cache.release(firstId);
+		assertEquals(8, cache.getStatistics().cachedPages);
+		assertEquals(8 * PAGE_SIZE, cache.getStatistics().cachedBytes);
+
+		// the second source is still cached
+		int reads = second.reads;
+		read(cache, second, secondId, 0x1000, PAGE_SIZE * 8);
+		assertEquals(reads, second.reads);
+	}
+
+	@Test
+	public void testNoStaleDataForNewSource() throws MemoryFault
+	{
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 64, PAGE_SIZE);
+		ArraySource first = new ArraySource(0x1000, PAGE_SIZE * 4);
+		read(cache, first, cache.newSourceId(), 0x1000, PAGE_SIZE * 4);
+
+		// a different source over the same addresses, as when a core is closed and another opened
+		ArraySource second = new ArraySource(0x1000, PAGE_SIZE * 4);
+		second.fill((byte) 99);
+		assertData(second, 0x1000, read(cache, second, cache.newSourceId(), 0x1000, PAGE_SIZE * 4));
+	}
+
+	@Test
+	public void testSourcesNotRetained() throws Exception
+	{
+		PageCache cache = new PageCache(PAGE_SIZE * SEGMENT_COUNT * 64, PAGE_SIZE);
+		ArraySource source = new ArraySource(0x1000, PAGE_SIZE * 4);
+		read(cache, source, cache.newSourceId(), 0x1000, PAGE_SIZE * 4);
+
+		WeakReference<ArraySource> ref = new WeakReference<ArraySource>(source);
+		source = null;
+		for (int attempt = 0; (attempt < 10) && (ref.get() != null); attempt++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertNull("The cache keeps its memory sources reachable", ref.get());
+		assertEquals(4, cache.getStatistics().cachedPages);
+	}
+
+	@Test
+	public void testMemoryReleasedOnClose() throws MemoryFault
+	{
+		if (!AbstractMemory.isCacheEnabled()) {
+			return;
+		}
+		PageCache cache = AbstractMemory.getPageCache();
+		int pageSize = cache.getPageSize();
+		long before = cache.getStatistics().cachedBytes;
+
+		AbstractMemory memory = new MockMemory(ByteOrder.BIG_ENDIAN);
+		ArraySource source = new ArraySource(0x100000, pageSize * 4);
+		memory.addMemorySource(source);
+		byte[] buffer = new byte[pageSize * 4];
+		memory.getBytesAt(0x100000, buffer);
+		assertData(source, 0x100000, buffer);
+		assertEquals(before + (pageSize * 4), cache.getStatistics().cachedBytes);
+
+		memory.releaseCachedPages();
+		assertEquals(before, cache.getStatistics().cachedBytes);
+
+		// data changed in the dump is read again rather than served from the cache
+		source.fill((byte) 42);
+		memory.getBytesAt(0x100000, buffer);
+		assertData(source, 0x100000, buffer);
+
+		memory.removeMemorySource(source);
+		assertEquals(before, cache.getStatistics().cachedBytes);
+	}
+
+}
@@ -136,6 +136,7 @@ public final class VM {
 	/*[PR CMVC 189091] Perf: EnumSet.allOf() is slow */
 	/*[PR CMVC 191554] Provide access to ClassLoader methods to improve performance */
 	private static VMLangAccess javalangVMaccess;
+	private static VMRefAccess javalangrefVMaccess;
 
 	static {
 		/* Note this is never called - the VM marks this class as initialized immediately after loading.
@@ -580,6 +581,19 @@ public static VMLangAccess getVMLangAccess() {
 	return javalangVMaccess;
 }
 
+public static void setVMRefAccess(VMRefAccess access) {
+	/*[MSG "K05ba", "Cannot set access twice"]*/
+	if (javalangrefVMaccess != null) throw new SecurityException(Msg.getString("K05ba")); //$NON-NLS-1$
+	javalangrefVMaccess = access;
+}
+
+/**
+ * Answer the access to java.lang.ref, which is set when java.lang.ref.ReferenceQueue is initialized.
+ */
+public static VMRefAccess getVMRefAccess() {
+	return javalangrefVMaccess;
+}
+
 /**
  * Set the current thread as a JVM System Thread
  * @return 0 on success, -1 on failure
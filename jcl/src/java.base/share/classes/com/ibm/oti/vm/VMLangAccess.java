@@ -23,6 +23,7 @@
 
 package com.ibm.oti.vm;
 
+import java.lang.annotation.Annotation;
 import java.util.Properties;
 
 /*[IF JAVA_SPEC_VERSION >= 9]*/
@@ -222,6 +223,17 @@ public interface VMLangAccess {
 	 */
 	public ConstantPool getConstantPoolCache(Class<?> clazz);
 
+	/**
+	 * Answer if a class is known not to have an annotation, by reading the names of the
+	 * annotation types from its annotation bytes rather than parsing the annotations.
+	 *
+	 * @param clazz the class
+	 * @param annotationType the annotation type
+	 * @param inherited true to include the annotations inherited from superclasses
+	 * @return true if the annotation is absent, false if it may be present
+	 */
+	public boolean isAnnotationAbsent(Class<?> clazz, Class<? extends Annotation> annotationType, boolean inherited);
+
 	/*[IF JAVA_SPEC_VERSION == 17]*/
 	/**
 	 * Invoke jdk.jfr.internal.dcmd.DCmdStart.execute().
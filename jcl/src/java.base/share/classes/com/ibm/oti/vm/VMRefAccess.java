@@ -0,0 +1,44 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.oti.vm;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.function.Consumer;
+
+/**
+ * Interface to allow privileged access to classes
+ * from outside the java.lang.ref package.
+ */
+public interface VMRefAccess {
+	/**
+	 * Remove up to max references from a queue, oldest first, passing each to the consumer.
+	 * This does not wait for references to become available.
+	 *
+	 * @param queue the queue to remove references from
+	 * @param consumer the consumer of the references
+	 * @param max the maximum number of references to remove
+	 * @return the number of references removed
+	 */
+	public <T> int drainTo(ReferenceQueue<T> queue, Consumer<? super Reference<? extends T>> consumer, int max);
+}
@@ -271,6 +271,8 @@ public final class Class<T> implements java.io.Serializable, GenericDeclaration,
 		}
 	}
 	private transient AnnotationCache annotationCache;
+	/* the names of the direct annotation types, see SharedReflectionData */
+	private transient String annotationTypeNames;
 	private static long annotationCacheOffset = -1;
 	private static boolean reflectCacheEnabled;
 	private static boolean reflectCacheDebug;
@@ -3375,6 +3377,9 @@ static Class<?> currentLoadedClass() {
  */
 public <A extends Annotation> A getAnnotation(Class<A> annotation) {
 	if (annotation == null) throw new NullPointerException();
+	if (isAnnotationAbsent(annotation, true)) {
+		return null;
+	}
 	LinkedHashMap<Class<? extends Annotation>, Annotation> map = getAnnotationCache().annotationMap;
 	if (map != null) {
 		return (A)map.get(annotation);
@@ -3413,6 +3418,9 @@ public Annotation[] getAnnotations() {
  */
 public <A extends Annotation> A getDeclaredAnnotation(Class<A> annotation) {
 	if (annotation == null) throw new NullPointerException();
+	if (isAnnotationAbsent(annotation, false)) {
+		return null;
+	}
 	LinkedHashMap<Class<? extends Annotation>, Annotation> map = getAnnotationCache().directAnnotationMap;
 	if (map != null) {
 		return (A)map.get(annotation);
@@ -3872,6 +3880,78 @@ private AnnotationCache getAnnotationCache() {
 
 private native byte[] getDeclaredAnnotationsData();
 
+/**
+ * Answer if an annotation is known to be absent without parsing the annotations,
+ * using the names of the annotation types stored in the shared classes cache.
+ *
+ * @param annotationType the annotation type
+ * @param inherited true to include the annotations inherited from superclasses
+ * @return true if the annotation is absent, false if it may be present
+ */
+private boolean isAnnotationAbsent(Class<? extends Annotation> annotationType, boolean inherited) {
+	if (!J9VMInternals.initialized || !SharedReflectionData.ENABLED) {
+		return false;
+	}
+	return hasNoAnnotation(annotationType, inherited);
+}
+
+/**
+ * Answer if an annotation is known to be absent without parsing the annotations,
+ * using the names of the annotation types read from the annotation bytes.
+ * An annotation type which is not inherited may also be present in a superclass,
+ * in which case the annotations must be parsed.
+ *
+ * @param annotationType the annotation type
+ * @param inherited true to include the annotations inherited from superclasses
+ * @return true if the annotation is absent, false if it may be present
+ */
+boolean hasNoAnnotation(Class<? extends Annotation> annotationType, boolean inherited) {
+	String name = annotationType.getName();
+	for (Class<?> clazz = this; clazz != null; clazz = clazz.getSuperclass()) {
+		AnnotationCache cache = clazz.annotationCache;
+		if (cache != null) {
+			LinkedHashMap<Class<? extends Annotation>, Annotation> map = inherited ? cache.annotationMap : cache.directAnnotationMap;
+			return (map == null) || !map.containsKey(annotationType);
+		}
+		String names = clazz.getAnnotationTypeNames();
+		if ((names == SharedReflectionData.UNKNOWN) || SharedReflectionData.contains(names, name)) {
+			return false;
+		}
+		if (!inherited) {
+			break;
+		}
+	}
+	return true;
+}
+
+/**
+ * Answer the names of the direct annotation types, from the shared classes cache if
+ * they are stored there, otherwise read from the annotation bytes and stored if the
+ * shared reflection data is enabled.
+ *
+ * @return the names separated by newlines, or SharedReflectionData.UNKNOWN
+ */
+private String getAnnotationTypeNames() {
+	String names = annotationTypeNames;
+	if (names == null) {
+		boolean shared = SharedReflectionData.ENABLED;
+		if (shared) {
+			names = SharedReflectionData.findAnnotationTypeNames(this);
+		}
+		if (names == null) {
+			byte[] annotationsData = getDeclaredAnnotationsData();
+			ConstantPool cp = (annotationsData == null) ? null : VM.getConstantPoolFromAnnotationBytes(this, annotationsData);
+			names = SharedReflectionData.readAnnotationTypeNames(annotationsData, cp);
+			if (shared && (names != SharedReflectionData.UNKNOWN)) {
+				SharedReflectionData.storeAnnotationTypeNames(this, names);
+			}
+		}
+		// Strings are safely published, so no synchronization is needed
+		annotationTypeNames = names;
+	}
+	return names;
+}
+
 /**
  * Answer if this class is an Annotation.
  *
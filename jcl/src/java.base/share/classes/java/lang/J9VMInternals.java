@@ -426,6 +426,13 @@ final class J9VMInternals {
 
 	static native StackTraceElement[] getStackTrace(Throwable throwable, boolean pruneConstructors);
 
+	/**
+	 * @return the number of classes which have been unloaded plus the number of compiled
+	 * method bodies which have been released; the program counters in a walkback may refer
+	 * to different methods once this changes
+	 */
+	static native long getCodeUnloadCount();
+
 	private static native void prepareClassImpl(Class clazz);
 
 	/**
@@ -0,0 +1,214 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package java.lang;
+
+import java.nio.charset.StandardCharsets;
+
+/*[IF JAVA_SPEC_VERSION >= 9]*/
+import jdk.internal.reflect.ConstantPool;
+/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+import sun.reflect.ConstantPool;
+/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+
+/**
+ * Reflection data of classes which is stored in the shared classes cache, keyed by the
+ * ROM class, so that later VMs using the cache can answer reflective queries without
+ * reading the class again.
+ * <p>
+ * The data of a class is the names of the types of its directly declared runtime visible
+ * annotations, read from the annotation bytes of the ROM class. It allows a query for an
+ * annotation the class does not have to be answered without parsing the annotations or
+ * creating their proxies. The names depend only on the bytes of the ROM class, not on
+ * which annotation types can be loaded, so the data remains valid for as long as the ROM
+ * class is in the cache.
+ */
+final class SharedReflectionData {
+
+	/**
+	 * Set to true to use the reflection data stored in the shared classes cache, and to store it.
+	 */
+	static final String ENABLE_PROPERTY = "com.ibm.oti.shared.reflectionData"; //$NON-NLS-1$
+
+	static final boolean ENABLED = Boolean.parseBoolean(System.internalGetProperties().getProperty(ENABLE_PROPERTY));
+
+	/**
+	 * The names to use when the annotation bytes cannot be read; no query can be answered from them.
+	 */
+	static final String UNKNOWN = new String("?"); //$NON-NLS-1$
+
+	/* the first byte of the stored data, changed if the format changes */
+	private static final byte FORMAT = 1;
+
+	private SharedReflectionData() {
+	}
+
+	/**
+	 * Find the annotation type names stored for a class.
+	 *
+	 * @param clazz the class
+	 * @return the names separated by newlines, or null if none are stored
+	 */
+	static String findAnnotationTypeNames(Class<?> clazz) {
+		byte[] data = findImpl(clazz);
+		if ((null == data) || (0 == data.length) || (FORMAT != data[0])) {
+			return null;
+		}
+		return new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Store the annotation type names of a class. They are not stored if the class
+	 * was not loaded from the shared classes cache.
+	 *
+	 * @param clazz the class
+	 * @param names the names separated by newlines
+	 */
+	static void storeAnnotationTypeNames(Class<?> clazz, String names) {
+		byte[] encoded = names.getBytes(StandardCharsets.UTF_8);
+		byte[] data = new byte[encoded.length + 1];
+		data[0] = FORMAT;
+		System.arraycopy(encoded, 0, data, 1, encoded.length);
+		storeImpl(clazz, data);
+	}
+
+	/**
+	 * Read the names of the annotation types from the runtime visible annotations
+	 * attribute of a class, without resolving the types.
+	 *
+	 * @param annotationsData the attribute, or null if the class has none
+	 * @param cp the constant pool of the class
+	 * @return the binary names of the types separated by newlines, or UNKNOWN if the
+	 * attribute is malformed
+	 */
+	static String readAnnotationTypeNames(byte[] annotationsData, ConstantPool cp) {
+		if (null == annotationsData) {
+			return ""; //$NON-NLS-1$
+		}
+		try {
+			AnnotationReader reader = new AnnotationReader(annotationsData);
+			StringBuilder names = new StringBuilder();
+			for (int count = reader.u2(); count > 0; count--) {
+				String descriptor = cp.getUTF8At(reader.u2());
+				if (names.length() > 0) {
+					names.append('\n');
+				}
+				if ((descriptor.length() > 2) && ('L' == descriptor.charAt(0)) && (';' == descriptor.charAt(descriptor.length() - 1))) {
+					names.append(descriptor, 1, descriptor.length() - 1);
+				} else {
+					names.append(descriptor);
+				}
+				reader.skipElementValuePairs();
+			}
+			return names.toString().replace('/', '.');
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			return UNKNOWN;
+		}
+	}
+
+	/**
+	 * Answer if a name is one of the names.
+	 *
+	 * @param names names separated by newlines
+	 * @param name the name to find
+	 * @return true if the name is present
+	 */
+	static boolean contains(String names, String name) {
+		int length = name.length();
+		for (int index = names.indexOf(name); index >= 0; index = names.indexOf(name, index + 1)) {
+			int end = index + length;
+			if (((0 == index) || ('\n' == names.charAt(index - 1)))
+				&& ((end == names.length()) || ('\n' == names.charAt(end)))
+			) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads the structures of the annotations attribute described in the JVM specification.
+	 */
+	private static final class AnnotationReader {
+		private final byte[] data;
+		private int position;
+
+		AnnotationReader(byte[] data) {
+			this.data = data;
+		}
+
+		int u1() {
+			return data[position++] & 0xFF;
+		}
+
+		int u2() {
+			int value = ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+			position += 2;
+			return value;
+		}
+
+		void skipElementValuePairs() {
+			for (int count = u2(); count > 0; count--) {
+				/* element_name_index */
+				position += 2;
+				skipElementValue();
+			}
+		}
+
+		private void skipElementValue() {
+			int tag = u1();
+			switch (tag) {
+			case 'B':
+			case 'C':
+			case 'D':
+			case 'F':
+			case 'I':
+			case 'J':
+			case 'S':
+			case 'Z':
+			case 's':
+			case 'c':
+				position += 2;
+				break;
+			case 'e':
+				position += 4;
+				break;
+			case '@':
+				/* type_index */
+				position += 2;
+				skipElementValuePairs();
+				break;
+			case '[':
+				for (int count = u2(); count > 0; count--) {
+					skipElementValue();
+				}
+				break;
+			default:
+				throw new IllegalArgumentException();
+			}
+		}
+	}
+
+	private static native byte[] findImpl(Class<?> clazz);
+
+	private static native void storeImpl(Class<?> clazz, byte[] data);
+}
@@ -0,0 +1,136 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package java.lang;
+
+import java.util.Arrays;
+
+/**
+ * A bounded cache of stack traces, keyed by the walkback which fillInStackTrace()
+ * records, so that throwables created at the same place share one walkback and one
+ * StackTraceElement[] rather than each creating its own elements when the trace is
+ * first used.
+ * <p>
+ * The cache is direct mapped: a new entry replaces the entry in its slot. Entries
+ * created before classes were unloaded or compiled code was released are ignored,
+ * since the program counters in a walkback may then belong to different methods.
+ * The JIT releases the old body of a recompiled method once no thread is running it,
+ * during any garbage collection, so this is not limited to class unloading.
+ */
+final class StackTraceCache {
+
+	/**
+	 * The number of entries, rounded up to a power of 2. Set to 0 to disable the cache.
+	 */
+	static final String SIZE_PROPERTY = "java.lang.throwable.stackTraceCacheSize"; //$NON-NLS-1$
+	private static final int DEFAULT_SIZE = 256;
+
+	static final class Entry {
+		final int hash;
+		final Object walkback;
+		final StackTraceElement[] stackTrace;
+		final long unloadCount;
+
+		Entry(int hash, Object walkback, StackTraceElement[] stackTrace, long unloadCount) {
+			this.hash = hash;
+			this.walkback = walkback;
+			this.stackTrace = stackTrace;
+			this.unloadCount = unloadCount;
+		}
+	}
+
+	/* null if the cache is disabled */
+	private static final Entry[] entries;
+
+	static {
+		int size = DEFAULT_SIZE;
+		String sizeProperty = System.internalGetProperties().getProperty(SIZE_PROPERTY);
+		if (null != sizeProperty) {
+			try {
+				size = Math.min(Integer.parseInt(sizeProperty), 1 << 16);
+			} catch (NumberFormatException e) {
+				/* use the default */
+			}
+		}
+		entries = (size > 0) ? new Entry[Integer.highestOneBit((size * 2) - 1)] : null;
+	}
+
+	private StackTraceCache() {
+	}
+
+	/**
+	 * Find the stack trace for a walkback.
+	 *
+	 * @param walkback the walkback of a throwable
+	 * @return the entry with an identical walkback, or null if there is none
+	 */
+	static Entry find(Object walkback) {
+		if ((null == entries) || (null == walkback)) {
+			return null;
+		}
+		int hash = hash(walkback);
+		Entry entry = entries[hash & (entries.length - 1)];
+		if ((null != entry)
+			&& (entry.hash == hash)
+			&& equal(entry.walkback, walkback)
+			&& (entry.unloadCount == J9VMInternals.getCodeUnloadCount())
+		) {
+			return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * Add the stack trace created from a walkback. The walkback must not be modified
+	 * afterwards, and the stack trace must not be modified or exposed.
+	 *
+	 * @param walkback the walkback of a throwable
+	 * @param stackTrace the elements created from the walkback
+	 * @param unloadCount the code unload count read before the elements were created
+	 */
+	static void add(Object walkback, StackTraceElement[] stackTrace, long unloadCount) {
+		if ((null == entries) || (null == walkback)) {
+			return;
+		}
+		int hash = hash(walkback);
+		entries[hash & (entries.length - 1)] = new Entry(hash, walkback, stackTrace, unloadCount);
+	}
+
+	private static int hash(Object walkback) {
+		int hash;
+		if (walkback instanceof long[]) {
+			hash = Arrays.hashCode((long[])walkback);
+		} else {
+			hash = Arrays.hashCode((int[])walkback);
+		}
+		/* spread the bits of the program counters into the slot index */
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equal(Object walkback1, Object walkback2) {
+		if (walkback1 instanceof long[]) {
+			return (walkback2 instanceof long[]) && Arrays.equals((long[])walkback1, (long[])walkback2);
+		} else {
+			return (walkback2 instanceof int[]) && Arrays.equals((int[])walkback1, (int[])walkback2);
+		}
+	}
+}
@@ -35,10 +35,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 /*[IF JAVA_SPEC_VERSION >= 19]*/
 import jdk.internal.vm.Continuation;
 import jdk.internal.vm.ContinuationScope;
@@ -56,6 +59,34 @@ public final class StackWalker {
 
 	private static final int DEFAULT_BUFFER_SIZE = 1;
 
+	/*
+	 * The most frames fetched by one native call. Each walk fetches estimatedDepth
+	 * frames first, then twice as many each time until this limit is reached.
+	 * Set -Djava.lang.stackWalker.batchSize=1 to fetch the frames one at a time.
+	 */
+	private static final int MAX_BATCH_SIZE;
+
+	/*
+	 * If true, the class name, method name, descriptor, file name and line number
+	 * of a frame are only found when one of them is first requested.
+	 */
+	private static final boolean LAZY_FRAMES;
+
+	static {
+		java.util.Properties props = System.internalGetProperties();
+		int batchSize = 64;
+		String batchSizeProperty = props.getProperty("java.lang.stackWalker.batchSize"); //$NON-NLS-1$
+		if (null != batchSizeProperty) {
+			try {
+				batchSize = Math.max(1, Integer.parseInt(batchSizeProperty));
+			} catch (NumberFormatException e) {
+				/* use the default */
+			}
+		}
+		MAX_BATCH_SIZE = batchSize;
+		LAZY_FRAMES = Boolean.parseBoolean(props.getProperty("java.lang.stackWalker.lazyFrames")); //$NON-NLS-1$
+	}
+
 	/* Java StackWalker flag constants cloned from java_lang_StackWalker.cpp. */
 	private static final int J9_RETAIN_CLASS_REFERENCE = 0x01;
 	private static final int J9_SHOW_REFLECT_FRAMES    = 0x02;
@@ -67,6 +98,7 @@ public final class StackWalker {
 	private static final int J9_DROP_METHOD_INFO       = 0x10;
 	/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 	private static final int J9_GET_CALLER_CLASS       = 0x20;
+	private static final int J9_LAZY_FRAMES            = 0x40;
 
 	/* Map the given options to the corresponding set of flags. */
 	private static int flagsFor(Set<Option> options) {
@@ -92,6 +124,10 @@ public final class StackWalker {
 		}
 		/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 
+		if (LAZY_FRAMES) {
+			flags |= J9_LAZY_FRAMES;
+		}
+
 		return flags;
 	}
 
@@ -224,7 +260,7 @@ public final class StackWalker {
 	 *            {@link StackFrame}
 	 */
 	public void forEach(Consumer<? super StackFrame> action) {
-		walkWrapperImpl(flags, "forEach", s -> { //$NON-NLS-1$
+		walkWrapperImpl(flags, bufferSize, "forEach", s -> { //$NON-NLS-1$
 			s.forEach(action);
 			return null;
 		});
@@ -250,7 +286,7 @@ public final class StackWalker {
 		 * Get the top two stack frames: the client calling getCallerClass and
 		 * the client's caller. Ignore reflection and special frames.
 		 */
-		List<StackFrame> result = StackWalker.walkWrapperImpl(J9_RETAIN_CLASS_REFERENCE | J9_GET_CALLER_CLASS, "getCallerClass", //$NON-NLS-1$
+		List<StackFrame> result = StackWalker.walkWrapperImpl(J9_RETAIN_CLASS_REFERENCE | J9_GET_CALLER_CLASS, 2, "getCallerClass", //$NON-NLS-1$
 				s -> s.limit(2).collect(Collectors.toList()));
 		if (result.size() < 2) {
 			/*[MSG "K0640", "getCallerClass() called from method with no caller"]*/
@@ -265,7 +301,7 @@ public final class StackWalker {
 		return clientsCaller.getDeclaringClass();
 	}
 
-	private static native <T> T walkWrapperImpl(int flags, String walkerMethod,
+	private static native <T> T walkWrapperImpl(int flags, int estimatedDepth, String walkerMethod,
 			Function<? super Stream<StackFrame>, ? extends T> function);
 
 	/**
@@ -275,17 +311,79 @@ public final class StackWalker {
 	 * @param <T> the type of the return value from applying function to the stream
 	 * @param function operation to apply to the stream
 	 * @param walkState Pointer to a J9StackWalkState struct
+	 * @param estimatedDepth the number of frames to fetch first
 	 * @return the value returned by {@code function}
 	 */
-	private static <T> T walkImpl(Function<? super Stream<StackFrame>, ? extends T> function, long walkState) {
+	private static <T> T walkImpl(Function<? super Stream<StackFrame>, ? extends T> function, long walkState, int estimatedDepth) {
 		T result;
-		try (Stream<StackFrame> frameStream = Stream.iterate(getImpl(walkState), x -> (null != x), x -> getImpl(walkState))) {
+		try (Stream<StackFrame> frameStream = StreamSupport.stream(new FrameSpliterator(walkState, estimatedDepth), false)) {
 			result = function.apply(frameStream);
 		}
 		return result;
 	}
 
-	private static native StackFrameImpl getImpl(long walkState);
+	/**
+	 * Fetch the next frames of the walk.
+	 *
+	 * @param walkState Pointer to a J9StackWalkState struct
+	 * @param frames the buffer to fill
+	 * @param count the number of frames to fetch, no more than the length of frames
+	 * @return the number of frames fetched, less than count only at the end of the stack
+	 */
+	private static native int getBatchImpl(long walkState, StackFrameImpl[] frames, int count);
+
+	/**
+	 * Set the method information of a frame created with J9_LAZY_FRAMES.
+	 *
+	 * @param frame the frame to resolve
+	 */
+	private static native void resolveFrameImpl(StackFrameImpl frame);
+
+	/**
+	 * Supplies the frames of a walk, fetching them from the native walk in batches
+	 * which fill a reused buffer.
+	 */
+	static final class FrameSpliterator extends Spliterators.AbstractSpliterator<StackFrame> {
+		private final long walkState;
+		private StackFrameImpl[] frames;
+		private int batchSize;
+		private int count;
+		private int index;
+		private boolean endOfStack;
+
+		FrameSpliterator(long walkState, int estimatedDepth) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+			this.walkState = walkState;
+			this.batchSize = Math.min(estimatedDepth, MAX_BATCH_SIZE);
+			this.frames = new StackFrameImpl[batchSize];
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super StackFrame> action) {
+			if ((index == count) && !fill()) {
+				return false;
+			}
+			StackFrameImpl frame = frames[index];
+			frames[index] = null;
+			index += 1;
+			action.accept(frame);
+			return true;
+		}
+
+		private boolean fill() {
+			if (endOfStack) {
+				return false;
+			}
+			if (batchSize > frames.length) {
+				frames = new StackFrameImpl[batchSize];
+			}
+			count = getBatchImpl(walkState, frames, batchSize);
+			index = 0;
+			endOfStack = count < batchSize;
+			batchSize = Math.min(batchSize * 2, MAX_BATCH_SIZE);
+			return count > 0;
+		}
+	}
 
 	/**
 	 * Traverse the calling thread's stack at the time this method is called and
@@ -300,7 +398,7 @@ public final class StackWalker {
 		if (null != cont) {
 			if (cont.trylockAccess()) {
 				try {
-					return walkContinuationImpl(flags, function, cont);
+					return walkContinuationImpl(flags, bufferSize, function, cont);
 				} finally {
 					cont.unlockAccess();
 				}
@@ -309,7 +407,7 @@ public final class StackWalker {
 			}
 		}
 		/*[ENDIF] JAVA_SPEC_VERSION >= 19 */
-		return walkWrapperImpl(flags, "walk", function); //$NON-NLS-1$
+		return walkWrapperImpl(flags, bufferSize, "walk", function); //$NON-NLS-1$
 	}
 
 	/*[IF JAVA_SPEC_VERSION >= 19]*/
@@ -319,7 +417,7 @@ public final class StackWalker {
 	private final ContinuationScope scope;
 	private final Continuation cont;
 
-	private static native <T> T walkContinuationImpl(int flags, Function<? super Stream<StackFrame>, ? extends T> function, Continuation cont);
+	private static native <T> T walkContinuationImpl(int flags, int estimatedDepth, Function<? super Stream<StackFrame>, ? extends T> function, Continuation cont);
 
 	static StackWalker newInstance(Set<Option> options, ExtendedOption extendedOption) {
 		return newInstance(options, extendedOption, null, null);
@@ -464,6 +562,26 @@ public final class StackWalker {
 		private int flags; /* a copy of StackWalker.flags */
 		/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 		private boolean callerSensitive;
+		/* true if the frame was created with J9_LAZY_FRAMES */
+		private boolean lazy;
+		/* keeps the class of a lazy frame loaded until the frame is resolved */
+		private Class<?> methodClass;
+		/* the J9ROMMethod of a lazy frame, 0 once the frame is resolved */
+		private long romMethod;
+
+		/*
+		 * Set the class name, method name, descriptor, file name and line number
+		 * of a lazy frame if they are not set already.
+		 */
+		private void resolve() {
+			if (lazy) {
+				synchronized (this) {
+					if (0 != romMethod) {
+						resolveFrameImpl(this);
+					}
+				}
+			}
+		}
 
 		/*
 		 * Throw UnsupportedOperationException if Option.DROP_METHOD_INFO
@@ -486,6 +604,7 @@ public final class StackWalker {
 
 		@Override
 		public String getClassName() {
+			resolve();
 			return className;
 		}
 
@@ -502,30 +621,35 @@ public final class StackWalker {
 		@Override
 		public String getFileName() {
 			ensureMethodInfo();
+			resolve();
 			return fileName;
 		}
 
 		@Override
 		public int getLineNumber() {
 			ensureMethodInfo();
+			resolve();
 			return lineNumber;
 		}
 
 		@Override
 		public String getMethodName() {
 			ensureMethodInfo();
+			resolve();
 			return methodName;
 		}
 
 		@Override
 		public boolean isNativeMethod() {
 			ensureMethodInfo();
+			resolve();
 			return -2 == lineNumber;
 		}
 
 		@Override
 		public StackTraceElement toStackTraceElement() {
 			ensureMethodInfo();
+			resolve();
 
 			String moduleName = null;
 			String moduleVersion = null;
@@ -573,6 +697,7 @@ public final class StackWalker {
 				throw new UnsupportedOperationException(com.ibm.oti.util.Msg.getString("K0639")); //$NON-NLS-1$
 			}
 			ensureMethodInfo();
+			resolve();
 			return MethodType.fromMethodDescriptorString(methodSignature, declaringClass.internalGetClassLoader());
 		}
 
@@ -584,6 +709,7 @@ public final class StackWalker {
 		@Override
 		public String getDescriptor() {
 			ensureMethodInfo();
+			resolve();
 			return methodSignature;
 		}
 		/*[ENDIF] JAVA_SPEC_VERSION >= 10 */
@@ -303,9 +303,23 @@ StackTraceElement[] getInternalStackTrace() {
 
 	StackTraceElement[] localStackTrace = stackTrace;
 	if (localStackTrace == null) {
-		// Assign the result to a local variable to avoid refetching
-		// the instance variable and any memory ordering issues
-		localStackTrace = J9VMInternals.getStackTrace(this, true);
+		/* The walkback of a preallocated OutOfMemoryError may be refilled in place, so it is not shared. */
+		boolean cacheable = J9VMInternals.initialized && !(this instanceof OutOfMemoryError);
+		Object localWalkback = walkback;
+		StackTraceCache.Entry entry = cacheable ? StackTraceCache.find(localWalkback) : null;
+		if (null != entry) {
+			// Share the walkback and stack trace of an earlier throwable with the same stack
+			walkback = entry.walkback;
+			localStackTrace = entry.stackTrace;
+		} else {
+			long unloadCount = cacheable ? J9VMInternals.getCodeUnloadCount() : 0;
+			// Assign the result to a local variable to avoid refetching
+			// the instance variable and any memory ordering issues
+			localStackTrace = J9VMInternals.getStackTrace(this, true);
+			if (cacheable && (localWalkback == walkback)) {
+				StackTraceCache.add(localWalkback, localStackTrace, unloadCount);
+			}
+		}
 		stackTrace = localStackTrace;
 	}
 
@@ -23,6 +23,7 @@
 
 package java.lang;
 
+import java.lang.annotation.Annotation;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -290,6 +291,20 @@ final class VMAccess implements VMLangAccess {
 		return clazz.constantPoolObject;
 	}
 
+	/**
+	 * Answer if a class is known not to have an annotation, by reading the names of the
+	 * annotation types from its annotation bytes rather than parsing the annotations.
+	 *
+	 * @param clazz the class
+	 * @param annotationType the annotation type
+	 * @param inherited true to include the annotations inherited from superclasses
+	 * @return true if the annotation is absent, false if it may be present
+	 */
+	@Override
+	public boolean isAnnotationAbsent(Class<?> clazz, Class<? extends Annotation> annotationType, boolean inherited) {
+		return clazz.hasNoAnnotation(annotationType, inherited);
+	}
+
 	/*[IF JAVA_SPEC_VERSION == 17]*/
 	/**
 	 * Invoke jdk.jfr.internal.dcmd.DCmdStart.execute().
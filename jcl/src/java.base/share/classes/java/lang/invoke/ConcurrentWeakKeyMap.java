@@ -0,0 +1,331 @@
+/*[INCLUDE-IF Sidecar17 & !OPENJDK_METHODHANDLES]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package java.lang.invoke;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/*
+ * A hash map with weakly referenced keys, similar to WeakHashMap, that
+ * supports lookups without locking.
+ *
+ * The map is split into segments, each guarded by its own monitor for
+ * updates. Readers do not lock: each segment publishes its table through a
+ * volatile field which is re-written after every update. A reader that races
+ * with an update may miss the entry being added, so callers must be prepared
+ * to fall back to an update (or a locked lookup) on a miss.
+ *
+ * Many maps hold only a few entries, so a segment is only created when a key
+ * is first added to it. The segments share the reference queue of the map,
+ * and stale entries are expunged from their segments when the map is next
+ * updated.
+ *
+ * This class deliberately avoids java.util.concurrent and VarHandles as it is
+ * used while the method handle infrastructure itself is being initialized.
+ */
+final class ConcurrentWeakKeyMap<K, V> {
+	private static final int SEGMENT_SHIFT = 4;
+	private static final int SEGMENT_COUNT = 1 << SEGMENT_SHIFT;
+	private static final int INITIAL_SEGMENT_CAPACITY = 4;
+
+	/* an element is null until a key is first added to its segment */
+	private final Segment<K, V>[] segments;
+	private final ReferenceQueue<K> queue = new ReferenceQueue<K>();
+
+	@SuppressWarnings("unchecked")
+	ConcurrentWeakKeyMap() {
+		segments = new Segment[SEGMENT_COUNT];
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		/* spread the high bits down so that both the segment and the bucket index are well distributed */
+		h ^= (h >>> 16);
+		h *= 0x85ebca6b;
+		h ^= (h >>> 13);
+		return h;
+	}
+
+	/*
+	 * @return the segment for hash, or null if no key has been added to it
+	 */
+	private Segment<K, V> segmentFor(int hash) {
+		return segments[hash >>> (Integer.SIZE - SEGMENT_SHIFT)];
+	}
+
+	/*
+	 * Return the segment for hash, creating it if needed. A reader that races with the
+	 * creation may not see the new segment, which is the same as missing a new entry.
+	 */
+	private Segment<K, V> segmentForUpdate(int hash) {
+		int index = hash >>> (Integer.SIZE - SEGMENT_SHIFT);
+		Segment<K, V> segment = segments[index];
+		if (segment == null) {
+			synchronized (segments) {
+				segment = segments[index];
+				if (segment == null) {
+					segment = new Segment<K, V>(queue);
+					segments[index] = segment;
+				}
+			}
+		}
+		return segment;
+	}
+
+	/*
+	 * Remove entries whose keys have been collected from their segments. This must not be
+	 * called while holding the monitor of a segment.
+	 */
+	private void expungeStaleEntries() {
+		for (Reference<? extends K> ref; (ref = queue.poll()) != null;) {
+			@SuppressWarnings("unchecked")
+			Entry<K, V> stale = (Entry<K, V>) ref;
+			/* the segment of the entry exists, but this thread may not have seen it yet */
+			segmentForUpdate(stale.hash).expunge(stale);
+		}
+	}
+
+	/*
+	 * Look up the value mapped to key without locking.
+	 *
+	 * @return the value, or null if there is no mapping or the lookup raced with an update
+	 */
+	V get(Object key) {
+		int hash = hash(key);
+		Segment<K, V> segment = segmentFor(hash);
+		return (segment == null) ? null : segment.get(key, hash);
+	}
+
+	/*
+	 * Look up the key equal to the probe without locking. This allows the map to be used as an
+	 * intern table, where the canonical instance is the key itself.
+	 *
+	 * @return the canonical key, or null if there is none or the lookup raced with an update
+	 */
+	K getKey(Object probe) {
+		int hash = hash(probe);
+		Segment<K, V> segment = segmentFor(hash);
+		return (segment == null) ? null : segment.getKey(probe, hash);
+	}
+
+	/*
+	 * Map key to value, replacing any existing mapping.
+	 */
+	void put(K key, V value) {
+		int hash = hash(key);
+		expungeStaleEntries();
+		segmentForUpdate(hash).put(key, hash, value, false);
+	}
+
+	/*
+	 * Map key to value unless the map already holds a key equal to it.
+	 *
+	 * @return the existing key, or key itself if it was added
+	 */
+	K putKeyIfAbsent(K key, V value) {
+		int hash = hash(key);
+		expungeStaleEntries();
+		return segmentForUpdate(hash).put(key, hash, value, true);
+	}
+
+	/*
+	 * Remove the mapping for key, if any.
+	 *
+	 * @return the value that was mapped to key, or null if there was none
+	 */
+	V remove(Object key) {
+		int hash = hash(key);
+		expungeStaleEntries();
+		Segment<K, V> segment = segmentFor(hash);
+		return (segment == null) ? null : segment.remove(key, hash);
+	}
+
+	/*
+	 * @return the approximate number of live mappings
+	 */
+	int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			if (segment != null) {
+				size += segment.count;
+			}
+		}
+		return size;
+	}
+
+	private static final class Entry<K, V> extends WeakReference<K> {
+		final int hash;
+		final Entry<K, V> next;
+		volatile V value;
+
+		Entry(K key, int hash, V value, Entry<K, V> next, ReferenceQueue<K> queue) {
+			super(key, queue);
+			this.hash = hash;
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	private static final class Segment<K, V> {
+		/* the queue of the map */
+		private final ReferenceQueue<K> queue;
+		/*
+		 * Re-written after every update to publish changes to lock-free readers. A reader
+		 * which sees the segment through a race may see the table as null.
+		 */
+		private volatile Entry<K, V>[] table;
+		int count;
+
+		@SuppressWarnings("unchecked")
+		Segment(ReferenceQueue<K> queue) {
+			this.queue = queue;
+			table = new Entry[INITIAL_SEGMENT_CAPACITY];
+		}
+
+		V get(Object key, int hash) {
+			Entry<K, V> e = find(table, key, hash);
+			return (e == null) ? null : e.value;
+		}
+
+		K getKey(Object probe, int hash) {
+			Entry<K, V> e = find(table, probe, hash);
+			return (e == null) ? null : e.get();
+		}
+
+		private static <K, V> Entry<K, V> find(Entry<K, V>[] tab, Object key, int hash) {
+			if (tab == null) {
+				return null;
+			}
+			for (Entry<K, V> e = tab[hash & (tab.length - 1)]; e != null; e = e.next) {
+				if (e.hash == hash) {
+					K k = e.get();
+					if ((k == key) || ((k != null) && key.equals(k))) {
+						return e;
+					}
+				}
+			}
+			return null;
+		}
+
+		synchronized K put(K key, int hash, V value, boolean onlyIfAbsent) {
+			Entry<K, V>[] tab = table;
+			Entry<K, V> existing = find(tab, key, hash);
+			if (existing != null) {
+				K existingKey = existing.get();
+				/* the key may have been collected since find() matched it, in which case add a new entry */
+				if (existingKey != null) {
+					if (onlyIfAbsent) {
+						return existingKey;
+					}
+					existing.value = value;
+					return key;
+				}
+			}
+
+			if (count >= ((tab.length >>> 2) * 3)) {
+				tab = rehash(tab);
+			}
+			int index = hash & (tab.length - 1);
+			tab[index] = new Entry<K, V>(key, hash, value, tab[index], queue);
+			count += 1;
+			/* volatile write publishes the new entry */
+			table = tab;
+			return key;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Entry<K, V>[] rehash(Entry<K, V>[] oldTable) {
+			Entry<K, V>[] newTable = new Entry[oldTable.length << 1];
+			int live = 0;
+			for (Entry<K, V> head : oldTable) {
+				for (Entry<K, V> e = head; e != null; e = e.next) {
+					K key = e.get();
+					if (key != null) {
+						int index = e.hash & (newTable.length - 1);
+						newTable[index] = new Entry<K, V>(key, e.hash, e.value, newTable[index], queue);
+						live += 1;
+					}
+				}
+			}
+			count = live;
+			return newTable;
+		}
+
+		synchronized V remove(Object key, int hash) {
+			Entry<K, V>[] tab = table;
+			Entry<K, V> existing = find(tab, key, hash);
+			if ((existing == null) || !unlink(tab, existing)) {
+				return null;
+			}
+			/* volatile write publishes the removal */
+			table = tab;
+			return existing.value;
+		}
+
+		/*
+		 * Remove an entry whose key has been collected. It is not found if it was already
+		 * dropped while copying a chain or rehashing.
+		 */
+		synchronized void expunge(Entry<K, V> stale) {
+			Entry<K, V>[] tab = table;
+			if (unlink(tab, stale)) {
+				/* volatile write publishes the removal */
+				table = tab;
+			}
+		}
+
+		/*
+		 * Remove target from its chain in tab. Entries are immutable apart from their
+		 * value, so the chain ahead of the removed entry is copied rather than relinked
+		 * to keep concurrent readers safe. Collected entries met while copying are dropped.
+		 *
+		 * @return true if target was found in tab
+		 */
+		private boolean unlink(Entry<K, V>[] tab, Entry<K, V> target) {
+			int index = target.hash & (tab.length - 1);
+			Entry<K, V> head = tab[index];
+			Entry<K, V> newHead = target.next;
+			boolean found = false;
+			for (Entry<K, V> e = head; e != null; e = e.next) {
+				if (e == target) {
+					found = true;
+					break;
+				}
+			}
+			if (found) {
+				for (Entry<K, V> e = head; e != target; e = e.next) {
+					K key = e.get();
+					if (key != null) {
+						newHead = new Entry<K, V>(key, e.hash, e.value, newHead, queue);
+					} else {
+						count -= 1;
+					}
+				}
+				tab[index] = newHead;
+				count -= 1;
+			}
+			return found;
+		}
+	}
+}
@@ -23,17 +23,16 @@
 package java.lang.invoke;
 
 import java.lang.ref.WeakReference;
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
 
 /*
  * ClassValue based Cache for mapping from a Class to its perClassCache.
+ * The perClassCache allows lookups without locking so that threads resolving
+ * handles on the same class do not serialize on a single monitor.
  */
-final class Cache extends ClassValue<Map<CacheKey, WeakReference<MethodHandle>>> {
+final class Cache extends ClassValue<ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>>> {
 	@Override
-	protected Map<CacheKey, WeakReference<MethodHandle>> computeValue(Class<?> arg0) {
-		return Collections.synchronizedMap(new WeakHashMap<CacheKey, WeakReference<MethodHandle>>());
+	protected ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> computeValue(Class<?> arg0) {
+		return new ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>>();
 	}
 }
 
@@ -117,39 +116,39 @@ final class HandleCache {
 	private static final Cache fieldSetterCache = new Cache();
 	private static final Cache fieldGetterCache = new Cache();
 
-	static Map<CacheKey, WeakReference<MethodHandle>> getVirtualCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getVirtualCache(Class<?> c) {
 		return findVirtualCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getStaticCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getStaticCache(Class<?> c) {
 		return findStaticCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getSpecialCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getSpecialCache(Class<?> c) {
 		return findSpecialCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getConstructorCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getConstructorCache(Class<?> c) {
 		return findConstructorCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getFieldSetterCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getFieldSetterCache(Class<?> c) {
 		return fieldSetterCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getFieldGetterCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getFieldGetterCache(Class<?> c) {
 		return fieldGetterCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getStaticFieldSetterCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getStaticFieldSetterCache(Class<?> c) {
 		return staticFieldSetterCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getStaticFieldGetterCache(Class<?> c) {
+	static ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> getStaticFieldGetterCache(Class<?> c) {
 		return staticFieldGetterCache.get(c);
 	}
 
 	/* Search the 'perClassCache' returned by one of the 'get{Virtual|Static|Special|Constructor}Cache(Class)' methods
 	 * for the MethodHandle with matching name and type.
 	 */
-	public static MethodHandle getMethodFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type) {
+	public static MethodHandle getMethodFromPerClassCache(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type) {
 		return getMethodWithSpecialCallerFromPerClassCache(perClassCache, name, type, null);
 	}
 
-	public static MethodHandle getMethodWithSpecialCallerFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, Class<?> specialCaller) {
+	public static MethodHandle getMethodWithSpecialCallerFromPerClassCache(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, Class<?> specialCaller) {
 		WeakReference<MethodHandle> handleRef = perClassCache.get(new MethodCacheKey(name, type, specialCaller));
 		if (handleRef != null) {
 			return handleRef.get();
@@ -157,7 +156,7 @@ final class HandleCache {
 		return null;
 	}
 
-	public static MethodHandle getFieldFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, Class<?> fieldType) {
+	public static MethodHandle getFieldFromPerClassCache(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, Class<?> fieldType) {
 		WeakReference<MethodHandle> handleRef = perClassCache.get(new FieldCacheKey(name, fieldType));
 		if (handleRef != null) {
 			return handleRef.get();
@@ -166,23 +165,23 @@ final class HandleCache {
 	}
 
 	/* Update the cache to hold the <Name, Type> -> MethodHandle mapping */
-	public static MethodHandle putMethodInPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, MethodHandle handle) {
+	public static MethodHandle putMethodInPerClassCache(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, MethodHandle handle) {
 		return putMethodWithSpecialCallerInPerClassCache(perClassCache, name, type, handle, null);
 	}
 
 	/* Update the cache to hold the <Name, Type, SpecialCaller> -> MethodHandle mapping */
-	public static MethodHandle putMethodWithSpecialCallerInPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, MethodHandle handle, Class<?> specialCaller) {
+	public static MethodHandle putMethodWithSpecialCallerInPerClassCache(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, MethodHandle handle, Class<?> specialCaller) {
 		return cacheHandle(perClassCache, new MethodCacheKey(name, type, specialCaller), handle);
 	}
 
 	/* Update the cache to hold the <Name, FieldType> -> MethodHandle mapping */
-	public static MethodHandle putFieldInPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String fieldName, Class<?> fieldType, MethodHandle handle) {
+	public static MethodHandle putFieldInPerClassCache(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, String fieldName, Class<?> fieldType, MethodHandle handle) {
 		return cacheHandle(perClassCache, new FieldCacheKey(fieldName, fieldType), handle);
 	}
 
-	private static MethodHandle cacheHandle(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, CacheKey cacheKey, MethodHandle handle){
+	private static MethodHandle cacheHandle(ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> perClassCache, CacheKey cacheKey, MethodHandle handle){
 		/* Keep a strong reference to the FieldCacheKey in the MH being cached so that it won't
-		 * be immediately collected.  Uses a WeakHashMap<FieldCacheKey, WeakRef<MH>> to cache.
+		 * be immediately collected.  Uses a ConcurrentWeakKeyMap<FieldCacheKey, WeakRef<MH>> to cache.
 		 * Since the MH keeps a strong ref to the FieldCacheKey, as long as the MH is alive
 		 * the Key can't be collected, despite being a weakref.
 		 */
@@ -33,7 +33,6 @@ import java.lang.reflect.ReflectPermission;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 import com.ibm.oti.util.Msg;
@@ -753,7 +752,7 @@ public class MethodHandles {
 		 * Lookup the findSpecial handle either from the special handle cache, or create a new handle and install it in the cache.
 		 */
 		private MethodHandle findSpecialImpl(Class<?> clazz, String methodName, MethodType type, Class<?> specialToken) throws IllegalAccessException, NoSuchMethodException, SecurityException, NullPointerException {
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getSpecialCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getSpecialCache(clazz);
 			MethodHandle handle = HandleCache.getMethodWithSpecialCallerFromPerClassCache(cache, methodName, type, specialToken);
 			if (handle == null) {
 				initCheck(methodName);
@@ -782,7 +781,7 @@ public class MethodHandles {
 		 */
 		public MethodHandle findStatic(Class<?> clazz, String methodName, MethodType type) throws IllegalAccessException, NoSuchMethodException {
 			nullCheck(clazz, methodName, type);
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getStaticCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getStaticCache(clazz);
 			MethodHandle handle = HandleCache.getMethodFromPerClassCache(cache, methodName, type);
 			if (handle == null) {
 				initCheck(methodName);
@@ -831,7 +830,7 @@ public class MethodHandles {
 		public MethodHandle findVirtual(Class<?> clazz, String methodName, MethodType type) throws IllegalAccessException, NoSuchMethodException {
 			nullCheck(clazz, methodName, type);
 
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getVirtualCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getVirtualCache(clazz);
 			MethodHandle handle = HandleCache.getMethodFromPerClassCache(cache, methodName, type);
 			if (handle == null) {
 				handle = handleForMHInvokeMethods(clazz, methodName, type);
@@ -1141,7 +1140,7 @@ public class MethodHandles {
 		 */
 		public MethodHandle findGetter(Class<?> clazz, String fieldName, Class<?> fieldType) throws IllegalAccessException, NoSuchFieldException, SecurityException, NullPointerException {
 			nullCheck(clazz, fieldName, fieldType);
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getFieldGetterCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getFieldGetterCache(clazz);
 			MethodHandle handle = HandleCache.getFieldFromPerClassCache(cache, fieldName, fieldType);
 			if (handle == null) {
 				handle = new FieldGetterHandle(clazz, fieldName, fieldType, accessClass);
@@ -1168,7 +1167,7 @@ public class MethodHandles {
 		 */
 		public MethodHandle findStaticGetter(Class<?> clazz, String fieldName, Class<?> fieldType) throws IllegalAccessException, NoSuchFieldException, SecurityException, NullPointerException {
 			nullCheck(clazz, fieldName, fieldType);
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getStaticFieldGetterCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getStaticFieldGetterCache(clazz);
 			MethodHandle handle = HandleCache.getFieldFromPerClassCache(cache, fieldName, fieldType);
 			if (handle == null) {
 				handle = new StaticFieldGetterHandle(clazz, fieldName, fieldType, accessClass);
@@ -1199,7 +1198,7 @@ public class MethodHandles {
 			if (fieldType == void.class) {
 				throw new NoSuchFieldException();
 			}
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getFieldSetterCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getFieldSetterCache(clazz);
 			MethodHandle handle = HandleCache.getFieldFromPerClassCache(cache, fieldName, fieldType);
 			if (handle == null) {
 				handle = new FieldSetterHandle(clazz, fieldName, fieldType, accessClass);
@@ -1233,7 +1232,7 @@ public class MethodHandles {
 			if (fieldType == void.class) {
 				throw new NoSuchFieldException();
 			}
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getStaticFieldSetterCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getStaticFieldSetterCache(clazz);
 			MethodHandle handle = HandleCache.getFieldFromPerClassCache(cache, fieldName, fieldType);
 			if (handle == null) {
 				handle = new StaticFieldSetterHandle(clazz, fieldName, fieldType, accessClass);
@@ -1494,7 +1493,7 @@ public class MethodHandles {
 		public MethodHandle unreflect(Method method) throws IllegalAccessException{
 			int methodModifiers = method.getModifiers();
 			Class<?> declaringClass = method.getDeclaringClass();
-			Map<CacheKey, WeakReference<MethodHandle>> cache;
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache;
 
 			/* Determine which cache (static or virtual to use) */
 			if (Modifier.isStatic(methodModifiers)) {
@@ -1596,7 +1595,7 @@ public class MethodHandles {
 		 */
 		public MethodHandle unreflectConstructor(Constructor<?> method) throws IllegalAccessException {
 			String methodName = method.getName();
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getConstructorCache(method.getDeclaringClass());
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getConstructorCache(method.getDeclaringClass());
 			MethodType type = MethodType.methodType(void.class, method.getParameterTypes());
 			MethodHandle handle = HandleCache.getMethodFromPerClassCache(cache, methodName, type);
 			if (handle == null) {
@@ -1628,7 +1627,7 @@ public class MethodHandles {
 		 */
 		public MethodHandle findConstructor(Class<?> declaringClass, MethodType type) throws IllegalAccessException, NoSuchMethodException {
 			nullCheck(declaringClass, type);
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getConstructorCache(declaringClass);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getConstructorCache(declaringClass);
 			MethodHandle handle = HandleCache.getMethodFromPerClassCache(cache, "<init>", type); //$NON-NLS-1$
 			if (handle == null) {
 				handle = new ConstructorHandle(declaringClass, type);
@@ -1657,7 +1656,7 @@ public class MethodHandles {
 			Class<?> clazz = method.getDeclaringClass();
 			checkSpecialAccess(clazz, specialToken);	/* Must happen before method resolution */
 			String methodName = method.getName();
-			Map<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getSpecialCache(clazz);
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache = HandleCache.getSpecialCache(clazz);
 			MethodType type = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
 			MethodHandle handle = HandleCache.getMethodWithSpecialCallerFromPerClassCache(cache, methodName, type, specialToken);
 			if (handle == null) {
@@ -1698,7 +1697,7 @@ public class MethodHandles {
 			String fieldName = field.getName();
 			Class<?> declaringClass = field.getDeclaringClass();
 			Class<?> fieldType = field.getType();
-			Map<CacheKey, WeakReference<MethodHandle>> cache;
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache;
 			if (Modifier.isStatic(modifiers)) {
 				cache = HandleCache.getStaticFieldGetterCache(declaringClass);
 			} else {
@@ -1738,7 +1737,7 @@ public class MethodHandles {
 		public MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
 			MethodHandle handle;
 			int modifiers = field.getModifiers();
-			Map<CacheKey, WeakReference<MethodHandle>> cache;
+			ConcurrentWeakKeyMap<CacheKey, WeakReference<MethodHandle>> cache;
 			Class<?> declaringClass = field.getDeclaringClass();
 			Class<?> fieldType = field.getType();
 			String fieldName = field.getName();
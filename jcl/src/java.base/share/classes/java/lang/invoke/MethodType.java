@@ -33,8 +33,6 @@ import java.lang.constant.Constable;
 import java.lang.constant.ClassDesc;
 import java.lang.constant.MethodTypeDesc;
 /*[ENDIF] JAVA_SPEC_VERSION >= 12 */
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.security.*;
 import java.util.ArrayList;
@@ -42,13 +40,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 /*[IF JAVA_SPEC_VERSION >= 12]*/
 import java.util.NoSuchElementException;
 import java.util.Optional;
 /*[ENDIF] JAVA_SPEC_VERSION >= 12 */
 import java.util.Set;
-import java.util.WeakHashMap;
 
 import com.ibm.oti.util.Msg;
 
@@ -83,10 +79,10 @@ public final class MethodType implements Serializable
 	private MethodTypeForm form;
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 
-	private static Map<MethodType, WeakReference<MethodType>> internTable = Collections.synchronizedMap(new WeakHashMap<MethodType, WeakReference<MethodType>>());
-	// lock object to control insertion of new MTs
-	static final class InternTableAddLock { }
-	private static InternTableAddLock internTableAddLock = new InternTableAddLock();
+	/* The interned MethodTypes are the keys of the table; lookups do not lock and
+	 * insertions only lock the segment of the table the MethodType hashes to.
+	 */
+	private static final ConcurrentWeakKeyMap<MethodType, Void> internTable = new ConcurrentWeakKeyMap<MethodType, Void>();
 
 	@VMCONSTANTPOOL_FIELD
 	final Class<?> rtype;
@@ -547,54 +543,41 @@ public final class MethodType implements Serializable
 			return type;
 		}
 
-		/* Check for the item under lock to prevent multiple threads from
-		 * successfully interning the same MethodType.  Use a lock object
-		 * other than the intern table so other threads can continue to
-		 * probe the table without waiting for unrelated MTs to be interned.
+		/* Compute the expensive state without holding any lock.  Threads racing
+		 * to intern the same MethodType may each create a tenured copy, but
+		 * putKeyIfAbsent() ensures only one of them is ever published.
 		 */
-		synchronized(internTableAddLock) {
-			type = probeTable();
-			if (type != null) {
-				return type;
-			}
-
-			int stackSlots = ptypes.length;
-
-			for(Class<?> c : ptypes) {
-				/*[IF ]*/
-				/* getClass() gets compiled to just a NULLCHK and consumes fewer bytecodes than 'if (c == null) throw ...' */
-				/*[ENDIF]*/
-				c.getClass();	// Implicit nullcheck
-				if ((c == double.class) || (c == long.class)) {
-					stackSlots++;
-				} else if (c == void.class){
-					/*[MSG "K05d9", "invalid parameter: {}"]*/
-					throw new IllegalArgumentException(Msg.getString("K05d9", void.class)); //$NON-NLS-1$
-				}
-			}
-			if (stackSlots > 255) {
-				/*[MSG "K05d8", "MethodType would consume more than 255 argument slots: {0}"]*/
-				throw new IllegalArgumentException(Msg.getString("K05d8", stackSlots)); //$NON-NLS-1$
+		int stackSlots = ptypes.length;
+
+		for(Class<?> c : ptypes) {
+			/*[IF ]*/
+			/* getClass() gets compiled to just a NULLCHK and consumes fewer bytecodes than 'if (c == null) throw ...' */
+			/*[ENDIF]*/
+			c.getClass();	// Implicit nullcheck
+			if ((c == double.class) || (c == long.class)) {
+				stackSlots++;
+			} else if (c == void.class){
+				/*[MSG "K05d9", "invalid parameter: {}"]*/
+				throw new IllegalArgumentException(Msg.getString("K05d9", void.class)); //$NON-NLS-1$
 			}
-			argSlots = stackSlots;
+		}
+		if (stackSlots > 255) {
+			/*[MSG "K05d8", "MethodType would consume more than 255 argument slots: {0}"]*/
+			throw new IllegalArgumentException(Msg.getString("K05d8", stackSlots)); //$NON-NLS-1$
+		}
+		argSlots = stackSlots;
 
-			/* initialize expensive state */
-			stackDescriptionBits = stackDescriptionBits(ptypes, argSlots);
-			methodDescriptor = createMethodDescriptorString();
+		/* initialize expensive state */
+		stackDescriptionBits = stackDescriptionBits(ptypes, argSlots);
+		methodDescriptor = createMethodDescriptorString();
 
-			MethodType tenured = makeTenured(this);
-			internTable.put(tenured, new WeakReference<MethodType>(tenured));
-			return tenured;
-		}
+		MethodType tenured = makeTenured(this);
+		return internTable.putKeyIfAbsent(tenured, null);
 	}
 
 	/* Check if the current MethodType is already cached */
 	private MethodType probeTable() {
-		Reference<MethodType> reference = internTable.get(this);
-		if (reference != null) {
-			return reference.get();
-		}
-		return null;
+		return internTable.getKey(this);
 	}
 
 	/*[IF ]*/
@@ -22,15 +22,25 @@
  */
 package java.lang.ref;
 
+/*[IF JAVA_SPEC_VERSION < 11]*/
+import java.lang.reflect.Field;
+/*[ENDIF] JAVA_SPEC_VERSION < 11 */
+import java.util.function.Consumer;
+
 /*[IF JAVA_SPEC_VERSION < 9]*/
 import sun.misc.Cleaner;
 /*[ELSEIF JAVA_SPEC_VERSION < 26]*/
 import jdk.internal.ref.Cleaner;
 /*[ENDIF] JAVA_SPEC_VERSION < 9 */
 
-/*[IF JAVA_SPEC_VERSION >= 24]*/
-import jdk.internal.vm.Continuation;
-/*[ENDIF] JAVA_SPEC_VERSION >= 24*/
+/*[IF JAVA_SPEC_VERSION >= 9]*/
+import jdk.internal.misc.Unsafe;
+/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+import sun.misc.Unsafe;
+/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+
+import com.ibm.oti.vm.VM;
+import com.ibm.oti.vm.VMRefAccess;
 
 /*[IF CRIU_SUPPORT]*/
 import openj9.internal.criu.NotCheckpointSafe;
@@ -47,11 +57,24 @@ import openj9.internal.criu.NotCheckpointSafe;
  */
 
 public class ReferenceQueue<T> extends Object {
-	private Reference[] references;
-	private int head, tail;
-	private boolean empty;
+	/*
+	 * The references are held in a linked list of segments. Enqueuing threads claim a slot
+	 * in the last segment by incrementing its produced count, and store the reference there;
+	 * removing threads claim the oldest stored reference by a compare and set of the consumed
+	 * count of the first segment. Neither takes a lock, so the reference handler threads do not
+	 * contend with the threads removing references, and a virtual thread calling poll() is never
+	 * pinned. The monitor of the queue is only used by threads blocked in remove().
+	 *
+	 * A segment is not reused once all its slots have been claimed. The next segment is twice
+	 * the size when more than half of the full segment has not been removed yet.
+	 */
+	private volatile Segment head;
+	private volatile Segment tail;
+	/* the number of threads waiting in remove(), only updated while synchronized on the queue */
+	private volatile int waiters;
 
 	static private final int DEFAULT_QUEUE_SIZE = 128;
+	static private final int MAXIMUM_SEGMENT_SIZE = 1 << 16;
 
 	private static final Class reflectRefClass;
 
@@ -75,6 +98,90 @@ public class ReferenceQueue<T> extends Object {
 			tmpClass2 = Class.forName("java.lang.ClassLoader$ClassNameLockRef"); //$NON-NLS-1$
 		} catch (ClassNotFoundException e) {}
 		classNameLockRefClass = tmpClass2;
+
+		VM.setVMRefAccess(new VMRefAccess() {
+			@Override
+			public <R> int drainTo(ReferenceQueue<R> queue, Consumer<? super Reference<? extends R>> consumer, int max) {
+				return queue.drainTo(consumer, max);
+			}
+		});
+	}
+
+	private static final class Segment {
+		final Reference[] slots;
+		/* the number of slots claimed by enqueuing threads, which may exceed the length */
+		volatile int produced;
+		/* the number of references removed */
+		volatile int consumed;
+		volatile Segment next;
+
+		Segment(int length) {
+			slots = new Reference[length];
+		}
+	}
+
+	/*
+	 * The offsets are only needed once references are enqueued, so they are not computed
+	 * while ReferenceQueue is initialized early in startup.
+	 */
+	private static final class Atomics {
+		static final Unsafe unsafe = Unsafe.getUnsafe();
+		static final long HEAD = fieldOffset(ReferenceQueue.class, "head"); //$NON-NLS-1$
+		static final long TAIL = fieldOffset(ReferenceQueue.class, "tail"); //$NON-NLS-1$
+		static final long PRODUCED = fieldOffset(Segment.class, "produced"); //$NON-NLS-1$
+		static final long CONSUMED = fieldOffset(Segment.class, "consumed"); //$NON-NLS-1$
+		static final long NEXT = fieldOffset(Segment.class, "next"); //$NON-NLS-1$
+		static final long SLOTS_BASE = unsafe.arrayBaseOffset(Reference[].class);
+		static final int SLOTS_SHIFT = 31 - Integer.numberOfLeadingZeros(unsafe.arrayIndexScale(Reference[].class));
+
+		private static long fieldOffset(Class<?> clazz, String name) {
+			/*[IF JAVA_SPEC_VERSION >= 11]*/
+			return unsafe.objectFieldOffset(clazz, name);
+			/*[ELSE] JAVA_SPEC_VERSION >= 11 */
+			try {
+				Field field = clazz.getDeclaredField(name);
+				return unsafe.objectFieldOffset(field);
+			} catch (NoSuchFieldException e) {
+				throw new InternalError(e);
+			}
+			/*[ENDIF] JAVA_SPEC_VERSION >= 11 */
+		}
+
+		static boolean compareAndSet(Object object, long offset, Object expected, Object value) {
+			/*[IF JAVA_SPEC_VERSION >= 23]*/
+			return unsafe.compareAndSetReference(object, offset, expected, value);
+			/*[ELSEIF JAVA_SPEC_VERSION >= 9]*/
+			return unsafe.compareAndSetObject(object, offset, expected, value);
+			/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+			return unsafe.compareAndSwapObject(object, offset, expected, value);
+			/*[ENDIF] JAVA_SPEC_VERSION >= 23 */
+		}
+
+		static boolean compareAndSet(Object object, long offset, int expected, int value) {
+			/*[IF JAVA_SPEC_VERSION >= 9]*/
+			return unsafe.compareAndSetInt(object, offset, expected, value);
+			/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+			return unsafe.compareAndSwapInt(object, offset, expected, value);
+			/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+		}
+
+		static Reference getSlot(Reference[] slots, int index) {
+			long offset = SLOTS_BASE + ((long)index << SLOTS_SHIFT);
+			/*[IF JAVA_SPEC_VERSION >= 23]*/
+			return (Reference)unsafe.getReferenceVolatile(slots, offset);
+			/*[ELSE] JAVA_SPEC_VERSION >= 23 */
+			return (Reference)unsafe.getObjectVolatile(slots, offset);
+			/*[ENDIF] JAVA_SPEC_VERSION >= 23 */
+		}
+
+		static void setSlot(Reference[] slots, int index, Reference value) {
+			long offset = SLOTS_BASE + ((long)index << SLOTS_SHIFT);
+			/*[IF JAVA_SPEC_VERSION >= 23]*/
+			unsafe.putReferenceVolatile(slots, offset, value);
+			/*[ELSE] JAVA_SPEC_VERSION >= 23 */
+			unsafe.putObjectVolatile(slots, offset, value);
+			/*[ENDIF] JAVA_SPEC_VERSION >= 23 */
+		}
 	}
 
 /**
@@ -89,41 +196,111 @@ public class ReferenceQueue<T> extends Object {
 @NotCheckpointSafe
 /*[ENDIF] CRIU_SUPPORT */
 public Reference<? extends T> poll () {
-	Reference ref;
-
-	/* Optimization to return immediately and not synchronize if there is nothing in the queue */
-	if(empty) {
+	/* Optimization to return immediately if nothing has ever been enqueued */
+	Segment segment = head;
+	if (null == segment) {
 		return null;
 	}
+	for (;;) {
+		Reference[] slots = segment.slots;
+		int index = segment.consumed;
+		if (index < slots.length) {
+			Reference ref = Atomics.getSlot(slots, index);
+			if (null == ref) {
+				if (index != segment.consumed) {
+					/* removed by another thread after reading consumed */
+					continue;
+				}
+				/* nothing enqueued, or the enqueuing thread has not stored the reference yet */
+				return null;
+			}
+			if (Atomics.compareAndSet(segment, Atomics.CONSUMED, index, index + 1)) {
+				/*[PR 115652] null References when removed */
+				Atomics.setSlot(slots, index, null);
+				ref.dequeue();
+				return ref;
+			}
+		} else {
+			Segment next = segment.next;
+			if (null == next) {
+				return null;
+			}
+			Atomics.compareAndSet(this, Atomics.HEAD, segment, next);
+			segment = head;
+		}
+	}
+}
 
-	/*[IF JAVA_SPEC_VERSION >= 24]*/
-	boolean isVirtual = false;
-	if (Thread.currentThread().isVirtual()) {
-		isVirtual = true;
-		Continuation.pin();
+/**
+ * Remove up to max references, oldest first, passing each to the consumer.
+ * This does not wait for references to become available.
+ * <p>
+ * The references stored consecutively in a segment are claimed together by a single
+ * compare and set of its consumed count, rather than one at a time as poll() does.
+ * If the consumer throws an exception, the claimed references which have not been
+ * passed to it are enqueued again, after the references currently queued.
+ *
+ * @param consumer the consumer of the references
+ * @param max the maximum number of references to remove
+ * @return the number of references removed
+ */
+int drainTo(Consumer<? super Reference<? extends T>> consumer, int max) {
+	if (null == consumer) {
+		throw new NullPointerException();
 	}
-	/*[ENDIF] JAVA_SPEC_VERSION >= 24*/
-	synchronized(this) {
-		if(empty) {
-			return null;
-		}
-		ref = references[head];
-		/*[PR 115652] null References when removed */
-		references[head++] = null;
-		ref.dequeue();
-		if(head == references.length) {
-			head = 0;
-		}
-		if(head == tail) {
-			empty = true;
-		}
+	int count = 0;
+	Segment segment = head;
+	if (null == segment) {
+		return 0;
 	}
-	/*[IF JAVA_SPEC_VERSION >= 24]*/
-	if (isVirtual) {
-		Continuation.unpin();
+	while (count < max) {
+		Reference[] slots = segment.slots;
+		int index = segment.consumed;
+		if (index < slots.length) {
+			int end = index;
+			int limit = ((max - count) < (slots.length - index)) ? (index + (max - count)) : slots.length;
+			while ((end < limit) && (null != Atomics.getSlot(slots, end))) {
+				end += 1;
+			}
+			if (end == index) {
+				if (index != segment.consumed) {
+					/* removed by another thread after reading consumed */
+					continue;
+				}
+				/* nothing enqueued, or the enqueuing thread has not stored the reference yet */
+				break;
+			}
+			if (Atomics.compareAndSet(segment, Atomics.CONSUMED, index, end)) {
+				/* the claimed slots are not read or written by any other thread */
+				int next = index;
+				try {
+					while (next < end) {
+						Reference<? extends T> ref = Atomics.getSlot(slots, next);
+						/*[PR 115652] null References when removed */
+						Atomics.setSlot(slots, next, null);
+						next += 1;
+						ref.dequeue();
+						count += 1;
+						consumer.accept(ref);
+					}
+				} finally {
+					for (; next < end; ++next) {
+						Reference<? extends T> ref = Atomics.getSlot(slots, next);
+						Atomics.setSlot(slots, next, null);
+						enqueue(ref);
+					}
+				}
+			}
+		} else {
+			Segment next = segment.next;
+			if (null == next) {
+				break;
+			}
+			Atomics.compareAndSet(this, Atomics.HEAD, segment, next);
+			segment = head;
+		}
 	}
-	/*[ENDIF] JAVA_SPEC_VERSION >= 24*/
-	return ref;
+	return count;
 }
 
 /**
@@ -165,26 +342,34 @@ public Reference<? extends T> remove() throws InterruptedException {
 public Reference<? extends T> remove(long timeout) throws IllegalArgumentException, InterruptedException {
 	if (timeout < 0) throw new IllegalArgumentException();
 
-	Reference ref;
+	Reference<? extends T> ref = poll();
+	if (null != ref) {
+		return ref;
+	}
+	long deadline = (0 == timeout) ? 0 : System.nanoTime() + (timeout * 1000000L);
 	synchronized(this) {
-		if(empty) {
-			wait(timeout);
-			if(empty) return null;
-		}
-		ref = references[head];
-		/*[PR 115652] null References when removed */
-		references[head++] = null;
-		ref.dequeue();
-		if(head == references.length) {
-			head = 0;
-		}
-		if(head == tail) {
-			empty = true;
-		} else {
-			notifyAll();
+		waiters += 1;
+		try {
+			for (;;) {
+				/* enqueue() notifies if it sees waiters, so poll again after incrementing it */
+				ref = poll();
+				if (null != ref) {
+					return ref;
+				}
+				if (0 == deadline) {
+					wait();
+				} else {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						return null;
+					}
+					wait((remaining + 999999L) / 1000000L);
+				}
+			}
+		} finally {
+			waiters -= 1;
 		}
 	}
-	return ref;
 }
 
 /**
@@ -210,33 +395,65 @@ void enqueue(Reference<? extends T> reference) {
 		((Runnable)reference).run();
 		return;
 	}
-	synchronized(this) {
+	/* set the state before the reference can be removed, which sets it again */
+	reference.setEnqueued();
+	Segment segment = tail;
+	if (null == segment) {
 		/*[PR CMVC 181985] Perf: zWAS ftprint regressed 6% Java7 vs 626FP1 -ReferenceQueue */
-		if (references == null) {
-			references =  new Reference[DEFAULT_QUEUE_SIZE];
-		} else if (!empty && (head == tail)) {
-			/* Queue is full - grow */
-			int newQueueSize = (int)(references.length * 1.10);
-			Reference newQueue[] = new Reference[newQueueSize];
-			System.arraycopy(references, head, newQueue, 0, references.length - head);
-			if (tail > 0) {
-				System.arraycopy(references, 0, newQueue, references.length - head, tail);
+		segment = head;
+		if (null == segment) {
+			Segment first = new Segment(DEFAULT_QUEUE_SIZE);
+			segment = Atomics.compareAndSet(this, Atomics.HEAD, null, first) ? first : head;
+		}
+	}
+	for (;;) {
+		Reference[] slots = segment.slots;
+		int index = Atomics.unsafe.getAndAddInt(segment, Atomics.PRODUCED, 1);
+		if (index < slots.length) {
+			Atomics.setSlot(slots, index, reference);
+			break;
+		}
+		/* Segment is full - move to the next, adding it if required */
+		Segment next = segment.next;
+		if (null == next) {
+			int length = slots.length;
+			if ((length < MAXIMUM_SEGMENT_SIZE) && ((head != segment) || (segment.consumed < (length / 2)))) {
+				/* the backlog is more than half a segment - grow */
+				length *= 2;
 			}
-			head = 0;
-			tail = references.length;
-			references = newQueue;
+			Segment newSegment = new Segment(length);
+			next = Atomics.compareAndSet(segment, Atomics.NEXT, null, newSegment) ? newSegment : segment.next;
 		}
-		references[tail++] = reference;
-		if (tail == references.length) {
-			tail = 0;
+		Segment currentTail = tail;
+		if ((null == currentTail) || (segment == currentTail)) {
+			/* never move the tail back to an earlier segment */
+			Atomics.compareAndSet(this, Atomics.TAIL, currentTail, next);
+		}
+		segment = next;
+	}
+	if (0 != waiters) {
+		synchronized(this) {
+			notifyAll();
 		}
-		empty = false;
-		reference.setEnqueued();
-		notifyAll();
 	}
 }
 
-void forEach(java.util.function.Consumer<? super Reference<? extends T>> consumer) {
+/**
+ * Pass each queued reference to the consumer, oldest first, without removing it.
+ * References enqueued or removed while this runs may or may not be passed.
+ *
+ * @param consumer the consumer of the references
+ */
+void forEach(Consumer<? super Reference<? extends T>> consumer) {
+	for (Segment segment = head; null != segment; segment = segment.next) {
+		Reference[] slots = segment.slots;
+		for (int i = segment.consumed; i < slots.length; i++) {
+			Reference<? extends T> ref = Atomics.getSlot(slots, i);
+			if (null != ref) {
+				consumer.accept(ref);
+			}
+		}
+	}
 }
 
 /*[IF JAVA_SPEC_VERSION >= 19]*/
@@ -249,8 +466,6 @@ ReferenceQueue(int value) {
  * Constructs a new instance of this class.
  */
 public ReferenceQueue() {
-	head = 0;
-	tail = 0;
-	empty = true;
+	super();
 }
 }
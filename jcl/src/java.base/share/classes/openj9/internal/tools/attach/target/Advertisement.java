@@ -40,6 +40,7 @@ public final class Advertisement {
 	private static final String KEY_USER_ID = "userId"; //$NON-NLS-1$
 	private static final String KEY_VERSION = "version"; //$NON-NLS-1$
 	private static final String KEY_PROCESS_ID = "processId"; //$NON-NLS-1$
+	private static final String KEY_NOTIFICATION_SOCKET = "notificationSocket"; //$NON-NLS-1$
 	private static final String ADVERT_FILENAME = "attachInfo"; //$NON-NLS-1$
 	private static final String GLOBAL_SEMAPHORE = "globalSemaphore"; //$NON-NLS-1$
 	private Properties props;
@@ -117,6 +118,12 @@ public final class Advertisement {
 		if (null != tmpTargetDirectoryFileObject && null != tmpSyncFileObject)	{
 			addKeyValue(contentBuffer, KEY_REPLY_FILE, (new File(tmpTargetDirectoryFileObject, Reply.REPLY_FILENAME)).getPath());
 			addKeyValue(contentBuffer, KEY_ATTACH_NOTIFICATION_SYNC, tmpSyncFileObject.getAbsolutePath());
+			/*[IF JAVA_SPEC_VERSION >= 17]*/
+			String notificationSocketPath = AttachHandler.getNotificationSocketPath();
+			if (null != notificationSocketPath) {
+				addKeyValue(contentBuffer, KEY_NOTIFICATION_SOCKET, notificationSocketPath);
+			}
+			/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
 
 			return contentBuffer;
 		} else {
@@ -289,4 +296,12 @@ public final class Advertisement {
 		return props.getProperty(KEY_ATTACH_NOTIFICATION_SYNC);
 	}
 
+	/**
+	 * attach connects to this Unix domain socket, if present, instead of posting to the semaphore
+	 * @return socket path, or null if the target is notified only by the semaphore
+	 */
+	public String getNotificationSocket() {
+		return props.getProperty(KEY_NOTIFICATION_SOCKET);
+	}
+
 }
@@ -116,6 +116,20 @@ public class AttachHandler extends Thread {
 
 	static volatile Thread fileAccessTimeUpdaterThread;
 
+	/*[IF JAVA_SPEC_VERSION >= 17]*/
+	/**
+	 * Optional listener which is notified over a Unix domain socket, null if not in use.
+	 */
+	private static volatile NotificationSocket notificationSocket;
+	/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
+
+	/**
+	 * The key of the last reply acted on, so that a notification by both the socket and the semaphore
+	 * connects to the attacher once.
+	 */
+	private String lastReplyKey;
+	private final syncObject replyMutex = new syncObject();
+
 	static {
 		String allowAttachSelf = VM.internalGetProperties().getProperty("jdk.attach.allowAttachSelf" //$NON-NLS-1$
 		/*[IF JAVA_SPEC_VERSION >= 9]*/
@@ -222,6 +236,11 @@ public class AttachHandler extends Thread {
 			setVmId(myId); /* may need to tweak the ID */
 			setDisplayName(newDisplayName);
 			CommonDirectory.openSemaphore();
+			/*[IF JAVA_SPEC_VERSION >= 17]*/
+			if (Boolean.parseBoolean(VM.internalGetProperties().getProperty(NotificationSocket.ENABLE_PROPERTY))) {
+				notificationSocket = NotificationSocket.open(TargetDirectory.getTargetDirectoryFileObject());
+			}
+			/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
 			Advertisement.createAdvertisementFile(getVmId(), newDisplayName);
 		} finally {
 			CommonDirectory.releaseControllerLock("AttachHandler.createFiles(" + newDisplayName + ")"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -259,6 +278,12 @@ public class AttachHandler extends Thread {
 				}
 			}
 			waiter.start();
+			/*[IF JAVA_SPEC_VERSION >= 17]*/
+			NotificationSocket socket = notificationSocket;
+			if (null != socket) {
+				socket.start();
+			}
+			/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
 		} catch (OutOfMemoryError e) {
 			/* avoid anything which might allocate more memory, but indicate that the attach API is not viable */
 			setAttachState(AttachStateValues.ATTACH_TERMINATED);
@@ -428,8 +453,19 @@ public class AttachHandler extends Thread {
 	public Attachment connectToAttacher() throws IOException {
 		String targetDirectoryPath = TargetDirectory.getTargetDirectoryPath(AttachHandler.getVmId());
 		IPC.checkOwnerAccessOnly(targetDirectoryPath);
-		Reply attacherReply = Reply.readReply(targetDirectoryPath);
 		Attachment at = null;
+		Reply attacherReply;
+		synchronized (replyMutex) {
+			attacherReply = Reply.readReply(targetDirectoryPath);
+			if (null != attacherReply) {
+				String key = attacherReply.getKey();
+				if ((null != key) && key.equals(lastReplyKey)) {
+					IPC.logMessage("connectToAttacher already connected for this reply"); //$NON-NLS-1$
+					return null;
+				}
+				lastReplyKey = key;
+			}
+		}
 		if (null != attacherReply) {
 			int portNumber = attacherReply.getPortNumber();
 
@@ -445,6 +481,16 @@ public class AttachHandler extends Thread {
 		return at;
 	}
 
+	/*[IF JAVA_SPEC_VERSION >= 17]*/
+	/**
+	 * @return path of the notification socket, or null if this VM does not have one
+	 */
+	static String getNotificationSocketPath() {
+		NotificationSocket socket = notificationSocket;
+		return (null == socket) ? null : socket.getPath();
+	}
+	/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
+
 	/**
 	 * This is called from tryAttachTarget() when a VM attaching to itself.
 	 *
@@ -488,6 +534,12 @@ public class AttachHandler extends Thread {
 			fileAccessTimeUpdaterThread.interrupt();
 		}
 		currentAttachThread.interrupt();
+		/*[IF JAVA_SPEC_VERSION >= 17]*/
+		NotificationSocket socket = notificationSocket;
+		if (null != socket) {
+			socket.close();
+		}
+		/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
 		if (wakeHandler) {
 			if (LOGGING_DISABLED != loggingStatus) {
 				IPC.logMessage("AttachHandler terminate removing contents of directory : ", TargetDirectory.getTargetDirectoryPath(getVmId())); //$NON-NLS-1$
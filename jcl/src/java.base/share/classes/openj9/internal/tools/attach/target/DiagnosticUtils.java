@@ -26,11 +26,13 @@ package openj9.internal.tools.attach.target;
 import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.reflect.Method;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -132,6 +134,32 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_STAT_CLASS = "jstat.class";
 
+	/**
+	 * Get all the counters reported by jstat in one command, for sampling.
+	 */
+	public static final String DIAGNOSTICS_STAT_SAMPLE = "jstat.sample";
+
+	/**
+	 * Keys of the jstat.sample result. Values not available in the target are omitted.
+	 * The garbage collectors are numbered from 0 to JSTAT_GC_COUNT - 1.
+	 */
+	public static final String JSTAT_UPTIME = "jstat.uptime";
+	public static final String JSTAT_CLASS_LOADED = "jstat.class.loaded";
+	public static final String JSTAT_CLASS_UNLOADED = "jstat.class.unloaded";
+	public static final String JSTAT_HEAP_USED = "jstat.heap.used";
+	public static final String JSTAT_HEAP_COMMITTED = "jstat.heap.committed";
+	public static final String JSTAT_HEAP_MAX = "jstat.heap.max";
+	public static final String JSTAT_GC_COUNT = "jstat.gc.count";
+	public static final String JSTAT_GC_PREFIX = "jstat.gc.";
+	public static final String JSTAT_GC_NAME = ".name";
+	public static final String JSTAT_GC_COLLECTIONS = ".collections";
+	public static final String JSTAT_GC_TIME = ".time";
+	public static final String JSTAT_COMPILER_TIME = "jstat.compiler.time";
+	public static final String JSTAT_THREAD_LIVE = "jstat.thread.live";
+	public static final String JSTAT_THREAD_DAEMON = "jstat.thread.daemon";
+	public static final String JSTAT_THREAD_PEAK = "jstat.thread.peak";
+	public static final String JSTAT_THREAD_STARTED = "jstat.thread.started";
+
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load";
 
@@ -426,6 +454,116 @@ public class DiagnosticUtils {
 		return DiagnosticProperties.makeStringResult(buffer.toString());
 	}
 
+	private static DiagnosticProperties getJstatSample(String diagnosticCommand) {
+		IPC.logMessage("jstat command : ", diagnosticCommand);
+		DiagnosticProperties result = new DiagnosticProperties();
+		result.put(JSTAT_CLASS_LOADED, ClassLoaderInfoBaseImpl.getLoadedClassCountImpl());
+		result.put(JSTAT_CLASS_UNLOADED, ClassLoaderInfoBaseImpl.getUnloadedClassCountImpl());
+		Runtime runtime = Runtime.getRuntime();
+		long committed = runtime.totalMemory();
+		result.put(JSTAT_HEAP_USED, committed - runtime.freeMemory());
+		result.put(JSTAT_HEAP_COMMITTED, committed);
+		result.put(JSTAT_HEAP_MAX, runtime.maxMemory());
+		ManagementCounters counters = ManagementCounters.getInstance();
+		if (null != counters) {
+			try {
+				counters.sample(result);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				IPC.logMessage("jstat.sample cannot read management counters: ", e.toString());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Reads the garbage collection, compilation, thread and uptime counters from the platform
+	 * MXBeans. This class is in java.base, which cannot depend on java.management, so the beans
+	 * are called reflectively; the methods are looked up once.
+	 */
+	private static final class ManagementCounters {
+		private static ManagementCounters instance;
+		private static boolean unavailable;
+
+		private final Object runtimeBean;
+		private final Method getUptime;
+		private final Object threadBean;
+		private final Method getThreadCount;
+		private final Method getDaemonThreadCount;
+		private final Method getPeakThreadCount;
+		private final Method getTotalStartedThreadCount;
+		private final Object compilationBean;
+		private final Method getTotalCompilationTime;
+		private final List<?> gcBeans;
+		private final Method getName;
+		private final Method getCollectionCount;
+		private final Method getCollectionTime;
+
+		private ManagementCounters() throws ReflectiveOperationException {
+			ClassLoader loader = ClassLoader.getSystemClassLoader();
+			Class<?> factory = Class.forName("java.lang.management.ManagementFactory", true, loader);
+			Class<?> runtimeClass = Class.forName("java.lang.management.RuntimeMXBean", false, loader);
+			Class<?> threadClass = Class.forName("java.lang.management.ThreadMXBean", false, loader);
+			Class<?> compilationClass = Class.forName("java.lang.management.CompilationMXBean", false, loader);
+			Class<?> gcClass = Class.forName("java.lang.management.GarbageCollectorMXBean", false, loader);
+
+			runtimeBean = factory.getMethod("getRuntimeMXBean").invoke(null);
+			getUptime = runtimeClass.getMethod("getUptime");
+			threadBean = factory.getMethod("getThreadMXBean").invoke(null);
+			getThreadCount = threadClass.getMethod("getThreadCount");
+			getDaemonThreadCount = threadClass.getMethod("getDaemonThreadCount");
+			getPeakThreadCount = threadClass.getMethod("getPeakThreadCount");
+			getTotalStartedThreadCount = threadClass.getMethod("getTotalStartedThreadCount");
+			Object compilation = factory.getMethod("getCompilationMXBean").invoke(null);
+			if ((null != compilation)
+					&& ((Boolean) compilationClass.getMethod("isCompilationTimeMonitoringSupported").invoke(compilation)).booleanValue()) {
+				compilationBean = compilation;
+			} else {
+				/* running without a JIT */
+				compilationBean = null;
+			}
+			getTotalCompilationTime = compilationClass.getMethod("getTotalCompilationTime");
+			gcBeans = (List<?>) factory.getMethod("getGarbageCollectorMXBeans").invoke(null);
+			getName = gcClass.getMethod("getName");
+			getCollectionCount = gcClass.getMethod("getCollectionCount");
+			getCollectionTime = gcClass.getMethod("getCollectionTime");
+		}
+
+		/**
+		 * @return the counters, or null if java.management is not available
+		 */
+		static synchronized ManagementCounters getInstance() {
+			if ((null == instance) && !unavailable) {
+				try {
+					instance = new ManagementCounters();
+				} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+					IPC.logMessage("jstat.sample management counters unavailable: ", e.toString());
+					unavailable = true;
+				}
+			}
+			return instance;
+		}
+
+		void sample(DiagnosticProperties result) throws ReflectiveOperationException {
+			result.put(JSTAT_UPTIME, ((Long) getUptime.invoke(runtimeBean)).longValue());
+			result.put(JSTAT_THREAD_LIVE, ((Integer) getThreadCount.invoke(threadBean)).intValue());
+			result.put(JSTAT_THREAD_DAEMON, ((Integer) getDaemonThreadCount.invoke(threadBean)).intValue());
+			result.put(JSTAT_THREAD_PEAK, ((Integer) getPeakThreadCount.invoke(threadBean)).intValue());
+			result.put(JSTAT_THREAD_STARTED, ((Long) getTotalStartedThreadCount.invoke(threadBean)).longValue());
+			if (null != compilationBean) {
+				result.put(JSTAT_COMPILER_TIME, ((Long) getTotalCompilationTime.invoke(compilationBean)).longValue());
+			}
+			int gcNumber = 0;
+			for (Object gcBean : gcBeans) {
+				String prefix = JSTAT_GC_PREFIX + gcNumber;
+				result.put(prefix + JSTAT_GC_NAME, (String) getName.invoke(gcBean));
+				result.put(prefix + JSTAT_GC_COLLECTIONS, ((Long) getCollectionCount.invoke(gcBean)).longValue());
+				result.put(prefix + JSTAT_GC_TIME, ((Long) getCollectionTime.invoke(gcBean)).longValue());
+				gcNumber += 1;
+			}
+			result.put(JSTAT_GC_COUNT, gcNumber);
+		}
+	}
+
 	private static DiagnosticProperties loadJVMTIAgent(String diagnosticCommand) {
 		DiagnosticProperties result;
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
@@ -584,6 +722,9 @@ public class DiagnosticUtils {
 			+ FORMAT_PREFIX + DIAGNOSTICS_STAT_CLASS + "%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
+	private static final String DIAGNOSTICS_JSTAT_SAMPLE_HELP = "Get the class, heap, garbage collection, compilation and thread counters reported by jstat.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_STAT_SAMPLE + "%n";
+
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP = "Load JVMTI agent.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_LOAD_JVMTI_AGENT + " <agentLibrary> [<agent option>]%n"
 			+ "          agentLibrary: the absolute path of the agent%n"
@@ -641,6 +782,9 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_STAT_CLASS, DiagnosticUtils::getJstatClass);
 		helpTable.put(DIAGNOSTICS_STAT_CLASS, DIAGNOSTICS_JSTAT_CLASS_HELP);
 
+		commandTable.put(DIAGNOSTICS_STAT_SAMPLE, DiagnosticUtils::getJstatSample);
+		helpTable.put(DIAGNOSTICS_STAT_SAMPLE, DIAGNOSTICS_JSTAT_SAMPLE_HELP);
+
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
@@ -0,0 +1,142 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.tools.attach.target;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import static openj9.internal.tools.attach.target.IPC.LOGGING_DISABLED;
+import static openj9.internal.tools.attach.target.IPC.loggingStatus;
+
+/**
+ * Wakes the attach handler when an attacher connects to a Unix domain socket in the
+ * target directory, rather than by posting to the shared semaphore. The attacher writes
+ * the reply file, connects and closes the connection; no data is exchanged on the socket.
+ * Only the target being attached is woken, so the attacher does not have to lock the
+ * sync files of every other VM.
+ * <p>
+ * The semaphore wait loop keeps running alongside this thread for attachers which do not
+ * know about the socket.
+ */
+final class NotificationSocket extends Thread {
+	/**
+	 * Set to true to create the socket. The attacher uses it if the advertisement names it.
+	 */
+	static final String ENABLE_PROPERTY = "com.ibm.tools.attach.notificationSocket"; //$NON-NLS-1$
+	static final String SOCKET_FILENAME = "attachNotifier"; //$NON-NLS-1$
+	private static final int SOCKET_FILE_PERMISSIONS = 0600;
+
+	private final ServerSocketChannel server;
+	private final File socketFile;
+
+	private NotificationSocket(ServerSocketChannel server, File socketFile) {
+		super("Attach API notification socket"); //$NON-NLS-1$
+		setDaemon(true);
+		this.server = server;
+		this.socketFile = socketFile;
+	}
+
+	/**
+	 * Bind the socket in the target directory.
+	 * @param targetDirectory this VM's target directory
+	 * @return the unstarted listener, or null if the socket cannot be created
+	 */
+	static NotificationSocket open(File targetDirectory) {
+		File socketFile = new File(targetDirectory, SOCKET_FILENAME);
+		/* a stale socket file prevents the bind */
+		socketFile.delete();
+		ServerSocketChannel server = null;
+		try {
+			server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+			server.bind(UnixDomainSocketAddress.of(socketFile.toPath()));
+			IPC.chmod(socketFile.getAbsolutePath(), SOCKET_FILE_PERMISSIONS);
+		} catch (IOException | UnsupportedOperationException | IllegalArgumentException e) {
+			/* e.g. the path is too long for a socket address: the semaphore still works */
+			IPC.logMessage("NotificationSocket.open failed for " + socketFile.getAbsolutePath(), e); //$NON-NLS-1$
+			if (null != server) {
+				try {
+					server.close();
+				} catch (IOException e1) {
+					/* ignore */
+				}
+			}
+			socketFile.delete();
+			return null;
+		}
+		if (LOGGING_DISABLED != loggingStatus) {
+			IPC.logMessage("NotificationSocket.open ", socketFile.getAbsolutePath()); //$NON-NLS-1$
+		}
+		return new NotificationSocket(server, socketFile);
+	}
+
+	/**
+	 * @return path of the socket, for the advertisement
+	 */
+	String getPath() {
+		return socketFile.getAbsolutePath();
+	}
+
+	@Override
+	public void run() {
+		/* Set  the current thread as a System Thread */
+		com.ibm.oti.vm.VM.markCurrentThreadAsSystem();
+
+		while (!AttachHandler.isAttachApiTerminated()) {
+			try (SocketChannel notification = server.accept()) {
+				if (AttachHandler.isAttachApiTerminated()) {
+					break;
+				}
+				if (LOGGING_DISABLED != loggingStatus) {
+					IPC.logMessage("NotificationSocket notified"); //$NON-NLS-1$
+				}
+				AttachHandler.mainHandler.connectToAttacher();
+			} catch (ClosedChannelException e) {
+				/* closed by AttachHandler.terminate() */
+				break;
+			} catch (IOException e) {
+				IPC.logMessage("NotificationSocket exception: ", e.toString()); //$NON-NLS-1$
+			} catch (OutOfMemoryError e) {
+				IPC.tracepoint(IPC.TRACEPOINT_STATUS_OOM_DURING_WAIT, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Stop listening and remove the socket file.
+	 */
+	void close() {
+		try {
+			server.close();
+		} catch (IOException e) {
+			IPC.logMessage("NotificationSocket.close exception: ", e.toString()); //$NON-NLS-1$
+		}
+		if (socketFile.delete() && (LOGGING_DISABLED != loggingStatus)) {
+			IPC.logMessage("deleted ", socketFile.getAbsolutePath()); //$NON-NLS-1$
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.tools.attach.attacher;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import openj9.internal.tools.attach.target.IPC;
+
+/**
+ * Tracks the target directories in the common directory using a WatchService, so that
+ * listing the VMs only reads the advertisements which have changed since the last listing.
+ * <p>
+ * The common directory is watched for target directories being created and deleted, and
+ * each target directory for its advertisement changing. The entry of a directory which
+ * cannot be watched, for example because it belongs to another user, has no key, and the
+ * caller decides whether to check it on every listing.
+ * If events are lost the whole common directory is scanned again.
+ * <p>
+ * The index and its entries are not thread safe.
+ */
+final class AdvertisementIndex {
+
+	/**
+	 * Set to false to scan the common directory on every listing.
+	 * This is enabled by default only where the WatchService is backed by the operating system,
+	 * since a polling WatchService would report new targets late.
+	 */
+	static final String ENABLE_PROPERTY = "com.ibm.tools.attach.watchDirectory"; //$NON-NLS-1$
+
+	/**
+	 * The cached state of a target directory.
+	 */
+	static final class Entry {
+		final File directory;
+		WatchKey key;
+		/**
+		 * true if the advertisement must be read again
+		 */
+		boolean changed = true;
+		/**
+		 * false if the directory is not a directory owned by this user, so is ignored
+		 */
+		boolean owned;
+		OpenJ9VirtualMachineDescriptor descriptor;
+		long uid;
+		/**
+		 * modification time of the advertisement which was read, 0 if there was none
+		 */
+		long advertisementModified;
+		/**
+		 * true if the target process was running when last checked
+		 */
+		boolean live;
+
+		Entry(File directory) {
+			this.directory = directory;
+		}
+	}
+
+	private final File commonDir;
+	private final WatchService watcher;
+	private final WatchKey commonDirKey;
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Map<WatchKey, Entry> entriesByKey = new HashMap<>();
+	private boolean rescan = true;
+
+	private AdvertisementIndex(File commonDir, WatchService watcher) throws IOException {
+		this.commonDir = commonDir;
+		this.watcher = watcher;
+		this.commonDirKey = commonDir.toPath().register(watcher, ENTRY_CREATE, ENTRY_DELETE);
+	}
+
+	/**
+	 * @param commonDir the attach API common directory
+	 * @return a new index, or null if the index is disabled or the directory cannot be watched
+	 */
+	static AdvertisementIndex create(File commonDir) {
+		String enable = System.getProperty(ENABLE_PROPERTY);
+		boolean enabled = (null == enable)
+				? System.getProperty("os.name", "").startsWith("Linux") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				: Boolean.parseBoolean(enable);
+		if (!enabled) {
+			return null;
+		}
+		WatchService watcher = null;
+		try {
+			watcher = FileSystems.getDefault().newWatchService();
+			return new AdvertisementIndex(commonDir, watcher);
+		} catch (IOException | RuntimeException e) {
+			IPC.logMessage("AdvertisementIndex cannot watch " + commonDir.getAbsolutePath(), e); //$NON-NLS-1$
+			if (null != watcher) {
+				try {
+					watcher.close();
+				} catch (IOException e1) {
+					/* ignore */
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * @return true if the index no longer reflects the common directory and should be discarded
+	 */
+	boolean isInvalid() {
+		return !commonDirKey.isValid();
+	}
+
+	/**
+	 * Apply the pending changes to the common directory.
+	 * @return the entries for all the target directories; those whose advertisements may have changed
+	 * are marked as changed.
+	 */
+	List<Entry> refresh() {
+		try {
+			processEvents();
+		} catch (ClosedWatchServiceException e) {
+			rescan = true;
+		}
+		if (rescan) {
+			rescan = false;
+			scan();
+		}
+		return new ArrayList<>(entries.values());
+	}
+
+	/**
+	 * Apply the pending changes to the common directory, without reading it.
+	 * @return true if no target directory has been created, deleted or changed since the last refresh
+	 */
+	boolean isUnchanged() {
+		try {
+			processEvents();
+		} catch (ClosedWatchServiceException e) {
+			rescan = true;
+		}
+		if (rescan) {
+			return false;
+		}
+		for (Entry entry : entries.values()) {
+			if (entry.changed) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stop watching a target directory which has been deleted.
+	 * @param entry the entry of the deleted directory
+	 */
+	void remove(Entry entry) {
+		removeEntry(entry.directory.getName());
+	}
+
+	/**
+	 * Release the WatchService.
+	 */
+	void close() {
+		try {
+			watcher.close();
+		} catch (IOException e) {
+			IPC.logMessage("AdvertisementIndex close exception: ", e.toString()); //$NON-NLS-1$
+		}
+	}
+
+	private void processEvents() {
+		WatchKey key;
+		while (null != (key = watcher.poll())) {
+			Entry keyEntry = entriesByKey.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				WatchEvent.Kind<?> kind = event.kind();
+				if (OVERFLOW == kind) {
+					rescan = true;
+				} else if (key == commonDirKey) {
+					String name = ((Path) event.context()).toString();
+					if (ENTRY_CREATE == kind) {
+						addEntry(name);
+					} else {
+						removeEntry(name);
+					}
+				} else if (null != keyEntry) {
+					keyEntry.changed = true;
+				}
+			}
+			if (!key.reset()) {
+				if (key == commonDirKey) {
+					/* the common directory was deleted */
+					rescan = true;
+				} else if (null != keyEntry) {
+					removeEntry(keyEntry.directory.getName());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read the common directory, keeping the entries of directories which still exist
+	 * but reading all their advertisements again.
+	 */
+	private void scan() {
+		String[] names = commonDir.list();
+		if (null == names) {
+			/* an IOException on list() will cause names to be null */
+			names = new String[0];
+		}
+		Map<String, Entry> previous = new HashMap<>(entries);
+		for (String name : names) {
+			Entry entry = previous.remove(name);
+			if (null == entry) {
+				addEntry(name);
+			} else {
+				entry.changed = true;
+			}
+		}
+		for (String name : previous.keySet()) {
+			removeEntry(name);
+		}
+	}
+
+	private void addEntry(String name) {
+		Entry entry = entries.get(name);
+		if (null == entry) {
+			entry = new Entry(new File(commonDir, name));
+			entries.put(name, entry);
+			try {
+				entry.key = entry.directory.toPath().register(watcher, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+				entriesByKey.put(entry.key, entry);
+			} catch (IOException | RuntimeException e) {
+				/* not a directory, or not readable by this user: read it every time */
+				entry.key = null;
+			}
+		}
+		/* register the watch before reading, so that changes made meanwhile are not missed */
+		entry.changed = true;
+	}
+
+	private void removeEntry(String name) {
+		Entry entry = entries.remove(name);
+		if ((null != entry) && (null != entry.key)) {
+			entriesByKey.remove(entry.key);
+			entry.key.cancel();
+		}
+	}
+}
@@ -31,7 +31,15 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 /*[ENDIF] JAVA_SPEC_VERSION < 24 */
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import openj9.internal.tools.attach.target.Advertisement;
 import openj9.internal.tools.attach.target.AttachHandler;
@@ -54,6 +62,25 @@ import com.sun.tools.attach.spi.AttachProvider;
 /*[ENDIF] JAVA_SPEC_VERSION >= 17 */
 public class OpenJ9AttachProvider extends AttachProvider {
 
+	/**
+	 * Time for which VirtualMachine.list() may return the previous listing if no target directory
+	 * has changed and all the targets in it are still running. Attaching always reads the current state.
+	 */
+	private static final long LIST_CACHE_TIMEOUT_NS = TimeUnit.MILLISECONDS.toNanos(
+			Long.getLong("com.ibm.tools.attach.listCacheTimeout", 1000).longValue()); //$NON-NLS-1$
+	private static final int ENTRIES_PER_LIST_THREAD = 64;
+	private static final int MAX_LIST_THREADS = Math.min(8, Runtime.getRuntime().availableProcessors());
+
+	/* the following are guarded by listMutex */
+	private final Object listMutex = new Object();
+	private AdvertisementIndex advertisementIndex;
+	private boolean indexUnavailable;
+	private Map<String, AdvertisementIndex.Entry> scannedEntries = new HashMap<>();
+	private List<OpenJ9VirtualMachineDescriptor> lastListing;
+	private long lastListingTime;
+	private long lastListingCommonDirModified;
+	private ExecutorService listExecutor;
+
 	/**
 	 * Creates an IPC object
 	 */
@@ -103,11 +130,19 @@ public class OpenJ9AttachProvider extends AttachProvider {
 
 	@Override
 	public List<VirtualMachineDescriptor> listVirtualMachines() {
+		return listVirtualMachines(true);
+	}
+
+	/**
+	 * @param useCache true if a recent listing may be returned when no target directory has changed since
+	 * @return descriptors of the live targets, or null if the common directory is not usable
+	 */
+	List<VirtualMachineDescriptor> listVirtualMachines(boolean useCache) {
 		/*[IF JAVA_SPEC_VERSION >= 24]*/
-		return listVirtualMachinesImp();
+		return listVirtualMachinesImp(useCache);
 		/*[ELSE] JAVA_SPEC_VERSION >= 24 */
 		List<VirtualMachineDescriptor> ret = null;
-		PrivilegedExceptionAction<List<VirtualMachineDescriptor>> action = () -> listVirtualMachinesImp();
+		PrivilegedExceptionAction<List<VirtualMachineDescriptor>> action = () -> listVirtualMachinesImp(useCache);
 		try {
 			ret = AccessController.doPrivileged(action);
 		} catch (PrivilegedActionException e) {
@@ -124,7 +159,7 @@ public class OpenJ9AttachProvider extends AttachProvider {
 		/*[ENDIF] JAVA_SPEC_VERSION >= 24 */
 	}
 
-	private List<VirtualMachineDescriptor> listVirtualMachinesImp() {
+	private List<VirtualMachineDescriptor> listVirtualMachinesImp(boolean useCache) {
 		AttachHandler.waitForAttachApiInitialization(); /* ignore result: we can list targets if API is disabled */
 		/* Figure out where the IPC metadata lives and validate */
 		File commonDir = CommonDirectory.getCommonDirFileObject();
@@ -140,68 +175,277 @@ public class OpenJ9AttachProvider extends AttachProvider {
 			return null; /* Configuration error */
 		}
 
-		try {
-			/*[PR 164751 avoid scanning the directory when an attach API is launching ]*/
-			CommonDirectory.obtainControllerLock("OpenJ9AttachProvider.listVirtualMachinesImp"); //$NON-NLS-1$
-		} catch (IOException e) { /*[PR 164751 avoid scanning the directory when an attach API is launching ]*/
-			/*
-			 * IOException is thrown if we already have the lock. The only other cases where we lock this file are during startup and shutdown.
-			 * The attach API startup is complete, thanks to waitForAttachApiInitialization() and threads using this method terminate before shutdown.
-			 */
-			IPC.logMessage("listVirtualMachines() IOError on controller lock : ", e.toString()); //$NON-NLS-1$
-			return descriptors; /* An error has occurred. Since the attach API is not working correctly, be conservative and don't list and targets */
-		}
-		try {
-			File[] vmDirs = commonDir.listFiles();
-			if (vmDirs == null) {
-				/* an IOException on listFiles will cause vmDirs to be null */
+		synchronized (listMutex) {
+			AdvertisementIndex index = getAdvertisementIndex(commonDir);
+			long commonDirModified = commonDir.lastModified();
+			if (useCache && isListingCurrent(index, commonDirModified)) {
+				descriptors.addAll(lastListing);
 				return descriptors;
 			}
 
-			long myUid = IPC.getUid();
-			/* Iterate through the files in the directory */
-			for (File f : vmDirs) {
-
-				/* skip files */
-				if (!f.isDirectory() || !CommonDirectory.isFileOwnedByUid(f, myUid)) {
-					continue;
+			try {
+				/*[PR 164751 avoid scanning the directory when an attach API is launching ]*/
+				CommonDirectory.obtainControllerLock("OpenJ9AttachProvider.listVirtualMachinesImp"); //$NON-NLS-1$
+			} catch (IOException e) { /*[PR 164751 avoid scanning the directory when an attach API is launching ]*/
+				/*
+				 * IOException is thrown if we already have the lock. The only other cases where we lock this file are during startup and shutdown.
+				 * The attach API startup is complete, thanks to waitForAttachApiInitialization() and threads using this method terminate before shutdown.
+				 */
+				IPC.logMessage("listVirtualMachines() IOError on controller lock : ", e.toString()); //$NON-NLS-1$
+				return descriptors; /* An error has occurred. Since the attach API is not working correctly, be conservative and don't list and targets */
+			}
+			try {
+				long myUid = IPC.getUid();
+				List<AdvertisementIndex.Entry> entries;
+				List<OpenJ9VirtualMachineDescriptor> listed = new ArrayList<>();
+				if (null == index) {
+					entries = scanCommonDirectory(commonDir);
+					if (null == entries) {
+						/* an IOException on list() will cause entries to be null */
+						return descriptors;
+					}
+				} else {
+					/* only the advertisements which changed since the last listing are read */
+					entries = index.refresh();
 				}
 
-				boolean staleDirectory = true;
-				File advertisement = new File(f, Advertisement.getFilename());
-				long uid = 0;
-				if (advertisement.exists()) {
-					OpenJ9VirtualMachineDescriptor descriptor = OpenJ9VirtualMachineDescriptor.fromAdvertisement(this, advertisement);
-					if (null != descriptor) {
-						long pid = descriptor.getProcessId();
-						uid = descriptor.getUid();
-						if ((0 == pid) || IPC.processExists(pid)) {
-							descriptors.add(descriptor);
-							staleDirectory = false;
-						}
+				boolean complete = examineTargets(entries, myUid);
+
+				for (AdvertisementIndex.Entry entry : entries) {
+					if (!entry.owned) {
+						continue;
 					}
-					/*[PR Jazz 30110 advertisement is from an older version or is corrupt.  get the owner via file stat ]*/
-					if ((myUid != 0) && (0 == uid)) {
-						/*
-						 * If this process's UID is 0, then it is root and should ignore file ownership and clean up everyone's files.
-						 * If getFileOwner fails, the uid will appear to be -1, and non-root users will ignore it.
-						 * CommonDirectory.deleteStaleDirectories() will handle the case of a target directory which does not have an advertisement directory.
-						 */
-						uid = CommonDirectory.getFileOwner(advertisement.getAbsolutePath());
+					if (entry.live) {
+						listed.add(entry.descriptor);
+					} else if ((myUid == 0) || (entry.uid == myUid)) {
+						/*[PR Jazz 22292 do not delete files the process does not own, unless the process is running as root ]*/
+						IPC.logMessage("listVirtualMachines() removing stale directory : ", entry.directory.getName()); //$NON-NLS-1$
+						TargetDirectory.deleteTargetDirectory(entry.directory.getName());
+						if (null == index) {
+							scannedEntries.remove(entry.directory.getName());
+						} else {
+							index.remove(entry);
+						}
 					}
 				}
+				descriptors.addAll(listed);
+				/* a listing which left out a target because it could not be examined is not reused */
+				lastListing = complete ? listed : null;
+				lastListingTime = System.nanoTime();
+				lastListingCommonDirModified = commonDirModified;
+			} finally {
+				/* guarantee that we unlock the file */
+				CommonDirectory.releaseControllerLock("OpenJ9AttachProvider.listVirtualMachinesImp"); //$NON-NLS-1$
+			}
+		}
+		return descriptors;
+	}
+
+	/**
+	 * Determine if the last listing can be returned again: it is recent, no target directory has
+	 * been created, deleted or changed since, and every target in it is still running.
+	 * @param index the index of the common directory, or null if it is scanned
+	 * @param commonDirModified modification time of the common directory
+	 * @return true if the last listing is current
+	 */
+	private boolean isListingCurrent(AdvertisementIndex index, long commonDirModified) {
+		if ((null == lastListing) || ((System.nanoTime() - lastListingTime) >= LIST_CACHE_TIMEOUT_NS)) {
+			/* refresh periodically to pick up changes which are not reported, such as a directory becoming unwatchable */
+			return false;
+		}
+		if (null != index) {
+			if (!index.isUnchanged()) {
+				return false;
+			}
+		} else if ((0 == commonDirModified) || (commonDirModified != lastListingCommonDirModified)) {
+			/* without an index, only targets starting or ending normally change the common directory */
+			return false;
+		}
+		/* a target which crashed leaves its directory unchanged, so check that each process is still running */
+		for (OpenJ9VirtualMachineDescriptor descriptor : lastListing) {
+			long pid = descriptor.getProcessId();
+			if ((0 != pid) && !IPC.processExists(pid)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Read the common directory, reusing the entries of directories seen in earlier scans.
+	 * @param commonDir the attach API common directory
+	 * @return the entries of all the files in the directory, or null if the directory cannot be read
+	 */
+	private List<AdvertisementIndex.Entry> scanCommonDirectory(File commonDir) {
+		String[] names = commonDir.list();
+		if (null == names) {
+			return null;
+		}
+		Map<String, AdvertisementIndex.Entry> previous = scannedEntries;
+		scannedEntries = new HashMap<>();
+		for (String name : names) {
+			AdvertisementIndex.Entry entry = previous.get(name);
+			if (null == entry) {
+				entry = new AdvertisementIndex.Entry(new File(commonDir, name));
+			}
+			/* nothing reports changes, so check the ownership and advertisement of every directory */
+			entry.changed = true;
+			scannedEntries.put(name, entry);
+		}
+		return new ArrayList<>(scannedEntries.values());
+	}
 
-				/*[PR Jazz 22292 do not delete files the process does not own, unless the process is running as root ]*/
-				if (staleDirectory && ((myUid == 0) || (uid == myUid))) {
-					IPC.logMessage("listVirtualMachines() removing stale directory : ", f.getName()); //$NON-NLS-1$
-					TargetDirectory.deleteTargetDirectory(f.getName());
+	/**
+	 * Read the changed advertisements and check whether the targets are running, using several threads
+	 * if there are many targets.
+	 * @param entries the target directories
+	 * @param myUid user ID of this process
+	 * @return false if any target could not be examined
+	 */
+	private boolean examineTargets(List<AdvertisementIndex.Entry> entries, long myUid) {
+		int tasks = Math.min(MAX_LIST_THREADS, entries.size() / ENTRIES_PER_LIST_THREAD);
+		if (tasks <= 1) {
+			return examineTargets(entries, 0, 1, myUid);
+		}
+		ExecutorService executor = getListExecutor();
+		List<Future<Boolean>> futures = new ArrayList<>(tasks - 1);
+		for (int i = 1; i < tasks; ++i) {
+			final int first = i;
+			futures.add(executor.submit(() -> Boolean.valueOf(examineTargets(entries, first, tasks, myUid))));
+		}
+		boolean complete = examineTargets(entries, 0, tasks, myUid);
+
+		boolean interrupted = false;
+		Throwable failure = null;
+		for (Future<Boolean> future : futures) {
+			for (;;) {
+				try {
+					complete &= future.get().booleanValue();
+					break;
+				} catch (InterruptedException e) {
+					/* the entries must not be used while the task is running */
+					interrupted = true;
+				} catch (ExecutionException e) {
+					/* examineTargets() handles exceptions for each entry, so this is an Error; wait for the other tasks first */
+					failure = e.getCause();
+					break;
 				}
 			}
-		} finally {
-			/* guarantee that we unlock the file */
-			CommonDirectory.releaseControllerLock("OpenJ9AttachProvider.listVirtualMachinesImp"); //$NON-NLS-1$
 		}
-		return descriptors;
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		} else if (null != failure) {
+			throw new RuntimeException(failure);
+		}
+		return complete;
+	}
+
+	/**
+	 * Examine every stride'th entry. An entry whose examination fails is left out of this listing
+	 * and examined again by the next one; its directory is not deleted.
+	 * @param entries the target directories
+	 * @param first index of the first entry to examine
+	 * @param stride distance between the entries to examine
+	 * @param myUid user ID of this process
+	 * @return false if any entry could not be examined
+	 */
+	private boolean examineTargets(List<AdvertisementIndex.Entry> entries, int first, int stride, long myUid) {
+		boolean complete = true;
+		for (int i = first; i < entries.size(); i += stride) {
+			AdvertisementIndex.Entry entry = entries.get(i);
+			try {
+				if (entry.changed) {
+					entry.owned = entry.directory.isDirectory() && CommonDirectory.isFileOwnedByUid(entry.directory, myUid);
+					/* a directory which cannot be watched must be checked every time */
+					entry.changed = entry.owned && (null == entry.key);
+					if (entry.owned) {
+						readAdvertisement(entry, myUid);
+					}
+				}
+				entry.live = false;
+				if (entry.owned && (null != entry.descriptor)) {
+					long pid = entry.descriptor.getProcessId();
+					entry.live = (0 == pid) || IPC.processExists(pid);
+				}
+			} catch (RuntimeException e) {
+				IPC.logMessage("listVirtualMachines() could not examine " + entry.directory.getName() + ": ", e.toString()); //$NON-NLS-1$ //$NON-NLS-2$
+				entry.owned = false;
+				entry.live = false;
+				entry.changed = true;
+				entry.advertisementModified = 0;
+				complete = false;
+			}
+		}
+		return complete;
+	}
+
+	/**
+	 * @return the threads which examine the targets, created on first use
+	 */
+	private ExecutorService getListExecutor() {
+		if (null == listExecutor) {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_LIST_THREADS, MAX_LIST_THREADS,
+					30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), runnable -> {
+						Thread thread = new Thread(runnable, "Attach API list targets"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			listExecutor = executor;
+		}
+		return listExecutor;
+	}
+
+	/**
+	 * @param commonDir the attach API common directory
+	 * @return the index of the common directory, or null if the directory must be scanned
+	 */
+	private AdvertisementIndex getAdvertisementIndex(File commonDir) {
+		if ((null != advertisementIndex) && advertisementIndex.isInvalid()) {
+			/* the common directory was deleted and recreated */
+			advertisementIndex.close();
+			advertisementIndex = null;
+			indexUnavailable = false;
+		}
+		if ((null == advertisementIndex) && !indexUnavailable) {
+			advertisementIndex = AdvertisementIndex.create(commonDir);
+			indexUnavailable = (null == advertisementIndex);
+		}
+		return advertisementIndex;
+	}
+
+	/**
+	 * Read the advertisement in a target directory, unless it has not been modified since it was last read.
+	 * @param entry the target directory, updated with the descriptor and owner of the target
+	 * @param myUid user ID of this process
+	 */
+	private void readAdvertisement(AdvertisementIndex.Entry entry, long myUid) {
+		File advertisement = new File(entry.directory, Advertisement.getFilename());
+		long modified = advertisement.lastModified(); /* 0 if the file does not exist */
+		if ((0 != modified) && (modified == entry.advertisementModified) && (null != entry.descriptor)) {
+			return;
+		}
+		entry.advertisementModified = modified;
+		entry.descriptor = null;
+		entry.uid = 0;
+		if (0 != modified) {
+			entry.descriptor = OpenJ9VirtualMachineDescriptor.fromAdvertisement(this, advertisement);
+			if (null != entry.descriptor) {
+				entry.uid = entry.descriptor.getUid();
+			}
+			/*[PR Jazz 30110 advertisement is from an older version or is corrupt.  get the owner via file stat ]*/
+			if ((myUid != 0) && (0 == entry.uid)) {
+				/*
+				 * If this process's UID is 0, then it is root and should ignore file ownership and clean up everyone's files.
+				 * If getFileOwner fails, the uid will appear to be -1, and non-root users will ignore it.
+				 * CommonDirectory.deleteStaleDirectories() will handle the case of a target directory which does not have an advertisement directory.
+				 */
+				entry.uid = CommonDirectory.getFileOwner(advertisement.getAbsolutePath());
+			}
+		}
 	}
 
 	/**
@@ -210,7 +454,7 @@ public class OpenJ9AttachProvider extends AttachProvider {
 	 * @return descriptor of target
 	 */
 	VirtualMachineDescriptor getDescriptor(String id) {
-		List<VirtualMachineDescriptor> vmds = listVirtualMachines();
+		List<VirtualMachineDescriptor> vmds = listVirtualMachines(false);
 		if (null != vmds) {
 			for (VirtualMachineDescriptor vmd : vmds) {
 				if (vmd.id().equalsIgnoreCase(id)) {
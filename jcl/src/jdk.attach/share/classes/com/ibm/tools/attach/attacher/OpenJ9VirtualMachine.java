@@ -32,6 +32,10 @@ import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+/*[IF JAVA_SPEC_VERSION >= 17]*/
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
 import java.nio.charset.StandardCharsets;
 /*[IF JAVA_SPEC_VERSION < 24]*/
 import java.security.AccessController;
@@ -451,7 +455,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 			try {
 				CommonDirectory.obtainAttachLock("OpenJ9VirtualMachine.tryAttachTarget(" + timeout + ")"); //$NON-NLS-1$ //$NON-NLS-2$
 				IPC.logMessage("OpenJ9VirtualMachine.tryAttachTarget() before listVirtualMachines"); //$NON-NLS-1$
-				List<VirtualMachineDescriptor> vmds = myProvider.listVirtualMachines();
+				List<VirtualMachineDescriptor> vmds = myProvider.listVirtualMachines(false);
 				if (null == vmds) {
 					IPC.logMessage("OpenJ9VirtualMachine.tryAttachTarget() myProvider.listVirtualMachines() returns null"); //$NON-NLS-1$
 					return;
@@ -494,7 +498,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 						/*[MSG "K0558", "Attach API initialization failed"]*/
 						throw new AttachNotSupportedException(getString("K0558")); //$NON-NLS-1$
 					}
-				} else {
+				} else if (!notifyBySocket()) {
 					lockAllAttachNotificationSyncFiles(vmds);
 					numberOfTargets = CommonDirectory.countTargetDirectories();
 					int status = CommonDirectory.notifyVm(numberOfTargets, descriptor.isGlobalSemaphore(), "OpenJ9VirtualMachine.tryAttachTarget"); //$NON-NLS-1$
@@ -555,6 +559,27 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 		}
 	}
 
+	/**
+	 * Wake the target by connecting to its notification socket, which avoids waking every VM
+	 * sharing the semaphore.
+	 * @return true if the target was notified, false if the semaphore must be used
+	 */
+	private boolean notifyBySocket() {
+		/*[IF JAVA_SPEC_VERSION >= 17]*/
+		String socketPath = descriptor.getNotificationSocket();
+		if (null != socketPath) {
+			try (SocketChannel notification = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+				IPC.logMessage("OpenJ9VirtualMachine.notifyBySocket() notified ", socketPath); //$NON-NLS-1$
+				return true;
+			} catch (IOException | RuntimeException e) {
+				/* e.g. the target is shutting down or its directory was recreated: fall back to the semaphore */
+				IPC.logMessage("OpenJ9VirtualMachine.notifyBySocket() failed, using semaphore: ", e.toString()); //$NON-NLS-1$
+			}
+		}
+		/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
+		return false;
+	}
+
 	private void unlockAllAttachNotificationSyncFiles() {
 
 		if (null != targetLocks) {
@@ -58,6 +58,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 	private final long processId;
 	private final long uid;
 	private final boolean globalSemaphore;
+	private final String notificationSocket;
 
 	/**
 	 * @param provider AttachProvider associated with this VM
@@ -72,6 +73,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		processId = 0;
 		uid = 0;
 		globalSemaphore = true;
+		notificationSocket = null;
 	}
 
 	/**
@@ -85,6 +87,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		processId = 0;
 		uid = 0;
 		globalSemaphore = true;
+		notificationSocket = null;
 	}
 
 	/**
@@ -100,7 +103,7 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		processId = advert.getProcessId();
 		uid = advert.getUid();
 		globalSemaphore = advert.isGlobalSemaphore();
-
+		notificationSocket = advert.getNotificationSocket();
 	}
 
 	/**
@@ -161,4 +164,11 @@ final class OpenJ9VirtualMachineDescriptor extends VirtualMachineDescriptor {
 		return uid;
 	}
 
+	/**
+	 * @return path to the target's notification socket, or null if it is notified by the semaphore
+	 */
+	String getNotificationSocket() {
+		return notificationSocket;
+	}
+
 }
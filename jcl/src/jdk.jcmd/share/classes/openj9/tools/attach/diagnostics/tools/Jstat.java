@@ -24,9 +24,12 @@
 package openj9.tools.attach.diagnostics.tools;
 
 import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import openj9.internal.tools.attach.target.AttachHandler;
 import openj9.internal.tools.attach.target.DiagnosticProperties;
+import openj9.internal.tools.attach.target.DiagnosticUtils;
 import openj9.internal.tools.attach.target.IPC;
 import openj9.tools.attach.diagnostics.attacher.AttacherDiagnosticsProvider;
 
@@ -39,12 +42,24 @@ public class Jstat {
 
 	private static String vmid;
 	private static String statOption;
+	private static boolean printTimestamp;
+	/* sampling interval in milliseconds, 0 to print a single sample */
+	private static long interval;
+	/* number of samples, 0 for no limit */
+	private static long count;
 
 	private static final String OPTION_CLASS = "-class";
-	private static final String[] OPTIONS = { OPTION_CLASS };
+	private static final String OPTION_COMPILER = "-compiler";
+	private static final String OPTION_GC = "-gc";
+	private static final String OPTION_HEAP = "-heap";
+	private static final String OPTION_THREAD = "-thread";
+	private static final String OPTION_TIMESTAMP = "-t";
+	private static final String[] OPTIONS = { OPTION_CLASS, OPTION_COMPILER, OPTION_GC, OPTION_HEAP, OPTION_THREAD };
 
 	private static final String ERROR_AN_ARG_REQUIRED = "An argument is required";
 	private static final String ERROR_INVALID_ARG = "An invalid argument";
+	private static final String ERROR_INVALID_COUNT = "An invalid count: ";
+	private static final String ERROR_INVALID_INTERVAL = "An invalid interval: ";
 	private static final String ERROR_INVALID_OPTION = "An invalid option";
 	private static final String ERROR_INVALID_VMID = "Can't monitor this utility JVM itself: ";
 	private static final String ERROR_NOT_EXIST_VMID = "No such process for vmid: ";
@@ -53,14 +68,21 @@ public class Jstat {
 
 	private static String HELPTEXT = "jstat: obtain statistics information about a Java process%n"
 			+ " Usage:%n"
-			+ "    jstat [<option>] [<vmid>]%n"
+			+ "    jstat [<option>] [-t] [<vmid>] [<interval>[ms|s] [<count>]]%n"
 			+ "%n"
 			+ "  option:%n"
 			+ "   -J : supply arguments to the Java VM running jstat%n"
 			+ "   -h : print this help message%n"
 			+ "   -options : list the available command options%n"
 			+ "   -class : Classloading statistics%n"
+			+ "   -compiler : JIT compilation time%n"
+			+ "   -gc : Garbage collection count and time for each collector%n"
+			+ "   -heap : Heap used, committed and maximum size%n"
+			+ "   -thread : Live, daemon, peak and started thread counts%n"
+			+ "   -t : print the target VM uptime in seconds as the first column%n"
 			+ "  <vmid>: Attach API VM ID as shown in jps or other Attach API-based tools%n"
+			+ "  <interval>: print a sample every interval, in milliseconds unless s is specified%n"
+			+ "  <count>: number of samples to print, the default is to continue until the target VM ends%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n"
 			+ "At least one option must be selected.%n";
 
@@ -94,22 +116,14 @@ public class Jstat {
 
 			try {
 				diagProvider.attach(vmid);
-				Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
-			} catch (Exception e) {
-				System.err.printf("Error getting data from %s", vmid);
-				final String msg = e.getMessage();
-				if (msg == null) {
-					System.err.println();
+				if (OPTION_CLASS.equals(statOption) && !printTimestamp && (0 == interval)) {
+					/* jstat.class is understood by targets which predate jstat.sample */
+					Util.runCommandAndPrintResult(diagProvider, "jstat.class", "jstat");
 				} else {
-					if (msg.matches(IPC.INCOMPATIBLE_JAVA_VERSION)) {
-						System.err.println(": incompatible target JVM");
-					} else {
-						System.err.printf(": %s%n", msg);
-					}
-				}
-				if (DiagnosticProperties.isDebug) {
-					e.printStackTrace();
+					printSamples(diagProvider);
 				}
+			} catch (Exception e) {
+				Util.handleCommandException(vmid, e);
 			} finally {
 				try {
 					diagProvider.detach();
@@ -140,7 +154,9 @@ public class Jstat {
 			}
 		} else {
 			for (String arg : args) {
-				if (arg.startsWith("-")) {
+				if (OPTION_TIMESTAMP.equals(arg) && (statOption != null) && (vmid == null)) {
+					printTimestamp = true;
+				} else if (arg.startsWith("-")) {
 					if (statOption != null) {
 						// one option has already been set, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
@@ -148,7 +164,11 @@ public class Jstat {
 						foundStatOption = true;
 						switch (arg) {
 						case OPTION_CLASS:
-							statOption = "jstat.class";
+						case OPTION_COMPILER:
+						case OPTION_GC:
+						case OPTION_HEAP:
+						case OPTION_THREAD:
+							statOption = arg;
 							break;
 						default:
 							// invalid option was specified, print error message and help text, and exit
@@ -159,11 +179,15 @@ public class Jstat {
 					if (statOption == null) {
 						// no option was specified, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_OPTION_REQUIRED, HELPTEXT);
-					} else if (vmid != null) {
-						// one vmid has already been set, print error message and help text, and exit
-						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
-					} else {
+					} else if (vmid == null) {
 						vmid = arg;
+					} else if (interval == 0) {
+						interval = parseInterval(arg);
+					} else if (count == 0) {
+						count = parseCount(arg);
+					} else {
+						// the vmid, interval and count have already been set, print error message and help text, and exit
+						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
 					}
 				}
 			}
@@ -171,4 +195,177 @@ public class Jstat {
 
 		return foundStatOption;
 	}
+
+	private static long parseInterval(String arg) {
+		long multiplier = 1;
+		String digits = arg;
+		if (arg.endsWith("ms")) {
+			digits = arg.substring(0, arg.length() - 2);
+		} else if (arg.endsWith("s")) {
+			multiplier = 1000;
+			digits = arg.substring(0, arg.length() - 1);
+		}
+		long result = 0;
+		try {
+			result = Long.parseLong(digits) * multiplier;
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		if (result <= 0) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_INTERVAL + arg, HELPTEXT);
+		}
+		return result;
+	}
+
+	private static long parseCount(String arg) {
+		long result = 0;
+		try {
+			result = Long.parseLong(arg);
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		if (result <= 0) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_COUNT + arg, HELPTEXT);
+		}
+		return result;
+	}
+
+	/**
+	 * Print samples of the selected statistics, using one jstat.sample command per sample
+	 * over the existing attachment. Samples are taken at a fixed rate; if the target is too
+	 * slow to respond, the missed samples are skipped rather than taken in a burst.
+	 *
+	 * @param diagProvider attached diagnostics provider
+	 * @throws IOException if the target cannot be reached or does not support sampling
+	 * @throws InterruptedException if interrupted between samples
+	 */
+	private static void printSamples(AttacherDiagnosticsProvider diagProvider) throws IOException, InterruptedException {
+		long intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+		long nextSample = System.nanoTime();
+		StringBuilder line = new StringBuilder();
+		for (long sampleNumber = 0;; ++sampleNumber) {
+			Properties props = diagProvider.executeDiagnosticCommand(DiagnosticUtils.DIAGNOSTICS_STAT_SAMPLE);
+			DiagnosticProperties.dumpPropertiesIfDebug("jstat result:", props);
+			DiagnosticProperties sample = new DiagnosticProperties(props);
+			if (0 == sampleNumber) {
+				System.out.println(formatHeader(sample));
+			}
+			line.setLength(0);
+			formatSample(sample, line);
+			System.out.println(line);
+			if ((0 == interval) || ((0 != count) && ((sampleNumber + 1) >= count))) {
+				break;
+			}
+			nextSample += intervalNanos;
+			long delay = nextSample - System.nanoTime();
+			if (delay > 0) {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			} else {
+				nextSample = System.nanoTime();
+			}
+		}
+	}
+
+	private static String formatHeader(DiagnosticProperties sample) throws IOException {
+		StringBuilder header = new StringBuilder();
+		if (printTimestamp) {
+			header.append("Timestamp    ");
+		}
+		switch (statOption) {
+		case OPTION_CLASS:
+			header.append("Class Loaded    Class Unloaded");
+			break;
+		case OPTION_COMPILER:
+			header.append("Compile Time(ms)");
+			break;
+		case OPTION_GC:
+			int gcCount = getGcCount(sample);
+			for (int i = 0; i < gcCount; ++i) {
+				String name = sample.getString(gcKey(i, DiagnosticUtils.JSTAT_GC_NAME));
+				if (i > 0) {
+					header.append("    ");
+				}
+				header.append(String.format("%14s    %14s", name + " Count", name + " Time(ms)"));
+			}
+			break;
+		case OPTION_HEAP:
+			header.append("    Used(KB)    Committed(KB)          Max(KB)");
+			break;
+		case OPTION_THREAD:
+			header.append("    Live    Daemon      Peak       Started");
+			break;
+		default:
+			break;
+		}
+		return header.toString();
+	}
+
+	private static void formatSample(DiagnosticProperties sample, StringBuilder line) throws IOException {
+		if (printTimestamp) {
+			// "Timestamp".length = 9
+			if (sample.containsField(DiagnosticUtils.JSTAT_UPTIME)) {
+				line.append(String.format("%9.1f    ", Double.valueOf(sample.getLong(DiagnosticUtils.JSTAT_UPTIME) / 1000.0)));
+			} else {
+				line.append(String.format("%9s    ", "-"));
+			}
+		}
+		switch (statOption) {
+		case OPTION_CLASS:
+			// "Class Loaded".length = 12, "Class Unloaded".length = 14
+			line.append(String.format("%12d    %14d",
+					Long.valueOf(sample.getLong(DiagnosticUtils.JSTAT_CLASS_LOADED)),
+					Long.valueOf(sample.getLong(DiagnosticUtils.JSTAT_CLASS_UNLOADED))));
+			break;
+		case OPTION_COMPILER:
+			// "Compile Time(ms)".length = 16
+			line.append(String.format("%16s", getOptional(sample, DiagnosticUtils.JSTAT_COMPILER_TIME)));
+			break;
+		case OPTION_GC:
+			int gcCount = getGcCount(sample);
+			for (int i = 0; i < gcCount; ++i) {
+				String name = sample.getString(gcKey(i, DiagnosticUtils.JSTAT_GC_NAME));
+				if (i > 0) {
+					line.append("    ");
+				}
+				int countWidth = Math.max(14, name.length() + " Count".length());
+				int timeWidth = Math.max(14, name.length() + " Time(ms)".length());
+				line.append(String.format("%" + countWidth + "d    %" + timeWidth + "d",
+						Long.valueOf(sample.getLong(gcKey(i, DiagnosticUtils.JSTAT_GC_COLLECTIONS))),
+						Long.valueOf(sample.getLong(gcKey(i, DiagnosticUtils.JSTAT_GC_TIME)))));
+			}
+			break;
+		case OPTION_HEAP:
+			line.append(String.format("%12d    %13d    %13d",
+					Long.valueOf(sample.getLong(DiagnosticUtils.JSTAT_HEAP_USED) / 1024),
+					Long.valueOf(sample.getLong(DiagnosticUtils.JSTAT_HEAP_COMMITTED) / 1024),
+					Long.valueOf(sample.getLong(DiagnosticUtils.JSTAT_HEAP_MAX) / 1024)));
+			break;
+		case OPTION_THREAD:
+			line.append(String.format("%8s    %6s    %6s    %10s",
+					getOptional(sample, DiagnosticUtils.JSTAT_THREAD_LIVE),
+					getOptional(sample, DiagnosticUtils.JSTAT_THREAD_DAEMON),
+					getOptional(sample, DiagnosticUtils.JSTAT_THREAD_PEAK),
+					getOptional(sample, DiagnosticUtils.JSTAT_THREAD_STARTED)));
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static int getGcCount(DiagnosticProperties sample) throws IOException {
+		// absent if the target has no java.management module
+		return sample.containsField(DiagnosticUtils.JSTAT_GC_COUNT) ? sample.getInt(DiagnosticUtils.JSTAT_GC_COUNT) : 0;
+	}
+
+	private static String gcKey(int gcNumber, String suffix) {
+		return DiagnosticUtils.JSTAT_GC_PREFIX + gcNumber + suffix;
+	}
+
+	/**
+	 * @return the value, or "-" if the target could not provide it
+	 */
+	private static String getOptional(DiagnosticProperties sample, String key) {
+		String value = sample.getPropertyOrNull(key);
+		return (null == value) ? "-" : value;
+	}
 }
@@ -39,6 +39,11 @@ public final class JvmCpuMonitorInfo {
 	private static final int HASHMASK = 0x0FFFFFFF;
 	private static final int NUM_USER_DEFINED_CATEGORY = 5;
 
+	/* (non-Javadoc)
+	 * The number of values read and written by getValues() and setValues().
+	 */
+	static final int NUM_VALUES = 6 + NUM_USER_DEFINED_CATEGORY;
+
 	private long timestamp;
 	private long applicationCpuTime;
 	private long resourceMonitorCpuTime;
@@ -179,6 +184,40 @@ public final class JvmCpuMonitorInfo {
 		System.arraycopy(appUserTime, 0, this.applicationUserCpuTime, 0, appUserTime.length);
 	}
 
+	/* (non-Javadoc)
+	 * Copy the values of this instance to values[offset] through values[offset + NUM_VALUES - 1],
+	 * in the order: time stamp, Application, Resource-Monitor, System-JVM, GC, JIT and the user
+	 * defined categories.
+	 *
+	 * @param values The array to copy the values to.
+	 * @param offset The index of the time stamp in values.
+	 */
+	void getValues(long[] values, int offset) {
+		values[offset] = this.timestamp;
+		values[offset + 1] = this.applicationCpuTime;
+		values[offset + 2] = this.resourceMonitorCpuTime;
+		values[offset + 3] = this.systemJvmCpuTime;
+		values[offset + 4] = this.gcCpuTime;
+		values[offset + 5] = this.jitCpuTime;
+		System.arraycopy(this.applicationUserCpuTime, 0, values, offset + 6, NUM_USER_DEFINED_CATEGORY);
+	}
+
+	/* (non-Javadoc)
+	 * Set the values of this instance from an array in the order used by getValues().
+	 *
+	 * @param values The array to copy the values from.
+	 * @param offset The index of the time stamp in values.
+	 */
+	void setValues(long[] values, int offset) {
+		this.timestamp = values[offset];
+		this.applicationCpuTime = values[offset + 1];
+		this.resourceMonitorCpuTime = values[offset + 2];
+		this.systemJvmCpuTime = values[offset + 3];
+		this.gcCpuTime = values[offset + 4];
+		this.jitCpuTime = values[offset + 5];
+		System.arraycopy(values, offset + 6, this.applicationUserCpuTime, 0, NUM_USER_DEFINED_CATEGORY);
+	}
+
 	/**
 	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
 	 * {@link JvmCpuMonitorInfo} object and attempts to return the root
@@ -62,6 +62,8 @@ import java.lang.management.PlatformManagedObject;
  *     <li>Calculating the JVM Overhead over a specific interval.
  *     <li>Collecting transaction metrics for a specific set of application threads over a specific duration.
  * </ol>
+ * For time series of the CPU usage of each category, {@link JvmCpuMonitorRecorder} checks the usage
+ * at a fixed period and keeps the differences between successive checks.
  * <br>
  * <b>Usage example for the {@link JvmCpuMonitorMXBean}</b>
  * <pre>
@@ -0,0 +1,305 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.ibm.lang.management.internal.JvmCpuMonitor;
+
+/**
+ * <code>JvmCpuMonitorRecorder</code> records the CPU usage of each thread category
+ * at a fixed period, as a stream of deltas.
+ * <p>
+ * A recorder thread calls {@link JvmCpuMonitorMXBean#getThreadsCpuUsage(JvmCpuMonitorInfo)}
+ * once per period and stores the difference from the previous record in a ring buffer.
+ * The records are removed from the buffer with {@link #poll(JvmCpuMonitorInfo)},
+ * {@link #poll()} or {@link #drainTo(Collection)}, which do not visit the threads and
+ * do not block, so they can be called as often as required.
+ * The buffer may be read by any number of threads concurrently.
+ * <p>
+ * Each record is a {@link JvmCpuMonitorInfo} in which the time stamp is the end of the period,
+ * and the CPU usage of each category is the usage since the time stamp of the previous record,
+ * or since {@link #getStartTimestamp()} for the first record.
+ * If the buffer is full when a period ends no record is added; the next record then covers
+ * all the periods since the last record added, so the records always account for all the
+ * CPU usage. The number of periods merged this way is returned by {@link #getOverflowCount()}.
+ * <p>
+ * The recorder thread is in the "Resource-Monitor" category, so its CPU usage does not count
+ * towards the "Application" category. Its overhead is one call of
+ * {@link JvmCpuMonitorMXBean#getThreadsCpuUsage(JvmCpuMonitorInfo)} per period.
+ * <p>
+ * <b>Usage example</b>
+ * <pre>
+ * {@code
+ *   try (JvmCpuMonitorRecorder recorder = JvmCpuMonitorRecorder.start(100, TimeUnit.MILLISECONDS, 600)) {
+ *      JvmCpuMonitorInfo delta = new JvmCpuMonitorInfo();
+ *      while (...) {
+ *         while (recorder.poll(delta)) {
+ *            // process delta.getGcCpuTime(), delta.getJitCpuTime(), ...
+ *         }
+ *         ...
+ *      }
+ *   }
+ * }
+ * </pre>
+ *
+ * @see JvmCpuMonitorMXBean For more information on thread categories.
+ */
+public final class JvmCpuMonitorRecorder implements AutoCloseable {
+
+	private static final int RECORD_LENGTH = JvmCpuMonitorInfo.NUM_VALUES;
+	private static final int TIMESTAMP_INDEX = 0;
+
+	private final long periodNanos;
+	private final int capacity;
+	private final long startTimestamp;
+	/* capacity records of RECORD_LENGTH values each */
+	private final long[] records;
+	/* the sequence number of the next record to remove; updated by the readers */
+	private final AtomicLong head = new AtomicLong();
+	/* the sequence number of the next record to add; updated by the recorder thread only */
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong overflowCount = new AtomicLong();
+	private final Thread thread;
+	private volatile boolean closed;
+
+	private JvmCpuMonitorRecorder(long periodNanos, int capacity, JvmCpuMonitorInfo start) {
+		super();
+		this.periodNanos = periodNanos;
+		this.capacity = capacity;
+		this.startTimestamp = start.getTimestamp();
+		this.records = new long[capacity * RECORD_LENGTH];
+		this.thread = new Thread(() -> record(start), "JvmCpuMonitor recorder"); //$NON-NLS-1$
+		this.thread.setDaemon(true);
+		this.thread.setContextClassLoader(null);
+	}
+
+	/**
+	 * Start recording the CPU usage of the thread categories.
+	 *
+	 * @param period The time between records.
+	 * @param unit The unit of <code>period</code>.
+	 * @param capacity The maximum number of records kept until they are removed.
+	 *
+	 * @return the new recorder.
+	 *
+	 * @throws NullPointerException if <code>unit</code> is null.
+	 * @throws IllegalArgumentException if <code>period</code> is less than one millisecond,
+	 *         or <code>capacity</code> is not positive or too large.
+	 * @throws UnsupportedOperationException if CPU monitoring is disabled.
+	 */
+	public static JvmCpuMonitorRecorder start(long period, TimeUnit unit, int capacity)
+			throws NullPointerException, IllegalArgumentException, UnsupportedOperationException {
+		long periodNanos = unit.toNanos(period);
+		if ((periodNanos < TimeUnit.MILLISECONDS.toNanos(1))
+				|| (capacity <= 0) || (capacity > (Integer.MAX_VALUE / RECORD_LENGTH))) {
+			throw new IllegalArgumentException();
+		}
+		/* fail here rather than on the recorder thread if CPU monitoring is disabled */
+		JvmCpuMonitorInfo start = JvmCpuMonitor.getInstance().getThreadsCpuUsage();
+		JvmCpuMonitorRecorder recorder = new JvmCpuMonitorRecorder(periodNanos, capacity, start);
+		recorder.thread.start();
+		return recorder;
+	}
+
+	/**
+	 * This method returns the time stamp at which recording started.
+	 *
+	 * @return the time stamp of the CPU usage the first record is relative to, in microseconds.
+	 */
+	public long getStartTimestamp() {
+		return this.startTimestamp;
+	}
+
+	/**
+	 * This method returns the time between records.
+	 *
+	 * @param unit The unit of the result.
+	 *
+	 * @return the period in the given unit.
+	 */
+	public long getPeriod(TimeUnit unit) {
+		return unit.convert(this.periodNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * This method returns the maximum number of records kept until they are removed.
+	 *
+	 * @return the capacity of the buffer.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * This method returns the number of periods which ended while the buffer was full,
+	 * and were merged into the following record.
+	 *
+	 * @return the number of periods without a record of their own.
+	 */
+	public long getOverflowCount() {
+		return this.overflowCount.get();
+	}
+
+	/**
+	 * This method returns whether records are still being added.
+	 * Recording stops when the recorder is closed, or if the CPU usage cannot be retrieved.
+	 *
+	 * @return true if the recorder thread is running.
+	 */
+	public boolean isRecording() {
+		return !this.closed && this.thread.isAlive();
+	}
+
+	/**
+	 * This function removes the oldest record, if any, and copies it to
+	 * the user provided <code>JvmCpuMonitorInfo</code> object.
+	 *
+	 * @param delta User provided JvmCpuMonitorInfo object.
+	 *
+	 * @return true if a record was removed, false if there are none.
+	 *
+	 * @throws NullPointerException if a null reference is passed.
+	 */
+	public boolean poll(JvmCpuMonitorInfo delta) throws NullPointerException {
+		if (null == delta) {
+			throw new NullPointerException();
+		}
+		for (;;) {
+			long sequence = this.head.get();
+			if (sequence == this.tail.get()) {
+				return false;
+			}
+			/* the slot may be overwritten as soon as head moves on, so copy it before */
+			delta.setValues(this.records, (int) (sequence % this.capacity) * RECORD_LENGTH);
+			if (this.head.compareAndSet(sequence, sequence + 1)) {
+				return true;
+			}
+			/* another reader removed the record: the copy may be of a newer one, so try again */
+		}
+	}
+
+	/**
+	 * This function removes the oldest record, if any.
+	 *
+	 * @return a new <code>JvmCpuMonitorInfo</code> instance, or null if there are no records.
+	 */
+	public JvmCpuMonitorInfo poll() {
+		JvmCpuMonitorInfo delta = new JvmCpuMonitorInfo();
+		return poll(delta) ? delta : null;
+	}
+
+	/**
+	 * This function removes all the records and adds them to the given collection, oldest first.
+	 *
+	 * @param collection The collection to add the records to.
+	 *
+	 * @return the number of records added.
+	 *
+	 * @throws NullPointerException if a null reference is passed.
+	 */
+	public int drainTo(Collection<? super JvmCpuMonitorInfo> collection) throws NullPointerException {
+		if (null == collection) {
+			throw new NullPointerException();
+		}
+		int count = 0;
+		for (JvmCpuMonitorInfo delta = poll(); null != delta; delta = poll()) {
+			collection.add(delta);
+			count += 1;
+		}
+		return count;
+	}
+
+	/**
+	 * Stop recording. Records which have not been removed remain available.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		LockSupport.unpark(this.thread);
+	}
+
+	private void record(JvmCpuMonitorInfo start) {
+		JvmCpuMonitor monitor = JvmCpuMonitor.getInstance();
+		@SuppressWarnings("deprecation")
+		long id = Thread.currentThread().getId();
+		monitor.setThreadCategory(id, "Resource-Monitor"); //$NON-NLS-1$
+
+		JvmCpuMonitorInfo info = start;
+		long[] previous = new long[RECORD_LENGTH];
+		long[] current = new long[RECORD_LENGTH];
+		info.getValues(previous, 0);
+
+		long deadline = System.nanoTime() + this.periodNanos;
+		while (!this.closed) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining > 0) {
+				LockSupport.parkNanos(this, remaining);
+				continue;
+			}
+			deadline += this.periodNanos;
+			if ((deadline - System.nanoTime()) <= 0) {
+				/* the recorder fell behind, e.g. the machine was suspended: do not catch up */
+				deadline = System.nanoTime() + this.periodNanos;
+			}
+			try {
+				monitor.getThreadsCpuUsage(info);
+			} catch (RuntimeException | InternalError e) {
+				break;
+			}
+			info.getValues(current, 0);
+			if (add(previous, current)) {
+				long[] swap = previous;
+				previous = current;
+				current = swap;
+			} else {
+				/* keep the previous values, so the next record covers this period too */
+				this.overflowCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Add the difference between two sets of values to the buffer. Only the recorder thread adds records.
+	 *
+	 * @return false if the buffer is full
+	 */
+	private boolean add(long[] previous, long[] current) {
+		long sequence = this.tail.get();
+		if ((sequence - this.head.get()) >= this.capacity) {
+			return false;
+		}
+		int offset = (int) (sequence % this.capacity) * RECORD_LENGTH;
+		this.records[offset + TIMESTAMP_INDEX] = current[TIMESTAMP_INDEX];
+		for (int i = TIMESTAMP_INDEX + 1; i < RECORD_LENGTH; i++) {
+			this.records[offset + i] = current[i] - previous[i];
+		}
+		/* publish the record after its values are written */
+		this.tail.lazySet(sequence + 1);
+		return true;
+	}
+
+}
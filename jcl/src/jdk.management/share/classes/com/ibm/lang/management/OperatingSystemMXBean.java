@@ -67,6 +67,15 @@ package com.ibm.lang.management;
  * <td>{@code -1}</td>
  * </tr>
  * </table>
+ * <br>
+ *
+ * If the system property com.ibm.lang.management.OperatingSystemMXBean.sampleInterval is set
+ * to a number of milliseconds, a background thread samples the process and system CPU loads,
+ * the processor usage and the memory usage at that interval. {@link #getProcessCpuLoad()},
+ * {@link #getSystemCpuLoad()}, {@link #retrieveProcessorUsage()}, {@link #retrieveTotalProcessorUsage()},
+ * {@link #retrieveMemoryUsage()} and the swap space sizes then return the most recent sample
+ * without blocking, rather than querying the operating system on each call.
+ * The CPU loads are measured over the sampling interval. The interval must be at least 10 ms.
  *
  * @see CpuLoadCalculationConstants
  * @since 1.5
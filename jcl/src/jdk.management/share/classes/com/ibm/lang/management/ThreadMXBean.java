@@ -103,4 +103,24 @@ public interface ThreadMXBean extends com.sun.management.ThreadMXBean
 			SecurityException,
 			/*[ENDIF] JAVA_SPEC_VERSION < 24 */
 			UnsupportedOperationException;
+
+	/**
+	 * API method that fetches the CPU time, user time, allocated bytes and state of all
+	 * live threads in a single call. This is more efficient than calling
+	 * getAllThreadIds() followed by getThreadCpuTime(long[]), getThreadUserTime(long[])
+	 * and getThreadAllocatedBytes(long[]), because the threads are visited once.
+	 * The CPU and user times are -1 if thread CPU time measurement is not supported or
+	 * is disabled, and the allocated bytes are -1 if thread memory allocation
+	 * measurement is disabled.
+	 * @return A snapshot of the usage of all live threads.
+	/*[IF JAVA_SPEC_VERSION < 24]
+	 * @throws SecurityException is thrown if the caller does not have sufficient permissions
+	 * (ManagementPermission("monitor"))
+	/*[ENDIF] JAVA_SPEC_VERSION >= 24
+	 */
+	public ThreadUsageSnapshot getThreadUsageSnapshot()
+			/*[IF JAVA_SPEC_VERSION < 24]*/
+			throws SecurityException
+			/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+			;
 }
@@ -0,0 +1,270 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.util.Arrays;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.ThreadUsageSnapshotUtil;
+
+/**
+ * <code>ThreadUsageSnapshot</code> holds the CPU time, user time, allocated bytes and state
+ * of all the live threads, collected together by {@link ThreadMXBean#getThreadUsageSnapshot()}.
+ * The values for a thread are at the same index in each of the arrays.
+ */
+public final class ThreadUsageSnapshot {
+
+	private static final int HASHMASK = 0x0FFFFFFF;
+
+	private final long timestamp;
+	private final long[] threadIds;
+	private final long[] cpuTimes;
+	private final long[] userTimes;
+	private final long[] allocatedBytes;
+	private final int[] threadStates;
+
+	/**
+	 * Create a new <code>ThreadUsageSnapshot</code> instance with the given info.
+	 * The arrays are copied.
+	 *
+	 * @param timestamp the time the snapshot was taken, from {@link System#nanoTime()}
+	 * @param threadIds the thread identifiers
+	 * @param cpuTimes the CPU time of each thread in nanoseconds, or -1
+	 * @param userTimes the user mode CPU time of each thread in nanoseconds, or -1
+	 * @param allocatedBytes the number of bytes allocated by each thread, or -1
+	 * @param threadStates the {@link Thread.State#ordinal() ordinal} of the state of each thread
+	 * @throws NullPointerException if any of the arrays is null
+	 * @throws IllegalArgumentException if the arrays do not all have the same length
+	 */
+	public ThreadUsageSnapshot(long timestamp, long[] threadIds, long[] cpuTimes, long[] userTimes,
+			long[] allocatedBytes, int[] threadStates) throws IllegalArgumentException {
+		super();
+		int count = threadIds.length;
+		if ((cpuTimes.length != count) || (userTimes.length != count)
+				|| (allocatedBytes.length != count) || (threadStates.length != count)) {
+			throw new IllegalArgumentException();
+		}
+		this.timestamp = timestamp;
+		this.threadIds = threadIds.clone();
+		this.cpuTimes = cpuTimes.clone();
+		this.userTimes = userTimes.clone();
+		this.allocatedBytes = allocatedBytes.clone();
+		this.threadStates = threadStates.clone();
+	}
+
+	/**
+	 * This method returns the time the snapshot was taken, for computing rates between snapshots.
+	 *
+	 * @return The value of {@link System#nanoTime()} when the snapshot was taken.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * This method returns the identifiers of the threads which were alive when the snapshot was taken.
+	 *
+	 * @return A copy of the array of thread identifiers.
+	 */
+	public long[] getThreadIds() {
+		return this.threadIds.clone();
+	}
+
+	/**
+	 * This method returns the CPU time of each thread. The values are -1 if
+	 * thread CPU time measurement is disabled.
+	 *
+	 * @return A copy of the array of CPU times in nanoseconds.
+	 * @see ThreadMXBean#getThreadCpuTime(long)
+	 */
+	public long[] getCpuTimes() {
+		return this.cpuTimes.clone();
+	}
+
+	/**
+	 * This method returns the user mode CPU time of each thread. The values are -1 if
+	 * thread CPU time measurement is disabled.
+	 *
+	 * @return A copy of the array of user mode CPU times in nanoseconds.
+	 * @see ThreadMXBean#getThreadUserTime(long)
+	 */
+	public long[] getUserTimes() {
+		return this.userTimes.clone();
+	}
+
+	/**
+	 * This method returns the number of bytes allocated by each thread. The values are -1 if
+	 * thread memory allocation measurement is disabled.
+	 *
+	 * @return A copy of the array of allocated bytes.
+	 * @see ThreadMXBean#getThreadAllocatedBytes(long)
+	 */
+	public long[] getAllocatedBytes() {
+		return this.allocatedBytes.clone();
+	}
+
+	/**
+	 * This method returns the state of each thread as the {@link Thread.State#ordinal() ordinal}
+	 * of a {@link Thread.State}. The threads are paused while their states are read, so the
+	 * states were all held at the same time.
+	 *
+	 * @return A copy of the array of thread state ordinals.
+	 * @see #getThreadState(int)
+	 */
+	public int[] getThreadStates() {
+		return this.threadStates.clone();
+	}
+
+	/**
+	 * This method returns the state of one thread.
+	 *
+	 * @param index the index of the thread in the arrays
+	 * @return The state of the thread.
+	 * @throws IndexOutOfBoundsException if <code>index</code> is not a valid index
+	 */
+	public Thread.State getThreadState(int index) {
+		return Thread.State.values()[this.threadStates[index]];
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * {@link ThreadUsageSnapshot} object and attempts to return the root
+	 * {@link ThreadUsageSnapshot} instance.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link ThreadUsageSnapshot}.
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link ThreadUsageSnapshot},
+	 * 		 If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to a
+	 * 		{@link ThreadUsageSnapshot} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>allocatedBytes</code>(<code>long[]</code>)</li>
+	 *		<li><code>cpuTimes</code>(<code>long[]</code>)</li>
+	 *		<li><code>threadIds</code>(<code>long[]</code>)</li>
+	 *		<li><code>threadStates</code>(<code>int[]</code>)</li>
+	 *		<li><code>timestamp</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>userTimes</code>(<code>long[]</code>)</li>
+	 * 		</ul>
+	 */
+	public static ThreadUsageSnapshot from(CompositeData cd) {
+		ThreadUsageSnapshot result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new ThreadUsageSnapshot ?
+			if (!ThreadUsageSnapshotUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new ThreadUsageSnapshot(
+						((Long) cd.get("timestamp")).longValue(), //$NON-NLS-1$
+						(long[]) cd.get("threadIds"), //$NON-NLS-1$
+						(long[]) cd.get("cpuTimes"), //$NON-NLS-1$
+						(long[]) cd.get("userTimes"), //$NON-NLS-1$
+						(long[]) cd.get("allocatedBytes"), //$NON-NLS-1$
+						(int[]) cd.get("threadStates")); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link ThreadUsageSnapshot} object.
+	 *
+	 * @return Text description of this {@link ThreadUsageSnapshot} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("\n========== "); //$NON-NLS-1$
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" ==========\n\n"); //$NON-NLS-1$
+		sb.append("timestamp = "); //$NON-NLS-1$
+		sb.append(this.timestamp);
+		sb.append("\n"); //$NON-NLS-1$
+		for (int i = 0; i < this.threadIds.length; ++i) {
+			sb.append("thread "); //$NON-NLS-1$
+			sb.append(this.threadIds[i]);
+			sb.append(": cpuTime = "); //$NON-NLS-1$
+			sb.append(this.cpuTimes[i]);
+			sb.append(", userTime = "); //$NON-NLS-1$
+			sb.append(this.userTimes[i]);
+			sb.append(", allocatedBytes = "); //$NON-NLS-1$
+			sb.append(this.allocatedBytes[i]);
+			sb.append(", state = "); //$NON-NLS-1$
+			sb.append(getThreadState(i));
+			sb.append("\n"); //$NON-NLS-1$
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ThreadUsageSnapshot)) {
+			return false;
+		}
+
+		ThreadUsageSnapshot other = (ThreadUsageSnapshot) obj;
+
+		return (this.timestamp == other.timestamp)
+				&& Arrays.equals(this.threadIds, other.threadIds)
+				&& Arrays.equals(this.cpuTimes, other.cpuTimes)
+				&& Arrays.equals(this.userTimes, other.userTimes)
+				&& Arrays.equals(this.allocatedBytes, other.allocatedBytes)
+				&& Arrays.equals(this.threadStates, other.threadStates);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		long uHash = this.timestamp
+					+ Arrays.hashCode(this.threadIds)
+					+ Arrays.hashCode(this.cpuTimes)
+					+ Arrays.hashCode(this.userTimes)
+					+ Arrays.hashCode(this.allocatedBytes)
+					+ Arrays.hashCode(this.threadStates);
+
+		return (int) ((((uHash >> 32) + uHash) & HASHMASK) * 23);
+	}
+
+}
@@ -26,6 +26,7 @@ package com.ibm.lang.management.internal;
 import java.security.PrivilegedAction;
 /*[ENDIF] JAVA_SPEC_VERSION < 24 */
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.MBeanNotificationInfo;
 
@@ -65,6 +66,13 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	private static long latestTime = -1;
 	private static long latestCpuTime = -1;
 
+	/**
+	 * The most recent sample taken by the sampler thread, or null if sampling is disabled
+	 * or has not started.
+	 */
+	private volatile Snapshot snapshot;
+	private final Object samplerLock = new Object();
+
 	/**
 	 * Singleton accessor method.
 	 *
@@ -107,6 +115,35 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 
 	private HwEmulResult isHwEmulated = HwEmulResult.UNKNOWN;
 
+	/**
+	 * The values sampled at one time by the sampler thread. The fields are not modified
+	 * once the snapshot is published; ProcessorUsage and MemoryUsage cannot be modified
+	 * outside their package.
+	 */
+	private static final class Snapshot {
+		/* System.nanoTime() when the process CPU time was read */
+		final long time;
+		/* process CPU time in ns */
+		final long cpuTime;
+		final double processCpuLoad;
+		final double systemCpuLoad;
+		/* the processor and memory usage, or null if they could not be retrieved */
+		final ProcessorUsage totalProcessorUsage;
+		final ProcessorUsage[] processorUsage;
+		final MemoryUsage memoryUsage;
+
+		Snapshot(long time, long cpuTime, double processCpuLoad, double systemCpuLoad,
+				ProcessorUsage totalProcessorUsage, ProcessorUsage[] processorUsage, MemoryUsage memoryUsage) {
+			this.time = time;
+			this.cpuTime = cpuTime;
+			this.processCpuLoad = processCpuLoad;
+			this.systemCpuLoad = systemCpuLoad;
+			this.totalProcessorUsage = totalProcessorUsage;
+			this.processorUsage = processorUsage;
+			this.memoryUsage = memoryUsage;
+		}
+	}
+
 	/**
 	 * Protected constructor to prevent instantiation by others, but let subclasses use it.
 	 */
@@ -163,6 +200,115 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 		return Math.min(processTimeDelta / (getOnlineProcessorsImpl() * timestampDelta), 1.0);
 	}
 
+	/**
+	 * @return the process CPU time in ns
+	 */
+	private long getProcessCpuTimeNs() {
+		/*[IF JAVA_SPEC_VERSION > 8]*/
+		@SuppressWarnings("removal")
+		/*[ENDIF] JAVA_SPEC_VERSION > 8 */
+		long cpuTime = getProcessCpuTime();
+		if (CpuTimePrecisionHolder.precision == CpuTimePrecisionHolder.NO_SCALE_FACTOR) {
+			cpuTime *= CpuTimePrecisionHolder.NS_SCALE_FACTOR;
+		}
+		return cpuTime;
+	}
+
+	/**
+	 * Get the most recent sample, starting the sampler thread on first use.
+	 *
+	 * @return the most recent sample, or null if sampling is disabled
+	 */
+	private Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if ((null == current) && (0 != SamplerHolder.interval)) {
+			current = startSampler();
+		}
+		return current;
+	}
+
+	private Snapshot startSampler() {
+		synchronized (samplerLock) {
+			if (null == snapshot) {
+				/* take the first sample here so that readers never wait for the sampler thread */
+				snapshot = takeSnapshot(null);
+				/*[IF JAVA_SPEC_VERSION >= 24]*/
+				Thread thread = VM.getVMLangAccess().createThread(this::runSampler,
+						"OperatingSystemMXBean sampler", true, false, true, ClassLoader.getSystemClassLoader()); //$NON-NLS-1$
+				/*[ELSE] JAVA_SPEC_VERSION >= 24 */
+				PrivilegedAction<Thread> createThread = () -> VM.getVMLangAccess().createThread(this::runSampler,
+						"OperatingSystemMXBean sampler", true, false, true, ClassLoader.getSystemClassLoader()); //$NON-NLS-1$
+
+				/*[IF JAVA_SPEC_VERSION >= 17]*/
+				@SuppressWarnings("removal")
+				/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
+				Thread thread = java.security.AccessController.doPrivileged(createThread);
+				/*[ENDIF] JAVA_SPEC_VERSION >= 24 */
+				thread.start();
+			}
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Publish a new snapshot every interval. This is the only writer of the snapshot after
+	 * the first one, so readers call the natives at most once per interval between them.
+	 */
+	private void runSampler() {
+		Snapshot previous = snapshot;
+		for (;;) {
+			try {
+				Thread.sleep(SamplerHolder.interval);
+			} catch (InterruptedException e) {
+				return;
+			}
+			previous = takeSnapshot(previous);
+			snapshot = previous;
+		}
+	}
+
+	private Snapshot takeSnapshot(Snapshot previous) {
+		long time = System.nanoTime();
+		long cpuTime = getProcessCpuTimeNs();
+		double processCpuLoad;
+		if (null != previous) {
+			processCpuLoad = calculateProcessCpuLoad(time, cpuTime, previous.time, previous.cpuTime);
+		} else if (hasCpuLoadCompatibilityFlag()) {
+			processCpuLoad = 0;
+		} else {
+			processCpuLoad = CpuLoadCalculationConstants.ERROR_VALUE;
+		}
+		double systemCpuLoad = getSystemCpuLoadImpl();
+		/* the natives throw the checked retrieval exceptions, which the callers get by calling them again */
+		ProcessorUsage totalProcessorUsage;
+		try {
+			totalProcessorUsage = getTotalProcessorUsageImpl(new ProcessorUsage());
+		} catch (Exception e) {
+			totalProcessorUsage = null;
+		}
+		ProcessorUsage[] processorUsage;
+		try {
+			processorUsage = getProcessorUsageImpl(null);
+		} catch (Exception e) {
+			processorUsage = null;
+		}
+		MemoryUsage memoryUsage;
+		try {
+			memoryUsage = getMemoryUsageImpl(new MemoryUsage());
+		} catch (Exception e) {
+			memoryUsage = null;
+		}
+		return new Snapshot(time, cpuTime, processCpuLoad, systemCpuLoad, totalProcessorUsage, processorUsage, memoryUsage);
+	}
+
+	/**
+	 * @return the sampled memory usage, or null if it is not sampled or could not be retrieved
+	 */
+	private MemoryUsage getSampledMemoryUsage() {
+		Snapshot current = getSnapshot();
+		return (null == current) ? null : current.memoryUsage;
+	}
+
 	/*[IF JAVA_SPEC_VERSION < 14] - inherit the default method in Java 14+ */
 	/**
 	 * {@inheritDoc}
@@ -188,6 +334,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final double getCpuLoad() {
+		Snapshot current = getSnapshot();
+		if (null != current) {
+			return current.systemCpuLoad;
+		}
 		return getSystemCpuLoadImpl();
 	}
 
@@ -213,6 +363,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final long getFreeSwapSpaceSize() {
+		MemoryUsage sampled = getSampledMemoryUsage();
+		if (null != sampled) {
+			return sampled.getSwapFree();
+		}
 		try {
 			MemoryUsage usage = retrieveMemoryUsage(new MemoryUsage());
 			return usage.getSwapFree();
@@ -263,19 +417,25 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 * {@inheritDoc}
 	 */
 	@Override
-	public final synchronized double getProcessCpuLoad() {
+	public final double getProcessCpuLoad() {
+		Snapshot current = getSnapshot();
+		if (null != current) {
+			return current.processCpuLoad;
+		}
+		return computeProcessCpuLoad();
+	}
+
+	/**
+	 * Calculate the process CPU load since a previous call, when it is not sampled.
+	 *
+	 * @return number in [0.0, 1.0], or a negative error code
+	 */
+	private synchronized double computeProcessCpuLoad() {
 		double processCpuLoad = -1;
 
 		/* Get the process CPU time and also, the sampling timestamp. */
 		latestTime = System.nanoTime();
-		/*[IF JAVA_SPEC_VERSION > 8]*/
-		@SuppressWarnings("removal")
-		/*[ENDIF] JAVA_SPEC_VERSION > 8 */
-		long cpuTime = getProcessCpuTime();
-		if (CpuTimePrecisionHolder.precision == CpuTimePrecisionHolder.NO_SCALE_FACTOR) {
-			cpuTime *= CpuTimePrecisionHolder.NS_SCALE_FACTOR;
-		}
-		latestCpuTime = cpuTime;
+		latestCpuTime = getProcessCpuTimeNs();
 
 		/* If no previous timestamps is set, the default behaviour is to return -1.
 		 * If the compatibility flag is set, return 0 to match the behaviour of RI.
@@ -466,6 +626,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final double getSystemCpuLoad() {
+		Snapshot current = getSnapshot();
+		if (null != current) {
+			return current.systemCpuLoad;
+		}
 		return this.getSystemCpuLoadImpl();
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION < 14 */
@@ -511,6 +675,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final long getTotalSwapSpaceSize() {
+		MemoryUsage sampled = getSampledMemoryUsage();
+		if (null != sampled) {
+			return sampled.getSwapTotal();
+		}
 		try {
 			MemoryUsage usage = retrieveMemoryUsage(new MemoryUsage());
 			return usage.getSwapTotal();
@@ -561,6 +729,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final MemoryUsage retrieveMemoryUsage() throws MemoryUsageRetrievalException {
+		MemoryUsage sampled = getSampledMemoryUsage();
+		if (null != sampled) {
+			return sampled;
+		}
 		/* Allocate and construct a MemoryUsage instance to obtain the current memory usage stats. */
 		return getMemoryUsageImpl(new MemoryUsage());
 	}
@@ -580,6 +752,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final ProcessorUsage[] retrieveProcessorUsage() throws ProcessorUsageRetrievalException {
+		Snapshot current = getSnapshot();
+		if ((null != current) && (null != current.processorUsage)) {
+			return current.processorUsage.clone();
+		}
 		/* Obtain the processor usage statistics at this moment and return the same. */
 		return getProcessorUsageImpl(null);
 	}
@@ -617,6 +793,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final ProcessorUsage retrieveTotalProcessorUsage() throws ProcessorUsageRetrievalException {
+		Snapshot current = getSnapshot();
+		if ((null != current) && (null != current.totalProcessorUsage)) {
+			return current.totalProcessorUsage;
+		}
 		/* Obtain the processor usage statistics sample at this time. */
 		return getTotalProcessorUsageImpl(new ProcessorUsage());
 	}
@@ -678,6 +858,32 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 		}
 	}
 
+	/**
+	 * Do lazy initialization of the sampling interval.
+	 * By default there is no sampling. The user can enable it by -Dcom.ibm.lang.management.OperatingSystemMXBean.sampleInterval=&lt;ms&gt;
+	 */
+	private static final class SamplerHolder {
+		/* sampling interval in ms, 0 if sampling is disabled */
+		static final long interval = getInterval();
+
+		private static long getInterval() {
+			String value = VM.internalGetProperties().getProperty("com.ibm.lang.management.OperatingSystemMXBean.sampleInterval"); //$NON-NLS-1$
+			long result = 0;
+			if (null != value) {
+				try {
+					result = Long.parseLong(value.trim());
+				} catch (NumberFormatException e) {
+					/* sampling stays disabled */
+				}
+			}
+			if (result <= 0) {
+				return 0;
+			}
+			/* a CPU load cannot be measured over less than the minimum interval */
+			return Math.max(result, TimeUnit.NANOSECONDS.toMillis(CpuLoadCalculationConstants.MINIMUM_INTERVAL));
+		}
+	}
+
 	@Override
 	public boolean isProcessRunning(long pid) {
 		/*[IF JAVA_SPEC_VERSION < 24]*/
@@ -24,9 +24,13 @@ package com.ibm.lang.management.internal;
 
 import java.lang.management.ThreadInfo;
 
+/*[IF JAVA_SPEC_VERSION < 24]*/
+import com.ibm.java.lang.management.internal.ManagementPermissionHelper;
+/*[ENDIF] JAVA_SPEC_VERSION < 24 */
 import com.ibm.java.lang.management.internal.ThreadMXBeanImpl;
 import com.ibm.lang.management.ExtendedThreadInfo;
 import com.ibm.lang.management.ThreadMXBean;
+import com.ibm.lang.management.ThreadUsageSnapshot;
 
 /**
  * Implementation of the extended ThreadMXBean.
@@ -175,6 +179,51 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 		return result;
 	}
 
+	/* The number of values for each thread returned by getThreadUsageImpl(). */
+	private static final int THREAD_USAGE_FIELDS = 5;
+
+	/**
+	 * Get the usage of all live threads in one walk of the threads.
+	 *
+	 * @param cpuTime whether to get the CPU and user times, otherwise they are -1
+	 * @param allocatedBytes whether to get the allocated bytes, otherwise they are -1
+	 * @return for each thread: the thread ID, CPU time, user time, allocated bytes and Thread.State ordinal
+	 */
+	private native static long[] getThreadUsageImpl(boolean cpuTime, boolean allocatedBytes);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ThreadUsageSnapshot getThreadUsageSnapshot() {
+		/*[IF JAVA_SPEC_VERSION < 24]*/
+		@SuppressWarnings("removal")
+		SecurityManager security = System.getSecurityManager();
+		if (security != null) {
+			security.checkPermission(ManagementPermissionHelper.MPMONITOR);
+		}
+		/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+		boolean cpuTime = isThreadCpuTimeSupported() && isThreadCpuTimeEnabled();
+		long timestamp = System.nanoTime();
+		long[] usage = getThreadUsageImpl(cpuTime, isThreadAllocatedMemoryEnabled());
+		int count = usage.length / THREAD_USAGE_FIELDS;
+		long[] threadIds = new long[count];
+		long[] cpuTimes = new long[count];
+		long[] userTimes = new long[count];
+		long[] allocatedBytes = new long[count];
+		int[] threadStates = new int[count];
+
+		for (int i = 0, offset = 0; i < count; i++, offset += THREAD_USAGE_FIELDS) {
+			threadIds[i] = usage[offset];
+			cpuTimes[i] = usage[offset + 1];
+			userTimes[i] = usage[offset + 2];
+			allocatedBytes[i] = usage[offset + 3];
+			threadStates[i] = (int) usage[offset + 4];
+		}
+
+		return new ThreadUsageSnapshot(timestamp, threadIds, cpuTimes, userTimes, allocatedBytes, threadStates);
+	}
+
 	private boolean isThreadAllocatedMemoryEnabled = true;
 
 	/**
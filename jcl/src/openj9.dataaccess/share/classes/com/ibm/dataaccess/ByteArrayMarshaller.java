@@ -23,9 +23,15 @@
 
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+import java.nio.ByteBuffer;
+
 /**
  * Conversion routines to marshall Java binary types (short, int, long, float,
- * double) to byte arrays.
+ * double) to byte arrays, byte buffers and, from Java 22, memory segments.
  *
  * @author IBM
  * @version $Revision$ on $Date$
@@ -579,4 +585,352 @@ public class ByteArrayMarshaller {
 		writeLong(Double.doubleToLongBits(value), byteArray, offset, bigEndian);
 	}
 
+	/**
+	 * Copies the short value into two consecutive bytes of the buffer starting
+	 * at the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @param value
+	 *            the short value to marshall
+	 * @param buffer
+	 *            destination
+	 * @param offset
+	 *            offset in the buffer
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if the buffer is read-only
+	 */
+	public static void writeShort(short value, ByteBuffer buffer, int offset, boolean bigEndian) {
+		buffer.putShort(offset, (bigEndian == ByteArrayUnmarshaller.isBigEndian(buffer)) ? value : Short.reverseBytes(value));
+	}
+
+	/**
+	 * Copies zero to two bytes of the short value into the buffer starting at
+	 * the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 2</code>
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @see #writeShort(short, byte[], int, boolean, int)
+	 */
+	public static void writeShort(short value, ByteBuffer buffer, int offset,
+			boolean bigEndian, int numBytes) {
+		if (numBytes < 0 || numBytes > 2)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		writeBytes(value, buffer, offset, bigEndian, numBytes);
+	}
+
+	/**
+	 * Copies an int value into four consecutive bytes of the buffer starting at
+	 * the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @param value
+	 *            the int value to marshall
+	 * @param buffer
+	 *            destination
+	 * @param offset
+	 *            offset in the buffer
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if the buffer is read-only
+	 */
+	public static void writeInt(int value, ByteBuffer buffer, int offset, boolean bigEndian) {
+		buffer.putInt(offset, (bigEndian == ByteArrayUnmarshaller.isBigEndian(buffer)) ? value : Integer.reverseBytes(value));
+	}
+
+	/**
+	 * Copies zero to four bytes of the int value into the buffer starting at
+	 * the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 4</code>
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @see #writeInt(int, byte[], int, boolean, int)
+	 */
+	public static void writeInt(int value, ByteBuffer buffer, int offset,
+			boolean bigEndian, int numBytes) {
+		if (numBytes < 0 || numBytes > 4)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		writeBytes(value, buffer, offset, bigEndian, numBytes);
+	}
+
+	/**
+	 * Copies the long value into eight consecutive bytes of the buffer starting
+	 * at the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @param value
+	 *            the long value to marshall
+	 * @param buffer
+	 *            destination
+	 * @param offset
+	 *            offset in the buffer
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if the buffer is read-only
+	 */
+	public static void writeLong(long value, ByteBuffer buffer, int offset, boolean bigEndian) {
+		buffer.putLong(offset, (bigEndian == ByteArrayUnmarshaller.isBigEndian(buffer)) ? value : Long.reverseBytes(value));
+	}
+
+	/**
+	 * Copies zero to eight bytes of the long value into the buffer starting at
+	 * the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 8</code>
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @see #writeLong(long, byte[], int, boolean, int)
+	 */
+	public static void writeLong(long value, ByteBuffer buffer, int offset,
+			boolean bigEndian, int numBytes) {
+		if (numBytes < 0 || numBytes > 8)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		writeBytes(value, buffer, offset, bigEndian, numBytes);
+	}
+
+	/**
+	 * Copies the float value into four consecutive bytes of the buffer starting
+	 * at the offset. The position and byte order of the buffer are not used or
+	 * changed.
+	 *
+	 * @see #writeInt(int, ByteBuffer, int, boolean)
+	 */
+	public static void writeFloat(float value, ByteBuffer buffer, int offset, boolean bigEndian) {
+		writeInt(Float.floatToIntBits(value), buffer, offset, bigEndian);
+	}
+
+	/**
+	 * Copies the double value into eight consecutive bytes of the buffer
+	 * starting at the offset. The position and byte order of the buffer are not
+	 * used or changed.
+	 *
+	 * @see #writeLong(long, ByteBuffer, int, boolean)
+	 */
+	public static void writeDouble(double value, ByteBuffer buffer, int offset, boolean bigEndian) {
+		writeLong(Double.doubleToLongBits(value), buffer, offset, bigEndian);
+	}
+
+	private static void writeBytes(long value, ByteBuffer buffer, int offset,
+			boolean bigEndian, int numBytes) {
+		if ((offset < 0) || (offset > buffer.limit() - numBytes))
+			throw new IndexOutOfBoundsException("Access offset must be positive or zero and last byte must be in range.");
+
+		for (int i = 0; i < numBytes; i++) {
+			buffer.put(offset + (bigEndian ? numBytes - 1 - i : i), (byte) (value >> (i * 8)));
+		}
+	}
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+	/**
+	 * Copies the short value into two consecutive bytes of the memory segment
+	 * starting at the offset.
+	 *
+	 * @param value
+	 *            the short value to marshall
+	 * @param segment
+	 *            destination
+	 * @param offset
+	 *            offset in the memory segment
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             in the segment
+	 * @throws IllegalArgumentException
+	 *             if the segment is read-only
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed
+	 *             from a thread other than the one owning it
+	 */
+	public static void writeShort(short value, MemorySegment segment, long offset, boolean bigEndian) {
+		segment.set(bigEndian ? ByteArrayUnmarshaller.SHORT_BIG_ENDIAN : ByteArrayUnmarshaller.SHORT_LITTLE_ENDIAN, offset, value);
+	}
+
+	/**
+	 * Copies zero to two bytes of the short value into the memory segment
+	 * starting at the offset.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 2</code>
+	 * @see #writeShort(short, byte[], int, boolean, int)
+	 * @see #writeShort(short, MemorySegment, long, boolean)
+	 */
+	public static void writeShort(short value, MemorySegment segment, long offset,
+			boolean bigEndian, int numBytes) {
+		if (numBytes < 0 || numBytes > 2)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		writeBytes(value, segment, offset, bigEndian, numBytes);
+	}
+
+	/**
+	 * Copies an int value into four consecutive bytes of the memory segment
+	 * starting at the offset.
+	 *
+	 * @param value
+	 *            the int value to marshall
+	 * @param segment
+	 *            destination
+	 * @param offset
+	 *            offset in the memory segment
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             in the segment
+	 * @throws IllegalArgumentException
+	 *             if the segment is read-only
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed
+	 *             from a thread other than the one owning it
+	 */
+	public static void writeInt(int value, MemorySegment segment, long offset, boolean bigEndian) {
+		segment.set(bigEndian ? ByteArrayUnmarshaller.INT_BIG_ENDIAN : ByteArrayUnmarshaller.INT_LITTLE_ENDIAN, offset, value);
+	}
+
+	/**
+	 * Copies zero to four bytes of the int value into the memory segment
+	 * starting at the offset.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 4</code>
+	 * @see #writeInt(int, byte[], int, boolean, int)
+	 * @see #writeInt(int, MemorySegment, long, boolean)
+	 */
+	public static void writeInt(int value, MemorySegment segment, long offset,
+			boolean bigEndian, int numBytes) {
+		if (numBytes < 0 || numBytes > 4)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		writeBytes(value, segment, offset, bigEndian, numBytes);
+	}
+
+	/**
+	 * Copies the long value into eight consecutive bytes of the memory segment
+	 * starting at the offset.
+	 *
+	 * @param value
+	 *            the long value to marshall
+	 * @param segment
+	 *            destination
+	 * @param offset
+	 *            offset in the memory segment
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             in the segment
+	 * @throws IllegalArgumentException
+	 *             if the segment is read-only
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed
+	 *             from a thread other than the one owning it
+	 */
+	public static void writeLong(long value, MemorySegment segment, long offset, boolean bigEndian) {
+		segment.set(bigEndian ? ByteArrayUnmarshaller.LONG_BIG_ENDIAN : ByteArrayUnmarshaller.LONG_LITTLE_ENDIAN, offset, value);
+	}
+
+	/**
+	 * Copies zero to eight bytes of the long value into the memory segment
+	 * starting at the offset.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 8</code>
+	 * @see #writeLong(long, byte[], int, boolean, int)
+	 * @see #writeLong(long, MemorySegment, long, boolean)
+	 */
+	public static void writeLong(long value, MemorySegment segment, long offset,
+			boolean bigEndian, int numBytes) {
+		if (numBytes < 0 || numBytes > 8)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		writeBytes(value, segment, offset, bigEndian, numBytes);
+	}
+
+	/**
+	 * Copies the float value into four consecutive bytes of the memory segment
+	 * starting at the offset.
+	 *
+	 * @see #writeInt(int, MemorySegment, long, boolean)
+	 */
+	public static void writeFloat(float value, MemorySegment segment, long offset, boolean bigEndian) {
+		writeInt(Float.floatToIntBits(value), segment, offset, bigEndian);
+	}
+
+	/**
+	 * Copies the double value into eight consecutive bytes of the memory
+	 * segment starting at the offset.
+	 *
+	 * @see #writeLong(long, MemorySegment, long, boolean)
+	 */
+	public static void writeDouble(double value, MemorySegment segment, long offset, boolean bigEndian) {
+		writeLong(Double.doubleToLongBits(value), segment, offset, bigEndian);
+	}
+
+	private static void writeBytes(long value, MemorySegment segment, long offset,
+			boolean bigEndian, int numBytes) {
+		if ((offset < 0) || (offset > segment.byteSize() - numBytes))
+			throw new IndexOutOfBoundsException("Access offset must be positive or zero and last byte must be in range.");
+
+		for (int i = 0; i < numBytes; i++) {
+			segment.set(ValueLayout.JAVA_BYTE, offset + (bigEndian ? numBytes - 1 - i : i), (byte) (value >> (i * 8)));
+		}
+	}
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
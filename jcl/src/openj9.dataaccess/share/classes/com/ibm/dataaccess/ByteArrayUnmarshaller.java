@@ -22,9 +22,16 @@
  */
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Conversion routines to unmarshall Java binary types (short, int, long, float,
- * double) from byte arrays.
+ * double) from byte arrays, byte buffers and, from Java 22, memory segments.
  *
  * <p>
  * With sign extensions enabled, the marshalled data is interpreted as signed
@@ -648,4 +655,364 @@ public final class ByteArrayUnmarshaller {
 			boolean bigEndian) {
 		return Double.longBitsToDouble(readLong(byteArray, offset, bigEndian));
 	}
+
+	/**
+	 * Returns a short value copied from two consecutive bytes of the buffer
+	 * starting at the offset. The position and byte order of the buffer are
+	 * not used or changed.
+	 *
+	 * @param buffer
+	 *            source
+	 * @param offset
+	 *            offset in the buffer
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @return short
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 */
+	public static short readShort(ByteBuffer buffer, int offset, boolean bigEndian) {
+		short value = buffer.getShort(offset);
+		return (bigEndian == isBigEndian(buffer)) ? value : Short.reverseBytes(value);
+	}
+
+	/**
+	 * Returns a short value copied from zero to two consecutive bytes of the
+	 * buffer starting at the offset. The position and byte order of the buffer
+	 * are not used or changed.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 2</code>
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @see #readShort(byte[], int, boolean, int, boolean)
+	 */
+	public static short readShort(ByteBuffer buffer, int offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if (numBytes < 0 || numBytes > 2)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		return (short) readBytes(buffer, offset, bigEndian, numBytes, signExtend);
+	}
+
+	/**
+	 * Returns an int value copied from four consecutive bytes of the buffer
+	 * starting at the offset. The position and byte order of the buffer are
+	 * not used or changed.
+	 *
+	 * @param buffer
+	 *            source
+	 * @param offset
+	 *            offset in the buffer
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @return int
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 */
+	public static int readInt(ByteBuffer buffer, int offset, boolean bigEndian) {
+		int value = buffer.getInt(offset);
+		return (bigEndian == isBigEndian(buffer)) ? value : Integer.reverseBytes(value);
+	}
+
+	/**
+	 * Returns an int value copied from zero to four consecutive bytes of the
+	 * buffer starting at the offset. The position and byte order of the buffer
+	 * are not used or changed.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 4</code>
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @see #readInt(byte[], int, boolean, int, boolean)
+	 */
+	public static int readInt(ByteBuffer buffer, int offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if (numBytes < 0 || numBytes > 4)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		return (int) readBytes(buffer, offset, bigEndian, numBytes, signExtend);
+	}
+
+	/**
+	 * Returns a long value copied from eight consecutive bytes of the buffer
+	 * starting at the offset. The position and byte order of the buffer are
+	 * not used or changed.
+	 *
+	 * @param buffer
+	 *            source
+	 * @param offset
+	 *            offset in the buffer
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @return long
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 */
+	public static long readLong(ByteBuffer buffer, int offset, boolean bigEndian) {
+		long value = buffer.getLong(offset);
+		return (bigEndian == isBigEndian(buffer)) ? value : Long.reverseBytes(value);
+	}
+
+	/**
+	 * Returns a long value copied from zero to eight consecutive bytes of the
+	 * buffer starting at the offset. The position and byte order of the buffer
+	 * are not used or changed.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 8</code>
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             before the limit of the buffer
+	 * @see #readLong(byte[], int, boolean, int, boolean)
+	 */
+	public static long readLong(ByteBuffer buffer, int offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if (numBytes < 0 || numBytes > 8)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		return readBytes(buffer, offset, bigEndian, numBytes, signExtend);
+	}
+
+	/**
+	 * Returns a float value copied from four consecutive bytes of the buffer
+	 * starting at the offset. The position and byte order of the buffer are
+	 * not used or changed.
+	 *
+	 * @see #readInt(ByteBuffer, int, boolean)
+	 */
+	public static float readFloat(ByteBuffer buffer, int offset, boolean bigEndian) {
+		return Float.intBitsToFloat(readInt(buffer, offset, bigEndian));
+	}
+
+	/**
+	 * Returns a double value copied from eight consecutive bytes of the buffer
+	 * starting at the offset. The position and byte order of the buffer are
+	 * not used or changed.
+	 *
+	 * @see #readLong(ByteBuffer, int, boolean)
+	 */
+	public static double readDouble(ByteBuffer buffer, int offset, boolean bigEndian) {
+		return Double.longBitsToDouble(readLong(buffer, offset, bigEndian));
+	}
+
+	static boolean isBigEndian(ByteBuffer buffer) {
+		return buffer.order() == ByteOrder.BIG_ENDIAN;
+	}
+
+	private static long readBytes(ByteBuffer buffer, int offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if ((offset < 0) || (offset > buffer.limit() - numBytes))
+			throw new IndexOutOfBoundsException("Access offset must be positive or zero and last byte must be in range.");
+
+		long answer = 0;
+		for (int i = 0; i < numBytes; i++) {
+			answer = (answer << 8) | (buffer.get(offset + (bigEndian ? i : numBytes - 1 - i)) & 0xFF);
+		}
+		return signExtend ? signExtend(answer, numBytes) : answer;
+	}
+
+	private static long signExtend(long answer, int numBytes) {
+		int shift = 64 - (numBytes * 8);
+		return (answer << shift) >> shift;
+	}
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+	static final ValueLayout.OfShort SHORT_BIG_ENDIAN = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+	static final ValueLayout.OfShort SHORT_LITTLE_ENDIAN = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+	static final ValueLayout.OfInt INT_BIG_ENDIAN = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+	static final ValueLayout.OfInt INT_LITTLE_ENDIAN = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+	static final ValueLayout.OfLong LONG_BIG_ENDIAN = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+	static final ValueLayout.OfLong LONG_LITTLE_ENDIAN = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * Returns a short value copied from two consecutive bytes of the memory
+	 * segment starting at the offset.
+	 *
+	 * @param segment
+	 *            source
+	 * @param offset
+	 *            offset in the memory segment
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @return short
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             in the segment
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed
+	 *             from a thread other than the one owning it
+	 */
+	public static short readShort(MemorySegment segment, long offset, boolean bigEndian) {
+		return segment.get(bigEndian ? SHORT_BIG_ENDIAN : SHORT_LITTLE_ENDIAN, offset);
+	}
+
+	/**
+	 * Returns a short value copied from zero to two consecutive bytes of the
+	 * memory segment starting at the offset.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 2</code>
+	 * @see #readShort(byte[], int, boolean, int, boolean)
+	 * @see #readShort(MemorySegment, long, boolean)
+	 */
+	public static short readShort(MemorySegment segment, long offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if (numBytes < 0 || numBytes > 2)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		return (short) readBytes(segment, offset, bigEndian, numBytes, signExtend);
+	}
+
+	/**
+	 * Returns an int value copied from four consecutive bytes of the memory
+	 * segment starting at the offset.
+	 *
+	 * @param segment
+	 *            source
+	 * @param offset
+	 *            offset in the memory segment
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @return int
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             in the segment
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed
+	 *             from a thread other than the one owning it
+	 */
+	public static int readInt(MemorySegment segment, long offset, boolean bigEndian) {
+		return segment.get(bigEndian ? INT_BIG_ENDIAN : INT_LITTLE_ENDIAN, offset);
+	}
+
+	/**
+	 * Returns an int value copied from zero to four consecutive bytes of the
+	 * memory segment starting at the offset.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 4</code>
+	 * @see #readInt(byte[], int, boolean, int, boolean)
+	 * @see #readInt(MemorySegment, long, boolean)
+	 */
+	public static int readInt(MemorySegment segment, long offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if (numBytes < 0 || numBytes > 4)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		return (int) readBytes(segment, offset, bigEndian, numBytes, signExtend);
+	}
+
+	/**
+	 * Returns a long value copied from eight consecutive bytes of the memory
+	 * segment starting at the offset.
+	 *
+	 * @param segment
+	 *            source
+	 * @param offset
+	 *            offset in the memory segment
+	 * @param bigEndian
+	 *            if false the bytes will be copied in reverse (little endian)
+	 *            order
+	 *
+	 * @return long
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if <code>offset</code> is negative or the value does not fit
+	 *             in the segment
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed
+	 *             from a thread other than the one owning it
+	 */
+	public static long readLong(MemorySegment segment, long offset, boolean bigEndian) {
+		return segment.get(bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN, offset);
+	}
+
+	/**
+	 * Returns a long value copied from zero to eight consecutive bytes of the
+	 * memory segment starting at the offset.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if <code>numBytes &lt; 0</code> or
+	 *             <code>numBytes &gt; 8</code>
+	 * @see #readLong(byte[], int, boolean, int, boolean)
+	 * @see #readLong(MemorySegment, long, boolean)
+	 */
+	public static long readLong(MemorySegment segment, long offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if (numBytes < 0 || numBytes > 8)
+			throw new IllegalArgumentException("numBytes == " + numBytes);
+
+		return readBytes(segment, offset, bigEndian, numBytes, signExtend);
+	}
+
+	/**
+	 * Returns a float value copied from four consecutive bytes of the memory
+	 * segment starting at the offset.
+	 *
+	 * @see #readInt(MemorySegment, long, boolean)
+	 */
+	public static float readFloat(MemorySegment segment, long offset, boolean bigEndian) {
+		return Float.intBitsToFloat(readInt(segment, offset, bigEndian));
+	}
+
+	/**
+	 * Returns a double value copied from eight consecutive bytes of the memory
+	 * segment starting at the offset.
+	 *
+	 * @see #readLong(MemorySegment, long, boolean)
+	 */
+	public static double readDouble(MemorySegment segment, long offset, boolean bigEndian) {
+		return Double.longBitsToDouble(readLong(segment, offset, bigEndian));
+	}
+
+	private static long readBytes(MemorySegment segment, long offset, boolean bigEndian,
+			int numBytes, boolean signExtend) {
+		if ((offset < 0) || (offset > segment.byteSize() - numBytes))
+			throw new IndexOutOfBoundsException("Access offset must be positive or zero and last byte must be in range.");
+
+		long answer = 0;
+		for (int i = 0; i < numBytes; i++) {
+			answer = (answer << 8) | (segment.get(ValueLayout.JAVA_BYTE, offset + (bigEndian ? i : numBytes - 1 - i)) & 0xFF);
+		}
+		return signExtend ? signExtend(answer, numBytes) : answer;
+	}
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
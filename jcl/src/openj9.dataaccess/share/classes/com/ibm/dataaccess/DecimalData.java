@@ -22,8 +22,14 @@
  */
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
@@ -2501,6 +2507,1118 @@ public final class DecimalData
 				offset, precision, decimalType);
 	}
 
+	// Single Packed Decimals in byte buffers and memory segments. A decimal in a buffer backed by
+	// an accessible array is converted in place by the same kernel as the byte array methods;
+	// any other decimal is copied to or from a byte array of its size.
+
+	/**
+	 * Converts a Packed Decimal value in a byte buffer into a binary integer. The position of the buffer is not used
+	 * or changed.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit before the limit of the buffer
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and the result does not fit into an int (overflow)
+	 * @see #convertPackedDecimalToInteger(byte[], int, int, boolean)
+	 */
+	public static int convertPackedDecimalToInteger(ByteBuffer packedDecimal, int offset, int precision,
+			boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBufferBounds("convertPackedDecimalToInteger", packedDecimal.limit(), offset, size);
+
+		if (packedDecimal.hasArray()) {
+			return convertPackedDecimalToInteger_(packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+					precision, checkOverflow);
+		}
+		return convertPackedDecimalToInteger_(copyFromBuffer(packedDecimal, offset, size), 0, precision,
+				checkOverflow);
+	}
+
+	/**
+	 * Converts a Packed Decimal value in a byte buffer into a binary long. The position of the buffer is not used or
+	 * changed.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit before the limit of the buffer
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and the result does not fit into a long (overflow)
+	 * @see #convertPackedDecimalToLong(byte[], int, int, boolean)
+	 */
+	public static long convertPackedDecimalToLong(ByteBuffer packedDecimal, int offset, int precision,
+			boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBufferBounds("convertPackedDecimalToLong", packedDecimal.limit(), offset, size);
+
+		if (packedDecimal.hasArray()) {
+			return convertPackedDecimalToLong_(packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+					precision, checkOverflow);
+		}
+		return convertPackedDecimalToLong_(copyFromBuffer(packedDecimal, offset, size), 0, precision,
+				checkOverflow);
+	}
+
+	/**
+	 * Converts a binary integer value into a signed Packed Decimal in a byte buffer. The position of the buffer is
+	 * not used or changed.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit before the limit of the buffer
+	 * @throws ReadOnlyBufferException
+	 *             if the buffer is read-only
+	 * @throws ArithmeticException
+	 *             if the <code>checkOverflow</code> parameter is true and overflow occurs
+	 * @see #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)
+	 */
+	public static void convertIntegerToPackedDecimal(int integerValue, ByteBuffer packedDecimal, int offset,
+			int precision, boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBufferBounds("convertIntegerToPackedDecimal", packedDecimal.limit(), offset, size);
+
+		if (packedDecimal.hasArray()) {
+			convertIntegerToPackedDecimal_(integerValue, packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+					precision, checkOverflow);
+		} else {
+			if (packedDecimal.isReadOnly()) {
+				throw new ReadOnlyBufferException();
+			}
+			byte[] bytes = new byte[size];
+			convertIntegerToPackedDecimal_(integerValue, bytes, 0, precision, checkOverflow);
+			copyToBuffer(bytes, packedDecimal, offset);
+		}
+	}
+
+	/**
+	 * Converts a binary long value into a signed Packed Decimal in a byte buffer. The position of the buffer is not
+	 * used or changed.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit before the limit of the buffer
+	 * @throws ReadOnlyBufferException
+	 *             if the buffer is read-only
+	 * @throws ArithmeticException
+	 *             if the <code>checkOverflow</code> parameter is true and overflow occurs
+	 * @see #convertLongToPackedDecimal(long, byte[], int, int, boolean)
+	 */
+	public static void convertLongToPackedDecimal(long longValue, ByteBuffer packedDecimal, int offset,
+			int precision, boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBufferBounds("convertLongToPackedDecimal", packedDecimal.limit(), offset, size);
+
+		if (packedDecimal.hasArray()) {
+			convertLongToPackedDecimal_(longValue, packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+					precision, checkOverflow);
+		} else {
+			if (packedDecimal.isReadOnly()) {
+				throw new ReadOnlyBufferException();
+			}
+			byte[] bytes = new byte[size];
+			convertLongToPackedDecimal_(longValue, bytes, 0, precision, checkOverflow);
+			copyToBuffer(bytes, packedDecimal, offset);
+		}
+	}
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+	/**
+	 * Converts a Packed Decimal value in a memory segment into a binary integer.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit in the segment
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed from a thread other than the one owning it
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and the result does not fit into an int (overflow)
+	 * @see #convertPackedDecimalToInteger(byte[], int, int, boolean)
+	 */
+	public static int convertPackedDecimalToInteger(MemorySegment packedDecimal, long offset, int precision,
+			boolean checkOverflow) {
+		return convertPackedDecimalToInteger_(copyFromSegment(packedDecimal, offset, precision), 0, precision,
+				checkOverflow);
+	}
+
+	/**
+	 * Converts a Packed Decimal value in a memory segment into a binary long.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit in the segment
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed from a thread other than the one owning it
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and the result does not fit into a long (overflow)
+	 * @see #convertPackedDecimalToLong(byte[], int, int, boolean)
+	 */
+	public static long convertPackedDecimalToLong(MemorySegment packedDecimal, long offset, int precision,
+			boolean checkOverflow) {
+		return convertPackedDecimalToLong_(copyFromSegment(packedDecimal, offset, precision), 0, precision,
+				checkOverflow);
+	}
+
+	/**
+	 * Converts a binary integer value into a signed Packed Decimal in a memory segment.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit in the segment
+	 * @throws IllegalArgumentException
+	 *             if the segment is read-only
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed from a thread other than the one owning it
+	 * @throws ArithmeticException
+	 *             if the <code>checkOverflow</code> parameter is true and overflow occurs
+	 * @see #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)
+	 */
+	public static void convertIntegerToPackedDecimal(int integerValue, MemorySegment packedDecimal, long offset,
+			int precision, boolean checkOverflow) {
+		byte[] bytes = new byte[CommonData.getPackedByteCount(precision)];
+		convertIntegerToPackedDecimal_(integerValue, bytes, 0, precision, checkOverflow);
+		MemorySegment.copy(bytes, 0, packedDecimal, ValueLayout.JAVA_BYTE, offset, bytes.length);
+	}
+
+	/**
+	 * Converts a binary long value into a signed Packed Decimal in a memory segment.
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit in the segment
+	 * @throws IllegalArgumentException
+	 *             if the segment is read-only
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed from a thread other than the one owning it
+	 * @throws ArithmeticException
+	 *             if the <code>checkOverflow</code> parameter is true and overflow occurs
+	 * @see #convertLongToPackedDecimal(long, byte[], int, int, boolean)
+	 */
+	public static void convertLongToPackedDecimal(long longValue, MemorySegment packedDecimal, long offset,
+			int precision, boolean checkOverflow) {
+		byte[] bytes = new byte[CommonData.getPackedByteCount(precision)];
+		convertLongToPackedDecimal_(longValue, bytes, 0, precision, checkOverflow);
+		MemorySegment.copy(bytes, 0, packedDecimal, ValueLayout.JAVA_BYTE, offset, bytes.length);
+	}
+
+	/**
+	 * Returns a copy of the Packed Decimal at <code>offset</code> in a memory segment.
+	 */
+	static byte[] copyFromSegment(MemorySegment segment, long offset, int precision) {
+		byte[] bytes = new byte[CommonData.getPackedByteCount(precision)];
+		MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, bytes, 0, bytes.length);
+		return bytes;
+	}
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+
+	/**
+	 * Checks that a decimal of <code>size</code> bytes at <code>offset</code> fits before the limit of a buffer.
+	 */
+	static void checkBufferBounds(String method, int limit, int offset, int size) {
+		if ((offset < 0) || (offset > limit - size))
+			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+					method + " is trying to access buffer[" + offset + "] to buffer[" + ((long) offset + size - 1) + "], " +
+					" but valid indices are from 0 to " + (limit - 1) + ".");
+	}
+
+	/**
+	 * Returns a copy of <code>size</code> bytes at <code>offset</code> in a buffer.
+	 */
+	static byte[] copyFromBuffer(ByteBuffer buffer, int offset, int size) {
+		byte[] bytes = new byte[size];
+		for (int i = 0; i < size; i++) {
+			bytes[i] = buffer.get(offset + i);
+		}
+		return bytes;
+	}
+
+	private static void copyToBuffer(byte[] bytes, ByteBuffer buffer, int offset) {
+		for (int i = 0; i < bytes.length; i++) {
+			buffer.put(offset + i, bytes[i]);
+		}
+	}
+
+	// Bulk conversions. A column of decimals of the same precision and type starts at
+	// offset, with each decimal stride bytes after the previous one. The bounds are
+	// checked once for the whole column and each value is then converted by the same
+	// kernel as the single value methods, so the JIT can accelerate it in the same way.
+
+	/**
+	 * Converts a column of Packed Decimals in a byte array into binary integers.
+	 *
+	 * @param packedDecimal
+	 *            byte array that holds the Packed Decimals to be converted
+	 * @param offset
+	 *            offset in <code>packedDecimal</code> where the first Packed Decimal is located
+	 * @param stride
+	 *            number of bytes from the start of one Packed Decimal to the start of the next
+	 * @param precision
+	 *            number of Packed Decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in an int
+	 * @param values
+	 *            int array that will hold the converted values
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the value of the first Packed Decimal
+	 * @param count
+	 *            number of Packed Decimals to convert
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> or <code>values</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>count</code> is negative or <code>stride</code> is less than the size of a Packed Decimal
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and a result does not fit into an int (overflow)
+	 */
+	public static void convertPackedDecimalToInteger(byte[] packedDecimal, int offset, int stride, int precision,
+			boolean checkOverflow, int[] values, int valuesOffset, int count) {
+		checkBulkBounds("convertPackedDecimalToInteger", packedDecimal.length, offset, stride,
+				CommonData.getPackedByteCount(precision), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			values[i] = convertPackedDecimalToInteger_(packedDecimal, offset, precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Converts a column of Packed Decimals in a byte buffer into binary integers. The position of the buffer is not
+	 * used or changed.
+	 *
+	 * @see #convertPackedDecimalToInteger(byte[], int, int, int, boolean, int[], int, int)
+	 */
+	public static void convertPackedDecimalToInteger(ByteBuffer packedDecimal, int offset, final int stride,
+			final int precision, final boolean checkOverflow, final int[] values, final int valuesOffset, int count) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBulkBounds("convertPackedDecimalToInteger", packedDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertPackedDecimalToInteger(bytes, bytesOffset, stride, precision, checkOverflow, values,
+						valuesOffset + first, number);
+			}
+		}.run(packedDecimal, offset, stride, size, count, false);
+	}
+
+	/**
+	 * Converts a column of Packed Decimals in a byte array into binary longs.
+	 *
+	 * @param packedDecimal
+	 *            byte array that holds the Packed Decimals to be converted
+	 * @param offset
+	 *            offset in <code>packedDecimal</code> where the first Packed Decimal is located
+	 * @param stride
+	 *            number of bytes from the start of one Packed Decimal to the start of the next
+	 * @param precision
+	 *            number of Packed Decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in a long
+	 * @param values
+	 *            long array that will hold the converted values
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the value of the first Packed Decimal
+	 * @param count
+	 *            number of Packed Decimals to convert
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> or <code>values</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>count</code> is negative or <code>stride</code> is less than the size of a Packed Decimal
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+	 */
+	public static void convertPackedDecimalToLong(byte[] packedDecimal, int offset, int stride, int precision,
+			boolean checkOverflow, long[] values, int valuesOffset, int count) {
+		checkBulkBounds("convertPackedDecimalToLong", packedDecimal.length, offset, stride,
+				CommonData.getPackedByteCount(precision), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			values[i] = convertPackedDecimalToLong_(packedDecimal, offset, precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Converts a column of Packed Decimals in a byte buffer into binary longs. The position of the buffer is not
+	 * used or changed.
+	 *
+	 * @see #convertPackedDecimalToLong(byte[], int, int, int, boolean, long[], int, int)
+	 */
+	public static void convertPackedDecimalToLong(ByteBuffer packedDecimal, int offset, final int stride,
+			final int precision, final boolean checkOverflow, final long[] values, final int valuesOffset, int count) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBulkBounds("convertPackedDecimalToLong", packedDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertPackedDecimalToLong(bytes, bytesOffset, stride, precision, checkOverflow, values,
+						valuesOffset + first, number);
+			}
+		}.run(packedDecimal, offset, stride, size, count, false);
+	}
+
+	/**
+	 * Converts a column of Packed Decimals in a byte array into BigDecimals.
+	 *
+	 * @param packedDecimal
+	 *            byte array that holds the Packed Decimals to be converted
+	 * @param offset
+	 *            offset in <code>packedDecimal</code> where the first Packed Decimal is located
+	 * @param stride
+	 *            number of bytes from the start of one Packed Decimal to the start of the next
+	 * @param precision
+	 *            number of Packed Decimal digits. Maximum valid precision is 253
+	 * @param scale
+	 *            scale of the BigDecimals to be returned
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+	 *            specified precision (overflow)
+	 * @param values
+	 *            BigDecimal array that will hold the converted values
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the value of the first Packed Decimal
+	 * @param count
+	 *            number of Packed Decimals to convert
+	 *
+	 * @throws NullPointerException
+	 *             if <code>packedDecimal</code> or <code>values</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>count</code> is negative or <code>stride</code> is less than the size of a Packed Decimal
+	 */
+	public static void convertPackedDecimalToBigDecimal(byte[] packedDecimal, int offset, int stride, int precision,
+			int scale, boolean checkOverflow, BigDecimal[] values, int valuesOffset, int count) {
+		checkBulkBounds("convertPackedDecimalToBigDecimal", packedDecimal.length, offset, stride,
+				CommonData.getPackedByteCount(precision), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			values[i] = convertPackedDecimalToBigDecimal(packedDecimal, offset, precision, scale, checkOverflow);
+		}
+	}
+
+	/**
+	 * Converts a column of Packed Decimals in a byte buffer into BigDecimals. The position of the buffer is not used
+	 * or changed.
+	 *
+	 * @see #convertPackedDecimalToBigDecimal(byte[], int, int, int, int, boolean, BigDecimal[], int, int)
+	 */
+	public static void convertPackedDecimalToBigDecimal(ByteBuffer packedDecimal, int offset, final int stride,
+			final int precision, final int scale, final boolean checkOverflow, final BigDecimal[] values,
+			final int valuesOffset, int count) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBulkBounds("convertPackedDecimalToBigDecimal", packedDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertPackedDecimalToBigDecimal(bytes, bytesOffset, stride, precision, scale, checkOverflow, values,
+						valuesOffset + first, number);
+			}
+		}.run(packedDecimal, offset, stride, size, count, false);
+	}
+
+	/**
+	 * Converts binary integers into a column of Packed Decimals in a byte array.
+	 *
+	 * @param values
+	 *            int array that holds the values to be converted
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the first value
+	 * @param count
+	 *            number of values to convert
+	 * @param packedDecimal
+	 *            byte array that will hold the Packed Decimals
+	 * @param offset
+	 *            offset in <code>packedDecimal</code> where the first Packed Decimal is expected to be located
+	 * @param stride
+	 *            number of bytes from the start of one Packed Decimal to the start of the next
+	 * @param precision
+	 *            number of Packed Decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+	 *            precision (overflow), otherwise a truncated value is stored
+	 *
+	 * @throws NullPointerException
+	 *             if <code>values</code> or <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>count</code> is negative or <code>stride</code> is less than the size of a Packed Decimal
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and overflow occurs
+	 */
+	public static void convertIntegerToPackedDecimal(int[] values, int valuesOffset, int count, byte[] packedDecimal,
+			int offset, int stride, int precision, boolean checkOverflow) {
+		checkBulkBounds("convertIntegerToPackedDecimal", packedDecimal.length, offset, stride,
+				CommonData.getPackedByteCount(precision), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			convertIntegerToPackedDecimal_(values[i], packedDecimal, offset, precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Converts binary integers into a column of Packed Decimals in a byte buffer. The position of the buffer is not
+	 * used or changed, and the bytes between the Packed Decimals are left unchanged.
+	 *
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if <code>packedDecimal</code> is read-only
+	 * @see #convertIntegerToPackedDecimal(int[], int, int, byte[], int, int, int, boolean)
+	 */
+	public static void convertIntegerToPackedDecimal(final int[] values, final int valuesOffset, int count,
+			ByteBuffer packedDecimal, int offset, final int stride, final int precision, final boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBulkBounds("convertIntegerToPackedDecimal", packedDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertIntegerToPackedDecimal(values, valuesOffset + first, number, bytes, bytesOffset, stride,
+						precision, checkOverflow);
+			}
+		}.run(packedDecimal, offset, stride, size, count, true);
+	}
+
+	/**
+	 * Converts binary longs into a column of Packed Decimals in a byte array.
+	 *
+	 * @param values
+	 *            long array that holds the values to be converted
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the first value
+	 * @param count
+	 *            number of values to convert
+	 * @param packedDecimal
+	 *            byte array that will hold the Packed Decimals
+	 * @param offset
+	 *            offset in <code>packedDecimal</code> where the first Packed Decimal is expected to be located
+	 * @param stride
+	 *            number of bytes from the start of one Packed Decimal to the start of the next
+	 * @param precision
+	 *            number of Packed Decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+	 *            precision (overflow), otherwise a truncated value is stored
+	 *
+	 * @throws NullPointerException
+	 *             if <code>values</code> or <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>count</code> is negative or <code>stride</code> is less than the size of a Packed Decimal
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and overflow occurs
+	 */
+	public static void convertLongToPackedDecimal(long[] values, int valuesOffset, int count, byte[] packedDecimal,
+			int offset, int stride, int precision, boolean checkOverflow) {
+		checkBulkBounds("convertLongToPackedDecimal", packedDecimal.length, offset, stride,
+				CommonData.getPackedByteCount(precision), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			convertLongToPackedDecimal_(values[i], packedDecimal, offset, precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Converts binary longs into a column of Packed Decimals in a byte buffer. The position of the buffer is not used
+	 * or changed, and the bytes between the Packed Decimals are left unchanged.
+	 *
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if <code>packedDecimal</code> is read-only
+	 * @see #convertLongToPackedDecimal(long[], int, int, byte[], int, int, int, boolean)
+	 */
+	public static void convertLongToPackedDecimal(final long[] values, final int valuesOffset, int count,
+			ByteBuffer packedDecimal, int offset, final int stride, final int precision, final boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBulkBounds("convertLongToPackedDecimal", packedDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertLongToPackedDecimal(values, valuesOffset + first, number, bytes, bytesOffset, stride,
+						precision, checkOverflow);
+			}
+		}.run(packedDecimal, offset, stride, size, count, true);
+	}
+
+	/**
+	 * Converts BigDecimals into a column of Packed Decimals in a byte array. The scale of the BigDecimals is ignored.
+	 *
+	 * @param values
+	 *            BigDecimal array that holds the values to be converted
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the first value
+	 * @param count
+	 *            number of values to convert
+	 * @param packedDecimal
+	 *            byte array that will hold the Packed Decimals
+	 * @param offset
+	 *            offset in <code>packedDecimal</code> where the first Packed Decimal is expected to be located
+	 * @param stride
+	 *            number of bytes from the start of one Packed Decimal to the start of the next
+	 * @param precision
+	 *            number of Packed Decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+	 *            precision (overflow)
+	 *
+	 * @throws NullPointerException
+	 *             if <code>values</code>, any of the converted values or <code>packedDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>count</code> is negative or <code>stride</code> is less than the size of a Packed Decimal
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and overflow occurs
+	 */
+	public static void convertBigDecimalToPackedDecimal(BigDecimal[] values, int valuesOffset, int count,
+			byte[] packedDecimal, int offset, int stride, int precision, boolean checkOverflow) {
+		checkBulkBounds("convertBigDecimalToPackedDecimal", packedDecimal.length, offset, stride,
+				CommonData.getPackedByteCount(precision), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			convertBigDecimalToPackedDecimal(values[i], packedDecimal, offset, precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Converts BigDecimals into a column of Packed Decimals in a byte buffer. The position of the buffer is not used
+	 * or changed, and the bytes between the Packed Decimals are left unchanged.
+	 *
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if <code>packedDecimal</code> is read-only
+	 * @see #convertBigDecimalToPackedDecimal(BigDecimal[], int, int, byte[], int, int, int, boolean)
+	 */
+	public static void convertBigDecimalToPackedDecimal(final BigDecimal[] values, final int valuesOffset, int count,
+			ByteBuffer packedDecimal, int offset, final int stride, final int precision, final boolean checkOverflow) {
+		int size = CommonData.getPackedByteCount(precision);
+		checkBulkBounds("convertBigDecimalToPackedDecimal", packedDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertBigDecimalToPackedDecimal(values, valuesOffset + first, number, bytes, bytesOffset, stride,
+						precision, checkOverflow);
+			}
+		}.run(packedDecimal, offset, stride, size, count, true);
+	}
+
+	/**
+	 * Converts a column of External Decimals in a byte array into binary integers.
+	 *
+	 * @param externalDecimal
+	 *            byte array that holds the External Decimals to be converted
+	 * @param offset
+	 *            offset in <code>externalDecimal</code> where the first External Decimal is located
+	 * @param stride
+	 *            number of bytes from the start of one External Decimal to the start of the next
+	 * @param precision
+	 *            number of decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown.
+	 *            If false and there is an overflow, the result is undefined.
+	 * @param decimalType
+	 *            constant value indicating the type of External Decimal
+	 * @param values
+	 *            int array that will hold the converted values
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the value of the first External Decimal
+	 * @param count
+	 *            number of External Decimals to convert
+	 *
+	 * @throws NullPointerException
+	 *             if <code>externalDecimal</code> or <code>values</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and a result does not fit into an int (overflow)
+	 * @throws IllegalArgumentException
+	 *             if <code>precision</code>, <code>decimalType</code> or <code>count</code> is invalid or
+	 *             <code>stride</code> is less than the size of an External Decimal
+	 */
+	public static void convertExternalDecimalToInteger(byte[] externalDecimal, int offset, int stride, int precision,
+			boolean checkOverflow, int decimalType, int[] values, int valuesOffset, int count) {
+		checkBulkBounds("convertExternalDecimalToInteger", externalDecimal.length, offset, stride,
+				CommonData.getExternalByteCounts(precision, decimalType), count, values.length, valuesOffset);
+
+		if (precision <= 0)
+			throw new IllegalArgumentException("Precision can't be negative.");
+
+		if (JITIntrinsicsEnabled()) {
+			byte[] packedDecimal = new byte[precision / 2 + 1];
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				convertExternalDecimalToPackedDecimal_(externalDecimal, offset, packedDecimal, 0, precision, decimalType);
+				values[i] = convertPackedDecimalToInteger_(packedDecimal, 0, precision, checkOverflow);
+			}
+		} else {
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				values[i] = convertExternalDecimalToInteger_(externalDecimal, offset, precision, checkOverflow, decimalType);
+			}
+		}
+	}
+
+	/**
+	 * Converts a column of External Decimals in a byte buffer into binary integers. The position of the buffer is not
+	 * used or changed.
+	 *
+	 * @see #convertExternalDecimalToInteger(byte[], int, int, int, boolean, int, int[], int, int)
+	 */
+	public static void convertExternalDecimalToInteger(ByteBuffer externalDecimal, int offset, final int stride,
+			final int precision, final boolean checkOverflow, final int decimalType, final int[] values,
+			final int valuesOffset, int count) {
+		int size = CommonData.getExternalByteCounts(precision, decimalType);
+		checkBulkBounds("convertExternalDecimalToInteger", externalDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertExternalDecimalToInteger(bytes, bytesOffset, stride, precision, checkOverflow, decimalType,
+						values, valuesOffset + first, number);
+			}
+		}.run(externalDecimal, offset, stride, size, count, false);
+	}
+
+	/**
+	 * Converts a column of External Decimals in a byte array into binary longs.
+	 *
+	 * @param externalDecimal
+	 *            byte array that holds the External Decimals to be converted
+	 * @param offset
+	 *            offset in <code>externalDecimal</code> where the first External Decimal is located
+	 * @param stride
+	 *            number of bytes from the start of one External Decimal to the start of the next
+	 * @param precision
+	 *            number of decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown.
+	 *            If false and there is an overflow, the result is undefined.
+	 * @param decimalType
+	 *            constant value indicating the type of External Decimal
+	 * @param values
+	 *            long array that will hold the converted values
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the value of the first External Decimal
+	 * @param count
+	 *            number of External Decimals to convert
+	 *
+	 * @throws NullPointerException
+	 *             if <code>externalDecimal</code> or <code>values</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+	 * @throws IllegalArgumentException
+	 *             if <code>precision</code>, <code>decimalType</code> or <code>count</code> is invalid or
+	 *             <code>stride</code> is less than the size of an External Decimal
+	 */
+	public static void convertExternalDecimalToLong(byte[] externalDecimal, int offset, int stride, int precision,
+			boolean checkOverflow, int decimalType, long[] values, int valuesOffset, int count) {
+		checkBulkBounds("convertExternalDecimalToLong", externalDecimal.length, offset, stride,
+				CommonData.getExternalByteCounts(precision, decimalType), count, values.length, valuesOffset);
+
+		if (precision <= 0)
+			throw new IllegalArgumentException("Precision can't be negative.");
+
+		if (JITIntrinsicsEnabled()) {
+			byte[] packedDecimal = new byte[precision / 2 + 1];
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				convertExternalDecimalToPackedDecimal_(externalDecimal, offset, packedDecimal, 0, precision, decimalType);
+				values[i] = convertPackedDecimalToLong_(packedDecimal, 0, precision, checkOverflow);
+			}
+		} else {
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				values[i] = convertExternalDecimalToLong_(externalDecimal, offset, precision, checkOverflow, decimalType);
+			}
+		}
+	}
+
+	/**
+	 * Converts a column of External Decimals in a byte buffer into binary longs. The position of the buffer is not
+	 * used or changed.
+	 *
+	 * @see #convertExternalDecimalToLong(byte[], int, int, int, boolean, int, long[], int, int)
+	 */
+	public static void convertExternalDecimalToLong(ByteBuffer externalDecimal, int offset, final int stride,
+			final int precision, final boolean checkOverflow, final int decimalType, final long[] values,
+			final int valuesOffset, int count) {
+		int size = CommonData.getExternalByteCounts(precision, decimalType);
+		checkBulkBounds("convertExternalDecimalToLong", externalDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertExternalDecimalToLong(bytes, bytesOffset, stride, precision, checkOverflow, decimalType,
+						values, valuesOffset + first, number);
+			}
+		}.run(externalDecimal, offset, stride, size, count, false);
+	}
+
+	/**
+	 * Converts a column of External Decimals in a byte array into BigDecimals.
+	 *
+	 * @param externalDecimal
+	 *            byte array that holds the External Decimals to be converted
+	 * @param offset
+	 *            offset in <code>externalDecimal</code> where the first External Decimal is located
+	 * @param stride
+	 *            number of bytes from the start of one External Decimal to the start of the next
+	 * @param precision
+	 *            number of decimal digits. Maximum valid precision is 253
+	 * @param scale
+	 *            scale of the BigDecimals to be returned
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+	 *            specified precision (overflow)
+	 * @param decimalType
+	 *            constant value indicating the type of External Decimal
+	 * @param values
+	 *            BigDecimal array that will hold the converted values
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the value of the first External Decimal
+	 * @param count
+	 *            number of External Decimals to convert
+	 *
+	 * @throws NullPointerException
+	 *             if <code>externalDecimal</code> or <code>values</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws IllegalArgumentException
+	 *             if <code>decimalType</code> or <code>count</code> is invalid, <code>stride</code> is less than the
+	 *             size of an External Decimal or an External Decimal is not valid
+	 */
+	public static void convertExternalDecimalToBigDecimal(byte[] externalDecimal, int offset, int stride,
+			int precision, int scale, boolean checkOverflow, int decimalType, BigDecimal[] values, int valuesOffset,
+			int count) {
+		checkBulkBounds("convertExternalDecimalToBigDecimal", externalDecimal.length, offset, stride,
+				CommonData.getExternalByteCounts(precision, decimalType), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			values[i] = convertExternalDecimalToBigDecimal(externalDecimal, offset, precision, scale, checkOverflow,
+					decimalType);
+		}
+	}
+
+	/**
+	 * Converts a column of External Decimals in a byte buffer into BigDecimals. The position of the buffer is not
+	 * used or changed.
+	 *
+	 * @see #convertExternalDecimalToBigDecimal(byte[], int, int, int, int, boolean, int, BigDecimal[], int, int)
+	 */
+	public static void convertExternalDecimalToBigDecimal(ByteBuffer externalDecimal, int offset, final int stride,
+			final int precision, final int scale, final boolean checkOverflow, final int decimalType,
+			final BigDecimal[] values, final int valuesOffset, int count) {
+		int size = CommonData.getExternalByteCounts(precision, decimalType);
+		checkBulkBounds("convertExternalDecimalToBigDecimal", externalDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertExternalDecimalToBigDecimal(bytes, bytesOffset, stride, precision, scale, checkOverflow,
+						decimalType, values, valuesOffset + first, number);
+			}
+		}.run(externalDecimal, offset, stride, size, count, false);
+	}
+
+	/**
+	 * Converts binary integers into a column of External Decimals in a byte array.
+	 *
+	 * @param values
+	 *            int array that holds the values to be converted
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the first value
+	 * @param count
+	 *            number of values to convert
+	 * @param externalDecimal
+	 *            byte array that will hold the External Decimals
+	 * @param offset
+	 *            offset in <code>externalDecimal</code> where the first External Decimal is expected to be located
+	 * @param stride
+	 *            number of bytes from the start of one External Decimal to the start of the next
+	 * @param precision
+	 *            number of decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+	 *            precision (overflow)
+	 * @param decimalType
+	 *            constant value indicating the type of External Decimal
+	 *
+	 * @throws NullPointerException
+	 *             if <code>values</code> or <code>externalDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and overflow occurs
+	 * @throws IllegalArgumentException
+	 *             if <code>decimalType</code> or <code>count</code> is invalid or <code>stride</code> is less than
+	 *             the size of an External Decimal
+	 */
+	public static void convertIntegerToExternalDecimal(int[] values, int valuesOffset, int count,
+			byte[] externalDecimal, int offset, int stride, int precision, boolean checkOverflow, int decimalType) {
+		checkBulkBounds("convertIntegerToExternalDecimal", externalDecimal.length, offset, stride,
+				CommonData.getExternalByteCounts(precision, decimalType), count, values.length, valuesOffset);
+
+		if (JITIntrinsicsEnabled()) {
+			byte[] packedDecimal = new byte[precision / 2 + 1];
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				convertIntegerToPackedDecimal_(values[i], packedDecimal, 0, precision, checkOverflow);
+				convertPackedDecimalToExternalDecimal_(packedDecimal, 0, externalDecimal, offset, precision, decimalType);
+			}
+		} else {
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				convertIntegerToExternalDecimal_(values[i], externalDecimal, offset, precision, checkOverflow, decimalType);
+			}
+		}
+	}
+
+	/**
+	 * Converts binary integers into a column of External Decimals in a byte buffer. The position of the buffer is not
+	 * used or changed, and the bytes between the External Decimals are left unchanged.
+	 *
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if <code>externalDecimal</code> is read-only
+	 * @see #convertIntegerToExternalDecimal(int[], int, int, byte[], int, int, int, boolean, int)
+	 */
+	public static void convertIntegerToExternalDecimal(final int[] values, final int valuesOffset, int count,
+			ByteBuffer externalDecimal, int offset, final int stride, final int precision, final boolean checkOverflow,
+			final int decimalType) {
+		int size = CommonData.getExternalByteCounts(precision, decimalType);
+		checkBulkBounds("convertIntegerToExternalDecimal", externalDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertIntegerToExternalDecimal(values, valuesOffset + first, number, bytes, bytesOffset, stride,
+						precision, checkOverflow, decimalType);
+			}
+		}.run(externalDecimal, offset, stride, size, count, true);
+	}
+
+	/**
+	 * Converts binary longs into a column of External Decimals in a byte array.
+	 *
+	 * @param values
+	 *            long array that holds the values to be converted
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the first value
+	 * @param count
+	 *            number of values to convert
+	 * @param externalDecimal
+	 *            byte array that will hold the External Decimals
+	 * @param offset
+	 *            offset in <code>externalDecimal</code> where the first External Decimal is expected to be located
+	 * @param stride
+	 *            number of bytes from the start of one External Decimal to the start of the next
+	 * @param precision
+	 *            number of decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+	 *            precision (overflow)
+	 * @param decimalType
+	 *            constant value indicating the type of External Decimal
+	 *
+	 * @throws NullPointerException
+	 *             if <code>values</code> or <code>externalDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and overflow occurs
+	 * @throws IllegalArgumentException
+	 *             if <code>decimalType</code> or <code>count</code> is invalid or <code>stride</code> is less than
+	 *             the size of an External Decimal
+	 */
+	public static void convertLongToExternalDecimal(long[] values, int valuesOffset, int count,
+			byte[] externalDecimal, int offset, int stride, int precision, boolean checkOverflow, int decimalType) {
+		checkBulkBounds("convertLongToExternalDecimal", externalDecimal.length, offset, stride,
+				CommonData.getExternalByteCounts(precision, decimalType), count, values.length, valuesOffset);
+
+		if (JITIntrinsicsEnabled()) {
+			byte[] packedDecimal = new byte[precision / 2 + 1];
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				convertLongToPackedDecimal_(values[i], packedDecimal, 0, precision, checkOverflow);
+				convertPackedDecimalToExternalDecimal_(packedDecimal, 0, externalDecimal, offset, precision, decimalType);
+			}
+		} else {
+			for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+				convertLongToExternalDecimal_(values[i], externalDecimal, offset, precision, checkOverflow, decimalType);
+			}
+		}
+	}
+
+	/**
+	 * Converts binary longs into a column of External Decimals in a byte buffer. The position of the buffer is not
+	 * used or changed, and the bytes between the External Decimals are left unchanged.
+	 *
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if <code>externalDecimal</code> is read-only
+	 * @see #convertLongToExternalDecimal(long[], int, int, byte[], int, int, int, boolean, int)
+	 */
+	public static void convertLongToExternalDecimal(final long[] values, final int valuesOffset, int count,
+			ByteBuffer externalDecimal, int offset, final int stride, final int precision, final boolean checkOverflow,
+			final int decimalType) {
+		int size = CommonData.getExternalByteCounts(precision, decimalType);
+		checkBulkBounds("convertLongToExternalDecimal", externalDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertLongToExternalDecimal(values, valuesOffset + first, number, bytes, bytesOffset, stride,
+						precision, checkOverflow, decimalType);
+			}
+		}.run(externalDecimal, offset, stride, size, count, true);
+	}
+
+	/**
+	 * Converts BigDecimals into a column of External Decimals in a byte array. The scale of the BigDecimals is
+	 * ignored.
+	 *
+	 * @param values
+	 *            BigDecimal array that holds the values to be converted
+	 * @param valuesOffset
+	 *            offset in <code>values</code> of the first value
+	 * @param count
+	 *            number of values to convert
+	 * @param externalDecimal
+	 *            byte array that will hold the External Decimals
+	 * @param offset
+	 *            offset in <code>externalDecimal</code> where the first External Decimal is expected to be located
+	 * @param stride
+	 *            number of bytes from the start of one External Decimal to the start of the next
+	 * @param precision
+	 *            number of decimal digits. Maximum valid precision is 253
+	 * @param checkOverflow
+	 *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+	 *            precision (overflow)
+	 * @param decimalType
+	 *            constant value indicating the type of External Decimal
+	 *
+	 * @throws NullPointerException
+	 *             if <code>values</code>, any of the converted values or <code>externalDecimal</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access would occur; no values are converted
+	 * @throws ArithmeticException
+	 *             if <code>checkOverflow</code> is true and overflow occurs
+	 * @throws IllegalArgumentException
+	 *             if <code>decimalType</code> or <code>count</code> is invalid or <code>stride</code> is less than
+	 *             the size of an External Decimal
+	 */
+	public static void convertBigDecimalToExternalDecimal(BigDecimal[] values, int valuesOffset, int count,
+			byte[] externalDecimal, int offset, int stride, int precision, boolean checkOverflow, int decimalType) {
+		checkBulkBounds("convertBigDecimalToExternalDecimal", externalDecimal.length, offset, stride,
+				CommonData.getExternalByteCounts(precision, decimalType), count, values.length, valuesOffset);
+
+		for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+			convertBigDecimalToExternalDecimal(values[i], externalDecimal, offset, precision, checkOverflow,
+					decimalType);
+		}
+	}
+
+	/**
+	 * Converts BigDecimals into a column of External Decimals in a byte buffer. The position of the buffer is not
+	 * used or changed, and the bytes between the External Decimals are left unchanged.
+	 *
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if <code>externalDecimal</code> is read-only
+	 * @see #convertBigDecimalToExternalDecimal(BigDecimal[], int, int, byte[], int, int, int, boolean, int)
+	 */
+	public static void convertBigDecimalToExternalDecimal(final BigDecimal[] values, final int valuesOffset, int count,
+			ByteBuffer externalDecimal, int offset, final int stride, final int precision, final boolean checkOverflow,
+			final int decimalType) {
+		int size = CommonData.getExternalByteCounts(precision, decimalType);
+		checkBulkBounds("convertBigDecimalToExternalDecimal", externalDecimal.limit(), offset, stride, size, count,
+				values.length, valuesOffset);
+
+		new BulkBufferConversion() {
+			void convert(byte[] bytes, int bytesOffset, int first, int number) {
+				convertBigDecimalToExternalDecimal(values, valuesOffset + first, number, bytes, bytesOffset, stride,
+						precision, checkOverflow, decimalType);
+			}
+		}.run(externalDecimal, offset, stride, size, count, true);
+	}
+
+	/**
+	 * Checks the arguments of a bulk conversion, so that either all or none of the decimals are accessed.
+	 */
+	private static void checkBulkBounds(String method, int length, int offset, int stride, int size, int count,
+			int valuesLength, int valuesOffset) {
+		if (count < 0)
+			throw new IllegalArgumentException(method + " count can't be negative.");
+
+		if (stride < size)
+			throw new IllegalArgumentException(method + " stride " + stride
+					+ " is less than the size of a decimal, " + size + ".");
+
+		if ((valuesOffset < 0) || ((long) valuesOffset + count > valuesLength))
+			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+					method + " is trying to access values[" + valuesOffset + "] to values[" + ((long) valuesOffset + count - 1) + "], " +
+					" but valid indices are from 0 to " + (valuesLength - 1) + ".");
+
+		if (count > 0) {
+			long last = offset + ((long) (count - 1) * stride) + size - 1;
+			if ((offset < 0) || (last >= length))
+				throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+						method + " is trying to access decimal[" + offset + "] to decimal[" + last + "], " +
+						" but valid indices are from 0 to " + (length - 1) + ".");
+		}
+	}
+
+	/**
+	 * Runs a bulk conversion on a byte buffer. A buffer backed by an accessible array is converted in place; the
+	 * decimals of any other buffer are copied to and, for conversions to decimal, from a byte array in chunks.
+	 */
+	private static abstract class BulkBufferConversion {
+		private static final int CHUNK_BYTES = 64 * 1024;
+
+		/**
+		 * Converts <code>number</code> decimals, the first at <code>bytesOffset</code>, which are the decimals
+		 * <code>first</code> onwards of the whole conversion.
+		 */
+		abstract void convert(byte[] bytes, int bytesOffset, int first, int number);
+
+		final void run(ByteBuffer buffer, int offset, int stride, int size, int count, boolean toDecimal) {
+			// the offset is not checked when there is nothing to convert, so it must not be used
+			if (count == 0) {
+				return;
+			}
+			if (buffer.hasArray()) {
+				convert(buffer.array(), buffer.arrayOffset() + offset, 0, count);
+				return;
+			}
+			if (toDecimal && buffer.isReadOnly()) {
+				throw new ReadOnlyBufferException();
+			}
+
+			int chunkCount = Math.max(1, (CHUNK_BYTES - size) / stride + 1);
+			byte[] chunk = new byte[((Math.min(chunkCount, count) - 1) * stride) + size];
+			ByteBuffer view = buffer.duplicate();
+			for (int first = 0; first < count; first += chunkCount) {
+				int number = Math.min(chunkCount, count - first);
+				int length = ((number - 1) * stride) + size;
+				int index = offset + (first * stride);
+
+				// the bytes between the decimals are read too, so that they are written back unchanged
+				view.limit(index + length).position(index);
+				view.get(chunk, 0, length);
+				convert(chunk, 0, first, number);
+				if (toDecimal) {
+					view.position(index);
+					view.put(chunk, 0, length);
+				}
+			}
+		}
+	}
+
 	// below is code taken from BigDecimalConverters
 	// these are special functions recognized by the jit
 	private static boolean DFPFacilityAvailable() {
@@ -22,7 +22,11 @@
  */
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.ibm.dataaccess.CommonData;
@@ -42,27 +46,6 @@ public final class PackedDecimal {
 		super();
 	}
 
-	private static final ThreadLocal<PackedDecimalOperand> op1_threadLocal = new ThreadLocal<PackedDecimalOperand>() {
-		protected PackedDecimalOperand initialValue()
-		{
-		return new PackedDecimalOperand();
-		}
-	};
-
-	private static final ThreadLocal<PackedDecimalOperand> op2_threadLocal = new ThreadLocal<PackedDecimalOperand>() {
-		protected PackedDecimalOperand initialValue()
-		{
-		return new PackedDecimalOperand();
-		}
-	};
-
-	private static final ThreadLocal<PackedDecimalOperand> sum_threadLocal = new ThreadLocal<PackedDecimalOperand>() {
-		protected PackedDecimalOperand initialValue()
-		{
-		return new PackedDecimalOperand();
-		}
-	};
-
 	/**
 	 * Checks the validity of a Packed Decimal, return code indicating the status of the Packed Decimal.
 	 *
@@ -197,11 +180,94 @@ public final class PackedDecimal {
 		return checkPackedDecimal(byteArray, offset, precision, false, false);
 	}
 
-	private static void copyRemainingDigits(PackedDecimalOperand op1,
-			PackedDecimalOperand op2, boolean checkOverflow)
-			throws ArithmeticException {
-		PackedDecimalOperand sum = sum_threadLocal.get();
+	/**
+	 * Checks the validity of a Packed Decimal in a byte buffer, return code indicating the status of the Packed
+	 * Decimal. The position of the buffer is not used or changed, and the Packed Decimal is not modified.
+	 *
+	 * @param buffer
+	 *            the source buffer
+	 * @param offset
+	 *            starting offset of the Packed Decimal
+	 * @param precision
+	 *            precision of the Packed Decimal
+	 * @param ignoreHighNibbleForEvenPrecision
+	 *            if true, ignore the high nibble in the case of even precision
+	 * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid
+	 *         3 Sign invalid and at least one digit code invalid
+	 *
+	 * @throws NullPointerException
+	 *             if <code>buffer</code> is null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit before the limit of the buffer
+	 */
+	public static int checkPackedDecimal(ByteBuffer buffer, int offset,
+			int precision, boolean ignoreHighNibbleForEvenPrecision) {
+		int size = CommonData.getPackedByteCount(precision);
+		DecimalData.checkBufferBounds("checkPackedDecimal", buffer.limit(), offset, size);
+
+		if (buffer.hasArray()) {
+			return checkPackedDecimal(buffer.array(), buffer.arrayOffset() + offset, precision,
+					ignoreHighNibbleForEvenPrecision, false);
+		}
+		return checkPackedDecimal(DecimalData.copyFromBuffer(buffer, offset, size), 0, precision,
+				ignoreHighNibbleForEvenPrecision, false);
+	}
+
+	/**
+	 * Checks the validity of a Packed Decimal in a byte buffer, return code indicating the status of the Packed
+	 * Decimal. Don't ignore the most significant nibble.
+	 *
+	 * @see #checkPackedDecimal(ByteBuffer, int, int, boolean)
+	 */
+	public static int checkPackedDecimal(ByteBuffer buffer, int offset,
+			int precision) {
+		return checkPackedDecimal(buffer, offset, precision, false);
+	}
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+	/**
+	 * Checks the validity of a Packed Decimal in a memory segment, return code indicating the status of the Packed
+	 * Decimal. The Packed Decimal is not modified.
+	 *
+	 * @param segment
+	 *            the source memory segment
+	 * @param offset
+	 *            starting offset of the Packed Decimal
+	 * @param precision
+	 *            precision of the Packed Decimal
+	 * @param ignoreHighNibbleForEvenPrecision
+	 *            if true, ignore the high nibble in the case of even precision
+	 * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid
+	 *         3 Sign invalid and at least one digit code invalid
+	 *
+	 * @throws NullPointerException
+	 *             if <code>segment</code> is null
+	 * @throws IndexOutOfBoundsException
+	 *             if the Packed Decimal does not fit in the segment
+	 * @throws IllegalStateException
+	 *             if the scope of the segment is not alive, or it is accessed from a thread other than the one owning it
+	 */
+	public static int checkPackedDecimal(MemorySegment segment, long offset,
+			int precision, boolean ignoreHighNibbleForEvenPrecision) {
+		return checkPackedDecimal(DecimalData.copyFromSegment(segment, offset, precision), 0, precision,
+				ignoreHighNibbleForEvenPrecision, false);
+	}
+
+	/**
+	 * Checks the validity of a Packed Decimal in a memory segment, return code indicating the status of the Packed
+	 * Decimal. Don't ignore the most significant nibble.
+	 *
+	 * @see #checkPackedDecimal(MemorySegment, long, int, boolean)
+	 */
+	public static int checkPackedDecimal(MemorySegment segment, long offset,
+			int precision) {
+		return checkPackedDecimal(segment, offset, precision, false);
+	}
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+
+	private static void copyRemainingDigits(PackedDecimalOperand sum,
+			PackedDecimalOperand op1, PackedDecimalOperand op2,
+			boolean checkOverflow) throws ArithmeticException {
 		int bytes;
 		// copy any high order digits left in larger value to result
 		if (op1.currentOffset >= op1.offset) {
@@ -247,6 +313,12 @@ public final class PackedDecimal {
 	 * the sign nibble contains one of the negative sign codes, in which case the sign of the respective input Packed
 	 * Decimal is interpreted as negative.
 	 *
+	 * <p>
+	 * If <code>resultPrecision</code> is even, the high nibble of the first byte of the sum is not a digit
+	 * and is set to zero. A non-zero digit that does not fit in <code>resultPrecision</code> digits is lost, or causes
+	 * an <code>ArithmeticException</code> if <code>checkOverflow</code> is true. This holds for operands of any
+	 * precision.
+	 *
 	 * @param result
 	 *            byte array that will hold the sum of the two operand Packed Decimals
 	 * @param resultOffset
@@ -279,21 +351,8 @@ public final class PackedDecimal {
 			int resultPrecision, byte[] op1Decimal, int op1Offset,
 			int op1Precision, byte[] op2Decimal, int op2Offset,
 			int op2Precision, boolean checkOverflow) throws ArithmeticException {
-		if ((resultOffset + ((resultPrecision / 2) + 1) > result.length) || (resultOffset < 0))
-			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
-				"addPackedDecimal is trying to access result[" + resultOffset + "] to result[" + (resultOffset + (resultPrecision / 2)) + "]" +
-				" but valid indices are from 0 to " + (result.length - 1) + ".");
-
-		if ((op1Offset < 0)    || (op1Offset    + ((op1Precision    / 2) + 1) > op1Decimal.length))
-			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
-				"addPackedDecimal is trying to access op1Decimal[" + op1Offset + "] to op1Decimal[" + (op1Offset + (op1Precision / 2)) + "]" +
-				" but valid indices are from 0 to " + (op1Decimal.length - 1) + ".");
-
-		if ((op2Offset < 0)    || (op2Offset    + ((op2Precision    / 2) + 1) > op2Decimal.length))
-			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
-				"addPackedDecimal is trying to access op2Decimal[" + op2Offset + "] to op2Decimal[" + (op2Offset + (op2Precision / 2)) + "]" +
-				" but valid indices are from 0 to " + (op2Decimal.length - 1) + ".");
-
+		checkBinaryOpBounds("addPackedDecimal", result, resultOffset, resultPrecision,
+				op1Decimal, op1Offset, op1Precision, op2Decimal, op2Offset, op2Precision);
 		addPackedDecimal_(result, resultOffset, resultPrecision, op1Decimal, op1Offset,
 				op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
 	}
@@ -302,14 +361,14 @@ public final class PackedDecimal {
 			int resultPrecision, byte[] op1Decimal, int op1Offset,
 			int op1Precision, byte[] op2Decimal, int op2Offset,
 			int op2Precision, boolean checkOverflow) throws ArithmeticException {
-		// capture result type information
-		sum_threadLocal.get().setSumOperand(result, resultOffset,
-				resultPrecision);
-		// ignore leading zeros in operand values
-		op1_threadLocal.get().setOperand(op1Decimal, op1Offset, op1Precision);
-		op2_threadLocal.get().setOperand(op2Decimal, op2Offset, op2Precision);
-		// add values
-		computeValue(checkOverflow);
+		if (op1Precision <= MAX_NATIVE_PRECISION && op2Precision <= MAX_NATIVE_PRECISION) {
+			nativeAddOrSubtract(false, result, resultOffset, resultPrecision, op1Decimal,
+					op1Offset, op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+		} else {
+			addOrSubtract(new PackedDecimalOperand(), new PackedDecimalOperand(), new PackedDecimalOperand(),
+					null, false, result, resultOffset, resultPrecision, op1Decimal, op1Offset,
+					op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+		}
 	}
 
 	/**
@@ -317,6 +376,12 @@ public final class PackedDecimal {
 	 * unless the sign nibble contains one of the negative sign codes, in which case the sign of the respective input
 	 * Packed Decimal is interpreted as negative.
 	 *
+	 * <p>
+	 * If <code>resultPrecision</code> is even, the high nibble of the first byte of the difference is not a digit
+	 * and is set to zero. A non-zero digit that does not fit in <code>resultPrecision</code> digits is lost, or causes
+	 * an <code>ArithmeticException</code> if <code>checkOverflow</code> is true. This holds for operands of any
+	 * precision.
+	 *
 	 * @param result
 	 *            byte array that will hold the difference of the two operand Packed Decimals
 	 * @param resultOffset
@@ -349,48 +414,266 @@ public final class PackedDecimal {
 			int resultPrecision, byte[] op1Decimal, int op1Offset,
 			int op1Precision, byte[] op2Decimal, int op2Offset,
 			int op2Precision, boolean checkOverflow) throws ArithmeticException {
+		checkBinaryOpBounds("subtractPackedDecimal", result, resultOffset, resultPrecision,
+				op1Decimal, op1Offset, op1Precision, op2Decimal, op2Offset, op2Precision);
+		subtractPackedDecimal_(result, resultOffset, resultPrecision, op1Decimal, op1Offset,
+				op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+	}
+
+	private static void subtractPackedDecimal_(byte[] result, int resultOffset,
+			int resultPrecision, byte[] op1Decimal, int op1Offset,
+			int op1Precision, byte[] op2Decimal, int op2Offset,
+			int op2Precision, boolean checkOverflow) throws ArithmeticException {
+		if (op1Precision <= MAX_NATIVE_PRECISION && op2Precision <= MAX_NATIVE_PRECISION) {
+			nativeAddOrSubtract(true, result, resultOffset, resultPrecision, op1Decimal,
+					op1Offset, op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+		} else {
+			addOrSubtract(new PackedDecimalOperand(), new PackedDecimalOperand(), new PackedDecimalOperand(),
+					null, true, result, resultOffset, resultPrecision, op1Decimal, op1Offset,
+					op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Add two Packed Decimals in byte arrays, as {@link #addPackedDecimal(byte[], int, int, byte[], int, int, byte[],
+	 * int, int, boolean)}, reusing the working storage held by <code>context</code> for operands of more than 31
+	 * digits. A context must not be used by several threads at once.
+	 *
+	 * @param context
+	 *            the working storage to use
+	 *
+	 * @throws NullPointerException
+	 *             if <code>context</code> or any of the byte arrays are null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access occurs
+	 * @throws ArithmeticException
+	 *             if an overflow occurs during the computation of the sum
+	 * @see #addPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)
+	 */
+	public static void addPackedDecimal(PackedDecimalContext context, byte[] result, int resultOffset,
+			int resultPrecision, byte[] op1Decimal, int op1Offset,
+			int op1Precision, byte[] op2Decimal, int op2Offset,
+			int op2Precision, boolean checkOverflow) throws ArithmeticException {
+		if (op1Precision <= MAX_NATIVE_PRECISION && op2Precision <= MAX_NATIVE_PRECISION) {
+			context.getClass(); // null check
+			addPackedDecimal(result, resultOffset, resultPrecision, op1Decimal, op1Offset,
+					op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+		} else {
+			checkBinaryOpBounds("addPackedDecimal", result, resultOffset, resultPrecision,
+					op1Decimal, op1Offset, op1Precision, op2Decimal, op2Offset, op2Precision);
+			addOrSubtract(context.sum, context.op1, context.op2, context.scratch, false, result, resultOffset,
+					resultPrecision, op1Decimal, op1Offset, op1Precision, op2Decimal, op2Offset,
+					op2Precision, checkOverflow);
+		}
+	}
+
+	/**
+	 * Subtracts two Packed Decimals in byte arrays, as {@link #subtractPackedDecimal(byte[], int, int, byte[], int,
+	 * int, byte[], int, int, boolean)}, reusing the working storage held by <code>context</code> for operands of more
+	 * than 31 digits. A context must not be used by several threads at once.
+	 *
+	 * @param context
+	 *            the working storage to use
+	 *
+	 * @throws NullPointerException
+	 *             if <code>context</code> or any of the byte arrays are null
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if an invalid array access occurs
+	 * @throws ArithmeticException
+	 *             if an overflow occurs during the computation of the difference
+	 * @see #subtractPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)
+	 */
+	public static void subtractPackedDecimal(PackedDecimalContext context, byte[] result, int resultOffset,
+			int resultPrecision, byte[] op1Decimal, int op1Offset,
+			int op1Precision, byte[] op2Decimal, int op2Offset,
+			int op2Precision, boolean checkOverflow) throws ArithmeticException {
+		if (op1Precision <= MAX_NATIVE_PRECISION && op2Precision <= MAX_NATIVE_PRECISION) {
+			context.getClass(); // null check
+			subtractPackedDecimal(result, resultOffset, resultPrecision, op1Decimal, op1Offset,
+					op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
+		} else {
+			checkBinaryOpBounds("subtractPackedDecimal", result, resultOffset, resultPrecision,
+					op1Decimal, op1Offset, op1Precision, op2Decimal, op2Offset, op2Precision);
+			addOrSubtract(context.sum, context.op1, context.op2, context.scratch, true, result, resultOffset,
+					resultPrecision, op1Decimal, op1Offset, op1Precision, op2Decimal, op2Offset,
+					op2Precision, checkOverflow);
+		}
+	}
+
+	private static void checkBinaryOpBounds(String method, byte[] result, int resultOffset,
+			int resultPrecision, byte[] op1Decimal, int op1Offset,
+			int op1Precision, byte[] op2Decimal, int op2Offset,
+			int op2Precision) {
 		if ((resultOffset + ((resultPrecision / 2) + 1) > result.length) || (resultOffset < 0))
 			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
-				"subtractPackedDecimal is trying to access result[" + resultOffset + "] to result[" + (resultOffset + (resultPrecision / 2)) + "]" +
+				method + " is trying to access result[" + resultOffset + "] to result[" + (resultOffset + (resultPrecision / 2)) + "]" +
 				" but valid indices are from 0 to " + (result.length - 1) + ".");
 
 		if ((op1Offset < 0)    || (op1Offset    + ((op1Precision    / 2) + 1) > op1Decimal.length))
 			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
-				"subtractPackedDecimal is trying to access op1Decimal[" + op1Offset + "] to op1Decimal[" + (op1Offset + (op1Precision / 2)) + "]" +
+				method + " is trying to access op1Decimal[" + op1Offset + "] to op1Decimal[" + (op1Offset + (op1Precision / 2)) + "]" +
 				" but valid indices are from 0 to " + (op1Decimal.length - 1) + ".");
 
 		if ((op2Offset < 0)    || (op2Offset    + ((op2Precision    / 2) + 1) > op2Decimal.length))
 			throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
-				"subtractPackedDecimal is trying to access op2Decimal[" + op2Offset + "] to op2Decimal[" + (op2Offset + (op2Precision / 2)) + "]" +
+				method + " is trying to access op2Decimal[" + op2Offset + "] to op2Decimal[" + (op2Offset + (op2Precision / 2)) + "]" +
 				" but valid indices are from 0 to " + (op2Decimal.length - 1) + ".");
-
-		subtractPackedDecimal_(result, resultOffset, resultPrecision, op1Decimal, op1Offset,
-				op1Precision, op2Decimal, op2Offset, op2Precision, checkOverflow);
 	}
 
-	private static void subtractPackedDecimal_(byte[] result, int resultOffset,
+	/**
+	 * The length of the working storage for the sum of two operands of up to the maximum valid precision of 253
+	 * digits.
+	 */
+	static final int SUM_SCRATCH_LENGTH = 128;
+
+	/**
+	 * Adds or subtracts two Packed Decimals a byte at a time, using the given operands as working storage.
+	 * The byte at a time algorithm computes the sum in <code>scratch</code>, or in a new array if
+	 * <code>scratch</code> is null or too short, with enough digits that it cannot overflow. The sum is then
+	 * copied to the result, so that overflow and the high nibble of an even precision result are handled as
+	 * by nativeAddOrSubtract.
+	 */
+	private static void addOrSubtract(PackedDecimalOperand sum, PackedDecimalOperand op1,
+			PackedDecimalOperand op2, byte[] scratch, boolean subtract, byte[] result, int resultOffset,
 			int resultPrecision, byte[] op1Decimal, int op1Offset,
 			int op1Precision, byte[] op2Decimal, int op2Offset,
 			int op2Precision, boolean checkOverflow) throws ArithmeticException {
-
-		PackedDecimalOperand sum = sum_threadLocal.get();
-		PackedDecimalOperand op1 = op1_threadLocal.get();
-		PackedDecimalOperand op2 = op2_threadLocal.get();
-
+		// one digit more than the longer operand, and odd so that every nibble is a digit
+		int sumPrecision = (Math.max(op1Precision, op2Precision) + 1) | 1;
+		int sumLength = precisionToByteLength(sumPrecision);
+		if ((null == scratch) || (scratch.length < sumLength)) {
+			scratch = new byte[sumLength];
+		}
 		// capture result type information
-		sum.setSumOperand(result, resultOffset, resultPrecision);
+		sum.setSumOperand(scratch, 0, sumPrecision);
 		// ignore leading zeros in operand values
 		op1.setOperand(op1Decimal, op1Offset, op1Precision);
 		op2.setOperand(op2Decimal, op2Offset, op2Precision);
 		// change op2 sign for subtraction
-		if ((op2.sign & CommonData.LOWER_NIBBLE_MASK) == CommonData.PACKED_PLUS)
-			op2.sign = (op2.sign & CommonData.HIGHER_NIBBLE_MASK)
-					| CommonData.PACKED_MINUS;
-		else
-			op2.sign = (op2.sign & CommonData.HIGHER_NIBBLE_MASK)
-					| CommonData.PACKED_PLUS;
+		if (subtract) {
+			if ((op2.sign & CommonData.LOWER_NIBBLE_MASK) == CommonData.PACKED_PLUS)
+				op2.sign = (op2.sign & CommonData.HIGHER_NIBBLE_MASK)
+						| CommonData.PACKED_MINUS;
+			else
+				op2.sign = (op2.sign & CommonData.HIGHER_NIBBLE_MASK)
+						| CommonData.PACKED_PLUS;
+		}
 		// add values
-		computeValue(checkOverflow);
+		computeValue(sum, op1, op2, false);
+		copySum(scratch, sumLength, subtract, result, resultOffset, resultPrecision, checkOverflow);
+	}
+
+	/**
+	 * Copies a sum computed with enough digits that it cannot overflow to the result. Digits which do not fit in
+	 * the precision of the result are discarded, or cause an ArithmeticException if <code>checkOverflow</code> is
+	 * true.
+	 */
+	private static void copySum(byte[] sum, int sumLength, boolean subtract, byte[] result,
+			int resultOffset, int resultPrecision, boolean checkOverflow) {
+		int resultLength = precisionToByteLength(resultPrecision);
+		int endResult = resultOffset + resultLength - 1;
+		int copyLength = Math.min(sumLength, resultLength);
+		int copyStart = sumLength - copyLength;
+		boolean negative = sign(sum[sumLength - 1]) < 0;
+
+		if (checkOverflow) {
+			boolean overflow = (resultPrecision % 2 == 0) && (copyLength == resultLength)
+					&& ((sum[copyStart] & CommonData.HIGHER_NIBBLE_MASK) != 0);
+			for (int i = 0; !overflow && (i < copyStart); i++) {
+				overflow = (sum[i] != 0);
+			}
+			if (overflow) {
+				throw new ArithmeticException(subtract
+						? "Decimal overflow in subtractPackedDecimal"
+						: "Decimal overflow in addPackedDecimal");
+			}
+		}
+
+		Arrays.fill(result, resultOffset, endResult + 1 - copyLength, (byte) 0x00);
+		System.arraycopy(sum, copyStart, result, endResult + 1 - copyLength, copyLength);
+		if (resultPrecision % 2 == 0) {
+			result[resultOffset] &= CommonData.LOWER_NIBBLE_MASK;
+		}
+		result[endResult] = (byte) ((result[endResult] & CommonData.HIGHER_NIBBLE_MASK)
+				| (negative ? CommonData.PACKED_MINUS : CommonData.PACKED_PLUS));
+	}
+
+	/**
+	 * Adds or subtracts two Packed Decimals of at most MAX_NATIVE_PRECISION
+	 * digits in local variables, each operand read into a high part of up to
+	 * 13 digits and a low part of 18 digits. The result has the sign of the
+	 * operand with the larger magnitude, or is positive zero if the magnitudes
+	 * cancel out, as for the byte at a time algorithm.
+	 */
+	private static void nativeAddOrSubtract(boolean subtract, byte[] result,
+			int offsetResult, int precResult, byte[] op1, int op1Offset,
+			int precOp1, byte[] op2, int op2Offset, int precOp2,
+			boolean checkOverflow) {
+		int end1 = op1Offset + precisionToByteLength(precOp1) - 1;
+		int end2 = op2Offset + precisionToByteLength(precOp2) - 1;
+		int endResult = offsetResult + precisionToByteLength(precResult) - 1;
+
+		// the digits are not validated, as for the byte at a time algorithm
+		long low1 = getDigits(op1, end1, precOp1, 0, LONG_DIGITS, false);
+		long high1 = getDigits(op1, end1, precOp1, LONG_DIGITS, MAX_NATIVE_PRECISION, false);
+		long low2 = getDigits(op2, end2, precOp2, 0, LONG_DIGITS, false);
+		long high2 = getDigits(op2, end2, precOp2, LONG_DIGITS, MAX_NATIVE_PRECISION, false);
+
+		boolean negative1 = sign(op1[end1]) < 0;
+		boolean negative2 = (sign(op2[end2]) < 0) != subtract;
+		boolean negative;
+		long low;
+		long high;
+
+		if (negative1 == negative2) {
+			negative = negative1;
+			low = low1 + low2;
+			high = high1 + high2;
+			if (low >= TEN_TO_18) {
+				low -= TEN_TO_18;
+				high += 1;
+			}
+		} else {
+			int compare = (high1 != high2) ? Long.compare(high1, high2) : Long.compare(low1, low2);
+			if (compare == 0) {
+				setPackedZero(result, offsetResult, precResult);
+				return;
+			} else if (compare > 0) {
+				negative = negative1;
+				low = low1 - low2;
+				high = high1 - high2;
+			} else {
+				negative = negative2;
+				low = low2 - low1;
+				high = high2 - high1;
+			}
+			if (low < 0) {
+				low += TEN_TO_18;
+				high -= 1;
+			}
+		}
+
+		if (checkOverflow && digitCount(high, low) > precResult) {
+			throw new ArithmeticException(subtract
+					? "Decimal overflow in subtractPackedDecimal"
+					: "Decimal overflow in addPackedDecimal");
+		}
+
+		clearResult(result, offsetResult, endResult, negative);
+		putDigits(result, endResult, precResult, 0, low, false);
+		putDigits(result, endResult, precResult, LONG_DIGITS, high, false);
+	}
+
+	/**
+	 * Returns the number of significant digits of a value held as a high part
+	 * and a low part of 18 digits.
+	 */
+	private static int digitCount(long high, long low) {
+		int count = (high != 0) ? LONG_DIGITS : 0;
+		for (long value = (high != 0) ? high : low; value != 0; value /= 10) {
+			count++;
+		}
+		return count;
 	}
 
 	/**
@@ -414,11 +697,9 @@ public final class PackedDecimal {
 		byteArray[offset + byteLen - 1] = CommonData.PACKED_PLUS;
 	}
 
-	private static void computeSum(PackedDecimalOperand op1,
-			PackedDecimalOperand op2, boolean checkOverflow)
-			throws ArithmeticException {
-
-		PackedDecimalOperand sum = sum_threadLocal.get();
+	private static void computeSum(PackedDecimalOperand sum,
+			PackedDecimalOperand op1, PackedDecimalOperand op2,
+			boolean checkOverflow) throws ArithmeticException {
 
 		boolean carry;// add op2 sign digit to op1 sign digit
 		sum.indexValue = ((op1.signDigit + op2.signDigit) << 1) & 0x3FF;
@@ -485,14 +766,12 @@ public final class PackedDecimal {
 			sum.currentOffset -= 1;
 		}
 		// copy any remaining digits
-		copyRemainingDigits(op1, op2, checkOverflow);
+		copyRemainingDigits(sum, op1, op2, checkOverflow);
 	}
 
-	private static void computeDifference(PackedDecimalOperand op1,
-			PackedDecimalOperand op2, boolean checkOverflow)
-			throws ArithmeticException {
-
-		PackedDecimalOperand sum = sum_threadLocal.get();
+	private static void computeDifference(PackedDecimalOperand sum,
+			PackedDecimalOperand op1, PackedDecimalOperand op2,
+			boolean checkOverflow) throws ArithmeticException {
 
 		boolean borrow;
 		// compute difference from sign byte
@@ -544,31 +823,28 @@ public final class PackedDecimal {
 				sum.byteArray[sum.currentOffset] = (byte) (sum.byteValue);
 		}
 
-		copyRemainingDigits(op1, op2, checkOverflow);
+		copyRemainingDigits(sum, op1, op2, checkOverflow);
 	}
 
-	private static void computeValue(boolean checkOverflow)
-			throws ArithmeticException {
-
-		PackedDecimalOperand sum = sum_threadLocal.get();
-		PackedDecimalOperand op1 = op1_threadLocal.get();
-		PackedDecimalOperand op2 = op2_threadLocal.get();
+	private static void computeValue(PackedDecimalOperand sum,
+			PackedDecimalOperand op1, PackedDecimalOperand op2,
+			boolean checkOverflow) throws ArithmeticException {
 
 		if ((op1.sign & CommonData.LOWER_NIBBLE_MASK) == (op2.sign & CommonData.LOWER_NIBBLE_MASK)) {
 			// signs are same, compute sum of values
 			// add less bytes to more bytes
 			if (op1.bytes < op2.bytes)
-				computeSum(op2, op1, checkOverflow);
+				computeSum(sum, op2, op1, checkOverflow);
 			else
-				computeSum(op1, op2, checkOverflow);
+				computeSum(sum, op1, op2, checkOverflow);
 		} else { // signs are different, compute difference of values
 				 // subtract smaller value from larger value so we will always
 				 // have one to borrow
 			if (op1.bytes < op2.bytes)
-				computeDifference(op2, op1, checkOverflow); // op2 has more
+				computeDifference(sum, op2, op1, checkOverflow); // op2 has more
 															// non-zero bytes
 			else if (op1.bytes > op2.bytes)
-				computeDifference(op1, op2, checkOverflow); // op2 has more
+				computeDifference(sum, op1, op2, checkOverflow); // op2 has more
 															// non-zero bytes
 			else {
 				// compare values to find which is larger.
@@ -592,25 +868,42 @@ public final class PackedDecimal {
 					}
 				}
 				if ((op1.byteValue & CommonData.INTEGER_MASK) > (op2.byteValue & CommonData.INTEGER_MASK))
-					computeDifference(op1, op2, checkOverflow);
+					computeDifference(sum, op1, op2, checkOverflow);
 				else
-					computeDifference(op2, op1, checkOverflow);
+					computeDifference(sum, op2, op1, checkOverflow);
 			}
 		}
 	}
 
-	// The implementations of multiply, divide and remainder are based on
-	// BigDecimal
-	// for simplicity and also because it has been shown that they have
-	// acceptable performance.
+	// Multiply, divide and remainder work directly on the binary value of
+	// operands of up to MAX_NATIVE_PRECISION digits, without allocating.
+	// Larger operands are handled with BigInteger.
 
 	private static final int MULTIPLY = 1, DIVIDE = 2, REMAINDER = 3;
 
+	/**
+	 * The largest operand precision handled without BigInteger. Such an operand
+	 * is held as two longs of up to 13 and 18 digits respectively.
+	 */
+	private static final int MAX_NATIVE_PRECISION = 31;
+
+	private static final int LONG_DIGITS = 18;
+	private static final long TEN_TO_18 = 1000000000000000000L;
+	private static final long LIMB_BASE = 1000000000L;
+	private static final int LIMB_DIGITS = 9;
+	private static final long INT_MASK = 0xFFFFFFFFL;
+
 	/**
 	 * Multiplies two Packed Decimals in byte arrays. The sign of an input Packed Decimal is assumed to be positive
 	 * unless the sign nibble contains one of the negative sign codes, in which case the sign of the respective input
 	 * Packed Decimal is interpreted as negative.
 	 *
+	 * <p>
+	 * If <code>resultPrecision</code> is even, the high nibble of the first byte of the product is not a digit
+	 * and is set to zero. A non-zero digit that does not fit in <code>resultPrecision</code> digits is lost, or causes
+	 * an <code>ArithmeticException</code> if <code>checkOverflow</code> is true. The high nibble of the first byte of
+	 * an operand with even precision is ignored, and is set to zero in the operand array.
+	 *
 	 * @param result
 	 *            byte array that will hold the product Packed Decimal
 	 * @param resultOffset
@@ -682,6 +975,12 @@ public final class PackedDecimal {
 	 * unless the sign nibble contains one of the negative sign codes, in which case the sign of the respective input
 	 * Packed Decimal is interpreted as negative.
 	 *
+	 * <p>
+	 * If <code>resultPrecision</code> is even, the high nibble of the first byte of the quotient is not a digit
+	 * and is set to zero. A non-zero digit that does not fit in <code>resultPrecision</code> digits is lost, or causes
+	 * an <code>ArithmeticException</code> if <code>checkOverflow</code> is true. The high nibble of the first byte of
+	 * an operand with even precision is ignored, and is set to zero in the operand array.
+	 *
 	 * @param result
 	 *            byte array that will hold the quotient Packed Decimal
 	 * @param resultOffset
@@ -752,6 +1051,12 @@ public final class PackedDecimal {
 	 * Packed Decimal is assumed to be positive unless the sign nibble contains one of the negative sign codes, in
 	 * which case the sign of the respective input Packed Decimal is interpreted as negative.
 	 *
+	 * <p>
+	 * If <code>resultPrecision</code> is even, the high nibble of the first byte of the remainder is not a digit
+	 * and is set to zero. A non-zero digit that does not fit in <code>resultPrecision</code> digits is lost, or causes
+	 * an <code>ArithmeticException</code> if <code>checkOverflow</code> is true. The high nibble of the first byte of
+	 * an operand with even precision is ignored, and is set to zero in the operand array.
+	 *
 	 * @param result
 	 *            byte array that will hold the remainder Packed Decimal
 	 * @param resultOffset
@@ -831,10 +1136,10 @@ public final class PackedDecimal {
 		return new BigInteger(sb.toString());
 	}
 
-	private static void putBigInteger(byte[] pd, int offset, int length,
+	private static void putBigInteger(byte[] pd, int offset, int prec,
 			BigInteger bigInt, boolean checkOverflow)
 			throws ArithmeticException {
-		int end = offset + length - 1;
+		int end = offset + precisionToByteLength(prec) - 1;
 
 		// could use abs(), but want to avoid creating another BigInteger object
 		char[] chars = bigInt.toString().toCharArray();
@@ -856,7 +1161,16 @@ public final class PackedDecimal {
 			pd[end--] = b;
 		}
 
-		if (checkOverflow && charEnd < charStart) {
+		// the top nibble of an even precision result is not a digit
+		if (prec % 2 == 0) {
+			if (checkOverflow && (pd[offset] & CommonData.HIGHER_NIBBLE_MASK) != 0) {
+				throw new ArithmeticException(
+						"Packed Decimal overflow during multiplication/division, non-zero digits lost");
+			}
+			pd[offset] &= CommonData.LOWER_NIBBLE_MASK;
+		}
+
+		if (checkOverflow && charEnd >= charStart) {
 			while (charEnd >= charStart) {
 				if (chars[charEnd--] != '0') {
 					throw new ArithmeticException(
@@ -879,46 +1193,13 @@ public final class PackedDecimal {
 		zeroTopNibbleIfEven(op1, op1Offset, precOp1);
 		zeroTopNibbleIfEven(op2, op2Offset, precOp2);
 
-		// check for long
-		switch (op) {
-		case MULTIPLY:
-			if (precOp1 + precOp2 <= 18 && precResult <= 18) {
-				long op1long = DecimalData.convertPackedDecimalToLong(op1,
-						op1Offset, precOp1, checkOverflow);
-				long op2long = DecimalData.convertPackedDecimalToLong(op2,
-						op2Offset, precOp2, checkOverflow);
-				long resultLong = op1long * op2long;
-				DecimalData.convertLongToPackedDecimal(resultLong, result,
-						offsetResult, precResult, checkOverflow);
-				if (resultLong == 0)
-					forceSign(result, offsetResult, precResult, op1, op1Offset,
-							precOp1, op2, op2Offset, precOp2);
-				return;
-			}
-			break;
-		case DIVIDE:
-		case REMAINDER:
-			if (precOp1 <= 18 && precOp2 <= 18 && precResult <= 18) {
-				long op1long = DecimalData.convertPackedDecimalToLong(op1,
-						op1Offset, precOp1, checkOverflow);
-				long op2long = DecimalData.convertPackedDecimalToLong(op2,
-						op2Offset, precOp2, checkOverflow);
-				long resultLong;
-				if (op == DIVIDE)
-					resultLong = op1long / op2long;
-				else
-					resultLong = op1long % op2long;
-				DecimalData.convertLongToPackedDecimal(resultLong, result,
-						offsetResult, precResult, checkOverflow);
-				if (resultLong == 0)
-					forceSign(result, offsetResult, precResult, op1, op1Offset,
-							precOp1, op2, op2Offset, precOp2);
-				return;
-			}
-			break;
+		if (precOp1 <= MAX_NATIVE_PRECISION && precOp2 <= MAX_NATIVE_PRECISION) {
+			nativeBinaryOp(op, result, offsetResult, precResult, op1,
+					op1Offset, precOp1, op2, op2Offset, precOp2, checkOverflow);
+			return;
 		}
 
-		// long is too small
+		// two longs are too small
 		BigInteger op1BigInt;
 		BigInteger op2BigInt;
 		try {
@@ -946,8 +1227,8 @@ public final class PackedDecimal {
 			break;
 		}
 
-		putBigInteger(result, offsetResult, precisionToByteLength(precResult),
-				resultBigInt, checkOverflow);
+		putBigInteger(result, offsetResult, precResult, resultBigInt,
+				checkOverflow);
 
 		// force the sign because BigInteger will never produce negative zero
 		if (BigInteger.ZERO.equals(resultBigInt)) {
@@ -956,6 +1237,244 @@ public final class PackedDecimal {
 		}
 	}
 
+	/**
+	 * Multiply, divide or take the remainder of two Packed Decimals of at most
+	 * MAX_NATIVE_PRECISION digits. Each operand is read into a high part of up
+	 * to 13 digits and a low part of 18 digits; results which fit in a long are
+	 * computed directly, products are formed from base 10^9 limbs and other
+	 * quotients and remainders by 128-bit binary division.
+	 */
+	private static void nativeBinaryOp(int op, byte[] result,
+			int offsetResult, int precResult, byte[] op1, int op1Offset,
+			int precOp1, byte[] op2, int op2Offset, int precOp2,
+			boolean checkOverflow) {
+		int end1 = op1Offset + precisionToByteLength(precOp1) - 1;
+		int end2 = op2Offset + precisionToByteLength(precOp2) - 1;
+		int endResult = offsetResult + precisionToByteLength(precResult) - 1;
+
+		long low1 = getDigits(op1, end1, precOp1, 0, LONG_DIGITS, checkOverflow);
+		long high1 = getDigits(op1, end1, precOp1, LONG_DIGITS, MAX_NATIVE_PRECISION, checkOverflow);
+		long low2 = getDigits(op2, end2, precOp2, 0, LONG_DIGITS, checkOverflow);
+		long high2 = getDigits(op2, end2, precOp2, LONG_DIGITS, MAX_NATIVE_PRECISION, checkOverflow);
+
+		boolean negative1 = sign(op1[end1]) < 0;
+		boolean negative2 = sign(op2[end2]) < 0;
+		boolean zero;
+
+		if (op == MULTIPLY) {
+			zero = ((high1 | low1) == 0) || ((high2 | low2) == 0);
+			clearResult(result, offsetResult, endResult, negative1 != negative2);
+			if ((high1 | high2) == 0 && multiplyHighUnsigned(low1, low2) == 0 && (low1 * low2) >= 0) {
+				putDigits(result, endResult, precResult, 0, low1 * low2, checkOverflow);
+			} else {
+				multiplyDigits(result, endResult, precResult, high1, low1, high2, low2, checkOverflow);
+			}
+		} else {
+			if ((high2 | low2) == 0) {
+				throw new ArithmeticException("Packed Decimal division by zero");
+			}
+			clearResult(result, offsetResult, endResult,
+					(op == DIVIDE) ? (negative1 != negative2) : negative1);
+			if ((high1 | high2) == 0) {
+				long value = (op == DIVIDE) ? (low1 / low2) : (low1 % low2);
+				zero = value == 0;
+				putDigits(result, endResult, precResult, 0, value, checkOverflow);
+			} else {
+				zero = divideDigits(op, result, endResult, precResult, high1, low1, high2, low2, checkOverflow);
+			}
+		}
+
+		// as in forceSign(), but the result may overlay an operand so use the signs read earlier
+		if (zero) {
+			result[endResult] = (byte) ((result[endResult] & CommonData.HIGHER_NIBBLE_MASK)
+					| ((negative1 != negative2) ? CommonData.PACKED_MINUS : CommonData.PACKED_PLUS));
+		}
+	}
+
+	/**
+	 * Returns the value of the digits of a Packed Decimal from digit position
+	 * <code>from</code> up to but excluding <code>to</code>, where the units
+	 * digit is at position 0. At most 18 digits can be read.
+	 */
+	private static long getDigits(byte[] pd, int end, int prec, int from,
+			int to, boolean checkOverflow) {
+		long value = 0;
+		for (int digit = Math.min(to, prec) - 1; digit >= from; digit--) {
+			int b = pd[end - ((digit + 1) >> 1)] & CommonData.INTEGER_MASK;
+			if ((digit & 1) == 0 && digit > from) {
+				// a high nibble, and the low nibble of the same byte is also wanted
+				if (checkOverflow && ((b & CommonData.HIGHER_NIBBLE_MASK) > 0x90 || (b & CommonData.LOWER_NIBBLE_MASK) > 9)) {
+					throw new IllegalArgumentException("Invalid packed data value");
+				}
+				value = value * 100 + CommonData.getPackedToBinaryValues(b);
+				digit--;
+			} else {
+				int nibble = ((digit & 1) == 0) ? (b >> 4) : (b & CommonData.LOWER_NIBBLE_MASK);
+				if (checkOverflow && nibble > 9) {
+					throw new IllegalArgumentException("Invalid packed data value");
+				}
+				value = value * 10 + nibble;
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Zeroes the digits of the result and sets its sign.
+	 */
+	private static void clearResult(byte[] result, int offsetResult,
+			int endResult, boolean negative) {
+		Arrays.fill(result, offsetResult, endResult, (byte) 0x00);
+		result[endResult] = negative ? CommonData.PACKED_MINUS : CommonData.PACKED_PLUS;
+	}
+
+	/**
+	 * Stores the digits of a non-negative value into a cleared result, starting
+	 * at digit position <code>digit</code>. Digits which do not fit in the
+	 * precision of the result are discarded, or cause an ArithmeticException if
+	 * <code>checkOverflow</code> is true.
+	 */
+	private static void putDigits(byte[] result, int endResult,
+			int precResult, int digit, long value, boolean checkOverflow) {
+		for (; value != 0; digit++) {
+			if (digit >= precResult) {
+				if (checkOverflow) {
+					throw new ArithmeticException(
+							"Packed Decimal overflow during multiplication/division, non-zero digits lost");
+				}
+				return;
+			}
+			if ((digit & 1) != 0 && digit + 1 < precResult) {
+				// a low nibble, and the high nibble of the same byte is also in the result
+				result[endResult - ((digit + 1) >> 1)] |= CommonData.getBinaryToPackedValues((int) (value % 100));
+				value = value / 100;
+				digit++;
+			} else {
+				int nibble = (int) (value % 10);
+				value = value / 10;
+				if ((digit & 1) == 0) {
+					result[endResult - (digit >> 1)] |= (byte) (nibble << 4);
+				} else {
+					result[endResult - ((digit + 1) >> 1)] |= (byte) nibble;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stores the product of two values of up to 31 digits into a cleared result.
+	 * Each value is split into four base 10^9 limbs, the top one below 10^4, so
+	 * that no column of the product overflows a long.
+	 */
+	private static void multiplyDigits(byte[] result, int endResult,
+			int precResult, long high1, long low1, long high2, long low2,
+			boolean checkOverflow) {
+		long a0 = low1 % LIMB_BASE, a1 = low1 / LIMB_BASE, a2 = high1 % LIMB_BASE, a3 = high1 / LIMB_BASE;
+		long b0 = low2 % LIMB_BASE, b1 = low2 / LIMB_BASE, b2 = high2 % LIMB_BASE, b3 = high2 / LIMB_BASE;
+		long column;
+
+		column = a0 * b0;
+		putDigits(result, endResult, precResult, 0, column % LIMB_BASE, checkOverflow);
+		column = column / LIMB_BASE + a0 * b1 + a1 * b0;
+		putDigits(result, endResult, precResult, LIMB_DIGITS, column % LIMB_BASE, checkOverflow);
+		column = column / LIMB_BASE + a0 * b2 + a1 * b1 + a2 * b0;
+		putDigits(result, endResult, precResult, 2 * LIMB_DIGITS, column % LIMB_BASE, checkOverflow);
+		column = column / LIMB_BASE + a0 * b3 + a1 * b2 + a2 * b1 + a3 * b0;
+		putDigits(result, endResult, precResult, 3 * LIMB_DIGITS, column % LIMB_BASE, checkOverflow);
+		column = column / LIMB_BASE + a1 * b3 + a2 * b2 + a3 * b1;
+		putDigits(result, endResult, precResult, 4 * LIMB_DIGITS, column % LIMB_BASE, checkOverflow);
+		column = column / LIMB_BASE + a2 * b3 + a3 * b2;
+		putDigits(result, endResult, precResult, 5 * LIMB_DIGITS, column % LIMB_BASE, checkOverflow);
+		column = column / LIMB_BASE + a3 * b3;
+		putDigits(result, endResult, precResult, 6 * LIMB_DIGITS, column, checkOverflow);
+	}
+
+	/**
+	 * Stores the quotient or remainder of two values of up to 31 digits into a
+	 * cleared result. The values are converted to 128-bit binary, divided by
+	 * shift and subtract, and the result converted back a limb at a time.
+	 *
+	 * @return true if the quotient or remainder is zero
+	 */
+	private static boolean divideDigits(int op, byte[] result, int endResult,
+			int precResult, long high1, long low1, long high2, long low2,
+			boolean checkOverflow) {
+		// dividend and divisor as unsigned 128-bit values, both below 2^104
+		long nHigh = multiplyHighUnsigned(high1, TEN_TO_18);
+		long nLow = high1 * TEN_TO_18;
+		nLow += low1;
+		if (Long.compareUnsigned(nLow, low1) < 0) {
+			nHigh += 1;
+		}
+		long dHigh = multiplyHighUnsigned(high2, TEN_TO_18);
+		long dLow = high2 * TEN_TO_18;
+		dLow += low2;
+		if (Long.compareUnsigned(dLow, low2) < 0) {
+			dHigh += 1;
+		}
+
+		long qHigh = 0, qLow = 0;
+		int shift = numberOfLeadingZeros(dHigh, dLow) - numberOfLeadingZeros(nHigh, nLow);
+		if (shift >= 0) {
+			if (shift >= 64) {
+				dHigh = dLow << (shift - 64);
+				dLow = 0;
+			} else if (shift > 0) {
+				dHigh = (dHigh << shift) | (dLow >>> (64 - shift));
+				dLow = dLow << shift;
+			}
+			for (int i = shift; i >= 0; i--) {
+				qHigh = (qHigh << 1) | (qLow >>> 63);
+				qLow = qLow << 1;
+				if (nHigh > dHigh || (nHigh == dHigh && Long.compareUnsigned(nLow, dLow) >= 0)) {
+					nHigh = nHigh - dHigh - (Long.compareUnsigned(nLow, dLow) < 0 ? 1 : 0);
+					nLow = nLow - dLow;
+					qLow |= 1;
+				}
+				dLow = (dLow >>> 1) | (dHigh << 63);
+				dHigh = dHigh >>> 1;
+			}
+		}
+
+		// the remainder is left in n
+		long valueHigh = (op == DIVIDE) ? qHigh : nHigh;
+		long valueLow = (op == DIVIDE) ? qLow : nLow;
+		if (valueHigh == 0 && valueLow >= 0) {
+			putDigits(result, endResult, precResult, 0, valueLow, checkOverflow);
+			return valueLow == 0;
+		}
+
+		// divide by 10^9 in 32-bit pieces, emitting one limb at a time
+		long c3 = valueHigh >>> 32, c2 = valueHigh & INT_MASK, c1 = valueLow >>> 32, c0 = valueLow & INT_MASK;
+		for (int digit = 0; (c3 | c2 | c1 | c0) != 0; digit += LIMB_DIGITS) {
+			long rem = c3 % LIMB_BASE;
+			c3 = c3 / LIMB_BASE;
+			long piece = (rem << 32) | c2;
+			c2 = piece / LIMB_BASE;
+			piece = ((piece % LIMB_BASE) << 32) | c1;
+			c1 = piece / LIMB_BASE;
+			piece = ((piece % LIMB_BASE) << 32) | c0;
+			c0 = piece / LIMB_BASE;
+			putDigits(result, endResult, precResult, digit, piece % LIMB_BASE, checkOverflow);
+		}
+		return false;
+	}
+
+	private static int numberOfLeadingZeros(long high, long low) {
+		return (high != 0) ? Long.numberOfLeadingZeros(high) : 64 + Long.numberOfLeadingZeros(low);
+	}
+
+	/**
+	 * Returns the high 64 bits of the unsigned 128-bit product of x and y.
+	 */
+	private static long multiplyHighUnsigned(long x, long y) {
+		long x1 = x >>> 32, x0 = x & INT_MASK;
+		long y1 = y >>> 32, y0 = y & INT_MASK;
+		long t = x1 * y0 + ((x0 * y0) >>> 32);
+		long w1 = x0 * y1 + (t & INT_MASK);
+		return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+	}
+
 	/**
 	 * Using BigInteger or long will never produce negative zero, so we need to
 	 * make sure to set the correct sign code.
@@ -1986,7 +2505,7 @@ public final class PackedDecimal {
 						sourcePrecision, 0, checkOverflow);
 	}
 
-	private static class PackedDecimalOperand {
+	static final class PackedDecimalOperand {
 
 		PackedDecimalOperand() {
 			super();
@@ -0,0 +1,56 @@
+/*[INCLUDE-IF DAA]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dataaccess;
+
+/**
+ * Reusable working storage for Packed Decimal addition and subtraction.
+ *
+ * <p>
+ * Operands of up to 31 digits are added and subtracted without any working
+ * storage. Longer operands are added a byte at a time, and the state of that
+ * algorithm is kept in a context, so that a caller performing many operations
+ * can allocate it once rather than on every call. A context is typically owned
+ * by a single task or thread.
+ * </p>
+ *
+ * <p>
+ * A context is not thread-safe: it must not be used by several threads at once.
+ * </p>
+ *
+ * @see PackedDecimal#addPackedDecimal(PackedDecimalContext, byte[], int, int, byte[], int, int, byte[], int, int, boolean)
+ * @see PackedDecimal#subtractPackedDecimal(PackedDecimalContext, byte[], int, int, byte[], int, int, byte[], int, int, boolean)
+ */
+public final class PackedDecimalContext {
+
+	final PackedDecimal.PackedDecimalOperand sum = new PackedDecimal.PackedDecimalOperand();
+	final PackedDecimal.PackedDecimalOperand op1 = new PackedDecimal.PackedDecimalOperand();
+	final PackedDecimal.PackedDecimalOperand op2 = new PackedDecimal.PackedDecimalOperand();
+	final byte[] scratch = new byte[PackedDecimal.SUM_SCRATCH_LENGTH];
+
+	/**
+	 * Creates a new context.
+	 */
+	public PackedDecimalContext() {
+		super();
+	}
+}
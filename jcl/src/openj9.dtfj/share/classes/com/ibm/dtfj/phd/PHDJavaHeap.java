@@ -26,13 +26,18 @@ import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.imageio.stream.ImageInputStream;
 
@@ -44,9 +49,11 @@ import com.ibm.dtfj.image.ImageSection;
 import com.ibm.dtfj.java.JavaClass;
 import com.ibm.dtfj.java.JavaHeap;
 import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.phd.parser.HeapdumpIndex;
 import com.ibm.dtfj.phd.parser.HeapdumpReader;
 import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
 import com.ibm.dtfj.phd.util.LongEnumeration;
+import com.ibm.dtfj.phd.util.LongLongMap;
 
 /**
  * @author ajohnson
@@ -70,6 +77,13 @@ class PHDJavaHeap implements JavaHeap {
 	private boolean doneScan;
 	private boolean lastSegment;
 
+	/** The chunk index of an uncompressed heapdump file, built or loaded on first use */
+	private HeapdumpIndex index;
+	/** Set if no index is available, so the heap has to be read sequentially */
+	private boolean noIndex;
+	/** The objects of each indexed chunk, keyed by the number of the first object in the chunk */
+	private final Map<Integer,IndexedSegment> indexedCache = new HashMap<Integer,IndexedSegment>();
+
 	PHDJavaHeap(ImageInputStream stream, final PHDImage parentImage, ImageAddressSpace space, PHDJavaRuntime runtime) throws IOException {
 		this.image = parentImage;
 		this.space = space;
@@ -109,7 +123,7 @@ class PHDJavaHeap implements JavaHeap {
 				int count[] = new int[1];
 				int prev;
 				// Initial chunk
-				Iterator<JavaObject> it = getObjectsViaCache(STEP, count, false).values().iterator();
+				Iterator<JavaObject> it = getObjectsViaCache(STEP, count, false).iterator();
 				public boolean hasNext() {
 					if (it == null) {
 						return false;
@@ -121,7 +135,7 @@ class PHDJavaHeap implements JavaHeap {
 						boolean withRefs = withRefs(prev);
 						prev = count[0];
 						try {
-							it = getObjectsViaCache(STEP, count, withRefs).values().iterator();
+							it = getObjectsViaCache(STEP, count, withRefs).iterator();
 						} catch (IOException e) {
 							return false;
 						}
@@ -150,72 +164,39 @@ class PHDJavaHeap implements JavaHeap {
 	}
 
 	/**
-	 * Used to index objects from addresses.
-	 * Subclasses of this can be a bit smaller than a Long - perhaps 16 bytes, not 24.
-	 *
+	 * The objects from part of the heap in file order, indexed by address.
+	 * The addresses are held in primitive arrays to avoid an object per entry.
 	 */
-	static abstract class AddressKey {
-		abstract long value(PHDJavaHeap jh);
-		/**
-		 * Factory to create an AddressKey
-		 * @param jh The PHDJavaHeap
-		 * @param addr The address to compress
-		 * @return
-		 */
-		static AddressKey getAddress(PHDJavaHeap jh, long addr)
-		{
-			// It is not safe to not compress on creating of HashMap entry key,
-			// but to compress on retrieval as then the key is different and will not match
-			if (jh.runtime.noCompress())
-				throw new IllegalStateException("Unable to compress addresses");
-			int iv = jh.runtime.compressAddress(addr);
-			long addr2 = jh.runtime.expandAddress(iv);
-			if (addr == addr2)
-				return new IntAddressKey(iv);
-			else
-				return new LongAddressKey(addr);
-		}
-	}
-
-	private final static class IntAddressKey extends AddressKey {
-		final int val;
-
-		private IntAddressKey(int v) {
-			val = v;
-		}
-
-		long value(PHDJavaHeap jh) {
-			return jh.runtime.expandAddress(val);
-		}
-
-		public int hashCode() {
-			return val;
-		}
-
-		public boolean equals(Object o) {
-			if (this == o) return true;
-			return o instanceof IntAddressKey && val == ((IntAddressKey)o).val ;
+	static final class HeapObjects implements Iterable<JavaObject> {
+		private final ArrayList<JavaObject> objects = new ArrayList<JavaObject>();
+		/** Position of each object in the list */
+		private final LongLongMap positions = new LongLongMap();
+
+		void put(long address, JavaObject jo) {
+			long pos = positions.get(address, -1);
+			if (pos >= 0) {
+				objects.set((int)pos, jo);
+			} else {
+				positions.put(address, objects.size());
+				objects.add(jo);
+			}
 		}
-	}
 
-	private final static class LongAddressKey extends AddressKey {
-		final long val;
-
-		private LongAddressKey(long v) {
-			val = v;
+		JavaObject get(long address) {
+			long pos = positions.get(address, -1);
+			return pos >= 0 ? objects.get((int)pos) : null;
 		}
 
-		long value(PHDJavaHeap jh) {
-			return val;
+		int size() {
+			return objects.size();
 		}
 
-		public int hashCode() {
-			return (int)val^(int)(val>>>32);
+		boolean isEmpty() {
+			return objects.isEmpty();
 		}
 
-		public boolean equals(Object o) {
-			if (this == o) return true;
-			return o instanceof LongAddressKey && val == ((LongAddressKey)o).val;
+		public Iterator<JavaObject> iterator() {
+			return Collections.unmodifiableList(objects).iterator();
 		}
 	}
 
@@ -234,7 +215,7 @@ class PHDJavaHeap implements JavaHeap {
 		/** The number in the heap of the next object after the objects in the chunk. Used to find the next chunk */
 		final int nextIndex;
 		/** The actual JavaObjects, held via a SoftReference to avoid OutOfMemoryErrors */
-		SoftReference<Map<AddressKey,JavaObject>> objects;
+		SoftReference<HeapObjects> objects;
 		/** Whether the JavaObjects have references available */
 		boolean withRefs;
 		/** Smallest address - used to find if a JavaObject at a particular address might be in this chunk. */
@@ -249,12 +230,12 @@ class PHDJavaHeap implements JavaHeap {
 		 * @param objs
 		 * @param withRefs
 		 */
-		CacheHeapSegment(int index, int size, int nextIndex, Map<AddressKey,JavaObject> objs, boolean withRefs) {
-			objects = new SoftReference<Map<AddressKey,JavaObject>>(objs);
+		CacheHeapSegment(int index, int size, int nextIndex, HeapObjects objs, boolean withRefs) {
+			objects = new SoftReference<HeapObjects>(objs);
 			// Find the maximum and minimum addresses
 			long max = Long.MIN_VALUE;
 			long min = Long.MAX_VALUE;
-			for (JavaObject jo : objs.values()) {
+			for (JavaObject jo : objs) {
 				if (jo instanceof CorruptData) continue;
 				long addr = jo.getID().getAddress();
 				max = Math.max(max, addr);
@@ -336,11 +317,11 @@ class PHDJavaHeap implements JavaHeap {
 	 * @return
 	 * @throws IOException
 	 */
-	Map<AddressKey,JavaObject> getObjectsViaCache(final int size, final int next[], boolean withRefs) throws IOException {
+	HeapObjects getObjectsViaCache(final int size, final int next[], boolean withRefs) throws IOException {
 		int index = next[0];
 		CacheHeapSegment seg = cache.get(next[0]);
-		SoftReference<Map<AddressKey,JavaObject>> sr;
-		Map<AddressKey,JavaObject> objects;
+		SoftReference<HeapObjects> sr;
+		HeapObjects objects;
 		// If no chunk, or the chunk data has been cleared, or if the chunk doesn't have references for the JavaObjects
 		// and we need the refs, create the chunk data
 		if (seg == null || (sr = seg.objects) == null || (objects = sr.get()) == null || withRefs && !seg.withRefs) {
@@ -351,7 +332,7 @@ class PHDJavaHeap implements JavaHeap {
 				cache.put(index, seg);
 			} else {
 				// Just replace the soft reference
-				sr = new SoftReference<Map<AddressKey,JavaObject>>(objects);
+				sr = new SoftReference<HeapObjects>(objects);
 				seg.objects = sr;
 			}
 		} else {
@@ -386,9 +367,9 @@ class PHDJavaHeap implements JavaHeap {
 	 * @param next Start at object count[0], update count[0] to position after last object in iterator
 	 * @return
 	 */
-	Map<AddressKey,JavaObject> getObjects(final int maxsize, final int next[], final boolean withRefs) throws IOException {
+	HeapObjects getObjects(final int maxsize, final int next[], final boolean withRefs) throws IOException {
 		if (LOG) System.err.println("GetObjects "+next[0]+" "+withRefs);
-		final Map<AddressKey,JavaObject> objects = new LinkedHashMap<AddressKey,JavaObject>();
+		final HeapObjects objects = new HeapObjects();
 		final PHDJavaHeap heap = this;
 		// Size of a reference
 		final int REFSCALE = 1;
@@ -421,7 +402,7 @@ class PHDJavaHeap implements JavaHeap {
 							PHDJavaObject jo = withRefs
 								? b.refs(refs,adjustLen2).length(length-adjustLen2).instanceSize(instanceSize).build()
 								: b.length(length-adjustLen2).instanceSize(instanceSize).build();
-							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),jo);
+							objects.put(address,jo);
 							next[0] = rdr.where;
 						}
 						if (total >= maxsize) rdr.reader.exitParse();
@@ -442,7 +423,7 @@ class PHDJavaHeap implements JavaHeap {
 							PHDJavaObject jo = withRefs
 								? b.refs(refs, 0).build()
 								: b.build();
-							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),jo);
+							objects.put(address,jo);
 							next[0] = rdr.where;
 						}
 						if (total >= maxsize) rdr.reader.exitParse();
@@ -457,7 +438,7 @@ class PHDJavaHeap implements JavaHeap {
 						int size = OBJSCALE;
 						total += size;
 						if (total == size || total < maxsize) {
-							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),
+							objects.put(address,
 							new PHDJavaObject.Builder(heap,address,runtime.findArrayOfType(type),flags,hashCode)
 							.refsAsArray(NOREFS,0).length(length).instanceSize(instanceSize).build());
 							next[0] = rdr.where;
@@ -472,7 +453,7 @@ class PHDJavaHeap implements JavaHeap {
 			if (next[0] == 0 || current[0] != 0 || objects.size() > 0) {
 				// Only add an exception object the first time it happens
 				// Give up if exception occurs between objects
-				objects.put(AddressKey.getAddress(PHDJavaHeap.this, current[0]),new PHDCorruptJavaObject("building object", space.getPointer(current[0]), e));
+				objects.put(current[0],new PHDCorruptJavaObject("building object", space.getPointer(current[0]), e));
 				next[0]++;
 				more = true;
 			} else {
@@ -557,21 +538,25 @@ class PHDJavaHeap implements JavaHeap {
 	}
 
 	JavaObject getCachedObjectAtAddress(ImagePointer address, boolean withRefs) throws IOException {
+		HeapdumpIndex idx = getIndex();
+		if (idx != null) {
+			return getCachedIndexedObjectAtAddress(idx, address, withRefs);
+		}
 		for (CacheHeapSegment seg : cache.values()) {
-			SoftReference<Map<AddressKey,JavaObject>>sr = seg.objects;
-			Map<AddressKey,JavaObject>map = sr.get();
-			if (map == null || withRefs && !seg.withRefs && map.get(AddressKey.getAddress(PHDJavaHeap.this, address.getAddress())) != null) {
+			SoftReference<HeapObjects> sr = seg.objects;
+			HeapObjects map = sr.get();
+			if (map == null || withRefs && !seg.withRefs && map.get(address.getAddress()) != null) {
 				long addr = address.getAddress();
 				if (seg.minAddress <= addr && addr <= seg.maxAddress) {
 					// Possibly here, so refresh the data
 					int next[] = new int[]{seg.index};
 					map = getObjects(seg.maxSize, next, withRefs);
 					seg.withRefs = withRefs;
-					seg.objects = sr = new SoftReference<Map<AddressKey,JavaObject>>(map);
+					seg.objects = sr = new SoftReference<HeapObjects>(map);
 				}
 			}
 			if (map != null) {
-				JavaObject jo = map.get(AddressKey.getAddress(PHDJavaHeap.this, address.getAddress()));
+				JavaObject jo = map.get(address.getAddress());
 				if (jo != null) {
 					// Found object
 					return jo;
@@ -582,6 +567,10 @@ class PHDJavaHeap implements JavaHeap {
 	}
 
 	JavaObject getObjectAtAddress(ImagePointer address, boolean withRefs) {
+		HeapdumpIndex idx = getIndex();
+		if (idx != null) {
+			return getIndexedObjectAtAddress(idx, address, withRefs);
+		}
 		JavaObject jo = null;
 		try {
 			jo = getCachedObjectAtAddress(address, withRefs);
@@ -599,6 +588,241 @@ class PHDJavaHeap implements JavaHeap {
 		return jo;
 	}
 
+	/**
+	 * The objects from one chunk of the index.
+	 */
+	private static final class IndexedSegment {
+		/** The actual JavaObjects, held via a SoftReference to avoid OutOfMemoryErrors */
+		final SoftReference<HeapObjects> objects;
+		/** Whether the JavaObjects have references available */
+		final boolean withRefs;
+
+		IndexedSegment(HeapObjects objects, boolean withRefs) {
+			this.objects = new SoftReference<HeapObjects>(objects);
+			this.withRefs = withRefs;
+		}
+	}
+
+	/**
+	 * Get the chunk index for the heapdump, loading it from the sidecar file if
+	 * possible, otherwise building it with one pass over the file and then saving it.
+	 * Streams and compressed files cannot be positioned cheaply, so are not indexed.
+	 * @return the index, or null if the heap must be read sequentially
+	 */
+	synchronized HeapdumpIndex getIndex() {
+		if (index == null && !noIndex) {
+			if (file == null || file.getName().endsWith(".gz")) {
+				noIndex = true;
+			} else {
+				HeapdumpIndex idx = HeapdumpIndex.load(file);
+				if (idx == null) {
+					HeapdumpReader reader = null;
+					try {
+						reader = new HeapdumpReader(file, image);
+						idx = HeapdumpIndex.build(reader, HeapdumpIndex.DEFAULT_CHUNK_SIZE);
+						idx.save(file);
+					} catch (Exception e) {
+						// A truncated or corrupt dump is read sequentially so that the problem is reported per object
+						if (LOG) System.err.println("Unable to index "+file+" "+e);
+						idx = null;
+					} finally {
+						if (reader != null) reader.close();
+					}
+				}
+				index = idx;
+				noIndex = idx == null;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Find an object by decoding only the chunks whose address range could hold it.
+	 */
+	private JavaObject getIndexedObjectAtAddress(HeapdumpIndex idx, ImagePointer address, boolean withRefs) {
+		long addr = address.getAddress();
+		for (HeapdumpIndex.Chunk chunk : idx.chunksContaining(addr)) {
+			JavaObject jo = getIndexedObjects(chunk, withRefs).get(addr);
+			if (jo != null) {
+				// Found object
+				return jo;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Find an object among the chunks which have already been decoded, without decoding any others.
+	 * A chunk holding the object but decoded without references is decoded again if references are needed.
+	 */
+	private JavaObject getCachedIndexedObjectAtAddress(HeapdumpIndex idx, ImagePointer address, boolean withRefs) {
+		long addr = address.getAddress();
+		for (HeapdumpIndex.Chunk chunk : idx.chunksContaining(addr)) {
+			IndexedSegment seg;
+			synchronized (indexedCache) {
+				seg = indexedCache.get(chunk.objectNumber);
+			}
+			HeapObjects objects;
+			if (seg == null || (objects = seg.objects.get()) == null) {
+				continue;
+			}
+			JavaObject jo = objects.get(addr);
+			if (jo != null) {
+				if (withRefs && !seg.withRefs) {
+					jo = getIndexedObjects(chunk, true).get(addr);
+				}
+				// Found object
+				return jo;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the objects of a chunk, via a cache, and populate the cache if the chunk is decoded.
+	 */
+	private HeapObjects getIndexedObjects(HeapdumpIndex.Chunk chunk, boolean withRefs) {
+		synchronized (indexedCache) {
+			IndexedSegment seg = indexedCache.get(chunk.objectNumber);
+			HeapObjects objects;
+			if (seg != null && (objects = seg.objects.get()) != null && (seg.withRefs || !withRefs)) {
+				return objects;
+			}
+			objects = decodeChunk(chunk, withRefs);
+			indexedCache.put(chunk.objectNumber, new IndexedSegment(objects, withRefs));
+			return objects;
+		}
+	}
+
+	/**
+	 * Remember the objects of a chunk decoded elsewhere, unless the cache already has a usable copy.
+	 */
+	private void cacheIndexedObjects(HeapdumpIndex.Chunk chunk, HeapObjects objects, boolean withRefs) {
+		synchronized (indexedCache) {
+			IndexedSegment seg = indexedCache.get(chunk.objectNumber);
+			if (seg == null || seg.objects.get() == null || (withRefs && !seg.withRefs)) {
+				indexedCache.put(chunk.objectNumber, new IndexedSegment(objects, withRefs));
+			}
+		}
+	}
+
+	/**
+	 * Decode the objects of one chunk with a reader of its own, so that several chunks can be decoded at once.
+	 * @param chunk the chunk from the index
+	 * @param withRefs whether to build the JavaObjects with their references
+	 * @return the objects in file order
+	 */
+	HeapObjects decodeChunk(final HeapdumpIndex.Chunk chunk, final boolean withRefs) {
+		if (LOG) System.err.println("DecodeChunk "+chunk.objectNumber+" "+withRefs);
+		final HeapObjects objects = new HeapObjects();
+		final PHDJavaHeap heap = this;
+		final int adjustLen = isJ9V4 ? 1 : 0;
+		HeapdumpReader reader = null;
+		try {
+			final HeapdumpReader rdr = reader = new HeapdumpReader(file, image);
+			rdr.resume(chunk);
+			rdr.parse(new PortableHeapDumpListener() {
+				int count;
+
+				private void add(long address, JavaObject jo) {
+					objects.put(address, jo);
+					if (++count == chunk.objectCount) rdr.exitParse();
+				}
+
+				public void classDump(long address, long superAddress, String name, int size,
+						int flags, int hashCode, LongEnumeration refs) throws Exception {
+				}
+
+				public void objectArrayDump(long address, long classAddress, int flags,
+						int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+					int refsLen = refs.numberOfElements();
+					int adjustLen2 = Math.min(adjustLen, refsLen);
+					// Use adjustLen for array class so for corrupt Java 5 with 0 refs we have no array class
+					PHDJavaObject.Builder b = new PHDJavaObject.Builder(heap,address,runtime.arrayOf(classAddress, refs, adjustLen),flags,hashCode);
+					add(address, withRefs
+						? b.refs(refs,adjustLen2).length(length-adjustLen2).instanceSize(instanceSize).build()
+						: b.length(length-adjustLen2).instanceSize(instanceSize).build());
+				}
+
+				public void objectDump(long address, long classAddress, int flags, int hashCode,
+						LongEnumeration refs, long instanceSize) throws Exception {
+					PHDJavaObject.Builder b = new PHDJavaObject.Builder(heap,address,runtime.findClass(classAddress),flags,hashCode)
+						.length(PHDJavaObject.SIMPLE_OBJECT)
+						.instanceSize(instanceSize);
+					add(address, withRefs
+						? b.refs(refs, 0).build()
+						: b.build());
+				}
+
+				public void primitiveArrayDump(long address, int type, int length, int flags,
+						int hashCode, long instanceSize) throws Exception {
+					add(address, new PHDJavaObject.Builder(heap,address,runtime.findArrayOfType(type),flags,hashCode)
+						.refsAsArray(NOREFS,0).length(length).instanceSize(instanceSize).build());
+				}
+			});
+		} catch (Exception e) {
+			// The index was built from a good pass over the file, so this is unexpected - give up on the rest of the chunk
+			long address = reader != null ? reader.recordAddress() : 0;
+			objects.put(address,
+					new PHDCorruptJavaObject("Building object in chunk at object "+chunk.objectNumber, space.getPointer(address), e));
+		} finally {
+			if (reader != null) reader.close();
+		}
+		return objects;
+	}
+
+	/**
+	 * Iterate over the objects of all the chunks in the index.
+	 * Chunks are decoded ahead of the consumer in parallel and returned in file order.
+	 */
+	private final class IndexedObjectIterator implements Iterator<JavaObject> {
+		private final ForkJoinPool pool = ForkJoinPool.commonPool();
+		/** Limit the chunks decoded ahead, so that memory use is bounded */
+		private final int prefetch = Math.max(2, 2 * pool.getParallelism());
+		private final List<HeapdumpIndex.Chunk> chunks;
+		private final ArrayDeque<ForkJoinTask<HeapObjects>> pending = new ArrayDeque<ForkJoinTask<HeapObjects>>();
+		private int nextChunk;
+		private Iterator<JavaObject> it = Collections.<JavaObject>emptyList().iterator();
+
+		IndexedObjectIterator(HeapdumpIndex idx) {
+			chunks = idx.getChunks();
+		}
+
+		private void submit() {
+			while (pending.size() < prefetch && nextChunk < chunks.size()) {
+				final HeapdumpIndex.Chunk chunk = chunks.get(nextChunk++);
+				pending.add(pool.submit(new Callable<HeapObjects>() {
+					public HeapObjects call() {
+						HeapObjects objects = decodeChunk(chunk, true);
+						cacheIndexedObjects(chunk, objects, true);
+						return objects;
+					}
+				}));
+			}
+		}
+
+		public boolean hasNext() {
+			while (!it.hasNext()) {
+				submit();
+				ForkJoinTask<HeapObjects> task = pending.poll();
+				if (task == null) {
+					return false;
+				}
+				it = task.join().iterator();
+			}
+			return true;
+		}
+
+		public JavaObject next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			return it.next();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 	/**
 	 * Find an object in the heap
 	 * Populate each chunk, then search each chunk directly
@@ -607,9 +831,9 @@ class PHDJavaHeap implements JavaHeap {
 	private JavaObject getObjectAtAddress3(ImagePointer address, boolean withRefs) throws IOException {
 			int count[] = new int[1];
 			do {
-				Map<AddressKey, JavaObject> map = getObjectsViaCache(STEP, count, withRefs);
+				HeapObjects map = getObjectsViaCache(STEP, count, withRefs);
 				if (map.isEmpty()) break;
-				JavaObject jo = map.get(AddressKey.getAddress(this, address.getAddress()));
+				JavaObject jo = map.get(address.getAddress());
 				if (jo != null) {
 					// Found object
 					return jo;
@@ -646,9 +870,14 @@ class PHDJavaHeap implements JavaHeap {
 
 	/**
 	 * Return all the objects in the heap
-	 * This uses a modified version of the HeapdumpReader which allows abort and resume.
+	 * An indexed heapdump is decoded in parallel chunks, otherwise
+	 * this uses a modified version of the HeapdumpReader which allows abort and resume.
 	 */
 	public Iterator<JavaObject> getObjects() {
+		HeapdumpIndex idx = getIndex();
+		if (idx != null) {
+			return new IndexedObjectIterator(idx);
+		}
 		final PHDJavaHeap heap = this;
 		try {
 			return new Iterator<JavaObject>() {
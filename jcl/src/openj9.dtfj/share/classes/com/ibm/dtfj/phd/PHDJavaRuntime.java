@@ -54,6 +54,7 @@ import com.ibm.dtfj.java.JavaVMInitArgs;
 import com.ibm.dtfj.phd.parser.HeapdumpReader;
 import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
 import com.ibm.dtfj.phd.util.LongEnumeration;
+import com.ibm.dtfj.phd.util.LongObjectMap;
 
 /**
  * @author ajohnson
@@ -64,9 +65,9 @@ class PHDJavaRuntime implements JavaRuntime {
 	private final LinkedHashMap<JavaObject,PHDJavaClassLoader> loaders = new LinkedHashMap<JavaObject,PHDJavaClassLoader>();
 	private final LinkedHashMap<JavaThread,JavaThread> threads = new LinkedHashMap<JavaThread,JavaThread>();
 	private final ArrayList<JavaMonitor> monitors = new ArrayList<JavaMonitor>();
-	private final HashMap<Long,JavaClass>classIdCache = new HashMap<Long,JavaClass>();
+	private final LongObjectMap<JavaClass>classIdCache = new LongObjectMap<JavaClass>();
 	private final HashMap<String,JavaClass>classNameCache = new HashMap<String,JavaClass>();
-	private final HashMap<Long, JavaObject> extraObjectsCache = new HashMap<Long, JavaObject>();
+	private final LongObjectMap<JavaObject> extraObjectsCache = new LongObjectMap<JavaObject>();
 	static final String arrayTypeName[]={"[Z","[C","[F","[D","[B","[S","[I","[J"};
 	private final JavaClass arrayClasses[] = new JavaClass[arrayTypeName.length];
 	private static final long[] NOREFS = {};
@@ -529,7 +530,7 @@ class PHDJavaRuntime implements JavaRuntime {
 		final long jlcAddress = jlc == null || jlc.getID() == null ? 0 : jlc.getID().getAddress();
 		// Find all the class loader classes
 		final JavaClass jcl = findClass("java/lang/ClassLoader");
-		final HashMap<Long,JavaClass>classLoaderClasses = new HashMap<Long,JavaClass>();
+		final LongObjectMap<JavaClass>classLoaderClasses = new LongObjectMap<JavaClass>();
 		for (Iterator<JavaClass> it = boot.getDefinedClasses(); it.hasNext();) {
 			JavaClass cls = it.next();
 			if (cls instanceof CorruptData) continue;
@@ -559,7 +560,7 @@ class PHDJavaRuntime implements JavaRuntime {
 		final int onHeapClasses[] = new int[1];
 		// Find all the objects which are class loaders
 		final PHDJavaHeap heap = heaps.get(0);
-		final HashMap<Long, JavaObject> classObjects = new HashMap<Long, JavaObject>();
+		final LongObjectMap<JavaObject> classObjects = new LongObjectMap<JavaObject>();
 //		HeapdumpReader newreader = new HeapdumpReader(file, parentImage);
 		final int adjustLen = newreader.version() == 4 && newreader.isJ9() ? 1 : 0;
 		try {
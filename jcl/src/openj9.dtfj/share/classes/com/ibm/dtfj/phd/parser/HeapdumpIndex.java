@@ -0,0 +1,311 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.dtfj.phd.util.LongEnumeration;
+
+/**
+ *  An index of a PHD file which divides the objects into chunks of a fixed number of objects
+ *  and records, for each chunk, where its first record starts and the parser state needed to
+ *  decode it. Because addresses and class addresses are delta encoded, a chunk cannot be
+ *  decoded from its file offset alone.
+ *  <p>
+ *  With an index, a {@link HeapdumpReader} can be positioned at any chunk (see {@link HeapdumpReader#resume})
+ *  so chunks can be decoded independently, and in parallel, and an object can be found by
+ *  decoding only the chunks whose address range contains it.
+ *  <p>
+ *  The index for a heapdump file can be saved in a sidecar file next to the heapdump so that
+ *  it does not have to be rebuilt on the next use.
+ */
+public final class HeapdumpIndex {
+
+	/**
+	 * The default number of objects in each chunk.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * The suffix appended to the heapdump file name to form the sidecar file name.
+	 */
+	public static final String SIDECAR_SUFFIX = ".phdx";
+
+	private static final int SIDECAR_MAGIC = 0x50484458; // "PHDX"
+	private static final int SIDECAR_VERSION = 1;
+
+	/**
+	 * The parser state at a record boundary.
+	 */
+	public static class Checkpoint {
+		/** The number of objects (not classes) preceding the next record */
+		public final int objectNumber;
+		/** The offset of the next record in the uncompressed heapdump */
+		public final long offset;
+		final long lastAddress;
+		final long[] classAddressCache;
+		final int classAddressCacheIndex;
+
+		Checkpoint(int objectNumber, long offset, long lastAddress, long[] classAddressCache, int classAddressCacheIndex) {
+			this.objectNumber = objectNumber;
+			this.offset = offset;
+			this.lastAddress = lastAddress;
+			this.classAddressCache = classAddressCache;
+			this.classAddressCacheIndex = classAddressCacheIndex;
+		}
+	}
+
+	/**
+	 * A run of consecutive objects which can be decoded on its own.
+	 */
+	public static final class Chunk extends Checkpoint {
+		/** The number of objects in the chunk */
+		public final int objectCount;
+		/** The smallest object address in the chunk */
+		public final long minAddress;
+		/** The largest object address in the chunk */
+		public final long maxAddress;
+
+		Chunk(Checkpoint start, int objectCount, long minAddress, long maxAddress) {
+			super(start.objectNumber, start.offset, start.lastAddress, start.classAddressCache, start.classAddressCacheIndex);
+			this.objectCount = objectCount;
+			this.minAddress = minAddress;
+			this.maxAddress = maxAddress;
+		}
+
+		/**
+		 * @return true if an object at the address could be in this chunk
+		 */
+		public boolean mayContain(long address) {
+			return (minAddress <= address) && (address <= maxAddress);
+		}
+	}
+
+	private final List<Chunk> chunks;
+
+	private HeapdumpIndex(List<Chunk> chunks) {
+		this.chunks = Collections.unmodifiableList(chunks);
+	}
+
+	/**
+	 * @return the chunks in file order
+	 */
+	public List<Chunk> getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * @return the total number of objects in the heapdump
+	 */
+	public int totalObjects() {
+		if (chunks.isEmpty()) {
+			return 0;
+		}
+		Chunk last = chunks.get(chunks.size() - 1);
+		return last.objectNumber + last.objectCount;
+	}
+
+	/**
+	 * Find the chunks which could hold an object at the given address.
+	 * @param address the object address
+	 * @return the candidate chunks in file order
+	 */
+	public List<Chunk> chunksContaining(long address) {
+		List<Chunk> result = new ArrayList<Chunk>();
+		for (Chunk chunk : chunks) {
+			if (chunk.mayContain(address)) {
+				result.add(chunk);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Build an index by parsing the remainder of the heapdump. The reader must be positioned
+	 * at the start of the dump, that is, freshly created.
+	 *
+	 * @param reader a newly created reader
+	 * @param chunkSize the number of objects in each chunk
+	 * @return the index
+	 * @throws Exception if the heapdump could not be parsed
+	 */
+	public static HeapdumpIndex build(HeapdumpReader reader, int chunkSize) throws Exception {
+		IndexBuilder builder = new IndexBuilder(reader, chunkSize);
+		while (reader.parse(builder)) {
+			// parse() only returns true if exitParse() was called
+		}
+		builder.endChunk();
+		return new HeapdumpIndex(builder.chunks);
+	}
+
+	/**
+	 * Records a checkpoint after every chunkSize objects.
+	 */
+	private static final class IndexBuilder implements PortableHeapDumpListener {
+		final List<Chunk> chunks = new ArrayList<Chunk>();
+		private final HeapdumpReader reader;
+		private final int chunkSize;
+		private Checkpoint start;
+		private int count;
+		private long minAddress = Long.MAX_VALUE;
+		private long maxAddress = Long.MIN_VALUE;
+
+		IndexBuilder(HeapdumpReader reader, int chunkSize) throws IOException {
+			this.reader = reader;
+			this.chunkSize = chunkSize;
+			this.start = reader.checkpoint(0);
+		}
+
+		private void record(long address) throws IOException {
+			count += 1;
+			minAddress = Math.min(minAddress, address);
+			maxAddress = Math.max(maxAddress, address);
+			if ((count - start.objectNumber) == chunkSize) {
+				endChunk();
+				start = reader.checkpoint(count);
+			}
+		}
+
+		void endChunk() {
+			if (count > start.objectNumber) {
+				chunks.add(new Chunk(start, count - start.objectNumber, minAddress, maxAddress));
+			}
+			minAddress = Long.MAX_VALUE;
+			maxAddress = Long.MIN_VALUE;
+		}
+
+		public void classDump(long address, long superAddress, String name, int instanceSize,
+				int flags, int hashCode, LongEnumeration refs) throws Exception {
+			// classes are not numbered as objects
+		}
+
+		public void objectArrayDump(long address, long classAddress, int flags,
+				int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+			record(address);
+		}
+
+		public void objectDump(long address, long classAddress, int flags, int hashCode,
+				LongEnumeration refs, long instanceSize) throws Exception {
+			record(address);
+		}
+
+		public void primitiveArrayDump(long address, int type, int length, int flags,
+				int hashCode, long instanceSize) throws Exception {
+			record(address);
+		}
+	}
+
+	/**
+	 * @return the sidecar file used to hold the index of the heapdump file
+	 */
+	public static File sidecarFile(File heapdump) {
+		return new File(heapdump.getPath() + SIDECAR_SUFFIX);
+	}
+
+	/**
+	 * Load the index for a heapdump file from its sidecar file.
+	 *
+	 * @param heapdump the heapdump file
+	 * @return the index, or null if there is no sidecar file or it does not match the heapdump
+	 */
+	public static HeapdumpIndex load(File heapdump) {
+		File sidecar = sidecarFile(heapdump);
+		if (!sidecar.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(sidecar)))) {
+			if ((in.readInt() != SIDECAR_MAGIC) || (in.readInt() != SIDECAR_VERSION)
+				|| (in.readLong() != heapdump.length()) || (in.readLong() != heapdump.lastModified())
+			) {
+				return null;
+			}
+			int count = in.readInt();
+			List<Chunk> chunks = new ArrayList<Chunk>(count);
+			for (int i = 0; i < count; i++) {
+				int objectNumber = in.readInt();
+				int objectCount = in.readInt();
+				long offset = in.readLong();
+				long lastAddress = in.readLong();
+				long[] classAddressCache = new long[in.readInt()];
+				for (int j = 0; j < classAddressCache.length; j++) {
+					classAddressCache[j] = in.readLong();
+				}
+				int classAddressCacheIndex = in.readInt();
+				long minAddress = in.readLong();
+				long maxAddress = in.readLong();
+				Checkpoint start = new Checkpoint(objectNumber, offset, lastAddress, classAddressCache, classAddressCacheIndex);
+				chunks.add(new Chunk(start, objectCount, minAddress, maxAddress));
+			}
+			return new HeapdumpIndex(chunks);
+		} catch (IOException e) {
+			// treat an unreadable sidecar as missing; it will be rebuilt
+			return null;
+		}
+	}
+
+	/**
+	 * Save this index to the sidecar file of the heapdump.
+	 *
+	 * @param heapdump the heapdump file this index was built from
+	 * @return true if the sidecar was written
+	 */
+	public boolean save(File heapdump) {
+		File sidecar = sidecarFile(heapdump);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(sidecar)))) {
+			out.writeInt(SIDECAR_MAGIC);
+			out.writeInt(SIDECAR_VERSION);
+			out.writeLong(heapdump.length());
+			out.writeLong(heapdump.lastModified());
+			out.writeInt(chunks.size());
+			for (Chunk chunk : chunks) {
+				out.writeInt(chunk.objectNumber);
+				out.writeInt(chunk.objectCount);
+				out.writeLong(chunk.offset);
+				out.writeLong(chunk.lastAddress);
+				out.writeInt(chunk.classAddressCache.length);
+				for (long classAddress : chunk.classAddressCache) {
+					out.writeLong(classAddress);
+				}
+				out.writeInt(chunk.classAddressCacheIndex);
+				out.writeLong(chunk.minAddress);
+				out.writeLong(chunk.maxAddress);
+			}
+			return true;
+		} catch (IOException e) {
+			// the heapdump may be in a read-only directory; the index is still usable in memory
+			sidecar.delete();
+			return false;
+		}
+	}
+
+}
@@ -43,6 +43,8 @@ public class HeapdumpReader extends Base {
 	String filename;
 	DataStreamAdapter dis;
 	long lastAddress;
+	/** The address of the record being parsed, or 0 if it has not been read yet */
+	long recordAddress;
 	long[] classAddressCache = new long[4];
 	int classAddressCacheIndex;
 	int totalObjects;
@@ -126,13 +128,7 @@ public class HeapdumpReader extends Base {
 		this.filename = filename;
 		InputStream is = null;
 		try {
-			if (filename.endsWith(".gz")) {
-				is = new BufferedInputStream(new GZIPInputStream(new FileInputStream(filename)));
-			} else {
-				FileInputStream fis = new FileInputStream(filename);
-				is = new BufferedInputStream(fis);
-			}
-			dis = new DataStreamAdapter(new DataInputStream(is));
+			dis = new DataStreamAdapter(openFileAt(0));
 			processData();
 		} catch (java.io.UTFDataFormatException e) {
 			try {
@@ -164,6 +160,58 @@ public class HeapdumpReader extends Base {
 		}
 	}
 
+	/**
+	 * Open the heapdump file so that reading starts at the given offset in the
+	 * uncompressed data.
+	 */
+	private CountingInputStream openFileAt(long offset) throws IOException {
+		InputStream is;
+		if (filename.endsWith(".gz")) {
+			is = new GZIPInputStream(new FileInputStream(filename));
+			// compressed data cannot be positioned directly so decompress up to the offset
+			for (long remaining = offset; remaining > 0;) {
+				long skipped = is.skip(remaining);
+				if (skipped <= 0) {
+					is.close();
+					throw new EOFException("Unable to skip to offset " + offset + " in " + filename);
+				}
+				remaining -= skipped;
+			}
+		} else {
+			FileInputStream fis = new FileInputStream(filename);
+			fis.getChannel().position(offset);
+			is = fis;
+		}
+		return new CountingInputStream(new BufferedInputStream(is), offset);
+	}
+
+	/**
+	 * Capture the state needed to resume parsing at the next record.
+	 * This must only be called between records, for example from a
+	 * {@link PortableHeapDumpListener} callback.
+	 *
+	 * @param objectNumber the number of the next object to be parsed
+	 * @return the checkpoint
+	 * @throws IOException
+	 */
+	public HeapdumpIndex.Checkpoint checkpoint(int objectNumber) throws IOException {
+		return new HeapdumpIndex.Checkpoint(objectNumber, dis.position(), lastAddress, classAddressCache.clone(), classAddressCacheIndex);
+	}
+
+	/**
+	 * Position this reader so that the next call to {@link #parse} starts at the
+	 * record following the given checkpoint.
+	 *
+	 * @param checkpoint a checkpoint taken by a reader of the same heapdump
+	 * @throws IOException
+	 */
+	public void resume(HeapdumpIndex.Checkpoint checkpoint) throws IOException {
+		dis.seek(checkpoint.offset);
+		lastAddress = checkpoint.lastAddress;
+		System.arraycopy(checkpoint.classAddressCache, 0, classAddressCache, 0, classAddressCache.length);
+		classAddressCacheIndex = checkpoint.classAddressCacheIndex;
+	}
+
 	private void processData() throws IOException {
 		try {
 			// Remember the first two bytes in case the header is corrupt
@@ -445,7 +493,17 @@ public class HeapdumpReader extends Base {
 			if (dbg) System.out.println("relative address 0x" + hex(lastAddress + gap) + " = last address 0x" + hex(lastAddress) + " + long gap 0x" + hex(gap));
 			break;
 		}
-		return is64Bit() ? lastAddress + gap : (lastAddress + gap) & MAX_UNSIGNED_INT_AS_LONG;
+		recordAddress = is64Bit() ? lastAddress + gap : (lastAddress + gap) & MAX_UNSIGNED_INT_AS_LONG;
+		return recordAddress;
+	}
+
+	/**
+	 * Get the address of the record being parsed. If parse() fails, this identifies the
+	 * object that could not be read.
+	 * @return the address, or 0 if the failure occurred before the address of the record was read
+	 */
+	public long recordAddress() {
+		return recordAddress;
 	}
 
 	public void exitParse() {
@@ -459,6 +517,7 @@ public class HeapdumpReader extends Base {
 	public boolean parse(PortableHeapDumpListener listener) throws Exception {
 		long address = 0;
 		for (continueParse = true; continueParse;) {
+			recordAddress = 0;
 			int tag = dis.readUnsignedByte();
 			if (dbg) System.out.println("read tag " + hex(tag));
 			if ((tag & 0x80) != 0) {
@@ -498,6 +557,7 @@ public class HeapdumpReader extends Base {
 				int length = 0;
 				if (pre78432 && size == 3) {
 					address = lastAddress + (dis.readInt() << gapShift);
+					recordAddress = address;
 					length = (int)dis.readInt();
 					if (dbg) System.out.println("warning! bad primitive array");
 				} else {
@@ -602,6 +662,7 @@ public class HeapdumpReader extends Base {
 					address = lastAddress + (readWord() << gapShift);
 					length = (int)readUnsignedWord();
 				}
+				recordAddress = address;
 				int hashCode = getHashCode(address, flags & 2);
 				long instanceSize = getInstanceSize(); // will read an unsigned int from stream if version >= 6
 				int objFlags = (j9 || allObjectsHashed() ? 1 : 0) | flags & 0x3;
@@ -712,7 +773,8 @@ public class HeapdumpReader extends Base {
 	 *
 	 */
 	private class DataStreamAdapter {
-		private final DataInputStream dis;
+		private DataInputStream dis;
+		private CountingInputStream counter;
 		private final ImageInputStream iis;
 
 		public DataStreamAdapter(ImageInputStream iis) {
@@ -725,6 +787,33 @@ public class HeapdumpReader extends Base {
 			iis = null;
 		}
 
+		public DataStreamAdapter(CountingInputStream counter) {
+			this(new DataInputStream(counter));
+			this.counter = counter;
+		}
+
+		public long position() throws IOException {
+			if (dis == null) {
+				return iis.getStreamPosition();
+			} else if (counter != null) {
+				return counter.position();
+			} else {
+				throw new IOException("Stream position not available for " + filename);
+			}
+		}
+
+		public void seek(long offset) throws IOException {
+			if (dis == null) {
+				iis.seek(offset);
+			} else if (counter != null) {
+				dis.close();
+				counter = openFileAt(offset);
+				dis = new DataInputStream(counter);
+			} else {
+				throw new IOException("Stream cannot be positioned for " + filename);
+			}
+		}
+
 		public int readInt() throws IOException {
 			if(dis == null) {
 				return iis.readInt();
@@ -814,4 +903,54 @@ public class HeapdumpReader extends Base {
 			}
 		}
 	}
+
+	/**
+	 * Counts the bytes read from the uncompressed data so that the offset
+	 * of a record can be recorded in a {@link HeapdumpIndex}.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+		private long position;
+		private long markPosition;
+
+		CountingInputStream(InputStream in, long position) {
+			super(in);
+			this.position = position;
+		}
+
+		long position() {
+			return position;
+		}
+
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				position += 1;
+			}
+			return b;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				position += n;
+			}
+			return n;
+		}
+
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			position += skipped;
+			return skipped;
+		}
+
+		public synchronized void mark(int readlimit) {
+			super.mark(readlimit);
+			markPosition = position;
+		}
+
+		public synchronized void reset() throws IOException {
+			super.reset();
+			position = markPosition;
+		}
+	}
 }
@@ -0,0 +1,185 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd.util;
+
+/**
+ *  A hash map from long to long which stores keys and values in primitive arrays,
+ *  using open addressing with linear probing, so that no objects are allocated per entry.
+ */
+
+public final class LongLongMap {
+	static final int MIN_CAPACITY = 16;
+	/** Marks an empty slot. A key of this value is held outside the table. */
+	static final long FREE_KEY = 0;
+
+	long keys[];
+	long values[];
+	int size;
+	int threshold;
+	boolean hasFreeKey;
+	long freeKeyValue;
+
+	public LongLongMap() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize the number of entries which can be added before the table is resized
+	 */
+	public LongLongMap(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Table size for a number of entries with a load factor of no more than 3/4.
+	 */
+	static int capacityFor(int expectedSize) {
+		long needed = Math.max(MIN_CAPACITY, ((long) expectedSize * 4 + 2) / 3);
+		if (needed > (1 << 30)) throw new Error("LongLongMap too large: " + expectedSize);
+		return Integer.highestOneBit((int) needed - 1) << 1;
+	}
+
+	/**
+	 * Spread the key bits. Addresses are aligned, so the low bits alone are a poor hash.
+	 */
+	static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		threshold = (capacity >> 2) * 3;
+	}
+
+	private int slot(long key) {
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		long k;
+		while ((k = keys[i]) != FREE_KEY && k != key) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	public boolean containsKey(long key) {
+		if (key == FREE_KEY) return hasFreeKey;
+		return keys[slot(key)] != FREE_KEY;
+	}
+
+	/**
+	 * @param key the key
+	 * @param defaultValue the value to return if the key is not present
+	 * @return the value for the key, or defaultValue
+	 */
+	public long get(long key, long defaultValue) {
+		if (key == FREE_KEY) return hasFreeKey ? freeKeyValue : defaultValue;
+		int i = slot(key);
+		return keys[i] != FREE_KEY ? values[i] : defaultValue;
+	}
+
+	/**
+	 * @param key the key
+	 * @param value the value
+	 * @return true if the key was not already present
+	 */
+	public boolean put(long key, long value) {
+		if (key == FREE_KEY) {
+			boolean added = !hasFreeKey;
+			hasFreeKey = true;
+			freeKeyValue = value;
+			if (added) size++;
+			return added;
+		}
+		int i = slot(key);
+		values[i] = value;
+		if (keys[i] != FREE_KEY) return false;
+		keys[i] = key;
+		if (++size > threshold) rehash(keys.length << 1);
+		return true;
+	}
+
+	/**
+	 * @param key the key
+	 * @return true if the key was present
+	 */
+	public boolean remove(long key) {
+		if (key == FREE_KEY) {
+			boolean removed = hasFreeKey;
+			hasFreeKey = false;
+			if (removed) size--;
+			return removed;
+		}
+		int i = slot(key);
+		if (keys[i] == FREE_KEY) return false;
+		closeGap(i);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Empty a slot, moving back any later entries of the probe sequence so that
+	 * lookups do not stop early at the new gap.
+	 */
+	private void closeGap(int gap) {
+		int mask = keys.length - 1;
+		long k;
+		for (int i = (gap + 1) & mask; (k = keys[i]) != FREE_KEY; i = (i + 1) & mask) {
+			// the entry may move into the gap unless its home slot lies between the gap and it
+			if (((i - hash(k)) & mask) >= ((i - gap) & mask)) {
+				keys[gap] = k;
+				values[gap] = values[i];
+				gap = i;
+			}
+		}
+		keys[gap] = FREE_KEY;
+		values[gap] = 0;
+	}
+
+	private void rehash(int capacity) {
+		long oldKeys[] = keys;
+		long oldValues[] = values;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			long k = oldKeys[i];
+			if (k != FREE_KEY) {
+				int j = slot(k);
+				keys[j] = k;
+				values[j] = oldValues[i];
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int memoryUsage() {
+		return keys.length * 16;
+	}
+}
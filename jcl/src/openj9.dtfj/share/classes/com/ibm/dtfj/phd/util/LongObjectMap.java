@@ -0,0 +1,184 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ *  A hash map from long to objects which stores the keys in a primitive array,
+ *  using open addressing with linear probing, so that no objects are allocated per entry.
+ *  Values may not be null.
+ */
+
+public final class LongObjectMap<V> implements Iterable<V> {
+	long keys[];
+	Object values[];
+	int size;
+	int threshold;
+
+	public LongObjectMap() {
+		this(LongLongMap.MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize the number of entries which can be added before the table is resized
+	 */
+	public LongObjectMap(int expectedSize) {
+		allocate(LongLongMap.capacityFor(expectedSize));
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		threshold = (capacity >> 2) * 3;
+	}
+
+	/**
+	 * Empty slots are those without a value, so any key including zero can be held in the table.
+	 */
+	private int slot(long key) {
+		int mask = keys.length - 1;
+		int i = LongLongMap.hash(key) & mask;
+		while (values[i] != null && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	public boolean containsKey(long key) {
+		return values[slot(key)] != null;
+	}
+
+	/**
+	 * @return the value for the key, or null if the key is not present
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		return (V) values[slot(key)];
+	}
+
+	/**
+	 * @param key the key
+	 * @param value the value, not null
+	 * @return the previous value for the key, or null
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		if (value == null) throw new NullPointerException("LongObjectMap values may not be null");
+		int i = slot(key);
+		V old = (V) values[i];
+		keys[i] = key;
+		values[i] = value;
+		if (old == null && ++size > threshold) rehash(keys.length << 1);
+		return old;
+	}
+
+	/**
+	 * @param key the key
+	 * @return the value which was removed, or null if the key was not present
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		int i = slot(key);
+		V old = (V) values[i];
+		if (old == null) return null;
+		closeGap(i);
+		size--;
+		return old;
+	}
+
+	/**
+	 * Empty a slot, moving back any later entries of the probe sequence so that
+	 * lookups do not stop early at the new gap.
+	 */
+	private void closeGap(int gap) {
+		int mask = keys.length - 1;
+		for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+			// the entry may move into the gap unless its home slot lies between the gap and it
+			if (((i - LongLongMap.hash(keys[i])) & mask) >= ((i - gap) & mask)) {
+				keys[gap] = keys[i];
+				values[gap] = values[i];
+				gap = i;
+			}
+		}
+		keys[gap] = 0;
+		values[gap] = null;
+	}
+
+	private void rehash(int capacity) {
+		long oldKeys[] = keys;
+		Object oldValues[] = values;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] != null) {
+				int j = slot(oldKeys[i]);
+				keys[j] = oldKeys[i];
+				values[j] = oldValues[i];
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Iterate over the values, in no particular order.
+	 */
+	public Iterator<V> iterator() {
+		return new Iterator<V>() {
+			int i = advance(0);
+
+			private int advance(int from) {
+				while (from < values.length && values[from] == null) from++;
+				return from;
+			}
+
+			public boolean hasNext() {
+				return i < values.length;
+			}
+
+			@SuppressWarnings("unchecked")
+			public V next() {
+				if (!hasNext()) throw new NoSuchElementException();
+				V v = (V) values[i];
+				i = advance(i + 1);
+				return v;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public int memoryUsage() {
+		// assume compressed references
+		return keys.length * 12;
+	}
+}
@@ -0,0 +1,109 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm;
+
+import java.lang.annotation.Annotation;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.ibm.oti.vm.VM;
+import com.ibm.oti.vm.VMLangAccess;
+
+/**
+ * This class finds the classes having an annotation among many classes, as a framework
+ * scanning the classes of an application for its component annotations does at startup.
+ * <p>
+ * The names of the annotation types of each class are read from its annotation bytes,
+ * without loading the annotation types or creating the annotations. Only the classes
+ * which name the annotation type have their annotations parsed, so the classes without
+ * the annotation do not create the annotations they do have. The names are kept with
+ * the class, so scanning the same classes for another annotation type does not read
+ * the annotation bytes again; they are stored in the shared classes cache when
+ * -Dcom.ibm.oti.shared.reflectionData=true is specified.
+ * <p>
+ * The classes are scanned in parallel, using the common fork join pool, when there
+ * are enough of them. The results are the same as calling
+ * {@link Class#getAnnotation(Class)} for each class, including the annotations
+ * inherited from superclasses.
+ */
+public final class AnnotationScanner {
+
+	/* the number of classes below which they are scanned by the calling thread */
+	private static final int PARALLEL_THRESHOLD = 256;
+
+	private AnnotationScanner() {
+		super();
+	}
+
+	/**
+	 * Find the classes which have an annotation, directly or inherited from a superclass.
+	 *
+	 * @param classes the classes to scan
+	 * @param annotationType the annotation type
+	 * @return the classes which have the annotation, in the order of the collection
+	 * @throws NullPointerException if classes, one of the classes or annotationType is null
+	 * @see Class#isAnnotationPresent(Class)
+	 */
+	public static Set<Class<?>> getAnnotatedClasses(Collection<? extends Class<?>> classes, Class<? extends Annotation> annotationType) {
+		if ((null == classes) || (null == annotationType)) {
+			throw new NullPointerException();
+		}
+		VMLangAccess access = VM.getVMLangAccess();
+		return stream(classes)
+				.filter(clazz -> !access.isAnnotationAbsent(clazz, annotationType, true) && clazz.isAnnotationPresent(annotationType))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Find the annotations of a type of many classes, directly present or inherited
+	 * from a superclass.
+	 *
+	 * @param <A> the annotation type
+	 * @param classes the classes to scan
+	 * @param annotationType the annotation type
+	 * @return the annotation of each class which has one, in the order of the collection
+	 * @throws NullPointerException if classes, one of the classes or annotationType is null
+	 * @see Class#getAnnotation(Class)
+	 */
+	public static <A extends Annotation> Map<Class<?>, A> getAnnotations(Collection<? extends Class<?>> classes, Class<A> annotationType) {
+		if ((null == classes) || (null == annotationType)) {
+			throw new NullPointerException();
+		}
+		VMLangAccess access = VM.getVMLangAccess();
+		return stream(classes)
+				.filter(clazz -> !access.isAnnotationAbsent(clazz, annotationType, true))
+				.map(clazz -> new SimpleImmutableEntry<Class<?>, A>(clazz, clazz.getAnnotation(annotationType)))
+				.filter(entry -> null != entry.getValue())
+				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first, LinkedHashMap::new));
+	}
+
+	private static Stream<? extends Class<?>> stream(Collection<? extends Class<?>> classes) {
+		return (classes.size() < PARALLEL_THRESHOLD) ? classes.stream() : classes.parallelStream();
+	}
+}
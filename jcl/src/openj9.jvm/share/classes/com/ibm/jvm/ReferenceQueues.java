@@ -0,0 +1,81 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.function.Consumer;
+
+import com.ibm.oti.vm.VM;
+
+/**
+ * This class provides bulk operations on {@link ReferenceQueue}s.
+ * <p>
+ * Removing references from a queue does not block the threads enqueuing references,
+ * or other threads removing references, so a queue may be drained while the garbage
+ * collector is enqueuing references on it.
+ */
+public final class ReferenceQueues {
+
+	private ReferenceQueues() {
+		super();
+	}
+
+	/**
+	 * Remove up to max references from a queue, oldest first, passing each to the consumer.
+	 * This does not wait for references to become available.
+	 * <p>
+	 * A reference is removed from the queue before it is passed to the consumer. References
+	 * are removed in batches, so if the consumer throws an exception, the reference it was
+	 * passed is not on the queue, the rest of the batch is enqueued again after the references
+	 * currently queued, and the exception is thrown to the caller.
+	 *
+	 * @param <T> the type of the referents
+	 * @param queue the queue to remove references from
+	 * @param consumer the consumer of the references
+	 * @param max the maximum number of references to remove
+	 * @return the number of references removed, 0 if max is not positive
+	 * @throws NullPointerException if queue or consumer is null
+	 */
+	public static <T> int drainTo(ReferenceQueue<T> queue, Consumer<? super Reference<? extends T>> consumer, int max) {
+		if ((null == queue) || (null == consumer)) {
+			throw new NullPointerException();
+		}
+		return VM.getVMRefAccess().drainTo(queue, consumer, max);
+	}
+
+	/**
+	 * Remove all the references from a queue, oldest first, passing each to the consumer.
+	 * This does not wait for references to become available.
+	 *
+	 * @param <T> the type of the referents
+	 * @param queue the queue to remove references from
+	 * @param consumer the consumer of the references
+	 * @return the number of references removed
+	 * @throws NullPointerException if queue or consumer is null
+	 * @see #drainTo(ReferenceQueue, Consumer, int)
+	 */
+	public static <T> int drainTo(ReferenceQueue<T> queue, Consumer<? super Reference<? extends T>> consumer) {
+		return drainTo(queue, consumer, Integer.MAX_VALUE);
+	}
+}
@@ -60,7 +60,7 @@ final public class Message {
 		this.ptrSize = pointerSize;
 	}
 
-	public void addStatistic(String key, long value) {
+	public synchronized void addStatistic(String key, long value) {
 		long total = 0;
 		if (statistics.containsKey(key)) {
 			total = ((Long)statistics.get(key)).longValue();
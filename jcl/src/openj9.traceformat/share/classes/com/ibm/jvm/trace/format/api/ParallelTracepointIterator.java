@@ -0,0 +1,258 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.trace.format.api;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Returns trace points in chronological order across threads, like the iterator from
+ * {@link TraceContext#getTracepoints()}, but decodes and formats the trace points of each
+ * thread on a pool of worker threads.
+ *
+ * Each thread is decoded in batches of trace points. A worker decodes a batch while the
+ * caller consumes the previous one, so at most two batches per thread are held in memory.
+ * The batches are merged with a heap keyed on the time stamp of the next trace point of
+ * each thread. Trace points from different threads with the same time stamp are returned
+ * in the order of the threads in the context; the serial iterator does not define an order
+ * for them either.
+ *
+ * The iterator works on the threads known to the context when it is created; no data may
+ * be added to the context while it is in use, nor may the other iterators be used.
+ */
+class ParallelTracepointIterator implements Iterator {
+	static final int BATCH_SIZE = 1024;
+
+	private static final AtomicInteger workerCount = new AtomicInteger();
+
+	private final ThreadPoolExecutor executor;
+	private final PriorityQueue<Lane> lanes;
+
+	/**
+	 * A trace point and the missing data, if any, reported immediately before it.
+	 */
+	private static final class Entry {
+		final TracePointImpl tracepoint;
+		MissingDataException missing;
+
+		Entry(TracePointImpl tracepoint, MissingDataException missing) {
+			this.tracepoint = tracepoint;
+			this.missing = missing;
+		}
+	}
+
+	/**
+	 * The decoded data of one thread.
+	 */
+	private final class Lane implements Comparable<Lane> {
+		final int index;
+		final TraceThread thread;
+		List<Entry> batch;
+		int position;
+		boolean exhausted;
+		Future<Batch> pending;
+
+		Lane(int index, TraceThread thread) {
+			this.index = index;
+			this.thread = thread;
+		}
+
+		Entry head() {
+			return batch.get(position);
+		}
+
+		/**
+		 * Moves to the next batch once this one is used up, starting the decode of the batch after it.
+		 * @return false if there is no more data for the thread
+		 */
+		boolean advance() {
+			while (position >= batch.size()) {
+				if (pending == null) {
+					return false;
+				}
+				Batch next = getResult(pending);
+				pending = next.exhausted ? null : executor.submit(new Decoder(thread));
+				batch = next.entries;
+				position = 0;
+			}
+			return true;
+		}
+
+		public int compareTo(Lane other) {
+			BigInteger time = head().tracepoint.time_merged;
+			int result = time.compareTo(other.head().tracepoint.time_merged);
+			if (result == 0) {
+				result = Integer.compare(index, other.index);
+			}
+			return result;
+		}
+	}
+
+	private static final class Batch {
+		final List<Entry> entries = new ArrayList<Entry>();
+		boolean exhausted;
+	}
+
+	/**
+	 * Decodes the next batch of trace points for a thread. Only one decoder runs for a thread at
+	 * a time, as the next is only submitted once the result of the previous has been taken.
+	 */
+	private static final class Decoder implements Callable<Batch> {
+		private final TraceThread thread;
+
+		Decoder(TraceThread thread) {
+			this.thread = thread;
+		}
+
+		public Batch call() {
+			Batch batch = new Batch();
+			Iterator itr = thread.getIterator();
+			MissingDataException missing = null;
+
+			while (batch.entries.size() < BATCH_SIZE) {
+				if (!itr.hasNext()) {
+					batch.exhausted = true;
+					break;
+				}
+				try {
+					TracePointImpl tracepoint = (TracePointImpl)itr.next();
+					/* format on this thread, the result is kept by the trace point */
+					tracepoint.getFormattedParameters();
+					batch.entries.add(new Entry(tracepoint, missing));
+					missing = null;
+				} catch (MissingDataException e) {
+					/* the iterator still holds the trace point following the missing data */
+					missing = e;
+				}
+			}
+
+			return batch;
+		}
+	}
+
+	ParallelTracepointIterator(List threads, int decoderThreads) {
+		executor = new ThreadPoolExecutor(decoderThreads, decoderThreads, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+			public Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, "Trace decoder " + workerCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		/* let the workers exit if the caller stops iterating before the end */
+		executor.allowCoreThreadTimeOut(true);
+
+		List<Lane> started = new ArrayList<Lane>(threads.size());
+		for (int i = 0; i < threads.size(); i++) {
+			Lane lane = new Lane(i, (TraceThread)threads.get(i));
+			lane.pending = executor.submit(new Decoder(lane.thread));
+			started.add(lane);
+		}
+
+		lanes = new PriorityQueue<Lane>(Math.max(1, started.size()));
+		for (Lane lane : started) {
+			lane.batch = new ArrayList<Entry>(0);
+			if (lane.advance()) {
+				lanes.add(lane);
+			}
+		}
+
+		if (lanes.isEmpty()) {
+			executor.shutdown();
+		}
+	}
+
+	public boolean hasNext() {
+		return !lanes.isEmpty();
+	}
+
+	/**
+	 * The next trace point in chronological order.
+	 * @throws MissingDataException if data was lost ahead of the next trace point on its thread.
+	 * The iterator remains valid and the trace point is returned by the following call.
+	 * @see java.util.Iterator#next()
+	 */
+	public Object next() {
+		Lane lane = lanes.poll();
+		if (lane == null) {
+			throw new NoSuchElementException();
+		}
+
+		Entry entry = lane.head();
+		MissingDataException missing = entry.missing;
+		if (missing != null) {
+			entry.missing = null;
+			lanes.add(lane);
+			throw missing;
+		}
+
+		lane.position += 1;
+		if (lane.advance()) {
+			lanes.add(lane);
+		} else if (lanes.isEmpty()) {
+			executor.shutdown();
+		}
+
+		return entry.tracepoint;
+	}
+
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	static Batch getResult(Future<Batch> future) {
+		boolean interrupted = false;
+		try {
+			for (;;) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			} else if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
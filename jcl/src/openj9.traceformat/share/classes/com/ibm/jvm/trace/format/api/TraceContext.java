@@ -31,6 +31,8 @@ import java.io.RandomAccessFile;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
@@ -45,6 +47,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TraceContext {
 	protected static final int traceFormatMajorVersion = 2;
@@ -74,8 +77,8 @@ public class TraceContext {
 	BigInteger lastWritePlatform = BigInteger.ZERO;
 	BigInteger lastWriteSystem = BigInteger.ZERO;
 
-	long totalTracePoints = 0;
-	long totalRecords = 0;
+	final AtomicLong totalTracePoints = new AtomicLong();
+	final AtomicLong totalRecords = new AtomicLong();
 
 	/* The message file being used by this particular context */
 	protected MessageFile messageFile;
@@ -85,10 +88,10 @@ public class TraceContext {
 	TraceFileHeader metadata;
 
 	PrintStream errorStream = System.out;
-	long errorCount = 0;
+	final AtomicLong errorCount = new AtomicLong();
 
 	PrintStream warningStream = System.out;
-	long warningCount = 0;
+	final AtomicLong warningCount = new AtomicLong();
 
 	PrintStream messageStream = System.out;
 	PrintStream debugStream = System.out;
@@ -192,7 +195,7 @@ public class TraceContext {
 	 * @param message - the message to report
 	 */
 	public void warning(Object source, Object message) {
-		warningCount++;
+		warningCount.incrementAndGet();
 
 		if (warningStream != null) {
 			warningStream.println(message);
@@ -205,7 +208,7 @@ public class TraceContext {
 	 * @param message - the message to report
 	 */
 	public void error(Object source, Object message) {
-		errorCount++;
+		errorCount.incrementAndGet();
 
 		if (errorStream != null) {
 			errorStream.println("Error: " + message);
@@ -383,7 +386,7 @@ public class TraceContext {
 	 * @return - number of trace points
 	 */
 	public long getTotalTracePoints() {
-		return totalTracePoints;
+		return totalTracePoints.get();
 	}
 
 	/**
@@ -391,7 +394,7 @@ public class TraceContext {
 	 * @return - number of records
 	 */
 	public long getTotalRecords() {
-		return totalRecords;
+		return totalRecords.get();
 	}
 
 	/**
@@ -399,7 +402,7 @@ public class TraceContext {
 	 * @return - number of errors
 	 */
 	public long getErrorCount() {
-		return errorCount;
+		return errorCount.get();
 	}
 
 	/**
@@ -407,7 +410,7 @@ public class TraceContext {
 	 * @return - number of warnings
 	 */
 	public long getWarningCount() {
-		return warningCount;
+		return warningCount.get();
 	}
 
 	/**
@@ -526,6 +529,34 @@ public class TraceContext {
 		return new TraceContext(data, messageFile, message, warning, error, debug);
 	}
 
+	/**
+	 * This method constructs a context for a binary trace file and adds all of the trace records in it. The file is
+	 * memory mapped and the records are parsed from the mapping rather than read onto the heap up front.
+	 * @param traceFile - a binary trace file
+	 * @param messageFile - a file containing format strings
+	 * @param message - informational message destination
+	 * @param error - error message destination
+	 * @param warning - warning message destination
+	 * @param debug - debug message destination
+	 * @return - a context holding the records from the trace file
+	 * @throws IOException - if the trace file can't be mapped or the message data can't be accessed
+	 * @see com.ibm.jvm.trace.format.api.TraceContext#addMappedData(RandomAccessFile, long)
+	 */
+	public static TraceContext getMappedContext(File traceFile, File messageFile, PrintStream message, PrintStream error, PrintStream warning, PrintStream debug) throws IOException {
+		RandomAccessFile file = new RandomAccessFile(traceFile, "r");
+		try {
+			FileChannel channel = file.getChannel();
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), Integer.MAX_VALUE));
+			TraceContext context = getContext(header, messageFile, message, error, warning, debug);
+
+			context.addMappedData(file, context.getHeaderSize());
+			return context;
+		} finally {
+			/* the mappings remain valid once the file is closed */
+			file.close();
+		}
+	}
+
 	/**
 	 * @see com.ibm.jvm.trace.format.api.TraceContext#createByteStream(byte[], int, int)
 	 */
@@ -701,6 +732,62 @@ public class TraceContext {
 		return addData(new TraceRecord(this, data));
 	}
 
+	/**
+	 * @see com.ibm.jvm.trace.format.api.TraceContext#addData(TraceRecord)
+	 * @param data - a trace buffer generated by the JVM corresponding the context, from the position to the limit
+	 * of the buffer. This is not copied until the record is formatted so must not be modified before then.
+	 * @return - the thread that generated the buffer
+	 */
+	public TraceThread addData(ByteBuffer data) {
+		return addData(new TraceRecord(this, data));
+	}
+
+	/**
+	 * Memory maps the trace records in a file, from the offset to the end of the file, and adds them to the context.
+	 * Each record is a slice of the mapping; its header is parsed in place and its body is only copied when it's
+	 * appended to its thread's stream. Records that can't be parsed are reported as errors and skipped.
+	 * @param file - file containing trace data
+	 * @param offset - the offset in the file of the first record
+	 * @return - the number of records in the file, including any skipped
+	 * @throws IOException - if the file can't be mapped
+	 */
+	public long addMappedData(RandomAccessFile file, long offset) throws IOException {
+		FileChannel channel = file.getChannel();
+		long length = channel.size();
+		int recordSize = getRecordSize();
+
+		/* a mapping is limited to 2GB, so map whole numbers of records at a time */
+		long regionSize = (Integer.MAX_VALUE / recordSize) * (long)recordSize;
+		long records = 0;
+
+		/* map the whole file before adding anything so that a failure leaves the context unchanged */
+		List regions = new ArrayList();
+		for (long start = offset; start < length; start += regionSize) {
+			regions.add(channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionSize, length - start)));
+		}
+
+		for (int i = 0; i < regions.size(); i++) {
+			MappedByteBuffer region = (MappedByteBuffer)regions.get(i);
+			int size = region.capacity();
+
+			for (int position = 0; position < size; position += recordSize) {
+				ByteBuffer record = region.duplicate();
+				record.limit(Math.min(size, position + recordSize));
+				record.position(position);
+				try {
+					addData(record);
+				} catch (IllegalArgumentException e) {
+					error(this, "Bad block of trace data in input file at offset " + (offset + position) + ": " + e.getMessage());
+				}
+				records++;
+			}
+
+			offset += size;
+		}
+
+		return records;
+	}
+
 	/**
 	 * This method tells the formatter that there was data discarded at this point in
 	 * the stream of records. This has the affect of discarding any trace point fragments
@@ -926,6 +1013,27 @@ public class TraceContext {
 		return new SortedTracepointIterator();
 	}
 
+	/**
+	 * This method returns trace points in chronological order across threads, as getTracepoints() does,
+	 * but decodes and formats the data for each thread on the given number of worker threads. The
+	 * iterator operates on the data added to the context before the call; no more data may be added
+	 * while it's in use.
+	 * @param decoderThreads - the number of worker threads
+	 * @return
+	 */
+	public Iterator getTracepoints(int decoderThreads) {
+		if (decoderThreads < 1) {
+			throw new IllegalArgumentException("The number of decoder threads must be positive: " + decoderThreads);
+		}
+
+		List snapshot;
+		synchronized (this) {
+			snapshot = new ArrayList(threads);
+		}
+
+		return new ParallelTracepointIterator(snapshot, decoderThreads);
+	}
+
 	/**
 	 * This method adds a thread id to the thread filter. Only those threads in the filter will have data
 	 * returned via any of the iterators.
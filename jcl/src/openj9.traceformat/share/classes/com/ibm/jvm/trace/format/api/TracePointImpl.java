@@ -50,6 +50,7 @@ public class TracePointImpl implements TracePoint {
 	// long time_upperWord;
 	BigInteger time_merged = BigInteger.ZERO;
 	private Message message;
+	private String formattedParameters;
 
 	byte debugData[];
 	TracePointDebugInfo debugInfo;
@@ -468,7 +469,10 @@ public class TracePointImpl implements TracePoint {
 	}
 
 	public String getFormattedParameters() {
-		return getParameterDataFormatted();
+		if (formattedParameters == null) {
+			formattedParameters = getParameterDataFormatted();
+		}
+		return formattedParameters;
 	}
 
 	public String getFormattedTime() {
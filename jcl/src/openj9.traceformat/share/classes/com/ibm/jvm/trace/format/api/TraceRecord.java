@@ -23,8 +23,10 @@
 package com.ibm.jvm.trace.format.api;
 
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Vector;
@@ -73,9 +75,15 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	RandomAccessFile file;
 	long offset;
 
+	/* This is only used if this is a trace record in a memory mapped file */
+	private ByteBuffer mapped;
+
 	/* a record of the offsets that we've preprocessed to aid in debugging */
 	List<Integer> debugOffsets = null;
 
+	/* the number of this record in the order records were appended to thread streams, from 1 */
+	long recordNumber = 0;
+
 	/**
 	 * This will create a TraceRecord from a byte array. The byte array must be of the correct length
 	 * for a trace record in this context.
@@ -129,23 +137,89 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		}
 	}
 
-	private int parseHeader(byte[] data) throws IllegalArgumentException {
-		ByteStream stream = context.createByteStream(data);
+	/**
+	 * This will create a TraceRecord from a buffer holding a trace record, typically a slice of a
+	 * memory mapped trace file. The header is parsed from the buffer and the body is only copied
+	 * out of it when the record is appended to its thread's stream, so the buffer must remain
+	 * valid until then.
+	 *
+	 * @param context
+	 * @param mapped - the record, from the buffer's position to its limit
+	 * @throws IllegalArgumentException
+	 */
+	public TraceRecord(TraceContext context, ByteBuffer mapped) throws IllegalArgumentException {
+		this.context = context;
+		this.mapped = mapped.slice().order(context.order());
 
-		stream.peek(endTimeBytes);
-		endTime = stream.getBigInteger(8);
-		stream.peek(wrapTimeBytes);
-		wrapTime = stream.getBigInteger(8);
-		writePlatform = stream.getBigInteger(8);
-		writeSystem = stream.getBigInteger(8);
+		if (this.mapped.remaining() > context.getRecordSize()) {
+			throw new IllegalArgumentException("buffer is larger than a trace record");
+		}
 
-		threadID = stream.getLong();
-		threadSyn1 = stream.getLong();
-		threadSyn2 = stream.getLong();
-		firstEntry = stream.getInt();
-		nextEntry = stream.getInt();
+		if (context.debugLevel > 0) {
+			debugOffsets = new Vector<Integer>();
+		}
 
-		/* do some sanity checks */
+		parseHeader(this.mapped);
+
+		if (context.debugStream != null) {
+			context.debug(this, 3, summary());
+		}
+	}
+
+	private void parseHeader(ByteBuffer buffer) throws IllegalArgumentException {
+		if (buffer.remaining() < TRACERECORD_HEADER_SIZE) {
+			throw new IllegalArgumentException("buffer is smaller than a trace record header");
+		}
+
+		/* the time stamps are kept in their raw form as well */
+		ByteBuffer raw = buffer.duplicate();
+		raw.get(endTimeBytes);
+		raw.get(wrapTimeBytes);
+
+		endTime = getUnsignedLong(buffer, 0);
+		wrapTime = getUnsignedLong(buffer, 8);
+		writePlatform = getUnsignedLong(buffer, 16);
+		writeSystem = getUnsignedLong(buffer, 24);
+
+		threadID = buffer.getLong(32);
+		threadSyn1 = buffer.getLong(40);
+		threadSyn2 = buffer.getLong(48);
+		firstEntry = buffer.getInt(56);
+		nextEntry = buffer.getInt(60);
+
+		checkHeader();
+
+		if (buffer.remaining() < firstEntry) {
+			String error = "data passed to TraceRecord gives firstEntry["+firstEntry+"] beyond the end of the data["+buffer.remaining()+"]";
+			context.error(this, error);
+			throw new IllegalArgumentException(error);
+		}
+
+		int length = 0;
+		while (length < firstEntry - TRACERECORD_HEADER_SIZE && buffer.get(TRACERECORD_HEADER_SIZE + length) != '\0') {
+			length++;
+		}
+		byte name[] = new byte[length];
+		raw.position(TRACERECORD_HEADER_SIZE);
+		raw.get(name);
+		try {
+			threadName = new String(name, "US-ASCII").intern();
+		} catch (UnsupportedEncodingException e) {
+			// US-ASCII will be supported
+			threadName = new String(name).intern();
+		}
+	}
+
+	private static BigInteger getUnsignedLong(ByteBuffer buffer, int index) {
+		long value = buffer.getLong(index);
+		BigInteger result = BigInteger.valueOf(value & Long.MAX_VALUE);
+		if (value < 0) {
+			result = result.setBit(63);
+		}
+		return result;
+	}
+
+	private void checkHeader() throws IllegalArgumentException {
 		String error = null;
 		if (error == null && firstEntry < TRACERECORD_HEADER_SIZE) {
 			error = "data passed to TraceRecord gives firstEntry["+firstEntry+"] < header size["+TRACERECORD_HEADER_SIZE+"]";
@@ -163,6 +237,26 @@ public class TraceRecord implements Comparable<TraceRecord> {
 			context.error(this, error);
 			throw new IllegalArgumentException(error);
 		}
+	}
+
+	private int parseHeader(byte[] data) throws IllegalArgumentException {
+		ByteStream stream = context.createByteStream(data);
+
+		stream.peek(endTimeBytes);
+		endTime = stream.getBigInteger(8);
+		stream.peek(wrapTimeBytes);
+		wrapTime = stream.getBigInteger(8);
+		writePlatform = stream.getBigInteger(8);
+		writeSystem = stream.getBigInteger(8);
+
+		threadID = stream.getLong();
+		threadSyn1 = stream.getLong();
+		threadSyn2 = stream.getLong();
+		firstEntry = stream.getInt();
+		nextEntry = stream.getInt();
+
+		/* do some sanity checks */
+		checkHeader();
 
 		/* check we've got enough data for reading the name, if not pass back how many actually needed
 		 * to be read in.
@@ -182,6 +276,23 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	 * @return - the number of bytes loaded for the record
 	 */
 	private int load() {
+		/* if we're a slice of a mapped file take our own copy, as appending the record rewrites it */
+		if (mapped != null) {
+			data = new byte[mapped.remaining()];
+			mapped.get(data);
+			mapped = null;
+
+			if (data.length != context.getRecordSize()) {
+				context.error(this, "couldn't read an entire record from the file");
+
+				if (data.length <= nextEntry) {
+					return 0;
+				}
+			}
+
+			return data.length;
+		}
+
 		/* if we've got a file and offset then make sure we've got all the data */
 		if (file != null && (data == null || data.length != context.getRecordSize())) {
 			data = new byte[context.getRecordSize()];
@@ -192,8 +303,11 @@ public class TraceRecord implements Comparable<TraceRecord> {
 			int bytesRead = 0;
 
 			try {
-				file.seek(offset);
-				bytesRead = file.read(data);
+				/* records of different threads may be loaded concurrently from the same file */
+				synchronized (file) {
+					file.seek(offset);
+					bytesRead = file.read(data);
+				}
 				if (bytesRead != data.length) {
 					context.error(this, "couldn't read an entire record from the file");
 
@@ -238,7 +352,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 			return 0;
 		}
 
-		context.totalRecords++;
+		recordNumber = context.totalRecords.incrementAndGet();
 
 		/* does the lostRecord tracepoint get written into the record that wrapped or
 		 * the one after?
@@ -667,7 +781,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				}
 			}
 
-			context.totalTracePoints++;
+			context.totalTracePoints.incrementAndGet();
 		}
 
 		if (discard) {
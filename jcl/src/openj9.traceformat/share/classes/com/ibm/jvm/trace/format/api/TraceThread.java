@@ -195,7 +195,7 @@ public class TraceThread implements Comparable {
 				Iterator itr = record.debugOffsets.iterator();
 				while (itr.hasNext()) {
 					Integer offset = (Integer)itr.next();
-					debugOffsets.add(new TracePointDebugInfo((int)context.totalRecords - 1, offset.intValue()));
+					debugOffsets.add(new TracePointDebugInfo((int)record.recordNumber - 1, offset.intValue()));
 				}
 			}
 
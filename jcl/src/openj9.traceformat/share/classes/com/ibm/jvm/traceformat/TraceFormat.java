@@ -80,6 +80,7 @@ public class TraceFormat
 		ProgramOption.addOption(Verbose.class);
 		ProgramOption.addOption(Debug.class);
 		ProgramOption.addOption(Statistics.class);
+		ProgramOption.addOption(Parallel.class);
 
 		/* The trace context holds the configuration and state for the parsing */
 		TraceContext context;
@@ -111,6 +112,7 @@ public class TraceFormat
 		Boolean verbose = (Boolean)ProgramOption.getValue("verbose");
 		Integer debugLevel = (Integer)ProgramOption.getValue("debug");
 		Boolean statistics = (Boolean)ProgramOption.getValue("statistics");
+		Integer parallel = (Integer)ProgramOption.getValue("parallel");
 
 		/* Parse the header on the first file */
 		int blockSize = 4000;
@@ -216,10 +218,19 @@ public class TraceFormat
 				context.warning(context, "The body of the trace file is not a multiple of the record size, file either truncated or corrupt");
 			}
 
+			/* parse the records straight out of a mapping of the file if we can */
+			try {
+				long records = context.addMappedData(traceFile, offset);
+				totalBytes+= records * recordSize;
+				recordsInData+= records;
+				continue;
+			} catch (IOException e) {
+				context.debug(context, 1, "Unable to memory map the trace file, reading it instead: " + e.getMessage());
+			}
+
 			while (offset < length) {
 				try {
-					TraceThread thread = context.addData(traceFile, offset);
-					indentMap.put(thread, "");
+					context.addData(traceFile, offset);
 				} catch (IllegalArgumentException e) {
 					context.error(context, "Bad block of trace data in input file at offset "+offset+": "+e.getMessage());
 				}
@@ -265,7 +276,12 @@ public class TraceFormat
 		}
 
 		/* start reading tracepoints */
-		itr = context.getTracepoints();
+		if (parallel.intValue() > 1) {
+			/* decode threads on a worker pool, merging their trace points as they're formatted */
+			itr = context.getTracepoints(parallel.intValue());
+		} else {
+			itr = context.getTracepoints();
+		}
 
 		String totalMbytes = (float)totalBytes/(float)(1024*1024) + "Mb";
 		context.message(context, "Processing " + totalMbytes + " of binary trace data");
@@ -323,7 +339,10 @@ public class TraceFormat
 				formatted.append(tracepoint.getType());
 
 				if (indenting.booleanValue()) {
-					indent = indentMap.get(current).toString();
+					indent = (String)indentMap.get(current);
+					if (indent == null) {
+						indent = "";
+					}
 
 					/* we remove the indent before appending for exit */
 					if (tracepoint.getTypeAsInt() == TracePoint.EXIT_TYPE || tracepoint.getTypeAsInt() == TracePoint.EXIT_EXCPT_TYPE) {
@@ -440,6 +459,47 @@ class Debug extends ProgramOption {
 
 }
 
+class Parallel extends ProgramOption {
+	int parallel;
+
+	String getDescription() {
+		return "The number of threads to use for decoding the trace data. If specified without a value the number of available processors is used. The default is to decode on a single thread.";
+	}
+
+	String getName() {
+		return "parallel";
+	}
+
+	String getUsage() {
+		return "-parallel[=threads]";
+	}
+
+	Object getValue() {
+		return Integer.valueOf(parallel);
+	}
+
+	void setValue(String value) throws IllegalArgumentException {
+		try {
+			parallel = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			parallel = -1;
+		}
+
+		if (parallel < 1) {
+			throw new IllegalArgumentException("The value \""+value+"\" specified for parallel is not valid, must be a positive integer");
+		}
+	}
+
+	void setAutomatic() {
+		parallel = Runtime.getRuntime().availableProcessors();
+	}
+
+	void setDefault() {
+		parallel = 1;
+	}
+
+}
+
 class Verbose extends ProgramOption {
 	boolean verbose;
 
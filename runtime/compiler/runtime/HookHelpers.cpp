@@ -374,6 +374,9 @@ void jitReleaseCodeCollectMetaData(J9JITConfig *jitConfig, J9VMThread *vmThread,
                 reinterpret_cast<uint8_t *>(metaData->startPC));
             freeExistingExceptionTable = true;
         }
+        // The code may be reused for other methods, so stack traces cached by their program counters
+        // (java.lang.StackTraceCache) are no longer valid
+        jitConfig->releasedBodyCount += 1;
         renewCodeCachePessimism(vmThread);
     }
 
@@ -52,5 +52,25 @@ Java_java_lang_J9VMInternals_getStackTrace(JNIEnv *env, jclass recv, jobject thr
 	return result;
 }
 
+jlong JNICALL
+Java_java_lang_J9VMInternals_getCodeUnloadCount(JNIEnv *env, jclass recv)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9JITConfig *jitConfig = vm->jitConfig;
+	UDATA anonymousClasses = 0;
+	UDATA classes = 0;
+	UDATA classLoaders = 0;
+
+	/* the count of classes includes the anonymous classes */
+	vm->memoryManagerFunctions->j9gc_get_cumulative_class_unloading_stats(currentThread, &anonymousClasses, &classes, &classLoaders);
+	jlong count = (jlong)classes;
+	if (NULL != jitConfig) {
+		/* compiled code is also released when it is replaced by a recompiled body */
+		count += (jlong)jitConfig->releasedBodyCount;
+	}
+	return count;
+}
+
 
 }
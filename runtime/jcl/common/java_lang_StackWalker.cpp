@@ -42,10 +42,11 @@ extern "C" {
 #define J9_DROP_METHOD_INFO       0x10
 #endif /* JAVA_SPEC_VERSION >= 22 */
 #define J9_GET_CALLER_CLASS       0x20
+#define J9_LAZY_FRAMES            0x40
 
 #define J9_FRAME_VALID            0x80
 
-#define J9_FRAME_COMMON_MASK (J9_RETAIN_CLASS_REFERENCE | J9_SHOW_REFLECT_FRAMES | J9_SHOW_HIDDEN_FRAMES)
+#define J9_FRAME_COMMON_MASK (J9_RETAIN_CLASS_REFERENCE | J9_SHOW_REFLECT_FRAMES | J9_SHOW_HIDDEN_FRAMES | J9_LAZY_FRAMES)
 
 #if JAVA_SPEC_VERSION >= 22
 #define J9_FRAME_FILTER_MASK (J9_FRAME_COMMON_MASK | J9_GET_MONITORS | J9_DROP_METHOD_INFO)
@@ -93,7 +94,7 @@ stackFrameFilter(J9VMThread *currentThread, J9StackWalkState *walkState)
 }
 
 jobject JNICALL
-Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags, jstring stackWalkerMethod, jobject function)
+Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags, jint estimatedDepth, jstring stackWalkerMethod, jobject function)
 {
 	J9VMThread *vmThread = (J9VMThread *)env;
 	J9JavaVM *vm = vmThread->javaVM;
@@ -160,11 +161,11 @@ Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags
 
 	jmethodID walkImplMID = JCL_CACHE_GET(env, MID_java_lang_StackWalker_walkImpl);
 	if (NULL == walkImplMID) {
-		walkImplMID = env->GetStaticMethodID( clazz, "walkImpl", "(Ljava/util/function/Function;J)Ljava/lang/Object;");
+		walkImplMID = env->GetStaticMethodID( clazz, "walkImpl", "(Ljava/util/function/Function;JI)Ljava/lang/Object;");
 		Assert_JCL_notNull(walkImplMID);
 		JCL_CACHE_SET(env, MID_java_lang_StackWalker_walkImpl, walkImplMID);
 	}
-	jobject result = env->CallStaticObjectMethod(clazz, walkImplMID, function, JLONG_FROM_POINTER(walkState));
+	jobject result = env->CallStaticObjectMethod(clazz, walkImplMID, function, JLONG_FROM_POINTER(walkState), estimatedDepth);
 
 	if (NULL != walkerMethodChars) {
 		env->ReleaseStringUTFChars(stackWalkerMethod, walkerMethodChars);
@@ -183,7 +184,7 @@ Java_java_lang_StackWalker_walkWrapperImpl(JNIEnv *env, jclass clazz, jint flags
 
 #if JAVA_SPEC_VERSION >= 19
 jobject JNICALL
-Java_java_lang_StackWalker_walkContinuationImpl(JNIEnv *env, jclass clazz, jint flags, jobject function, jobject cont)
+Java_java_lang_StackWalker_walkContinuationImpl(JNIEnv *env, jclass clazz, jint flags, jint estimatedDepth, jobject function, jobject cont)
 {
 	J9VMThread *vmThread = (J9VMThread *)env;
 	J9JavaVM *vm = vmThread->javaVM;
@@ -226,170 +227,277 @@ Java_java_lang_StackWalker_walkContinuationImpl(JNIEnv *env, jclass clazz, jint
 
 	jmethodID walkImplMID = JCL_CACHE_GET(env, MID_java_lang_StackWalker_walkImpl);
 	if (NULL == walkImplMID) {
-		walkImplMID = env->GetStaticMethodID( clazz, "walkImpl", "(Ljava/util/function/Function;J)Ljava/lang/Object;");
+		walkImplMID = env->GetStaticMethodID( clazz, "walkImpl", "(Ljava/util/function/Function;JI)Ljava/lang/Object;");
 		Assert_JCL_notNull (walkImplMID);
 		JCL_CACHE_SET(env, MID_java_lang_StackWalker_walkImpl, walkImplMID);
 	}
-	jobject result = env->CallStaticObjectMethod(clazz, walkImplMID, function, JLONG_FROM_POINTER(&walkState));
+	jobject result = env->CallStaticObjectMethod(clazz, walkImplMID, function, JLONG_FROM_POINTER(&walkState), estimatedDepth);
 
 	return result;
 }
 #endif /* JAVA_SPEC_VERSION >= 19 */
 
-jobject JNICALL
-Java_java_lang_StackWalker_getImpl(JNIEnv *env, jobject clazz, jlong walkStateP)
+/**
+ * Set the line number, class name, method name, signature and file name of the frame
+ * at the top of the special frame.
+ *
+ * @param[in] vmThread the current thread
+ * @param[in] ramClass the class which defines romMethod
+ * @param[in] romMethod the method of the frame
+ * @param[in] bytecodeOffset the bytecode index of the frame
+ * @param[in] includeMethodInfo false to set only the class name
+ *
+ * @return false if an exception is pending
+ */
+static bool
+setMethodInfo(J9VMThread *vmThread, J9Class *ramClass, J9ROMMethod *romMethod, UDATA bytecodeOffset, bool includeMethodInfo)
 {
-	J9VMThread *vmThread = (J9VMThread *)env;
 	J9JavaVM *vm = vmThread->javaVM;
-	J9InternalVMFunctions const * const vmFuncs = vm->internalVMFunctions;
 	J9MemoryManagerFunctions const * const mmFuncs = vm->memoryManagerFunctions;
-	J9StackWalkState *walkState = (J9StackWalkState *)(UDATA)walkStateP;
-	jobject result = NULL;
+	J9ROMClass *romClass = ramClass->romClass;
+	J9ClassLoader *classLoader = ramClass->classLoader;
+	j9object_t stringObject = NULL;
+
+	if (includeMethodInfo) {
+		UDATA lineNumber = getLineNumberForROMClassFromROMMethod(vm, romMethod, romClass, classLoader, bytecodeOffset);
+
+		/* Fill in line number - Java wants -2 for natives, -1 for no line number (which will be 0 coming in from the iterator). */
+		if (J9_ARE_ANY_BITS_SET(romMethod->modifiers, J9AccNative)) {
+			lineNumber = -2;
+		} else if (lineNumber == 0) {
+			lineNumber = -1;
+		}
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_LINENUMBER(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), (I_32)lineNumber);
+	}
 
-	enterVMFromJNI(vmThread);
+	stringObject = VM_VMHelpers::getClassNameString(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), JNI_TRUE);
+	if (VM_VMHelpers::exceptionPending(vmThread)) {
+		return false;
+	}
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
 
-	if (J9_ARE_NO_BITS_SET((UDATA)walkState->userData1, J9_FRAME_VALID)) {
-		/* skip over the current frame */
-		walkState->userData1 = (void *)((UDATA)walkState->userData1 & J9_FRAME_FILTER_MASK);
-		if (J9_STACKWALK_RC_NONE != vm->walkStackFrames(vmThread, walkState)) {
-			vmFuncs->setNativeOutOfMemoryError(vmThread, 0, 0);
-			goto _done;
+	if (includeMethodInfo) {
+		stringObject = mmFuncs->j9gc_createJavaLangStringWithUTFCache(vmThread, J9ROMMETHOD_NAME(romMethod));
+		if (VM_VMHelpers::exceptionPending(vmThread)) {
+			return false;
 		}
-	}
-	/* clear the valid bit */
-	walkState->userData1 = (void *)((UDATA)walkState->userData1 & J9_FRAME_FILTER_MASK);
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
 
-	if (J9SF_FRAME_TYPE_END_OF_STACK != walkState->pc) {
-		J9Class *frameClass = J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_OR_NULL(vm);
-		j9object_t frame = mmFuncs->J9AllocateObject(vmThread, frameClass, J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE);
-		if (NULL == frame) {
-			vmFuncs->setHeapOutOfMemoryError(vmThread);
-		} else {
-			J9ROMMethod *romMethod = getOriginalROMMethod(walkState->method);
-			J9Class *ramClass = J9_CLASS_FROM_METHOD(walkState->method);
-			J9ROMClass *romClass = ramClass->romClass;
-			J9ClassLoader *classLoader = ramClass->classLoader;
-
-			result = vmFuncs->j9jni_createLocalRef(env, frame);
-			UDATA bytecodeOffset = walkState->bytecodePCOffset; /* need this for StackFrame */
-			UDATA lineNumber = getLineNumberForROMClassFromROMMethod(vm, romMethod, romClass, classLoader, bytecodeOffset);
-			PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, frame);
-
-			/* set the class object if requested */
-			if (J9_ARE_ANY_BITS_SET((UDATA)walkState->userData1, J9_RETAIN_CLASS_REFERENCE)) {
-				j9object_t classObject = J9VM_J9CLASS_TO_HEAPCLASS(ramClass);
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_DECLARINGCLASS(vmThread, frame, classObject);
+		stringObject = mmFuncs->j9gc_createJavaLangStringWithUTFCache(vmThread, J9ROMMETHOD_SIGNATURE(romMethod));
+		if (VM_VMHelpers::exceptionPending(vmThread)) {
+			return false;
+		}
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODSIGNATURE(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+
+		stringObject = J9VMJAVALANGCLASS_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
+		if (NULL == stringObject) {
+			J9UTF8 *fileName = getSourceFileNameForROMClass(vm, classLoader, romClass);
+			if (NULL != fileName) {
+				stringObject = mmFuncs->j9gc_createJavaLangString(vmThread, J9UTF8_DATA(fileName), J9UTF8_LENGTH(fileName), J9_STR_TENURE);
+				if (VM_VMHelpers::exceptionPending(vmThread)) {
+					return false;
+				}
+				/* Update the cached fileNameString on the class so subsequent calls will find it. */
+				J9VMJAVALANGCLASS_SET_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), stringObject);
 			}
+		}
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FILENAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+	}
+
+	return true;
+}
+
+/**
+ * Create the StackFrameImpl for the current frame of the walk.
+ *
+ * With J9_LAZY_FRAMES, the class name, method name, signature, file name and
+ * line number are not set; the frame instead keeps its class loaded and records
+ * its ROM method, so that resolveFrameImpl() can set them when they are needed.
+ *
+ * @param[in] vmThread the current thread
+ * @param[in] walkState the walk, positioned at the frame
+ *
+ * @return the new frame, or NULL if an exception is pending
+ */
+static j9object_t
+createStackFrame(J9VMThread *vmThread, J9StackWalkState *walkState)
+{
+	J9JavaVM *vm = vmThread->javaVM;
+	J9InternalVMFunctions const * const vmFuncs = vm->internalVMFunctions;
+	J9MemoryManagerFunctions const * const mmFuncs = vm->memoryManagerFunctions;
+	J9Class *frameClass = J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_OR_NULL(vm);
+	j9object_t frame = mmFuncs->J9AllocateObject(vmThread, frameClass, J9_GC_ALLOCATE_OBJECT_NON_INSTRUMENTABLE);
+	if (NULL == frame) {
+		vmFuncs->setHeapOutOfMemoryError(vmThread);
+		return NULL;
+	}
+
+	J9ROMMethod *romMethod = getOriginalROMMethod(walkState->method);
+	J9Class *ramClass = J9_CLASS_FROM_METHOD(walkState->method);
+	J9ClassLoader *classLoader = ramClass->classLoader;
+	UDATA bytecodeOffset = walkState->bytecodePCOffset; /* need this for StackFrame */
+	PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, frame);
+
+	/* set the class object if requested */
+	if (J9_ARE_ANY_BITS_SET((UDATA)walkState->userData1, J9_RETAIN_CLASS_REFERENCE)) {
+		j9object_t classObject = J9VM_J9CLASS_TO_HEAPCLASS(ramClass);
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_DECLARINGCLASS(vmThread, frame, classObject);
+	}
 
 #if JAVA_SPEC_VERSION < 22
-			bool const includeMethodInfo = true;
+	bool const includeMethodInfo = true;
 #else /* JAVA_SPEC_VERSION < 22 */
-			bool const includeMethodInfo = J9_ARE_NO_BITS_SET((UDATA)walkState->userData1, J9_DROP_METHOD_INFO);
+	bool const includeMethodInfo = J9_ARE_NO_BITS_SET((UDATA)walkState->userData1, J9_DROP_METHOD_INFO);
 
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FLAGS(vmThread, frame, (I_32)(IDATA)walkState->userData1);
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FLAGS(vmThread, frame, (I_32)(IDATA)walkState->userData1);
 #endif /* JAVA_SPEC_VERSION < 22 */
 
-			if (includeMethodInfo) {
-				/* set bytecode index */
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_BYTECODEINDEX(vmThread, frame, (U_32)bytecodeOffset);
+	if (includeMethodInfo) {
+		/* set bytecode index */
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_BYTECODEINDEX(vmThread, frame, (U_32)bytecodeOffset);
+	}
 
-				/* Fill in line number - Java wants -2 for natives, -1 for no line number (which will be 0 coming in from the iterator). */
+	j9object_t stringObject = J9VMJAVALANGCLASSLOADER_CLASSLOADERNAME(vmThread, classLoader->classLoaderObject);
+	J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSLOADERNAME(vmThread, frame, stringObject);
 
-				if (J9_ARE_ANY_BITS_SET(romMethod->modifiers, J9AccNative)) {
-					lineNumber = -2;
-				} else if (lineNumber == 0) {
-					lineNumber = -1;
-				}
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_LINENUMBER(vmThread, frame, (I_32)lineNumber);
-			}
+	J9Module *module = ramClass->module;
+	if (NULL != module) {
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FRAMEMODULE(vmThread, frame, module->moduleObject);
+	}
 
-			j9object_t stringObject = J9VMJAVALANGCLASSLOADER_CLASSLOADERNAME(vmThread, classLoader->classLoaderObject);
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSLOADERNAME(vmThread, frame, stringObject);
+	if (J9ROMMETHOD_IS_CALLER_SENSITIVE(romMethod)) {
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CALLERSENSITIVE(vmThread, frame, TRUE);
+	}
 
-			J9Module *module = ramClass->module;
-			if (NULL != module) {
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FRAMEMODULE(vmThread, frame, module->moduleObject);
-			}
+	if (J9_ARE_ANY_BITS_SET((UDATA)walkState->userData1, J9_LAZY_FRAMES)) {
+		/* the class keeps the ROM method valid until the frame is resolved */
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODCLASS(vmThread, frame, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_ROMMETHOD(vmThread, frame, (I_64)(UDATA)romMethod);
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_LAZY(vmThread, frame, TRUE);
+	} else if (!setMethodInfo(vmThread, ramClass, romMethod, bytecodeOffset, includeMethodInfo)) {
+		goto _pop_frame;
+	}
 
-			stringObject = VM_VMHelpers::getClassNameString(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), JNI_TRUE);
-			if (VM_VMHelpers::exceptionPending(vmThread)) {
+#if JAVA_SPEC_VERSION >= 21
+	if (J9_ARE_ANY_BITS_SET((UDATA)walkState->userData1, J9_GET_MONITORS)) {
+		J9ObjectMonitorInfo *monitorInfo = (J9ObjectMonitorInfo *)walkState->userData3;
+		IDATA *monitorCount = (IDATA *)(&walkState->userData4);
+
+		/* Temp fields to find the number of monitors hold by this frame. */
+		J9ObjectMonitorInfo *tempInfo = monitorInfo;
+		U_32 count = 0;
+		/* Use a while loop as there may be more than one lock taken in a stack frame. */
+		while ((0 != *monitorCount) && ((UDATA)tempInfo->depth == walkState->framesWalked)) {
+			count += 1;
+			tempInfo += 1;
+			(*monitorCount) -= 1;
+		}
+		if (count > 0) {
+			J9Class *arrayClass = fetchArrayClass(vmThread, J9VMJAVALANGOBJECT(vm));
+			j9object_t monitorArray = mmFuncs->J9AllocateIndexableObject(vmThread, arrayClass, count, J9_GC_ALLOCATE_OBJECT_INSTRUMENTABLE);
+			if (NULL == monitorArray) {
+				vmFuncs->setHeapOutOfMemoryError(vmThread);
 				goto _pop_frame;
 			}
-			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CLASSNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+			J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_MONITORS(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), monitorArray);
+			for (U_32 i = 0; i < count; i++) {
+				J9JAVAARRAYOFOBJECT_STORE(vmThread, monitorArray, i, monitorInfo->object);
+				monitorInfo += 1;
+			}
 
-			if (includeMethodInfo) {
-				stringObject = mmFuncs->j9gc_createJavaLangStringWithUTFCache(vmThread, J9ROMMETHOD_NAME(romMethod));
-				if (VM_VMHelpers::exceptionPending(vmThread)) {
-					goto _pop_frame;
-				}
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODNAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
+			/* Store the updated progress back in userData for the next callback. */
+			walkState->userData3 = monitorInfo;
+		}
+	}
+#endif /* JAVA_SPEC_VERSION >= 21 */
 
-				stringObject = mmFuncs->j9gc_createJavaLangStringWithUTFCache(vmThread, J9ROMMETHOD_SIGNATURE(romMethod));
-				if (VM_VMHelpers::exceptionPending(vmThread)) {
-					goto _pop_frame;
-				}
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODSIGNATURE(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
-
-				stringObject = J9VMJAVALANGCLASS_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass));
-				if (NULL == stringObject) {
-					J9UTF8 *fileName = getSourceFileNameForROMClass(vm, classLoader, romClass);
-					if (NULL != fileName) {
-						stringObject = mmFuncs->j9gc_createJavaLangString(vmThread, J9UTF8_DATA(fileName), J9UTF8_LENGTH(fileName), J9_STR_TENURE);
-						if (VM_VMHelpers::exceptionPending(vmThread)) {
-							goto _pop_frame;
-						}
-						/* Update the cached fileNameString on the class so subsequent calls will find it. */
-						J9VMJAVALANGCLASS_SET_FILENAMESTRING(vmThread, J9VM_J9CLASS_TO_HEAPCLASS(ramClass), stringObject);
-					}
-				}
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_FILENAME(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), stringObject);
-			}
+_pop_frame:
+	frame = POP_OBJECT_IN_SPECIAL_FRAME(vmThread);
+	if (VM_VMHelpers::exceptionPending(vmThread)) {
+		frame = NULL;
+	}
+	return frame;
+}
 
-			if (J9ROMMETHOD_IS_CALLER_SENSITIVE(romMethod)) {
-				J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_CALLERSENSITIVE(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), TRUE);
-			}
+jint JNICALL
+Java_java_lang_StackWalker_getBatchImpl(JNIEnv *env, jclass clazz, jlong walkStateP, jobjectArray frames, jint count)
+{
+	J9VMThread *vmThread = (J9VMThread *)env;
+	J9JavaVM *vm = vmThread->javaVM;
+	J9InternalVMFunctions const * const vmFuncs = vm->internalVMFunctions;
+	J9StackWalkState *walkState = (J9StackWalkState *)(UDATA)walkStateP;
+	jint filled = 0;
 
-#if JAVA_SPEC_VERSION >= 21
-			if (J9_ARE_ANY_BITS_SET((UDATA)walkState->userData1, J9_GET_MONITORS)) {
-				J9ObjectMonitorInfo *monitorInfo = (J9ObjectMonitorInfo *)walkState->userData3;
-				IDATA *monitorCount = (IDATA *)(&walkState->userData4);
-
-				/* Temp fields to find the number of monitors hold by this frame. */
-				J9ObjectMonitorInfo *tempInfo = monitorInfo;
-				U_32 count = 0;
-				/* Use a while loop as there may be more than one lock taken in a stack frame. */
-				while ((0 != *monitorCount) && ((UDATA)tempInfo->depth == walkState->framesWalked)) {
-					count += 1;
-					tempInfo += 1;
-					(*monitorCount) -= 1;
-				}
-				if (count > 0) {
-					J9Class *arrayClass = fetchArrayClass(vmThread, J9VMJAVALANGOBJECT(vm));
-					j9object_t monitorArray = mmFuncs->J9AllocateIndexableObject(vmThread, arrayClass, count, J9_GC_ALLOCATE_OBJECT_INSTRUMENTABLE);
-					if (NULL == monitorArray) {
-						vmFuncs->setHeapOutOfMemoryError(vmThread);
-						goto _pop_frame;
-					}
-					J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_MONITORS(vmThread, PEEK_OBJECT_IN_SPECIAL_FRAME(vmThread, 0), monitorArray);
-					for (U_32 i = 0; i < count; i++) {
-						J9JAVAARRAYOFOBJECT_STORE(vmThread, monitorArray, i, monitorInfo->object);
-						monitorInfo += 1;
-					}
-
-					/* Store the updated progress back in userData for the next callback. */
-					walkState->userData3 = monitorInfo;
-				}
+	enterVMFromJNI(vmThread);
+
+	while (filled < count) {
+		if (J9_ARE_NO_BITS_SET((UDATA)walkState->userData1, J9_FRAME_VALID)) {
+			/* skip over the current frame */
+			if (J9_STACKWALK_RC_NONE != vm->walkStackFrames(vmThread, walkState)) {
+				vmFuncs->setNativeOutOfMemoryError(vmThread, 0, 0);
+				break;
 			}
-#endif /* JAVA_SPEC_VERSION >= 21 */
+		}
+		/* clear the valid bit */
+		walkState->userData1 = (void *)((UDATA)walkState->userData1 & J9_FRAME_FILTER_MASK);
 
-_pop_frame:
-			DROP_OBJECT_IN_SPECIAL_FRAME(vmThread);
+		if (J9SF_FRAME_TYPE_END_OF_STACK == walkState->pc) {
+			break;
+		}
+		j9object_t frame = createStackFrame(vmThread, walkState);
+		if (NULL == frame) {
+			break;
 		}
+		J9JAVAARRAYOFOBJECT_STORE(vmThread, J9_JNI_UNWRAP_REFERENCE(frames), filled, frame);
+		filled += 1;
 	}
-_done:
+
 	exitVMToJNI(vmThread);
 
-	return result;
+	return filled;
+}
+
+void JNICALL
+Java_java_lang_StackWalker_resolveFrameImpl(JNIEnv *env, jclass clazz, jobject frameRef)
+{
+	J9VMThread *vmThread = (J9VMThread *)env;
+
+	enterVMFromJNI(vmThread);
+
+	j9object_t frame = J9_JNI_UNWRAP_REFERENCE(frameRef);
+	j9object_t classObject = J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_METHODCLASS(vmThread, frame);
+	J9ROMMethod *romMethod = (J9ROMMethod *)(UDATA)J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_ROMMETHOD(vmThread, frame);
+	UDATA bytecodeOffset = (UDATA)(U_32)J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_BYTECODEINDEX(vmThread, frame);
+	J9Class *ramClass = J9VM_J9CLASS_FROM_HEAPCLASS(vmThread, classObject);
+#if JAVA_SPEC_VERSION < 22
+	bool const includeMethodInfo = true;
+#else /* JAVA_SPEC_VERSION < 22 */
+	bool const includeMethodInfo = J9_ARE_NO_BITS_SET((UDATA)(U_32)J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_FLAGS(vmThread, frame), J9_DROP_METHOD_INFO);
+#endif /* JAVA_SPEC_VERSION < 22 */
+
+	/* The method belongs to an earlier version of the class if it has since been redefined. */
+	while (NULL != ramClass) {
+		J9ROMClass *romClass = ramClass->romClass;
+		if (((UDATA)romMethod - (UDATA)romClass) < romClass->romSize) {
+			break;
+		}
+		ramClass = ramClass->replacedClass;
+	}
+
+	PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, frame);
+	if (NULL == ramClass) {
+		/* only the class name is still known */
+		setMethodInfo(vmThread, J9VM_J9CLASS_FROM_HEAPCLASS(vmThread, classObject), NULL, 0, false);
+	} else {
+		setMethodInfo(vmThread, ramClass, romMethod, bytecodeOffset, includeMethodInfo);
+	}
+	frame = POP_OBJECT_IN_SPECIAL_FRAME(vmThread);
+	if (!VM_VMHelpers::exceptionPending(vmThread)) {
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_METHODCLASS(vmThread, frame, NULL);
+		J9VMJAVALANGSTACKWALKERSTACKFRAMEIMPL_SET_ROMMETHOD(vmThread, frame, 0);
+	}
+
+	exitVMToJNI(vmThread);
 }
 
 } /* extern "C" */
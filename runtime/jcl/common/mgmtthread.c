@@ -498,6 +498,114 @@ done:
 	return result;
 }
 
+/* The number of jlongs per thread in the array returned by getThreadUsageImpl(). */
+#define THREAD_USAGE_FIELDS 5
+
+/**
+ * Collect the usage of all live threads in one walk of the vmthread list.
+ * For each thread, the returned array holds THREAD_USAGE_FIELDS consecutive values:
+ * thread ID, CPU time, user time, allocated bytes and java/lang/Thread$State ordinal.
+ * The times are -1 unless getCpuTime is true, and the allocated bytes are -1 unless
+ * getAllocatedBytes is true or the value is not available.
+ * The walk is done with exclusive VM access, as getThreadInfo() requires to read the state
+ * of another thread, so the states are consistent with each other.
+ *
+ * @param[in] env
+ * @param[in] unused
+ * @param[in] getCpuTime whether to get the CPU and user times
+ * @param[in] getAllocatedBytes whether to get the allocated bytes
+ * @return the usage of all live threads, or NULL with a pending OutOfMemoryError
+ */
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadUsageImpl(JNIEnv *env, jclass unused, jboolean getCpuTime, jboolean getAllocatedBytes)
+{
+	PORT_ACCESS_FROM_ENV(env);
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmfns = javaVM->internalVMFunctions;
+	J9MemoryManagerFunctions *mmfns = javaVM->memoryManagerFunctions;
+	J9VMThread *targetThread = NULL;
+	jlongArray resultArray = NULL;
+	jlong *usage = NULL;
+	UDATA count = 0;
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	/* the state of a thread which is not halted may change while it is read */
+	vmfns->acquireExclusiveVMAccess(currentThread);
+
+	usage = j9mem_allocate_memory(javaVM->totalThreadCount * THREAD_USAGE_FIELDS * sizeof(jlong), J9MEM_CATEGORY_VM_JCL);
+	if (NULL == usage) {
+		vmfns->releaseExclusiveVMAccess(currentThread);
+		vmfns->setNativeOutOfMemoryError(currentThread, 0, 0);
+		vmfns->internalExitVMToJNI(currentThread);
+		return NULL;
+	}
+
+	targetThread = currentThread;
+	do {
+#if JAVA_SPEC_VERSION >= 19
+		j9object_t threadObject = targetThread->carrierThreadObject;
+#else /* JAVA_SPEC_VERSION >= 19 */
+		j9object_t threadObject = targetThread->threadObject;
+#endif /* JAVA_SPEC_VERSION >= 19 */
+		/* exclude threads which are not alive or have not initialized their ID, as getAllThreadIds() does */
+		if ((NULL != threadObject) && (NULL != J9VMJAVALANGTHREAD_THREADREF(currentThread, threadObject))) {
+			jlong threadID = getThreadID(currentThread, threadObject);
+			if (((jlong)0) != threadID) {
+				jlong *threadUsage = usage + (count * THREAD_USAGE_FIELDS);
+				jlong cpuTime = -1;
+				jlong userTime = -1;
+				jlong allocated = -1;
+				UDATA vmstate = 0;
+
+				if (JNI_TRUE == getCpuTime) {
+					if (currentThread == targetThread) {
+						cpuTime = omrthread_get_self_cpu_time(targetThread->osThread);
+						userTime = getCurrentThreadUserTime(targetThread->osThread);
+					} else {
+						cpuTime = omrthread_get_cpu_time(targetThread->osThread);
+						userTime = getThreadUserTime(targetThread->osThread);
+					}
+				}
+				if (JNI_TRUE == getAllocatedBytes) {
+					UDATA allocatedBytes = 0;
+					if (mmfns->j9gc_get_cumulative_bytes_allocated_by_thread(targetThread, &allocatedBytes)) {
+						allocated = (jlong)allocatedBytes;
+					}
+				}
+#if JAVA_SPEC_VERSION >= 19
+				if (NULL != targetThread->currentContinuation) {
+					/* the carrier thread waits while a virtual thread is mounted, as in getThreadInfo() */
+					vmstate = J9VMTHREAD_STATE_WAITING;
+				} else
+#endif /* JAVA_SPEC_VERSION >= 19 */
+				{
+					vmstate = getVMThreadObjectState(targetThread, NULL, NULL, NULL);
+				}
+
+				threadUsage[0] = threadID;
+				threadUsage[1] = cpuTime;
+				threadUsage[2] = userTime;
+				threadUsage[3] = allocated;
+				threadUsage[4] = (jlong)getJclThreadState(vmstate, J9VMJAVALANGTHREAD_STARTED(currentThread, threadObject));
+				count += 1;
+			}
+		}
+		targetThread = targetThread->linkNext;
+	} while (targetThread != currentThread);
+
+	vmfns->releaseExclusiveVMAccess(currentThread);
+	vmfns->internalExitVMToJNI(currentThread);
+
+	resultArray = (*env)->NewLongArray(env, (jsize)(count * THREAD_USAGE_FIELDS));
+	if (NULL != resultArray) {
+		(*env)->SetLongArrayRegion(env, resultArray, 0, (jsize)(count * THREAD_USAGE_FIELDS), usage);
+	}
+	j9mem_free_memory(usage);
+
+	return resultArray;
+}
+
 void JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_resetPeakThreadCountImpl(JNIEnv *env, jobject beanInstance)
 {
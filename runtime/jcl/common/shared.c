@@ -2271,6 +2271,141 @@ _error:
 	return NULL;
 }
 
+#if defined(J9VM_OPT_SHARED_CLASSES)
+/**
+ * Create the key of the reflection data of a ROM class in the shared classes cache, from
+ * the layer of the cache containing the ROM class and its offset in that layer.
+ *
+ * The head of the descriptor list is the top layer, which is a different layer in a JVM
+ * which adds a layer to the cache, so the layers are numbered from layer 0 at the tail.
+ *
+ * @param vm the J9JavaVM
+ * @param romClass the ROM class
+ * @param key buffer for the key
+ * @param keySize size of the buffer
+ * @return the length of the key, or 0 if the ROM class is not in the cache
+ */
+static UDATA
+reflectionDataKey(J9JavaVM *vm, J9ROMClass *romClass, char *key, UDATA keySize)
+{
+	J9SharedClassCacheDescriptor *head = vm->sharedClassConfig->cacheDescriptorList;
+	J9SharedClassCacheDescriptor *tail = NULL;
+	J9SharedClassCacheDescriptor *descriptor = NULL;
+	UDATA layer = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if ((NULL == head) || (NULL == head->previous)) {
+		return 0;
+	}
+	tail = head->previous;
+	descriptor = tail;
+	do {
+		U_8 *start = (U_8 *)descriptor->cacheStartAddress;
+		if (((U_8 *)romClass >= start) && ((U_8 *)romClass < (start + descriptor->cacheSizeBytes))) {
+			return j9str_printf(key, keySize, "j9reflect:%zu:%zu", layer, (UDATA)((U_8 *)romClass - start));
+		}
+		layer += 1;
+		descriptor = descriptor->previous;
+	} while ((NULL != descriptor) && (tail != descriptor));
+	return 0;
+}
+
+/**
+ * Find the ROM class of a class, if reflection data may be stored for it.
+ *
+ * @param env the JNIEnv
+ * @param clazz the class
+ * @param denyFlags the runtime flags which deny the operation
+ * @return the ROM class, or NULL
+ */
+static J9ROMClass *
+reflectionDataROMClass(JNIEnv *env, jclass clazz, U_64 denyFlags)
+{
+	J9VMThread *vmThread = (J9VMThread *)env;
+	J9JavaVM *vm = vmThread->javaVM;
+	J9SharedClassConfig *config = vm->sharedClassConfig;
+	J9ROMClass *romClass = NULL;
+
+	if ((NULL != config) && J9_ARE_NO_BITS_SET(config->runtimeFlags, denyFlags)) {
+		vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+		romClass = J9VM_J9CLASS_FROM_JCLASS(vmThread, clazz)->romClass;
+		vm->internalVMFunctions->internalExitVMToJNI(vmThread);
+	}
+	return romClass;
+}
+#endif /* J9VM_OPT_SHARED_CLASSES */
+
+jbyteArray JNICALL
+Java_java_lang_SharedReflectionData_findImpl(JNIEnv *env, jclass unused, jclass clazz)
+{
+	jbyteArray result = NULL;
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9ROMClass *romClass = reflectionDataROMClass(env, clazz, J9SHR_RUNTIMEFLAG_DENY_CACHE_ACCESS);
+
+	if (NULL != romClass) {
+		J9VMThread *vmThread = (J9VMThread *)env;
+		J9JavaVM *vm = vmThread->javaVM;
+		J9SharedClassConfig *config = vm->sharedClassConfig;
+		char key[64];
+		UDATA keyLength = reflectionDataKey(vm, romClass, key, sizeof(key));
+
+		if (0 != keyLength) {
+			J9SharedDataDescriptor existingData;
+			IDATA numElem = 0;
+			UDATA oldState = vmThread->omrVMThread->vmState;
+
+			vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDDATA_FIND;
+			omrthread_monitor_enter(config->jclCacheMutex);
+			numElem = config->findSharedData(vmThread, key, keyLength, J9SHR_DATA_TYPE_JCL, FALSE, &existingData, NULL);
+			if ((1 == numElem) && (NULL != existingData.address)) {
+				result = (*env)->NewByteArray(env, (jsize)existingData.length);
+				if (NULL != result) {
+					(*env)->SetByteArrayRegion(env, result, 0, (jsize)existingData.length, (jbyte *)existingData.address);
+				}
+			}
+			omrthread_monitor_exit(config->jclCacheMutex);
+			vmThread->omrVMThread->vmState = oldState;
+		}
+	}
+#endif /* J9VM_OPT_SHARED_CLASSES */
+	return result;
+}
+
+void JNICALL
+Java_java_lang_SharedReflectionData_storeImpl(JNIEnv *env, jclass unused, jclass clazz, jbyteArray data)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9ROMClass *romClass = reflectionDataROMClass(env, clazz, J9SHR_RUNTIMEFLAG_DENY_CACHE_UPDATES);
+
+	if (NULL != romClass) {
+		J9VMThread *vmThread = (J9VMThread *)env;
+		J9JavaVM *vm = vmThread->javaVM;
+		J9SharedClassConfig *config = vm->sharedClassConfig;
+		char key[64];
+		UDATA keyLength = reflectionDataKey(vm, romClass, key, sizeof(key));
+		jsize length = (*env)->GetArrayLength(env, data);
+
+		if ((0 != keyLength) && (0 != length)) {
+			jbyte *bytes = (*env)->GetByteArrayElements(env, data, NULL);
+
+			if (NULL != bytes) {
+				J9SharedDataDescriptor descriptor;
+				UDATA oldState = vmThread->omrVMThread->vmState;
+
+				descriptor.address = (U_8 *)bytes;
+				descriptor.length = (UDATA)length;
+				descriptor.type = J9SHR_DATA_TYPE_JCL;
+				descriptor.flags = 0;
+				vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDDATA_STORE;
+				config->storeSharedData(vmThread, key, keyLength, &descriptor);
+				vmThread->omrVMThread->vmState = oldState;
+				(*env)->ReleaseByteArrayElements(env, data, bytes, JNI_ABORT);
+			}
+		}
+	}
+#endif /* J9VM_OPT_SHARED_CLASSES */
+}
+
 
 jboolean JNICALL
 Java_com_ibm_oti_shared_SharedAbstractHelper_getIsVerboseImpl(JNIEnv* env, jobject thisObj) 
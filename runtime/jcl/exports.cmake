@@ -112,6 +112,7 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadContentionMonitoringEnabledImpl
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadCpuTimeEnabledImpl
 	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl
+	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadUsageImpl
 	Java_com_ibm_jit_JITHelpers_arrayShapeElementCountMask
 	Java_com_ibm_jit_JITHelpers_getNumBitsInDescriptionWord
 	Java_com_ibm_jit_JITHelpers_getNumBitsInReferenceField
@@ -348,8 +349,11 @@ omr_add_exports(jclse
 	Java_java_lang_Compiler_disable
 	Java_java_lang_Compiler_enable
 	Java_java_lang_J9VMInternals_dumpString
+	Java_java_lang_J9VMInternals_getCodeUnloadCount
 	Java_java_lang_J9VMInternals_getStackTrace
 	Java_java_lang_J9VMInternals_newInstance
+	Java_java_lang_SharedReflectionData_findImpl
+	Java_java_lang_SharedReflectionData_storeImpl
 	Java_java_lang_System_getSysPropBeforePropertiesInitialized
 	Java_java_lang_System_mapLibraryName
 	Java_java_lang_System_rasInitializeVersion
@@ -557,7 +561,8 @@ if(NOT JAVA_SPEC_VERSION LESS 9)
 	endif()
 
 	omr_add_exports(jclse
-		Java_java_lang_StackWalker_getImpl
+		Java_java_lang_StackWalker_getBatchImpl
+		Java_java_lang_StackWalker_resolveFrameImpl
 		Java_java_lang_StackWalker_walkWrapperImpl
 		Java_java_lang_invoke_VarHandle_addAndGet
 		Java_java_lang_invoke_VarHandle_compareAndExchange
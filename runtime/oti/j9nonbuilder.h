@@ -4733,6 +4733,7 @@ typedef struct J9JITConfig {
 	UDATA serverAOTQueryThread;
 #endif /* defined(J9VM_OPT_JITSERVER) */
 	I_32 lowCodeCacheFreeSpace; /* bool set to 1 when the JIT detects a very low amount of free code cache space; never reset */
+	UDATA releasedBodyCount; /* number of compiled method bodies whose code has been released; only updated with exclusive VM access */
 } J9JITConfig;
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
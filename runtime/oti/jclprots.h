@@ -95,6 +95,10 @@ jobject JNICALL
 Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataImpl(JNIEnv* env, jobject thisObj, jint helperID, jstring tokenObj);
 jobject JNICALL
 Java_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataImpl(JNIEnv* env, jobject thisObj, jobject loaderObj, jint helperID, jstring tokenObj, jobject byteBufferInput);
+jbyteArray JNICALL
+Java_java_lang_SharedReflectionData_findImpl(JNIEnv *env, jclass unused, jclass clazz);
+void JNICALL
+Java_java_lang_SharedReflectionData_storeImpl(JNIEnv *env, jclass unused, jclass clazz, jbyteArray data);
 /* J9SourceJclExtremeInit*/
 extern J9_CFUNC jint JNICALL JVM_OnLoad ( JavaVM *jvm, char* options, void *reserved );
 extern J9_CFUNC IDATA J9VMDllMain (J9JavaVM* vm, IDATA stage, void* reserved);
@@ -278,6 +282,8 @@ extern J9_CFUNC jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_isThreadContentionMonitoringSupportedImpl (JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl (JNIEnv *env, jobject unused, jlong threadID);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadUsageImpl (JNIEnv *env, jclass unused, jboolean getCpuTime, jboolean getAllocatedBytes);
 
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getThreadInfoImpl(JNIEnv *env, jobject beanInstance,
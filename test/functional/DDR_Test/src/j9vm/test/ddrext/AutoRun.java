@@ -29,6 +29,8 @@ import j9vm.test.ddrext.junit.TestDDRExtensionGeneral;
 import j9vm.test.ddrext.junit.TestFindExt;
 import j9vm.test.ddrext.junit.TestJITExt;
 import j9vm.test.ddrext.junit.TestMonitors;
+import j9vm.test.ddrext.junit.TestParallelGCCheck;
+import j9vm.test.ddrext.junit.TestParallelHeapWalk;
 import j9vm.test.ddrext.junit.TestRTSpecificDDRExt;
 import j9vm.test.ddrext.junit.TestSharedClassesExt;
 import j9vm.test.ddrext.junit.TestStackMap;
@@ -431,6 +433,8 @@ public class AutoRun {
 			suite.addTestSuite(TestTypeResolution.class);
 			suite.addTestSuite(TestCollisionResilientHashtable.class);
 			suite.addTestSuite(TestStackMap.class);
+			suite.addTestSuite(TestParallelHeapWalk.class);
+			suite.addTestSuite(TestParallelGCCheck.class);
 			suite.addTestSuite(TestDeadlockCase1.class);
 			suite.addTestSuite(TestDeadlockCase2.class);
 			suite.addTestSuite(TestDeadlockCase3.class);
@@ -467,6 +471,10 @@ public class AutoRun {
 					suite.addTestSuite(TestTypeResolution.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestMonitors")) {
 					suite.addTestSuite(TestMonitors.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestParallelHeapWalk")) {
+					suite.addTestSuite(TestParallelHeapWalk.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestParallelGCCheck")) {
+					suite.addTestSuite(TestParallelGCCheck.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestDeadlockCase1")) {
 					suite.addTestSuite(TestDeadlockCase1.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestDeadlockCase2")) {
@@ -523,6 +523,22 @@ public class Constants {
 	public static final String FINDPATTERN_SUCCESS_KEY = "Result = 0x";
 	public static final String FINDPATTERN_FAILURE_KEY = null;
 
+	public static final String FINDINSTANCES_CMD = "findinstances";
+	public static final String FINDINSTANCES_SUCCESS_KEY = "Found !j9class 0x.*,Objects found: [1-9][0-9]*";
+	public static final String FINDINSTANCES_FAILURE_KEY = "No class named";
+
+	public static final String OBJECTSIZEINFO_CMD = "objectsizeinfo";
+	public static final String OBJECTSIZEINFO_SUCCESS_KEY = "Object field size summary";
+	public static final String OBJECTSIZEINFO_FAILURE_KEY = null;
+
+	public static final String CLASSHISTOGRAM_CMD = "classhistogram";
+	public static final String CLASSHISTOGRAM_SUCCESS_KEY = "Class histogram,Total: [1-9][0-9]* instances of [1-9][0-9]* classes";
+	public static final String CLASSHISTOGRAM_FAILURE_KEY = "Invalid argument";
+
+	public static final String GCCHECK_CMD = "gccheck";
+	public static final String GCCHECK_SUCCESS_KEY = "Starting GC Check,Done \\(\\d+ms\\)";
+	public static final String GCCHECK_FAILURE_KEY = "<gc check \\(\\d+\\)";
+
 	public static final String FINDSTACKVALUE_CMD = "findstackvalue";
 	public static final String FINDSTACKVALUE_SUCCESS_KEY = "!j9vmthread, Found at";
 	public static final String FINDSTACKVALUE_FAILURE_KEY = "Problem running command";
@@ -0,0 +1,63 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package j9vm.test.ddrext.junit;
+
+import j9vm.test.ddrext.Constants;
+import j9vm.test.ddrext.DDRExtTesterBase;
+
+import org.testng.log4testng.Logger;
+
+/**
+ * DDR extension test class to check that !gccheck with the parallel option reports
+ * exactly what it reports when the checks are run in sequence.
+ */
+public class TestParallelGCCheck extends DDRExtTesterBase {
+	private Logger log = Logger.getLogger(TestParallelGCCheck.class);
+
+	/**
+	 * Remove the elapsed time, which is the only part of the output expected to differ.
+	 */
+	private static String withoutTiming(String output) {
+		return output.replaceAll("Done \\(\\d+ms\\)", "Done");
+	}
+
+	private void compareSerialAndParallel(String options) {
+		/* run in parallel first, so that the shared class caches are filled by concurrent checks */
+		String parallelOutput = exec(Constants.GCCHECK_CMD, new String[] { options + ":parallel=4" });
+		String serialOutput = exec(Constants.GCCHECK_CMD, new String[] { options });
+
+		assertTrue(validate(serialOutput, Constants.GCCHECK_SUCCESS_KEY, Constants.GCCHECK_FAILURE_KEY, false));
+		if (!withoutTiming(serialOutput).equals(withoutTiming(parallelOutput))) {
+			log.error("Output of !gccheck " + options + ":\n" + serialOutput);
+			log.error("Output of !gccheck " + options + ":parallel=4:\n" + parallelOutput);
+			fail("!gccheck " + options + " output differs when run in parallel");
+		}
+	}
+
+	public void testGCCheckAll() {
+		compareSerialAndParallel("all:all:verbose");
+	}
+
+	public void testGCCheckHeap() {
+		compareSerialAndParallel("objectheap:all:verbose");
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package j9vm.test.ddrext.junit;
+
+import j9vm.test.ddrext.Constants;
+import j9vm.test.ddrext.DDRExtTesterBase;
+
+import org.testng.log4testng.Logger;
+
+/**
+ * DDR extension test class to check that the commands which walk the heap on several
+ * threads (!findinstances, !objectsizeinfo and !classhistogram) print exactly what they
+ * print when the heap is walked on a single thread.
+ */
+public class TestParallelHeapWalk extends DDRExtTesterBase {
+	private Logger log = Logger.getLogger(TestParallelHeapWalk.class);
+
+	/* The system property read by com.ibm.j9ddr.vm29.tools.ddrinteractive.ParallelHeapWalker */
+	private static final String THREADS_PROPERTY = "com.ibm.j9ddr.vm29.tools.ddrinteractive.ParallelHeapWalker.THREADS";
+
+	private static final String PARALLEL_THREADS = "4";
+
+	/**
+	 * Runs a command with the heap walked on one thread, then on several threads,
+	 * and checks that the output is identical.
+	 */
+	private void compareSerialAndParallel(String command, String[] args, String successKeys, String failureKeys) {
+		String oldValue = System.getProperty(THREADS_PROPERTY);
+		String serialOutput;
+		String parallelOutput;
+		try {
+			System.setProperty(THREADS_PROPERTY, "1");
+			serialOutput = exec(command, args);
+			System.setProperty(THREADS_PROPERTY, PARALLEL_THREADS);
+			parallelOutput = exec(command, args);
+		} finally {
+			if (oldValue == null) {
+				System.clearProperty(THREADS_PROPERTY);
+			} else {
+				System.setProperty(THREADS_PROPERTY, oldValue);
+			}
+		}
+
+		assertTrue(validate(serialOutput, successKeys, failureKeys, false));
+		if (!serialOutput.equals(parallelOutput)) {
+			log.error("Serial output of !" + command + ":\n" + serialOutput);
+			log.error("Parallel output of !" + command + ":\n" + parallelOutput);
+			fail("!" + command + " output differs when the heap is walked on " + PARALLEL_THREADS + " threads");
+		}
+	}
+
+	public void testFindInstances() {
+		compareSerialAndParallel(Constants.FINDINSTANCES_CMD, new String[] { "java/lang/String" },
+				Constants.FINDINSTANCES_SUCCESS_KEY, Constants.FINDINSTANCES_FAILURE_KEY);
+	}
+
+	public void testObjectSizeInfo() {
+		compareSerialAndParallel(Constants.OBJECTSIZEINFO_CMD, new String[0],
+				Constants.OBJECTSIZEINFO_SUCCESS_KEY, Constants.OBJECTSIZEINFO_FAILURE_KEY);
+	}
+
+	public void testClassHistogram() {
+		compareSerialAndParallel(Constants.CLASSHISTOGRAM_CMD, new String[0],
+				Constants.CLASSHISTOGRAM_SUCCESS_KEY, Constants.CLASSHISTOGRAM_FAILURE_KEY);
+		compareSerialAndParallel(Constants.CLASSHISTOGRAM_CMD, new String[] { "-a", "-n" },
+				Constants.CLASSHISTOGRAM_SUCCESS_KEY, Constants.CLASSHISTOGRAM_FAILURE_KEY);
+	}
+}
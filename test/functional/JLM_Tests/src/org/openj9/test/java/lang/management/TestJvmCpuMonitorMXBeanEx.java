@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.net.MalformedURLException;
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.JMX;
 import javax.management.MBeanServer;
@@ -90,6 +91,64 @@ public class TestJvmCpuMonitorMXBeanEx {
 
 	}
 
+	@Test
+	public void testRecorder() {
+		final int capacity = 4;
+		ArrayList<JvmCpuMonitorInfo> deltas = new ArrayList<JvmCpuMonitorInfo>();
+		JvmCpuMonitorInfo end = null;
+		long startTimestamp = 0;
+		long overflowCount = 0;
+
+		try (JvmCpuMonitorRecorder recorder = JvmCpuMonitorRecorder.start(10, TimeUnit.MILLISECONDS, capacity)) {
+			AssertJUnit.assertEquals(10, recorder.getPeriod(TimeUnit.MILLISECONDS));
+			AssertJUnit.assertEquals(capacity, recorder.getCapacity());
+			startTimestamp = recorder.getStartTimestamp();
+
+			/* keep the application busy for long enough that the buffer overflows */
+			long busyUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+			long counter = 0;
+			while (System.nanoTime() < busyUntil) {
+				counter += 1;
+			}
+			logger.debug("busy loop count " + counter);
+			AssertJUnit.assertTrue(recorder.isRecording());
+			/* let the recorder add the record which covers the overflowed periods */
+			recorder.drainTo(deltas);
+			Thread.sleep(100);
+			recorder.close();
+			Thread.sleep(100);
+			recorder.drainTo(deltas);
+			overflowCount = recorder.getOverflowCount();
+			AssertJUnit.assertFalse(recorder.isRecording());
+			AssertJUnit.assertNull(recorder.poll());
+		} catch (UnsupportedOperationException e) {
+			logger.warn("CPU monitoring is disabled, skipping testRecorder");
+			return;
+		} catch (InterruptedException e) {
+			Assert.fail("Exception occurred while sleeping thread: " + e.getMessage());
+		}
+		end = ManagementFactory.getPlatformMXBean(JvmCpuMonitorMXBean.class).getThreadsCpuUsage();
+
+		logger.debug(deltas.size() + " records, " + overflowCount + " overflowed periods");
+		AssertJUnit.assertTrue(deltas.size() > capacity);
+		AssertJUnit.assertTrue(overflowCount > 0);
+
+		long previousTimestamp = startTimestamp;
+		long applicationCpuTime = 0;
+		for (JvmCpuMonitorInfo delta : deltas) {
+			AssertJUnit.assertTrue(delta.getTimestamp() > previousTimestamp);
+			AssertJUnit.assertTrue(delta.getApplicationCpuTime() >= 0);
+			AssertJUnit.assertTrue(delta.getResourceMonitorCpuTime() >= 0);
+			AssertJUnit.assertTrue(delta.getSystemJvmCpuTime() >= 0);
+			AssertJUnit.assertTrue(delta.getGcCpuTime() >= 0);
+			AssertJUnit.assertTrue(delta.getJitCpuTime() >= 0);
+			previousTimestamp = delta.getTimestamp();
+			applicationCpuTime += delta.getApplicationCpuTime();
+		}
+		AssertJUnit.assertTrue(applicationCpuTime > 0);
+		AssertJUnit.assertTrue(end.getTimestamp() >= previousTimestamp);
+	}
+
 	@Test
 	public void testRemote() {
 		int retryCounter = 0;
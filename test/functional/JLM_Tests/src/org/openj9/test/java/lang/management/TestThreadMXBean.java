@@ -57,6 +57,7 @@ import javax.management.openmbean.CompositeData;
 
 import com.ibm.lang.management.ExtendedThreadInfo;
 import com.ibm.lang.management.ThreadMXBean;
+import com.ibm.lang.management.ThreadUsageSnapshot;
 
 /**
  * @brief Unit test to test the functionality of the TestThreadMXBean class.
@@ -94,6 +95,7 @@ public class TestThreadMXBean {
 		attribs.put("ThreadCpuTimeSupported", new AttributeData(Boolean.TYPE.getName(), true, false, true));
 		attribs.put("TotalStartedThreadCount", new AttributeData(Long.TYPE.getName(), true, false, false));
 		if (!isIBMJava8) {
+			attribs.put("ThreadUsageSnapshot", new AttributeData(CompositeData.class.getName(), true, false, false));
 			attribs.put("TotalThreadAllocatedBytes", new AttributeData(Long.TYPE.getName(), true, false, false));
 		}
 	} // end static initializer
@@ -140,6 +142,98 @@ public class TestThreadMXBean {
 		AssertJUnit.assertNotNull(ids);
 	}
 
+	@Test
+	public final void testGetThreadUsageSnapshot() {
+		if (isIBMJava8) {
+			return;
+		}
+		try {
+			CompositeData snapshot = (CompositeData)mbs.getAttribute(objName, "ThreadUsageSnapshot");
+			AssertJUnit.assertNotNull(snapshot);
+			AssertJUnit.assertTrue(((Long)snapshot.get("timestamp")).longValue() != 0);
+			long[] threadIds = (long[])snapshot.get("threadIds");
+			long[] cpuTimes = (long[])snapshot.get("cpuTimes");
+			long[] userTimes = (long[])snapshot.get("userTimes");
+			long[] allocatedBytes = (long[])snapshot.get("allocatedBytes");
+			int[] threadStates = (int[])snapshot.get("threadStates");
+			AssertJUnit.assertTrue(threadIds.length > 0);
+			AssertJUnit.assertEquals(threadIds.length, cpuTimes.length);
+			AssertJUnit.assertEquals(threadIds.length, userTimes.length);
+			AssertJUnit.assertEquals(threadIds.length, allocatedBytes.length);
+			AssertJUnit.assertEquals(threadIds.length, threadStates.length);
+
+			long currentId = Thread.currentThread().getId();
+			boolean foundCurrent = false;
+			for (int i = 0; i < threadIds.length; i++) {
+				AssertJUnit.assertTrue(threadIds[i] > 0);
+				AssertJUnit.assertTrue(cpuTimes[i] >= -1);
+				AssertJUnit.assertTrue(userTimes[i] >= -1);
+				AssertJUnit.assertTrue(allocatedBytes[i] >= -1);
+				AssertJUnit.assertTrue((threadStates[i] >= 0) && (threadStates[i] < Thread.State.values().length));
+				if (threadIds[i] == currentId) {
+					foundCurrent = true;
+					AssertJUnit.assertEquals(Thread.State.RUNNABLE.ordinal(), threadStates[i]);
+				}
+			}
+			AssertJUnit.assertTrue("current thread missing from snapshot", foundCurrent);
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception : " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Take snapshots while threads repeatedly block on, wait on and leave monitors, so
+	 * that the states of the threads change while the snapshots are taken.
+	 */
+	@Test
+	public final void testGetThreadUsageSnapshotContended() throws InterruptedException {
+		if (isIBMJava8) {
+			return;
+		}
+		final int threadCount = 8;
+		final long durationMs = 3000;
+		final Object[] locks = { new Object(), new Object() };
+		final AtomicInteger running = new AtomicInteger(1);
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			final Object lock = locks[i % locks.length];
+			threads[i] = new Thread("contended-" + i) {
+				@Override
+				public void run() {
+					while (0 != running.get()) {
+						synchronized (lock) {
+							try {
+								lock.wait(1);
+							} catch (InterruptedException e) {
+								return;
+							}
+							lock.notify();
+						}
+					}
+				}
+			};
+			threads[i].start();
+		}
+		try {
+			int snapshots = 0;
+			long endTime = System.currentTimeMillis() + durationMs;
+			while (System.currentTimeMillis() < endTime) {
+				ThreadUsageSnapshot snapshot = tb.getThreadUsageSnapshot();
+				AssertJUnit.assertTrue(snapshot.getThreadIds().length > 0);
+				for (int state : snapshot.getThreadStates()) {
+					AssertJUnit.assertTrue("invalid state " + state, (state >= 0) && (state < Thread.State.values().length));
+				}
+				snapshots += 1;
+			}
+			logger.debug("testGetThreadUsageSnapshotContended: " + snapshots + " snapshots");
+		} finally {
+			running.set(0);
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+	}
+
 	@Test
 	public final void testGetAllNativeIds() {
 		long[] threadIds = tb.getAllThreadIds();
@@ -1233,6 +1327,10 @@ public class TestThreadMXBean {
 						long[] tmp = (long[])value;
 						AssertJUnit.assertNotNull(tmp);
 					} // end else a long array expected
+					else if (attribs.get(name).type.equals(CompositeData.class.getName())) {
+						CompositeData tmp = (CompositeData)value;
+						AssertJUnit.assertTrue(tmp.containsKey("threadIds"));
+					} // end else a CompositeData expected
 					else {
 						Assert.fail("Unexpected attribute type returned! : " + name + " , value = " + value);
 					}
@@ -1568,7 +1666,7 @@ public class TestThreadMXBean {
 			numAttributes = 17;
 		} else {
 			numOperations = 20;
-			numAttributes = 19;
+			numAttributes = 20;
 		}
 		MBeanOperationInfo[] operations = mbi.getOperations();
 		AssertJUnit.assertNotNull(operations);
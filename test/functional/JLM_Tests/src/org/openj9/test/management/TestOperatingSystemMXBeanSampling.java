@@ -0,0 +1,211 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.management;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+import org.testng.Assert;
+import org.testng.AssertJUnit;
+import java.lang.management.ManagementFactory;
+
+import com.ibm.lang.management.CpuLoadCalculationConstants;
+import com.ibm.lang.management.MemoryUsage;
+import com.ibm.lang.management.MemoryUsageRetrievalException;
+import com.ibm.lang.management.OperatingSystemMXBean;
+import com.ibm.lang.management.ProcessorUsage;
+import com.ibm.lang.management.ProcessorUsageRetrievalException;
+
+/**
+ * Test the OperatingSystemMXBean values which are sampled by a background thread when
+ * com.ibm.lang.management.OperatingSystemMXBean.sampleInterval is set. The playlist runs
+ * this class with and without the property; the values must be in range and keep changing
+ * in both cases.
+ */
+@SuppressWarnings({ "nls", "restriction" })
+@Test(groups = { "level.extended" })
+public class TestOperatingSystemMXBeanSampling {
+
+	private static final Logger logger = Logger.getLogger(TestOperatingSystemMXBeanSampling.class);
+
+	private static final String SAMPLE_INTERVAL_PROPERTY = "com.ibm.lang.management.OperatingSystemMXBean.sampleInterval";
+	/* convert ns to ms and round up */
+	private static final long MINIMUM_INTERVAL = (long) Math.ceil(CpuLoadCalculationConstants.MINIMUM_INTERVAL / 1e6);
+	private static final double MIN_LOAD = 0.0;
+	private static final double MAX_LOAD = 1.0;
+	private static final int ROUNDS = 3;
+
+	private OperatingSystemMXBean osBean;
+	/* sampling interval in ms, 0 if sampling is disabled */
+	private long sampleInterval;
+	/* time after which every value has been refreshed */
+	private long refreshDelay;
+
+	@BeforeClass
+	public void setUp() {
+		osBean = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+		sampleInterval = Long.getLong(SAMPLE_INTERVAL_PROPERTY, 0).longValue();
+		if (sampleInterval > 0) {
+			/* the sampler does not sample more often than a CPU load can be measured */
+			refreshDelay = 2 * Math.max(sampleInterval, MINIMUM_INTERVAL);
+		} else {
+			refreshDelay = MINIMUM_INTERVAL;
+		}
+		logger.debug("sample interval = " + sampleInterval + "ms, refresh delay = " + refreshDelay + "ms");
+	}
+
+	/**
+	 * Do a sleep based on time in ns, which should be monotonic
+	 * and consistent with the port library.
+	 * @param intervalMs delay in ms
+	 */
+	private static void delayMillis(long intervalMs) {
+		long endNanoTime = System.nanoTime() + (intervalMs * 1000000);
+		long currentNanoTime;
+		do {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Assert.fail("Unexpected InterruptedException");
+			}
+			currentNanoTime = System.nanoTime();
+		} while (currentNanoTime < endNanoTime);
+	}
+
+	private static void validateLoad(double load, String msg) {
+		logger.debug(msg + " load = " + load);
+		AssertJUnit.assertTrue(msg + " load < 0%: " + load, load >= MIN_LOAD);
+		AssertJUnit.assertTrue(msg + " load > 100%: " + load, load <= MAX_LOAD);
+	}
+
+	private static void validateMemoryUsage(MemoryUsage usage) {
+		logger.debug(usage.toString());
+		AssertJUnit.assertTrue("no physical memory: " + usage, usage.getTotal() > 0);
+		AssertJUnit.assertTrue("free memory out of range: " + usage, (-1 <= usage.getFree()) && (usage.getFree() <= usage.getTotal()));
+		if (usage.getSwapTotal() >= 0) {
+			AssertJUnit.assertTrue("free swap out of range: " + usage, (-1 <= usage.getSwapFree()) && (usage.getSwapFree() <= usage.getSwapTotal()));
+		}
+		AssertJUnit.assertTrue("timestamp not set: " + usage, usage.getTimestamp() > 0);
+	}
+
+	private static void validateProcessorUsage(ProcessorUsage usage) {
+		AssertJUnit.assertTrue("user time out of range: " + usage, usage.getUser() >= -1);
+		AssertJUnit.assertTrue("system time out of range: " + usage, usage.getSystem() >= -1);
+		AssertJUnit.assertTrue("idle time out of range: " + usage, usage.getIdle() >= -1);
+		AssertJUnit.assertTrue("wait time out of range: " + usage, usage.getWait() >= -1);
+		AssertJUnit.assertTrue("busy time out of range: " + usage, usage.getBusy() >= -1);
+		AssertJUnit.assertTrue("timestamp not set: " + usage, usage.getTimestamp() > 0);
+	}
+
+	/**
+	 * The loads must be in range once enough time has passed to measure them, and remain
+	 * in range however often they are read.
+	 */
+	@Test
+	public void testCpuLoads() {
+		/* start the sampler, or set the first point from which the process CPU load is measured */
+		osBean.getProcessCpuLoad();
+		osBean.getSystemCpuLoad();
+		for (int round = 0; round < ROUNDS; ++round) {
+			delayMillis(refreshDelay);
+			validateLoad(osBean.getProcessCpuLoad(), "getProcessCpuLoad round " + round);
+			validateLoad(osBean.getSystemCpuLoad(), "getSystemCpuLoad round " + round);
+			validateLoad(osBean.getProcessCpuLoad(), "getProcessCpuLoad immediately in round " + round);
+			validateLoad(osBean.getSystemCpuLoad(), "getSystemCpuLoad immediately in round " + round);
+		}
+	}
+
+	/**
+	 * The sampled values must be replaced by newer ones every interval.
+	 */
+	@Test
+	public void testValuesUpdated() throws MemoryUsageRetrievalException, ProcessorUsageRetrievalException {
+		MemoryUsage memoryUsage = osBean.retrieveMemoryUsage();
+		ProcessorUsage totalUsage = osBean.retrieveTotalProcessorUsage();
+		ProcessorUsage[] processorUsage = osBean.retrieveProcessorUsage();
+		for (int round = 0; round < ROUNDS; ++round) {
+			delayMillis(refreshDelay);
+			MemoryUsage newMemoryUsage = osBean.retrieveMemoryUsage();
+			validateMemoryUsage(newMemoryUsage);
+			AssertJUnit.assertTrue("memory usage not updated in round " + round,
+					newMemoryUsage.getTimestamp() > memoryUsage.getTimestamp());
+			memoryUsage = newMemoryUsage;
+
+			ProcessorUsage newTotalUsage = osBean.retrieveTotalProcessorUsage();
+			validateProcessorUsage(newTotalUsage);
+			AssertJUnit.assertTrue("total processor usage not updated in round " + round,
+					newTotalUsage.getTimestamp() > totalUsage.getTimestamp());
+			totalUsage = newTotalUsage;
+
+			ProcessorUsage[] newProcessorUsage = osBean.retrieveProcessorUsage();
+			AssertJUnit.assertTrue("no processors", newProcessorUsage.length > 0);
+			for (ProcessorUsage usage : newProcessorUsage) {
+				validateProcessorUsage(usage);
+			}
+			AssertJUnit.assertTrue("processor usage not updated in round " + round,
+					newProcessorUsage[0].getTimestamp() > processorUsage[0].getTimestamp());
+			processorUsage = newProcessorUsage;
+		}
+	}
+
+	/**
+	 * Each caller gets its own array of the processor usage, even if the values are sampled.
+	 */
+	@Test
+	public void testProcessorUsageArrayCopied() throws ProcessorUsageRetrievalException {
+		ProcessorUsage[] first = osBean.retrieveProcessorUsage();
+		ProcessorUsage firstElement = first[0];
+		first[0] = null;
+		ProcessorUsage[] second = osBean.retrieveProcessorUsage();
+		Assert.assertNotSame(second, first, "processor usage array shared");
+		Assert.assertNotNull(second[0], "processor usage array modified by another caller");
+		AssertJUnit.assertEquals("wrong processor", firstElement.getId(), second[0].getId());
+	}
+
+	/**
+	 * retrieveMemoryUsage must work whether or not it is sampled, and the overload which fills
+	 * a caller's object always queries the operating system.
+	 */
+	@Test
+	public void testRetrieveMemoryUsage() throws MemoryUsageRetrievalException {
+		MemoryUsage usage = osBean.retrieveMemoryUsage();
+		validateMemoryUsage(usage);
+
+		MemoryUsage callerUsage = new MemoryUsage();
+		Assert.assertSame(osBean.retrieveMemoryUsage(callerUsage), callerUsage, "caller's MemoryUsage not returned");
+		validateMemoryUsage(callerUsage);
+		AssertJUnit.assertTrue("caller's MemoryUsage older than the latest sample",
+				callerUsage.getTimestamp() >= usage.getTimestamp());
+
+		if (0 == sampleInterval) {
+			/* each call queries the operating system */
+			Assert.assertNotSame(osBean.retrieveMemoryUsage(), usage, "MemoryUsage reused when sampling is disabled");
+		}
+
+		long totalSwap = osBean.getTotalSwapSpaceSize();
+		long freeSwap = osBean.getFreeSwapSpaceSize();
+		logger.debug("total swap = " + totalSwap + ", free swap = " + freeSwap);
+		if (totalSwap >= 0) {
+			AssertJUnit.assertTrue("free swap out of range", (-1 <= freeSwap) && (freeSwap <= totalSwap));
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ibm.lang.management.JvmCpuMonitorInfo;
+import com.ibm.lang.management.JvmCpuMonitorMXBean;
+import com.ibm.lang.management.JvmCpuMonitorRecorder;
+
+/**
+ * Measures the overhead of JvmCpuMonitorRecorder: the time taken by each check of the
+ * CPU usage, the time taken to remove a record, and the throughput of busy application
+ * threads with no recorder and with recorders at several periods.
+ *
+ * Usage: JvmCpuMonitorRecorderBenchmark [workers [seconds [periodsMillis...]]]
+ *
+ * The periods default to 100, 10 and 1 milliseconds.
+ */
+@SuppressWarnings("nls")
+public class JvmCpuMonitorRecorderBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int workers = (args.length > 0) ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		int seconds = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+		long[] periods = { 100, 10, 1 };
+		if (args.length > 2) {
+			periods = new long[args.length - 2];
+			for (int i = 2; i < args.length; i++) {
+				periods[i - 2] = Long.parseLong(args[i]);
+			}
+		}
+
+		JvmCpuMonitorMXBean bean = ManagementFactory.getPlatformMXBean(JvmCpuMonitorMXBean.class);
+		JvmCpuMonitorInfo info = new JvmCpuMonitorInfo();
+		int iterations = 10000;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			bean.getThreadsCpuUsage(info);
+		}
+		System.out.println(String.format("%-14s %,10d ns/check", "check", (System.nanoTime() - start) / iterations));
+
+		try (JvmCpuMonitorRecorder recorder = JvmCpuMonitorRecorder.start(1, TimeUnit.MILLISECONDS, 1024)) {
+			Thread.sleep(1100);
+			int count = 0;
+			start = System.nanoTime();
+			while (recorder.poll(info)) {
+				count += 1;
+			}
+			long elapsed = System.nanoTime() - start;
+			System.out.println(String.format("%-14s %,10d ns/record (%d records)", "poll", elapsed / Math.max(count, 1), count));
+		}
+
+		System.out.println(workers + " busy threads, " + seconds + "s per run");
+		// the first run is warm up, for the JIT
+		run(workers, 1, 0);
+		long baseline = run(workers, seconds, 0);
+		report("no recorder", baseline, baseline);
+		for (long period : periods) {
+			report(period + "ms", run(workers, seconds, period), baseline);
+		}
+	}
+
+	private static long run(int workers, int seconds, long periodMillis) throws InterruptedException {
+		AtomicBoolean stop = new AtomicBoolean();
+		LongAdder work = new LongAdder();
+		Thread[] threads = new Thread[workers];
+		for (int i = 0; i < workers; i++) {
+			threads[i] = new Thread(() -> {
+				long value = 1;
+				long count = 0;
+				while (!stop.get()) {
+					for (int j = 0; j < 1000; j++) {
+						value = (value * 6364136223846793005L) + 1442695040888963407L;
+					}
+					count += 1;
+				}
+				work.add(count + (value & 1));
+			});
+		}
+		JvmCpuMonitorRecorder recorder = (periodMillis > 0)
+				? JvmCpuMonitorRecorder.start(periodMillis, TimeUnit.MILLISECONDS, 1024)
+				: null;
+		try {
+			for (Thread thread : threads) {
+				thread.start();
+			}
+			long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+			JvmCpuMonitorInfo delta = new JvmCpuMonitorInfo();
+			while (System.nanoTime() < end) {
+				Thread.sleep(50);
+				if (null != recorder) {
+					while (recorder.poll(delta)) {
+						// consume the records as a monitoring tool would
+					}
+				}
+			}
+			stop.set(true);
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		} finally {
+			if (null != recorder) {
+				recorder.close();
+			}
+		}
+		return work.sum() / seconds;
+	}
+
+	private static void report(String name, long throughput, long baseline) {
+		System.out.println(String.format("%-14s %,14d work units/s %7.2f%% overhead",
+				name, throughput, (baseline - throughput) * 100.0 / baseline));
+	}
+
+}
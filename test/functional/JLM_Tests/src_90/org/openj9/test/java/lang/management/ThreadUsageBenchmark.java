@@ -0,0 +1,129 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+import com.ibm.lang.management.ThreadMXBean;
+import com.ibm.lang.management.ThreadUsageSnapshot;
+
+/**
+ * Compares the time taken to collect the CPU time, user time and allocated bytes of all the
+ * threads using ThreadMXBean.getThreadUsageSnapshot() and using the per-thread array queries.
+ *
+ * Usage: ThreadUsageBenchmark [iterations [threadCounts...]]
+ *
+ * The thread counts default to 100, 1000 and 10000 parked threads. Large counts may need
+ * a bigger process limit, or a smaller thread stack size such as -Xss256k.
+ */
+@SuppressWarnings("nls")
+public class ThreadUsageBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 20;
+		int[] threadCounts = { 100, 1000, 10000 };
+		if (args.length > 1) {
+			threadCounts = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++) {
+				threadCounts[i - 1] = Integer.parseInt(args[i]);
+			}
+		}
+
+		ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (bean.isThreadCpuTimeSupported()) {
+			bean.setThreadCpuTimeEnabled(true);
+		}
+		bean.setThreadAllocatedMemoryEnabled(true);
+
+		for (int threadCount : threadCounts) {
+			CountDownLatch done = new CountDownLatch(1);
+			Thread[] threads = startThreads(threadCount, done);
+			try {
+				System.out.println(threadCount + " parked threads, " + iterations + " iterations");
+				// the first round of each is warm up, for the JIT
+				for (int round = 0; round < 2; round++) {
+					boolean report = (round > 0);
+					timeSnapshot(bean, iterations, report);
+					timeArrays(bean, iterations, report);
+				}
+			} finally {
+				done.countDown();
+				for (Thread thread : threads) {
+					if (null != thread) {
+						thread.join();
+					}
+				}
+			}
+		}
+	}
+
+	private static Thread[] startThreads(int threadCount, CountDownLatch done) throws InterruptedException {
+		Thread[] threads = new Thread[threadCount];
+		CountDownLatch started = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(() -> {
+				started.countDown();
+				try {
+					done.await();
+				} catch (InterruptedException e) {
+					// exit
+				}
+			}, "ThreadUsageBenchmark-" + i);
+			threads[i].setDaemon(true);
+			threads[i].start();
+		}
+		started.await();
+		return threads;
+	}
+
+	private static void timeSnapshot(ThreadMXBean bean, int iterations, boolean report) {
+		long start = System.nanoTime();
+		int count = 0;
+		for (int i = 0; i < iterations; i++) {
+			ThreadUsageSnapshot snapshot = bean.getThreadUsageSnapshot();
+			count = snapshot.getThreadIds().length;
+		}
+		report("snapshot", System.nanoTime() - start, iterations, count, report);
+	}
+
+	private static void timeArrays(ThreadMXBean bean, int iterations, boolean report) {
+		long start = System.nanoTime();
+		int count = 0;
+		for (int i = 0; i < iterations; i++) {
+			long[] ids = bean.getAllThreadIds();
+			bean.getThreadCpuTime(ids);
+			bean.getThreadUserTime(ids);
+			bean.getThreadAllocatedBytes(ids);
+			bean.getThreadInfo(ids, 0);
+			count = ids.length;
+		}
+		report("arrays", System.nanoTime() - start, iterations, count, report);
+	}
+
+	private static void report(String name, long elapsed, int iterations, int count, boolean report) {
+		if (report) {
+			System.out.println(String.format("%-10s %,10d us/query (%d threads)", name, elapsed / 1000 / iterations, count));
+		}
+	}
+
+}
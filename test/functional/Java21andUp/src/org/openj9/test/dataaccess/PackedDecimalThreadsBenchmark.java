@@ -0,0 +1,144 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+import com.ibm.dataaccess.PackedDecimalContext;
+
+/**
+ * Measures the throughput of PackedDecimal add and subtract from many platform
+ * threads and from many virtual threads, for operands short enough to be added
+ * without working storage and for operands long enough to need it, where the
+ * working storage is either allocated per call or held in a PackedDecimalContext
+ * owned by each task.
+ *
+ * Usage: PackedDecimalThreadsBenchmark [tasks [operations [iterations]]]
+ *
+ * where operations is the number of additions and subtractions made by each task.
+ */
+public class PackedDecimalThreadsBenchmark {
+
+	private static final int OPERANDS = 1024;
+	private static final int[] PRECISIONS = { 15, 31, 63 };
+
+	public static void main(String[] args) throws Exception {
+		int tasks = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		int operations = (args.length > 1) ? Integer.parseInt(args[1]) : 100000;
+		int iterations = (args.length > 2) ? Integer.parseInt(args[2]) : 3;
+		int processors = Runtime.getRuntime().availableProcessors();
+
+		System.out.println(tasks + " tasks of " + operations + " operations, " + processors + " processors");
+		System.out.println(String.format("%-9s %9s %-8s %16s", "threads", "precision", "storage", "ops/s"));
+
+		// the first iteration is warm up for the JIT
+		for (int i = 0; i <= iterations; i++) {
+			boolean report = (i > 0);
+			for (int precision : PRECISIONS) {
+				try (ExecutorService platform = Executors.newFixedThreadPool(processors)) {
+					run("platform", platform, precision, false, tasks, operations, report);
+					run("platform", platform, precision, true, tasks, operations, report);
+				}
+				try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+					run("virtual", virtual, precision, false, tasks, operations, report);
+					run("virtual", virtual, precision, true, tasks, operations, report);
+				}
+			}
+		}
+	}
+
+	private static void run(String threads, ExecutorService executor, int precision, boolean useContext,
+			int tasks, int operations, boolean report) throws Exception {
+		int length = precision / 2 + 1;
+		byte[] operands = new byte[OPERANDS * length];
+		Random random = new Random(precision);
+		for (int i = 0; i < OPERANDS; i++) {
+			// leave a digit of headroom so that the sums never overflow
+			BigInteger value = new BigInteger(precision * 3, random).mod(BigInteger.TEN.pow(precision - 1));
+			DecimalData.convertBigIntegerToPackedDecimal(random.nextBoolean() ? value : value.negate(),
+					operands, i * length, precision, true);
+		}
+
+		long start = System.nanoTime();
+		List<Future<Long>> futures = new ArrayList<>(tasks);
+		for (int task = 0; task < tasks; task++) {
+			futures.add(executor.submit(() -> compute(operands, precision, useContext, operations)));
+		}
+		long sink = 0;
+		for (Future<Long> future : futures) {
+			sink += future.get();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		if (report) {
+			System.out.println(String.format("%-9s %9d %-8s %,16d%s",
+					threads,
+					precision,
+					useContext ? "context" : "per call",
+					(long) ((double) tasks * operations * 1e9 / elapsed),
+					(sink == 42) ? " " : ""));
+		}
+	}
+
+	/**
+	 * Adds and subtracts pairs of operands into a running total, returning a value
+	 * derived from the results so that the work cannot be eliminated.
+	 */
+	private static long compute(byte[] operands, int precision, boolean useContext, int operations) {
+		int length = precision / 2 + 1;
+		PackedDecimalContext context = useContext ? new PackedDecimalContext() : null;
+		byte[] result = new byte[length];
+		long check = 0;
+		for (int i = 0; i < operations; i++) {
+			int op1 = (i % OPERANDS) * length;
+			int op2 = ((i * 7 + 1) % OPERANDS) * length;
+			if (useContext) {
+				if ((i & 1) == 0) {
+					PackedDecimal.addPackedDecimal(context, result, 0, precision,
+							operands, op1, precision, operands, op2, precision, false);
+				} else {
+					PackedDecimal.subtractPackedDecimal(context, result, 0, precision,
+							operands, op1, precision, operands, op2, precision, false);
+				}
+			} else {
+				if ((i & 1) == 0) {
+					PackedDecimal.addPackedDecimal(result, 0, precision,
+							operands, op1, precision, operands, op2, precision, false);
+				} else {
+					PackedDecimal.subtractPackedDecimal(result, 0, precision,
+							operands, op1, precision, operands, op2, precision, false);
+				}
+			}
+			check += result[length - 1];
+		}
+		return check;
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Compares reading and updating fixed length records held off heap by copying each
+ * record into a heap byte array and using the byte array methods, with using the
+ * direct ByteBuffer and MemorySegment methods in place. Each record has a big endian
+ * int, a little endian long and a 15 digit Packed Decimal; the int is incremented
+ * and written back. The totals of each approach are compared as they run.
+ *
+ * Usage: MarshallerBufferBenchmark [records [iterations]]
+ */
+public class MarshallerBufferBenchmark {
+
+	private static final int RECORD_SIZE = 24;
+	private static final int INT_OFFSET = 0;
+	private static final int LONG_OFFSET = 4;
+	private static final int DECIMAL_OFFSET = 12;
+	private static final int DECIMAL_PRECISION = 15;
+
+	public static void main(String[] args) {
+		int records = (args.length > 0) ? Integer.parseInt(args[0]) : 1000000;
+		int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+
+		try (Arena arena = Arena.ofConfined()) {
+			MemorySegment segment = arena.allocate((long) records * RECORD_SIZE);
+			ByteBuffer buffer = segment.asByteBuffer();
+			Random random = new Random(records);
+			byte[] record = new byte[RECORD_SIZE];
+			for (int i = 0; i < records; i++) {
+				ByteArrayMarshaller.writeInt(random.nextInt(), record, INT_OFFSET, true);
+				ByteArrayMarshaller.writeLong(random.nextLong(), record, LONG_OFFSET, false);
+				DecimalData.convertLongToPackedDecimal(random.nextLong() % 1000000000000000L, record, DECIMAL_OFFSET,
+						DECIMAL_PRECISION, true);
+				MemorySegment.copy(record, 0, segment, ValueLayout.JAVA_BYTE, (long) i * RECORD_SIZE, RECORD_SIZE);
+			}
+
+			System.out.println(records + " records of " + RECORD_SIZE + " bytes");
+
+			// the first iteration is warm up for the JIT
+			for (int i = 0; i <= iterations; i++) {
+				boolean report = (i > 0);
+				long expected = run("copy", () -> copy(buffer, records), records, report);
+				check(expected + records, run("buffer", () -> inBuffer(buffer, records), records, report));
+				check(expected + 2L * records, run("segment", () -> inSegment(segment, records), records, report));
+			}
+		}
+	}
+
+	private interface Pass {
+		long run();
+	}
+
+	private static long run(String name, Pass pass, int records, boolean report) {
+		long start = System.nanoTime();
+		long total = pass.run();
+		long elapsed = System.nanoTime() - start;
+		if (report) {
+			System.out.println(String.format("%-8s %,14d records/s", name, (long) (records * 1e9 / elapsed)));
+		}
+		return total;
+	}
+
+	private static void check(long expected, long actual) {
+		// each pass increments every int, so each total is one per record more than the last
+		if (expected != actual) {
+			throw new AssertionError("Totals differ: expected " + expected + " but was " + actual);
+		}
+	}
+
+	private static long copy(ByteBuffer buffer, int records) {
+		byte[] record = new byte[RECORD_SIZE];
+		long total = 0;
+		for (int i = 0, offset = 0; i < records; i++, offset += RECORD_SIZE) {
+			buffer.get(offset, record, 0, RECORD_SIZE);
+			int count = ByteArrayUnmarshaller.readInt(record, INT_OFFSET, true);
+			total += count + ByteArrayUnmarshaller.readLong(record, LONG_OFFSET, false)
+					+ DecimalData.convertPackedDecimalToLong(record, DECIMAL_OFFSET, DECIMAL_PRECISION, true);
+			ByteArrayMarshaller.writeInt(count + 1, record, INT_OFFSET, true);
+			buffer.put(offset, record, 0, RECORD_SIZE);
+		}
+		return total;
+	}
+
+	private static long inBuffer(ByteBuffer buffer, int records) {
+		long total = 0;
+		for (int i = 0, offset = 0; i < records; i++, offset += RECORD_SIZE) {
+			int count = ByteArrayUnmarshaller.readInt(buffer, offset + INT_OFFSET, true);
+			total += count + ByteArrayUnmarshaller.readLong(buffer, offset + LONG_OFFSET, false)
+					+ DecimalData.convertPackedDecimalToLong(buffer, offset + DECIMAL_OFFSET, DECIMAL_PRECISION, true);
+			ByteArrayMarshaller.writeInt(count + 1, buffer, offset + INT_OFFSET, true);
+		}
+		return total;
+	}
+
+	private static long inSegment(MemorySegment segment, int records) {
+		long total = 0;
+		for (long i = 0, offset = 0; i < records; i++, offset += RECORD_SIZE) {
+			int count = ByteArrayUnmarshaller.readInt(segment, offset + INT_OFFSET, true);
+			total += count + ByteArrayUnmarshaller.readLong(segment, offset + LONG_OFFSET, false)
+					+ DecimalData.convertPackedDecimalToLong(segment, offset + DECIMAL_OFFSET, DECIMAL_PRECISION, true);
+			ByteArrayMarshaller.writeInt(count + 1, segment, offset + INT_OFFSET, true);
+		}
+		return total;
+	}
+
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Checks that the ByteBuffer and MemorySegment methods of ByteArrayMarshaller,
+ * ByteArrayUnmarshaller, DecimalData and PackedDecimal give the same results as the
+ * byte array methods, for random data at random offsets. The buffers are heap, sliced
+ * heap, direct and read-only, in both byte orders; the segments are heap and native.
+ * The position, limit and byte order of a buffer must not be changed.
+ */
+@Test(groups = { "level.extended" })
+public class TestMarshallerBuffers {
+
+	private static final int SIZE = 64;
+	private static final int ITERATIONS = 2000;
+
+	/* the offset of the data within the array of a sliced heap buffer */
+	private static final int SLICE_OFFSET = 5;
+
+	private enum BufferKind {
+		HEAP, SLICED_HEAP, DIRECT, READ_ONLY_HEAP, READ_ONLY_DIRECT;
+
+		/**
+		 * Returns a buffer of this kind holding a copy of the data, in the given byte order.
+		 * The position is left at a non-zero value to show that it is not used.
+		 */
+		ByteBuffer wrap(byte[] data, ByteOrder order) {
+			ByteBuffer buffer;
+			switch (this) {
+			case HEAP:
+				buffer = ByteBuffer.wrap(data.clone());
+				break;
+			case SLICED_HEAP: {
+				byte[] array = new byte[data.length + SLICE_OFFSET + 3];
+				System.arraycopy(data, 0, array, SLICE_OFFSET, data.length);
+				buffer = ByteBuffer.wrap(array, SLICE_OFFSET, data.length).slice();
+				break;
+			}
+			case READ_ONLY_HEAP:
+				buffer = ByteBuffer.wrap(data.clone()).asReadOnlyBuffer();
+				break;
+			default:
+				buffer = ByteBuffer.allocateDirect(data.length);
+				buffer.put(data);
+				if (this == READ_ONLY_DIRECT) {
+					buffer = buffer.asReadOnlyBuffer();
+				}
+				break;
+			}
+			buffer.order(order);
+			buffer.position(3);
+			return buffer;
+		}
+
+		boolean isReadOnly() {
+			return (this == READ_ONLY_HEAP) || (this == READ_ONLY_DIRECT);
+		}
+	}
+
+	private static final ByteOrder[] ORDERS = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+
+	private static byte[] randomBytes(Random random) {
+		byte[] data = new byte[SIZE];
+		random.nextBytes(data);
+		return data;
+	}
+
+	private static byte[] contents(ByteBuffer buffer) {
+		byte[] data = new byte[buffer.limit()];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = buffer.get(i);
+		}
+		return data;
+	}
+
+	private static void assertUnchanged(ByteBuffer buffer, ByteOrder order, String message) {
+		Assert.assertEquals(buffer.position(), 3, message + ": position changed");
+		Assert.assertEquals(buffer.limit(), SIZE, message + ": limit changed");
+		Assert.assertEquals(buffer.order(), order, message + ": byte order changed");
+	}
+
+	/**
+	 * A random value of at most the given number of digits, which may be negative.
+	 */
+	private static long randomDecimal(Random random, int precision) {
+		long limit = 1;
+		for (int i = 0; i < precision; i++) {
+			limit *= 10;
+		}
+		long value = (long) (random.nextDouble() * limit);
+		return random.nextBoolean() ? -value : value;
+	}
+
+	/**
+	 * Random bytes which are more often than not a valid Packed Decimal, so that all the
+	 * results of checkPackedDecimal are seen.
+	 */
+	private static byte[] randomPackedBytes(Random random, int offset, int precision) {
+		byte[] data = randomBytes(random);
+		if (random.nextInt(4) != 0) {
+			int size = (precision / 2) + 1;
+			for (int i = 0; i < size; i++) {
+				data[offset + i] = (byte) ((random.nextInt(10) << 4) | random.nextInt(10));
+			}
+			data[offset + size - 1] = (byte) ((data[offset + size - 1] & 0xF0) | (0xA + random.nextInt(6)));
+		}
+		return data;
+	}
+
+	@Test
+	public void testBufferReads() {
+		Random random = new Random(1);
+		for (BufferKind kind : BufferKind.values()) {
+			for (ByteOrder order : ORDERS) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					byte[] data = randomBytes(random);
+					ByteBuffer buffer = kind.wrap(data, order);
+					int offset = random.nextInt(SIZE - 7);
+					boolean bigEndian = random.nextBoolean();
+					String message = kind + " " + order + " offset " + offset + " bigEndian " + bigEndian;
+
+					Assert.assertEquals(ByteArrayUnmarshaller.readShort(buffer, offset, bigEndian),
+							ByteArrayUnmarshaller.readShort(data, offset, bigEndian), message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readInt(buffer, offset, bigEndian),
+							ByteArrayUnmarshaller.readInt(data, offset, bigEndian), message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readLong(buffer, offset, bigEndian),
+							ByteArrayUnmarshaller.readLong(data, offset, bigEndian), message);
+					Assert.assertEquals(Float.floatToRawIntBits(ByteArrayUnmarshaller.readFloat(buffer, offset, bigEndian)),
+							Float.floatToRawIntBits(ByteArrayUnmarshaller.readFloat(data, offset, bigEndian)), message);
+					Assert.assertEquals(Double.doubleToRawLongBits(ByteArrayUnmarshaller.readDouble(buffer, offset, bigEndian)),
+							Double.doubleToRawLongBits(ByteArrayUnmarshaller.readDouble(data, offset, bigEndian)), message);
+
+					for (int numBytes = 0; numBytes <= 8; numBytes++) {
+						boolean signExtend = random.nextBoolean();
+						String partial = message + " numBytes " + numBytes + " signExtend " + signExtend;
+						if (numBytes <= 2) {
+							Assert.assertEquals(ByteArrayUnmarshaller.readShort(buffer, offset, bigEndian, numBytes, signExtend),
+									ByteArrayUnmarshaller.readShort(data, offset, bigEndian, numBytes, signExtend), partial);
+						}
+						if (numBytes <= 4) {
+							Assert.assertEquals(ByteArrayUnmarshaller.readInt(buffer, offset, bigEndian, numBytes, signExtend),
+									ByteArrayUnmarshaller.readInt(data, offset, bigEndian, numBytes, signExtend), partial);
+						}
+						Assert.assertEquals(ByteArrayUnmarshaller.readLong(buffer, offset, bigEndian, numBytes, signExtend),
+								ByteArrayUnmarshaller.readLong(data, offset, bigEndian, numBytes, signExtend), partial);
+					}
+
+					assertUnchanged(buffer, order, message);
+					Assert.assertEquals(contents(buffer), data, message + ": buffer modified");
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBufferWrites() {
+		Random random = new Random(2);
+		for (BufferKind kind : BufferKind.values()) {
+			if (kind.isReadOnly()) {
+				continue;
+			}
+			for (ByteOrder order : ORDERS) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					byte[] data = randomBytes(random);
+					ByteBuffer buffer = kind.wrap(data, order);
+					int offset = random.nextInt(SIZE - 7);
+					boolean bigEndian = random.nextBoolean();
+					int numBytes = random.nextInt(9);
+					long value = random.nextLong();
+					String message = kind + " " + order + " offset " + offset + " bigEndian " + bigEndian
+							+ " numBytes " + numBytes + " value " + value;
+
+					switch (random.nextInt(8)) {
+					case 0:
+						ByteArrayMarshaller.writeShort((short) value, data, offset, bigEndian);
+						ByteArrayMarshaller.writeShort((short) value, buffer, offset, bigEndian);
+						break;
+					case 1:
+						ByteArrayMarshaller.writeInt((int) value, data, offset, bigEndian);
+						ByteArrayMarshaller.writeInt((int) value, buffer, offset, bigEndian);
+						break;
+					case 2:
+						ByteArrayMarshaller.writeLong(value, data, offset, bigEndian);
+						ByteArrayMarshaller.writeLong(value, buffer, offset, bigEndian);
+						break;
+					case 3:
+						ByteArrayMarshaller.writeFloat(Float.intBitsToFloat((int) value), data, offset, bigEndian);
+						ByteArrayMarshaller.writeFloat(Float.intBitsToFloat((int) value), buffer, offset, bigEndian);
+						break;
+					case 4:
+						ByteArrayMarshaller.writeDouble(Double.longBitsToDouble(value), data, offset, bigEndian);
+						ByteArrayMarshaller.writeDouble(Double.longBitsToDouble(value), buffer, offset, bigEndian);
+						break;
+					case 5:
+						numBytes %= 3;
+						ByteArrayMarshaller.writeShort((short) value, data, offset, bigEndian, numBytes);
+						ByteArrayMarshaller.writeShort((short) value, buffer, offset, bigEndian, numBytes);
+						break;
+					case 6:
+						numBytes %= 5;
+						ByteArrayMarshaller.writeInt((int) value, data, offset, bigEndian, numBytes);
+						ByteArrayMarshaller.writeInt((int) value, buffer, offset, bigEndian, numBytes);
+						break;
+					default:
+						ByteArrayMarshaller.writeLong(value, data, offset, bigEndian, numBytes);
+						ByteArrayMarshaller.writeLong(value, buffer, offset, bigEndian, numBytes);
+						break;
+					}
+
+					assertUnchanged(buffer, order, message);
+					Assert.assertEquals(contents(buffer), data, message);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBufferPackedDecimals() {
+		Random random = new Random(3);
+		for (BufferKind kind : BufferKind.values()) {
+			for (ByteOrder order : ORDERS) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					int precision = 1 + random.nextInt(18);
+					int offset = random.nextInt(SIZE - 9);
+					byte[] data = randomPackedBytes(random, offset, precision);
+					ByteBuffer buffer = kind.wrap(data, order);
+					boolean ignoreHighNibble = random.nextBoolean();
+					String message = kind + " " + order + " offset " + offset + " precision " + precision;
+
+					int result = PackedDecimal.checkPackedDecimal(data, offset, precision, ignoreHighNibble);
+					Assert.assertEquals(PackedDecimal.checkPackedDecimal(buffer, offset, precision, ignoreHighNibble),
+							result, message);
+					Assert.assertEquals(PackedDecimal.checkPackedDecimal(buffer, offset, precision),
+							PackedDecimal.checkPackedDecimal(data, offset, precision), message);
+					if (PackedDecimal.checkPackedDecimal(data, offset, precision) == 0) {
+						Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, offset, precision, false),
+								DecimalData.convertPackedDecimalToLong(data, offset, precision, false), message);
+						Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(buffer, offset, precision, false),
+								DecimalData.convertPackedDecimalToInteger(data, offset, precision, false), message);
+					}
+
+					long value = randomDecimal(random, precision);
+					if (kind.isReadOnly()) {
+						try {
+							DecimalData.convertLongToPackedDecimal(value, buffer, offset, precision, true);
+							Assert.fail(message + ": read-only buffer written");
+						} catch (ReadOnlyBufferException e) {
+							/* expected */
+						}
+					} else {
+						DecimalData.convertLongToPackedDecimal(value, data, offset, precision, true);
+						DecimalData.convertLongToPackedDecimal(value, buffer, offset, precision, true);
+						Assert.assertEquals(contents(buffer), data, message + " value " + value);
+						Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, offset, precision, true),
+								value, message);
+
+						int intPrecision = Math.min(precision, 9);
+						int intValue = (int) randomDecimal(random, intPrecision);
+						DecimalData.convertIntegerToPackedDecimal(intValue, data, offset, intPrecision, true);
+						DecimalData.convertIntegerToPackedDecimal(intValue, buffer, offset, intPrecision, true);
+						Assert.assertEquals(contents(buffer), data, message + " value " + intValue);
+						Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(buffer, offset, intPrecision, true),
+								intValue, message);
+					}
+
+					assertUnchanged(buffer, order, message);
+					Assert.assertEquals(contents(buffer), data, message);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReadOnlyBufferWrites() {
+		for (BufferKind kind : new BufferKind[] { BufferKind.READ_ONLY_HEAP, BufferKind.READ_ONLY_DIRECT }) {
+			byte[] data = new byte[SIZE];
+			ByteBuffer buffer = kind.wrap(data, ByteOrder.BIG_ENDIAN);
+			try {
+				ByteArrayMarshaller.writeInt(1, buffer, 0, true);
+				Assert.fail(kind + ": read-only buffer written");
+			} catch (ReadOnlyBufferException e) {
+				/* expected */
+			}
+			try {
+				ByteArrayMarshaller.writeLong(1, buffer, 0, false, 3);
+				Assert.fail(kind + ": read-only buffer written");
+			} catch (ReadOnlyBufferException e) {
+				/* expected */
+			}
+			Assert.assertEquals(contents(buffer), data, kind.toString());
+		}
+	}
+
+	/**
+	 * Returns a heap or native segment holding a copy of the data.
+	 */
+	private static MemorySegment segment(Arena arena, byte[] data, boolean heap) {
+		if (heap) {
+			return MemorySegment.ofArray(data.clone());
+		}
+		MemorySegment segment = arena.allocate(data.length);
+		MemorySegment.copy(data, 0, segment, ValueLayout.JAVA_BYTE, 0, data.length);
+		return segment;
+	}
+
+	@Test
+	public void testSegmentReads() {
+		Random random = new Random(4);
+		try (Arena arena = Arena.ofConfined()) {
+			for (int i = 0; i < ITERATIONS * 2; i++) {
+				byte[] data = randomBytes(random);
+				boolean heap = random.nextBoolean();
+				MemorySegment segment = segment(arena, data, heap);
+				int offset = random.nextInt(SIZE - 7);
+				boolean bigEndian = random.nextBoolean();
+				String message = (heap ? "heap" : "native") + " offset " + offset + " bigEndian " + bigEndian;
+
+				Assert.assertEquals(ByteArrayUnmarshaller.readShort(segment, offset, bigEndian),
+						ByteArrayUnmarshaller.readShort(data, offset, bigEndian), message);
+				Assert.assertEquals(ByteArrayUnmarshaller.readInt(segment, offset, bigEndian),
+						ByteArrayUnmarshaller.readInt(data, offset, bigEndian), message);
+				Assert.assertEquals(ByteArrayUnmarshaller.readLong(segment, offset, bigEndian),
+						ByteArrayUnmarshaller.readLong(data, offset, bigEndian), message);
+				Assert.assertEquals(Float.floatToRawIntBits(ByteArrayUnmarshaller.readFloat(segment, offset, bigEndian)),
+						Float.floatToRawIntBits(ByteArrayUnmarshaller.readFloat(data, offset, bigEndian)), message);
+				Assert.assertEquals(Double.doubleToRawLongBits(ByteArrayUnmarshaller.readDouble(segment, offset, bigEndian)),
+						Double.doubleToRawLongBits(ByteArrayUnmarshaller.readDouble(data, offset, bigEndian)), message);
+
+				for (int numBytes = 0; numBytes <= 8; numBytes++) {
+					boolean signExtend = random.nextBoolean();
+					String partial = message + " numBytes " + numBytes + " signExtend " + signExtend;
+					if (numBytes <= 2) {
+						Assert.assertEquals(ByteArrayUnmarshaller.readShort(segment, offset, bigEndian, numBytes, signExtend),
+								ByteArrayUnmarshaller.readShort(data, offset, bigEndian, numBytes, signExtend), partial);
+					}
+					if (numBytes <= 4) {
+						Assert.assertEquals(ByteArrayUnmarshaller.readInt(segment, offset, bigEndian, numBytes, signExtend),
+								ByteArrayUnmarshaller.readInt(data, offset, bigEndian, numBytes, signExtend), partial);
+					}
+					Assert.assertEquals(ByteArrayUnmarshaller.readLong(segment, offset, bigEndian, numBytes, signExtend),
+							ByteArrayUnmarshaller.readLong(data, offset, bigEndian, numBytes, signExtend), partial);
+				}
+
+				Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), data, message + ": segment modified");
+			}
+		}
+	}
+
+	@Test
+	public void testSegmentWrites() {
+		Random random = new Random(5);
+		try (Arena arena = Arena.ofConfined()) {
+			for (int i = 0; i < ITERATIONS * 2; i++) {
+				byte[] data = randomBytes(random);
+				boolean heap = random.nextBoolean();
+				MemorySegment segment = segment(arena, data, heap);
+				int offset = random.nextInt(SIZE - 7);
+				boolean bigEndian = random.nextBoolean();
+				int numBytes = random.nextInt(9);
+				long value = random.nextLong();
+				String message = (heap ? "heap" : "native") + " offset " + offset + " bigEndian " + bigEndian
+						+ " numBytes " + numBytes + " value " + value;
+
+				switch (random.nextInt(8)) {
+				case 0:
+					ByteArrayMarshaller.writeShort((short) value, data, offset, bigEndian);
+					ByteArrayMarshaller.writeShort((short) value, segment, offset, bigEndian);
+					break;
+				case 1:
+					ByteArrayMarshaller.writeInt((int) value, data, offset, bigEndian);
+					ByteArrayMarshaller.writeInt((int) value, segment, offset, bigEndian);
+					break;
+				case 2:
+					ByteArrayMarshaller.writeLong(value, data, offset, bigEndian);
+					ByteArrayMarshaller.writeLong(value, segment, offset, bigEndian);
+					break;
+				case 3:
+					ByteArrayMarshaller.writeFloat(Float.intBitsToFloat((int) value), data, offset, bigEndian);
+					ByteArrayMarshaller.writeFloat(Float.intBitsToFloat((int) value), segment, offset, bigEndian);
+					break;
+				case 4:
+					ByteArrayMarshaller.writeDouble(Double.longBitsToDouble(value), data, offset, bigEndian);
+					ByteArrayMarshaller.writeDouble(Double.longBitsToDouble(value), segment, offset, bigEndian);
+					break;
+				case 5:
+					numBytes %= 3;
+					ByteArrayMarshaller.writeShort((short) value, data, offset, bigEndian, numBytes);
+					ByteArrayMarshaller.writeShort((short) value, segment, offset, bigEndian, numBytes);
+					break;
+				case 6:
+					numBytes %= 5;
+					ByteArrayMarshaller.writeInt((int) value, data, offset, bigEndian, numBytes);
+					ByteArrayMarshaller.writeInt((int) value, segment, offset, bigEndian, numBytes);
+					break;
+				default:
+					ByteArrayMarshaller.writeLong(value, data, offset, bigEndian, numBytes);
+					ByteArrayMarshaller.writeLong(value, segment, offset, bigEndian, numBytes);
+					break;
+				}
+
+				Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), data, message);
+			}
+		}
+	}
+
+	@Test
+	public void testSegmentPackedDecimals() {
+		Random random = new Random(6);
+		try (Arena arena = Arena.ofConfined()) {
+			for (int i = 0; i < ITERATIONS * 2; i++) {
+				int precision = 1 + random.nextInt(18);
+				int offset = random.nextInt(SIZE - 9);
+				byte[] data = randomPackedBytes(random, offset, precision);
+				boolean heap = random.nextBoolean();
+				MemorySegment segment = segment(arena, data, heap);
+				boolean ignoreHighNibble = random.nextBoolean();
+				String message = (heap ? "heap" : "native") + " offset " + offset + " precision " + precision;
+
+				int result = PackedDecimal.checkPackedDecimal(data, offset, precision, ignoreHighNibble);
+				Assert.assertEquals(PackedDecimal.checkPackedDecimal(segment, offset, precision, ignoreHighNibble),
+						result, message);
+				Assert.assertEquals(PackedDecimal.checkPackedDecimal(segment, offset, precision),
+						PackedDecimal.checkPackedDecimal(data, offset, precision), message);
+				if (PackedDecimal.checkPackedDecimal(data, offset, precision) == 0) {
+					Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, offset, precision, false),
+							DecimalData.convertPackedDecimalToLong(data, offset, precision, false), message);
+					Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(segment, offset, precision, false),
+							DecimalData.convertPackedDecimalToInteger(data, offset, precision, false), message);
+				}
+
+				long value = randomDecimal(random, precision);
+				DecimalData.convertLongToPackedDecimal(value, data, offset, precision, true);
+				DecimalData.convertLongToPackedDecimal(value, segment, offset, precision, true);
+				Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), data, message + " value " + value);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, offset, precision, true),
+						value, message);
+
+				int intPrecision = Math.min(precision, 9);
+				int intValue = (int) randomDecimal(random, intPrecision);
+				DecimalData.convertIntegerToPackedDecimal(intValue, data, offset, intPrecision, true);
+				DecimalData.convertIntegerToPackedDecimal(intValue, segment, offset, intPrecision, true);
+				Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), data, message + " value " + intValue);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(segment, offset, intPrecision, true),
+						intValue, message);
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidNumBytes() {
+		ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+		MemorySegment segment = MemorySegment.ofArray(new byte[SIZE]);
+		int[][] cases = { { 2, -1 }, { 2, 3 }, { 4, -1 }, { 4, 5 }, { 8, -1 }, { 8, 9 } };
+		for (int[] c : cases) {
+			int size = c[0];
+			int numBytes = c[1];
+			Runnable[] calls;
+			if (size == 2) {
+				calls = new Runnable[] {
+					() -> ByteArrayUnmarshaller.readShort(buffer, 0, true, numBytes, false),
+					() -> ByteArrayUnmarshaller.readShort(segment, 0, true, numBytes, false),
+					() -> ByteArrayMarshaller.writeShort((short) 1, buffer, 0, true, numBytes),
+					() -> ByteArrayMarshaller.writeShort((short) 1, segment, 0, true, numBytes),
+				};
+			} else if (size == 4) {
+				calls = new Runnable[] {
+					() -> ByteArrayUnmarshaller.readInt(buffer, 0, true, numBytes, false),
+					() -> ByteArrayUnmarshaller.readInt(segment, 0, true, numBytes, false),
+					() -> ByteArrayMarshaller.writeInt(1, buffer, 0, true, numBytes),
+					() -> ByteArrayMarshaller.writeInt(1, segment, 0, true, numBytes),
+				};
+			} else {
+				calls = new Runnable[] {
+					() -> ByteArrayUnmarshaller.readLong(buffer, 0, true, numBytes, false),
+					() -> ByteArrayUnmarshaller.readLong(segment, 0, true, numBytes, false),
+					() -> ByteArrayMarshaller.writeLong(1, buffer, 0, true, numBytes),
+					() -> ByteArrayMarshaller.writeLong(1, segment, 0, true, numBytes),
+				};
+			}
+			for (int i = 0; i < calls.length; i++) {
+				try {
+					calls[i].run();
+					Assert.fail("numBytes " + numBytes + " accepted for a value of " + size + " bytes, call " + i);
+				} catch (IllegalArgumentException e) {
+					/* expected */
+				}
+			}
+		}
+	}
+}
@@ -29,6 +29,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
 
 import org.openj9.test.annotation.defaults.AnnotationTestClassDefaults;
@@ -36,6 +40,8 @@ import org.openj9.test.annotationPackage.Test_PackageAnnotation2;
 
 import org.openj9.test.util.VersionCheck;
 
+import com.ibm.jvm.AnnotationScanner;
+
 @Test(groups = { "level.sanity" })
 public class Test_Annotation {
 	private Class<?> testClass = AnnotationTestClass.class;
@@ -117,6 +123,46 @@ public class Test_Annotation {
 	public Test_Annotation() {
 	}
 
+	@Deprecated
+	static class DeprecatedTestClass extends AnnotationTestClass {
+	}
+
+	static class AnnotationTestSubclass extends DeprecatedTestClass {
+	}
+
+	/**
+	 * @tests com.ibm.jvm.AnnotationScanner#getAnnotatedClasses(java.util.Collection, Class)
+	 * @tests com.ibm.jvm.AnnotationScanner#getAnnotations(java.util.Collection, Class)
+	 */
+	@Test
+	public void test_AnnotationScanner() throws Exception {
+		List<Class<?>> classes = Arrays.asList(String.class, AnnotationTestClass.class, EnumClass.class, DeprecatedTestClass.class, AnnotationTestSubclass.class);
+		List<Class<?>> classAnnotated = Arrays.asList(AnnotationTestClass.class, DeprecatedTestClass.class, AnnotationTestSubclass.class);
+
+		/* ClassAnnotation is inherited, Deprecated is not */
+		Set<Class<?>> annotated = AnnotationScanner.getAnnotatedClasses(classes, ClassAnnotation.class);
+		AssertJUnit.assertEquals(classAnnotated, Arrays.asList(annotated.toArray()));
+		annotated = AnnotationScanner.getAnnotatedClasses(classes, Deprecated.class);
+		AssertJUnit.assertEquals(Arrays.asList(DeprecatedTestClass.class), Arrays.asList(annotated.toArray()));
+		AssertJUnit.assertTrue(AnnotationScanner.getAnnotatedClasses(classes, TestAnnotation.class).isEmpty());
+
+		Map<Class<?>, ClassAnnotation> annotations = AnnotationScanner.getAnnotations(classes, ClassAnnotation.class);
+		AssertJUnit.assertEquals(classAnnotated, Arrays.asList(annotations.keySet().toArray()));
+		ClassAnnotation annotation = AnnotationTestClass.class.getAnnotation(ClassAnnotation.class);
+		AssertJUnit.assertSame(annotation, annotations.get(AnnotationTestClass.class));
+		AssertJUnit.assertSame(annotation, annotations.get(AnnotationTestSubclass.class));
+		myAssert(annotationValue, annotation.value());
+		AssertJUnit.assertTrue(AnnotationScanner.getAnnotations(classes, FieldAnnotation.class).isEmpty());
+
+		/* enough classes to be scanned in parallel */
+		Class<?>[] many = new Class<?>[1000];
+		for (int i = 0; i < many.length; i++) {
+			many[i] = classes.get(i % classes.size());
+		}
+		annotated = AnnotationScanner.getAnnotatedClasses(Arrays.asList(many), ClassAnnotation.class);
+		AssertJUnit.assertEquals(classAnnotated, Arrays.asList(annotated.toArray()));
+	}
+
 	@Test
 	@TestAnnotation()
 	public void test_package_annotations() throws Exception {
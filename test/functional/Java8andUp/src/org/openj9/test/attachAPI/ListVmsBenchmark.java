@@ -0,0 +1,127 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.attachAPI;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.sun.tools.attach.VirtualMachineDescriptor;
+import com.sun.tools.attach.spi.AttachProvider;
+
+/**
+ * Measures the time taken to list the attach targets when the common directory contains
+ * many synthetic target directories, each advertising this process.
+ *
+ * Usage: java -Dcom.ibm.tools.attach.directory=scratchDirectory ListVmsBenchmark [targets [iterations]]
+ *
+ * The common directory must be set to a scratch directory so other tools do not see the
+ * synthetic targets. For a baseline without caching or watching the directory, also set
+ * -Dcom.ibm.tools.attach.listCacheTimeout=0 -Dcom.ibm.tools.attach.watchDirectory=false
+ */
+@SuppressWarnings("nls")
+public class ListVmsBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		String commonDirName = System.getProperty("com.ibm.tools.attach.directory");
+		if (null == commonDirName) {
+			System.err.println("Usage: java -Dcom.ibm.tools.attach.directory=scratchDirectory ListVmsBenchmark [targets [iterations]]");
+			System.exit(1);
+		}
+		int targets = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+
+		if (!TargetManager.waitForAttachApiInitialization()) {
+			System.err.println("ListVmsBenchmark: attach API initialization failed");
+			System.exit(1);
+		}
+		AttachProvider provider = AttachProvider.providers().get(0);
+		File commonDir = new File(commonDirName);
+		String pid = ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+
+		File[] targetDirs = new File[targets];
+		try {
+			for (int i = 0; i < targets; i++) {
+				targetDirs[i] = createTarget(commonDir, "benchmark" + i, pid);
+			}
+			System.out.println(targets + " synthetic targets, " + iterations + " iterations");
+
+			time("first listing", provider, 1);
+			time("unchanged", provider, iterations);
+			long changedElapsed = 0;
+			for (int i = 0; i < iterations; i++) {
+				/* rewrite one advertisement so that the listing cannot be reused */
+				createTarget(commonDir, "benchmark" + (i % targets), pid);
+				long start = System.nanoTime();
+				provider.listVirtualMachines();
+				changedElapsed += System.nanoTime() - start;
+			}
+			report("one changed", changedElapsed, iterations, targets);
+			Thread.sleep(1500); /* let the default cache timeout expire */
+			time("after timeout", provider, 1);
+		} finally {
+			for (File dir : targetDirs) {
+				if (null != dir) {
+					File[] files = dir.listFiles();
+					if (null != files) {
+						for (File f : files) {
+							f.delete();
+						}
+					}
+					dir.delete();
+				}
+			}
+		}
+	}
+
+	private static File createTarget(File commonDir, String vmId, String pid) throws IOException {
+		File dir = new File(commonDir, vmId);
+		dir.mkdir();
+		String content = "version=0.1\n"
+				+ "processId=" + pid + "\n"
+				+ "vmId=" + vmId + "\n"
+				+ "displayName=" + vmId + "\n"
+				+ "replyFile=" + new File(dir, "replyInfo").getPath() + "\n"
+				+ "attachNotificationSync=" + new File(dir, "attachNotificationSync").getPath() + "\n";
+		try (FileOutputStream out = new FileOutputStream(new File(dir, "attachInfo"))) {
+			out.write(content.getBytes("ISO8859_1"));
+		}
+		return dir;
+	}
+
+	private static void time(String name, AttachProvider provider, int iterations) {
+		long start = System.nanoTime();
+		int count = 0;
+		for (int i = 0; i < iterations; i++) {
+			List<VirtualMachineDescriptor> vmds = provider.listVirtualMachines();
+			count = vmds.size();
+		}
+		report(name, System.nanoTime() - start, iterations, count);
+	}
+
+	private static void report(String name, long elapsed, int iterations, int count) {
+		System.out.println(String.format("%-14s %,10d us/listing (%d targets)", name, elapsed / 1000 / iterations, count));
+	}
+
+}
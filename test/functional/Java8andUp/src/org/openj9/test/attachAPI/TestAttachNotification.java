@@ -0,0 +1,213 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.attachAPI;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.openj9.test.util.PlatformInfo;
+import org.testng.Assert;
+import org.testng.AssertJUnit;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.tools.attach.AttachNotSupportedException;
+import com.sun.tools.attach.VirtualMachine;
+
+/**
+ * Tests waking a target over its notification socket (com.ibm.tools.attach.notificationSocket=true)
+ * rather than by the semaphore. The target logs each notification it receives on the socket, so
+ * the log shows which mechanism woke it.
+ */
+@Test(groups = { "level.extended" })
+@SuppressWarnings({"nls"})
+public class TestAttachNotification extends AttachApiTest implements TestConstants {
+	private static final String ENABLE_SOCKET = "-Dcom.ibm.tools.attach.notificationSocket=true";
+	private static final String ADVERT_FILENAME = "attachInfo";
+	private static final String SOCKET_KEY = "notificationSocket";
+	private static final String SOCKET_FILENAME = "attachNotifier";
+	private static final String SOCKET_NOTIFIED = "NotificationSocket notified";
+	private static final int ATTACH_COUNT = 5;
+
+	final File commonDirectory = new File(System.getProperty("java.io.tmpdir"), DEFAULT_IPC_DIR);
+
+	@BeforeMethod
+	protected void setUp(Method testMethod) {
+		testName = testMethod.getName();
+		if (PlatformInfo.isWindows()) {
+			/* these tests delete and replace the socket file while the target has it open */
+			throw new SkipException("skipping " + testName + " on Windows");
+		}
+		Assert.assertTrue(TargetManager.waitForAttachApiInitialization(), "main process did not initialize attach API");
+	}
+
+	/**
+	 * Launch a target which logs to its own file in the current directory.
+	 */
+	private TargetManager launchTarget(boolean useSocket) {
+		List<String> vmArgs = Arrays.asList(
+				"-Dcom.ibm.tools.attach.logging=yes",
+				"-Dcom.ibm.tools.attach.log.name=" + testName,
+				useSocket ? ENABLE_SOCKET : "-Dcom.ibm.tools.attach.notificationSocket=false");
+		TargetManager target = new TargetManager(TARGET_VM_CLASS, testName, vmArgs, null);
+		target.syncWithTarget();
+		checkTargetPid(target);
+		return target;
+	}
+
+	private Properties readAdvertisement() throws IOException {
+		Properties advertisement = new Properties();
+		try (FileInputStream advertStream = new FileInputStream(new File(new File(commonDirectory, testName), ADVERT_FILENAME))) {
+			advertisement.load(advertStream);
+		}
+		return advertisement;
+	}
+
+	/**
+	 * Attach, check that the connection works and detach.
+	 */
+	private void attachAndDetach() {
+		VirtualMachine vm = null;
+		try {
+			vm = VirtualMachine.attach(testName);
+			Properties props = vm.getSystemProperties();
+			AssertJUnit.assertEquals("wrong target", testName, props.getProperty("com.ibm.tools.attach.id"));
+		} catch (AttachNotSupportedException | IOException e) {
+			logExceptionInfoAndFail(e);
+		} finally {
+			if (null != vm) {
+				try {
+					vm.detach();
+				} catch (IOException e) {
+					logExceptionInfoAndFail(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Terminate the target and return its log, which is then deleted.
+	 */
+	private String terminateAndReadLog(TargetManager target) throws IOException {
+		target.terminateTarget();
+		File logFile = new File(testName + '_' + target.getTargetPid() + ".log");
+		Assert.assertTrue(logFile.exists(), "missing target log " + logFile.getAbsolutePath());
+		String log = new String(Files.readAllBytes(logFile.toPath()));
+		logger.debug("target log:\n" + log);
+		logFile.delete();
+		return log;
+	}
+
+	private static int countOccurrences(String text, String pattern) {
+		int count = 0;
+		for (int index = text.indexOf(pattern); index >= 0; index = text.indexOf(pattern, index + pattern.length())) {
+			count += 1;
+		}
+		return count;
+	}
+
+	@Test
+	public void testSocketAdvertised() throws IOException {
+		TargetManager target = launchTarget(true);
+		File socketFile = new File(new File(commonDirectory, testName), SOCKET_FILENAME);
+		try {
+			String socketPath = readAdvertisement().getProperty(SOCKET_KEY);
+			Assert.assertNotNull(socketPath, "the advertisement does not name the notification socket");
+			AssertJUnit.assertEquals("wrong socket path", socketFile.getAbsolutePath(), socketPath);
+			Assert.assertTrue(socketFile.exists(), "missing notification socket " + socketPath);
+		} finally {
+			terminateAndReadLog(target);
+		}
+		Assert.assertFalse(socketFile.exists(), "notification socket not deleted");
+	}
+
+	@Test
+	public void testSocketNotAdvertisedByDefault() throws IOException {
+		TargetManager target = launchTarget(false);
+		try {
+			Assert.assertNull(readAdvertisement().getProperty(SOCKET_KEY), "notification socket advertised when not enabled");
+			attachAndDetach();
+		} finally {
+			AssertJUnit.assertEquals("target notified by socket", 0, countOccurrences(terminateAndReadLog(target), SOCKET_NOTIFIED));
+		}
+	}
+
+	@Test
+	public void testNotifyBySocket() throws IOException {
+		TargetManager target = launchTarget(true);
+		String log;
+		try {
+			attachAndDetach();
+		} finally {
+			log = terminateAndReadLog(target);
+		}
+		AssertJUnit.assertEquals("target not notified by socket", 1, countOccurrences(log, SOCKET_NOTIFIED));
+	}
+
+	/**
+	 * Each attach writes a reply with a new key, so the target must connect for every one of them
+	 * even though it remembers the last key to avoid connecting twice when woken by both the socket
+	 * and the semaphore.
+	 */
+	@Test
+	public void testRepeatedAttach() throws IOException {
+		TargetManager target = launchTarget(true);
+		String log;
+		try {
+			for (int i = 0; i < ATTACH_COUNT; i++) {
+				attachAndDetach();
+			}
+		} finally {
+			log = terminateAndReadLog(target);
+		}
+		AssertJUnit.assertEquals("wrong number of socket notifications", ATTACH_COUNT, countOccurrences(log, SOCKET_NOTIFIED));
+	}
+
+	/**
+	 * The attacher uses the semaphore if it cannot connect to the socket named by the advertisement,
+	 * whether the socket file is missing or is not a socket.
+	 */
+	@Test
+	public void testFallbackToSemaphore() throws IOException {
+		TargetManager target = launchTarget(true);
+		File socketFile = new File(new File(commonDirectory, testName), SOCKET_FILENAME);
+		String log;
+		try {
+			Assert.assertNotNull(readAdvertisement().getProperty(SOCKET_KEY), "the advertisement does not name the notification socket");
+			Assert.assertTrue(socketFile.delete(), "could not delete " + socketFile.getAbsolutePath());
+			attachAndDetach();
+
+			Assert.assertTrue(socketFile.createNewFile(), "could not create " + socketFile.getAbsolutePath());
+			attachAndDetach();
+		} finally {
+			log = terminateAndReadLog(target);
+		}
+		AssertJUnit.assertEquals("target notified by socket", 0, countOccurrences(log, SOCKET_NOTIFIED));
+	}
+}
@@ -25,9 +25,11 @@ package org.openj9.test.attachAPI;
 import org.testng.AssertJUnit;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.openj9.test.util.PlatformInfo;
 import org.openj9.test.util.StringUtilities;
@@ -40,6 +42,24 @@ public class TestJstat extends AttachApiTest {
 	private static final String JSTAT_COMMAND = "jstat"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS = "-class"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS_HEADER = "Class Loaded    Class Unloaded"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_COMPILER = "-compiler"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_COMPILER_HEADER = "Compile Time(ms)"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC = "-gc"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC_COUNT_HEADER = " Count"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC_TIME_HEADER = " Time(ms)"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_HEAP = "-heap"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_HEAP_HEADER = "Used(KB)    Committed(KB)          Max(KB)"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_THREAD = "-thread"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_THREAD_HEADER = "Live    Daemon      Peak       Started"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_TIMESTAMP = "-t"; //$NON-NLS-1$
+	private static final String JSTAT_TIMESTAMP_HEADER = "Timestamp"; //$NON-NLS-1$
+	private static final String JSTAT_UNAVAILABLE = "-"; //$NON-NLS-1$
+	private static final String ERROR_INVALID_ARG = "An invalid argument"; //$NON-NLS-1$
+	private static final String ERROR_INVALID_COUNT = "An invalid count: "; //$NON-NLS-1$
+	private static final String ERROR_INVALID_INTERVAL = "An invalid interval: "; //$NON-NLS-1$
+	private static final String ERROR_INVALID_OPTION = "An invalid option"; //$NON-NLS-1$
+	private static final int SAMPLE_COUNT = 3;
+	private static final long SAMPLE_INTERVAL_MS = 200;
 	Object syncObject = new Object();
 	private String vmId;
 
@@ -59,6 +79,194 @@ public class TestJstat extends AttachApiTest {
 		AssertJUnit.assertTrue(JSTAT_OPTION_CLASS_HEADER + " missing", searchResult.isPresent()); //$NON-NLS-1$
 	}
 
+	/**
+	 * Run jstat and return the samples it printed: the lines following the header.
+	 * @param args jstat arguments
+	 * @param header text in the header line
+	 * @return samples, split into columns
+	 */
+	private List<String[]> runSamples(List<String> args, String header) throws IOException {
+		List<String> jstatOutput = runCommand(args);
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		int headerIndex = -1;
+		for (int i = 0; i < jstatOutput.size(); ++i) {
+			if (jstatOutput.get(i).contains(header)) {
+				headerIndex = i;
+				break;
+			}
+		}
+		AssertJUnit.assertTrue(header + " missing", headerIndex >= 0); //$NON-NLS-1$
+		List<String[]> samples = new ArrayList<>();
+		for (String line : jstatOutput.subList(headerIndex + 1, jstatOutput.size())) {
+			if (!line.trim().isEmpty()) {
+				samples.add(line.trim().split("\\s+")); //$NON-NLS-1$
+			}
+		}
+		return samples;
+	}
+
+	/**
+	 * Run jstat and return the only sample it printed.
+	 */
+	private String[] runSingleSample(List<String> args, String header) throws IOException {
+		List<String[]> samples = runSamples(args, header);
+		AssertJUnit.assertEquals("wrong number of samples", 1, samples.size()); //$NON-NLS-1$
+		return samples.get(0);
+	}
+
+	private static long parseColumn(String[] sample, int column) {
+		AssertJUnit.assertTrue("missing column " + column + " in " + Arrays.toString(sample), column < sample.length); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			long value = Long.parseLong(sample[column]);
+			AssertJUnit.assertTrue("negative value in column " + column + " of " + Arrays.toString(sample), value >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+			return value;
+		} catch (NumberFormatException e) {
+			AssertJUnit.fail("column " + column + " is not a number in " + Arrays.toString(sample)); //$NON-NLS-1$ //$NON-NLS-2$
+			return -1;
+		}
+	}
+
+	private static int countOccurrences(String text, String pattern) {
+		int count = 0;
+		for (int index = text.indexOf(pattern); index >= 0; index = text.indexOf(pattern, index + pattern.length())) {
+			count += 1;
+		}
+		return count;
+	}
+
+	/**
+	 * Run jstat with arguments it rejects and check that it reports the error.
+	 */
+	private void checkInvalidArguments(List<String> args, String error) throws IOException {
+		List<String> jstatOutput = runCommand(args);
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		Optional<String> searchResult = StringUtilities.searchSubstring(error, jstatOutput);
+		AssertJUnit.assertTrue(error + " missing for arguments " + args, searchResult.isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testOptionCompiler() throws IOException {
+		String[] sample = runSingleSample(Arrays.asList(JSTAT_OPTION_COMPILER, vmId), JSTAT_OPTION_COMPILER_HEADER);
+		AssertJUnit.assertEquals("wrong number of columns in " + Arrays.toString(sample), 1, sample.length); //$NON-NLS-1$
+		/* the compilation time is not available without a JIT */
+		if (!JSTAT_UNAVAILABLE.equals(sample[0])) {
+			parseColumn(sample, 0);
+		}
+	}
+
+	@Test
+	public void testOptionGc() throws IOException {
+		List<String> jstatOutput = runCommand(Arrays.asList(JSTAT_OPTION_GC, vmId));
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		Optional<String> header = StringUtilities.searchSubstring(JSTAT_OPTION_GC_TIME_HEADER, jstatOutput);
+		AssertJUnit.assertTrue(JSTAT_OPTION_GC_TIME_HEADER + " missing", header.isPresent()); //$NON-NLS-1$
+		/* each collector has a count and a time column */
+		int collectors = countOccurrences(header.get(), JSTAT_OPTION_GC_TIME_HEADER);
+		AssertJUnit.assertTrue("no collectors in " + header.get(), collectors > 0); //$NON-NLS-1$
+		AssertJUnit.assertEquals("count and time columns differ in " + header.get(), //$NON-NLS-1$
+				collectors, countOccurrences(header.get(), JSTAT_OPTION_GC_COUNT_HEADER));
+
+		String[] sample = runSingleSample(Arrays.asList(JSTAT_OPTION_GC, vmId), JSTAT_OPTION_GC_TIME_HEADER);
+		AssertJUnit.assertEquals("wrong number of columns in " + Arrays.toString(sample), 2 * collectors, sample.length); //$NON-NLS-1$
+		for (int i = 0; i < sample.length; ++i) {
+			parseColumn(sample, i);
+		}
+	}
+
+	@Test
+	public void testOptionHeap() throws IOException {
+		String[] sample = runSingleSample(Arrays.asList(JSTAT_OPTION_HEAP, vmId), JSTAT_OPTION_HEAP_HEADER);
+		AssertJUnit.assertEquals("wrong number of columns in " + Arrays.toString(sample), 3, sample.length); //$NON-NLS-1$
+		long used = parseColumn(sample, 0);
+		long committed = parseColumn(sample, 1);
+		long max = parseColumn(sample, 2);
+		AssertJUnit.assertTrue("used heap is 0", used > 0); //$NON-NLS-1$
+		AssertJUnit.assertTrue("used heap exceeds committed heap in " + Arrays.toString(sample), used <= committed); //$NON-NLS-1$
+		AssertJUnit.assertTrue("committed heap exceeds maximum heap in " + Arrays.toString(sample), committed <= max); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testOptionThread() throws IOException {
+		String[] sample = runSingleSample(Arrays.asList(JSTAT_OPTION_THREAD, vmId), JSTAT_OPTION_THREAD_HEADER);
+		AssertJUnit.assertEquals("wrong number of columns in " + Arrays.toString(sample), 4, sample.length); //$NON-NLS-1$
+		long live = parseColumn(sample, 0);
+		parseColumn(sample, 1);
+		long peak = parseColumn(sample, 2);
+		long started = parseColumn(sample, 3);
+		AssertJUnit.assertTrue("no live threads", live > 0); //$NON-NLS-1$
+		/* the peak is read after the live count and never decreases */
+		AssertJUnit.assertTrue("peak is less than live count in " + Arrays.toString(sample), peak >= live); //$NON-NLS-1$
+		AssertJUnit.assertTrue("no threads started", started > 0); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testOptionTimestamp() throws IOException {
+		String[] sample = runSingleSample(Arrays.asList(JSTAT_OPTION_CLASS, JSTAT_OPTION_TIMESTAMP, vmId), JSTAT_TIMESTAMP_HEADER);
+		AssertJUnit.assertEquals("wrong number of columns in " + Arrays.toString(sample), 3, sample.length); //$NON-NLS-1$
+		double uptime = Double.parseDouble(sample[0]);
+		AssertJUnit.assertTrue("uptime is not positive in " + Arrays.toString(sample), uptime > 0); //$NON-NLS-1$
+		AssertJUnit.assertTrue("no classes loaded", parseColumn(sample, 1) > 0); //$NON-NLS-1$
+		parseColumn(sample, 2);
+	}
+
+	/**
+	 * Take a fixed number of samples, which must be taken at the requested interval.
+	 */
+	@Test
+	public void testCount() throws IOException {
+		long start = System.nanoTime();
+		List<String[]> samples = runSamples(
+				Arrays.asList(JSTAT_OPTION_CLASS, JSTAT_OPTION_TIMESTAMP, vmId, SAMPLE_INTERVAL_MS + "ms", Integer.toString(SAMPLE_COUNT)), //$NON-NLS-1$
+				JSTAT_TIMESTAMP_HEADER);
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		AssertJUnit.assertEquals("wrong number of samples", SAMPLE_COUNT, samples.size()); //$NON-NLS-1$
+		AssertJUnit.assertTrue("samples taken too quickly: " + elapsed + "ms", elapsed >= ((SAMPLE_COUNT - 1) * SAMPLE_INTERVAL_MS)); //$NON-NLS-1$ //$NON-NLS-2$
+		double lastUptime = 0;
+		long lastLoaded = 0;
+		for (String[] sample : samples) {
+			double uptime = Double.parseDouble(sample[0]);
+			long loaded = parseColumn(sample, 1);
+			AssertJUnit.assertTrue("uptime went backwards in " + Arrays.toString(sample), uptime >= lastUptime); //$NON-NLS-1$
+			AssertJUnit.assertTrue("loaded class count went backwards in " + Arrays.toString(sample), loaded >= lastLoaded); //$NON-NLS-1$
+			lastUptime = uptime;
+			lastLoaded = loaded;
+		}
+	}
+
+	/**
+	 * An interval is in milliseconds unless it ends with "s", and may end with "ms".
+	 */
+	@Test
+	public void testIntervalUnits() throws IOException {
+		for (String interval : new String[] { "100", "100ms", "1s" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			List<String[]> samples = runSamples(Arrays.asList(JSTAT_OPTION_HEAP, vmId, interval, "2"), JSTAT_OPTION_HEAP_HEADER); //$NON-NLS-1$
+			AssertJUnit.assertEquals("wrong number of samples for interval " + interval, 2, samples.size()); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testInvalidInterval() throws IOException {
+		for (String interval : new String[] { "0", "0ms", "0s", "abc", "10x", "1.5s", "ms", "s" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+			checkInvalidArguments(Arrays.asList(JSTAT_OPTION_CLASS, vmId, interval), ERROR_INVALID_INTERVAL + interval);
+		}
+		/* a negative interval looks like a second option */
+		checkInvalidArguments(Arrays.asList(JSTAT_OPTION_CLASS, vmId, "-100"), ERROR_INVALID_ARG); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testInvalidCount() throws IOException {
+		for (String count : new String[] { "0", "abc", "1s" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			checkInvalidArguments(Arrays.asList(JSTAT_OPTION_CLASS, vmId, "100ms", count), ERROR_INVALID_COUNT + count); //$NON-NLS-1$
+		}
+		checkInvalidArguments(Arrays.asList(JSTAT_OPTION_CLASS, vmId, "100ms", "2", "3"), ERROR_INVALID_ARG); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testInvalidTimestampPosition() throws IOException {
+		/* -t must follow the option */
+		checkInvalidArguments(Arrays.asList(JSTAT_OPTION_TIMESTAMP, JSTAT_OPTION_CLASS, vmId), ERROR_INVALID_OPTION);
+	}
+
 	@BeforeSuite
 	protected void setupSuite() {
 		getJdkUtilityPath(JSTAT_COMMAND);
@@ -0,0 +1,205 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.attachAPI;
+
+import static org.openj9.test.util.FileUtilities.deleteRecursive;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.tools.attach.VirtualMachine;
+import com.sun.tools.attach.VirtualMachineDescriptor;
+
+/**
+ * Tests that VirtualMachine.list() reports targets which start, end or crash while it may
+ * return its previous listing, and that listing many targets on several threads gives the
+ * same result as listing them on one.
+ * <p>
+ * The playlist runs this class with com.ibm.tools.attach.listCacheTimeout set to a long time,
+ * so that any change must be detected rather than found when the listing expires, with and
+ * without the advertisement index, and with the listing not reused at all.
+ */
+@Test(groups = { "level.extended" })
+@SuppressWarnings({"nls"})
+public class TestListVmsCache extends AttachApiTest implements TestConstants {
+	private static final String LIST_CACHE_TIMEOUT_PROPERTY = "com.ibm.tools.attach.listCacheTimeout";
+	private static final String WATCH_DIRECTORY_PROPERTY = "com.ibm.tools.attach.watchDirectory";
+	private static final String LISTVMS = ListVms.class.getCanonicalName();
+	private static final String LISTVMS_ID_PREFIX = "id: ";
+
+	/* more than enough targets for the targets to be examined on several threads */
+	private static final int LIVE_TARGETS = 300;
+	private static final int STALE_TARGETS = 100;
+	/* no process has this ID */
+	private static final long DEAD_PROCESS_ID = Integer.MAX_VALUE - 1;
+
+	final File commonDirectory = new File(System.getProperty("java.io.tmpdir"), DEFAULT_IPC_DIR);
+
+	@BeforeMethod
+	protected void setUp(Method testMethod) {
+		testName = testMethod.getName();
+		logger.debug("starting " + testName + " with " + LIST_CACHE_TIMEOUT_PROPERTY + "="
+				+ System.getProperty(LIST_CACHE_TIMEOUT_PROPERTY));
+		Assert.assertTrue(TargetManager.waitForAttachApiInitialization(), "main process did not initialize attach API");
+	}
+
+	private static boolean isListed(String id) {
+		for (VirtualMachineDescriptor vmd : VirtualMachine.list()) {
+			if (id.equals(vmd.id())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<String> listIds() {
+		Set<String> ids = new HashSet<>();
+		for (VirtualMachineDescriptor vmd : VirtualMachine.list()) {
+			ids.add(vmd.id());
+		}
+		return ids;
+	}
+
+	@Test
+	public void testTargetStarted() {
+		Assert.assertFalse(isListed(testName), testName + " listed before it started");
+		TargetManager target = launchTarget(testName);
+		try {
+			Assert.assertTrue(isListed(testName), "target which started since the last listing is missing");
+			/* nothing has changed, so the listing may be reused */
+			Assert.assertEquals(listIds(), listIds(), "listing changed when no target started or ended");
+		} finally {
+			target.terminateTarget();
+		}
+	}
+
+	@Test
+	public void testTargetEnded() {
+		TargetManager target = launchTarget(testName);
+		Assert.assertTrue(isListed(testName), "target missing");
+		target.terminateTarget();
+		Assert.assertFalse(isListed(testName), "target which ended since the last listing is listed");
+	}
+
+	/**
+	 * A target which is killed does not remove its target directory, so the listing must check
+	 * that the listed processes are still running before it is reused.
+	 */
+	@Test
+	public void testTargetCrashed() throws InterruptedException {
+		TargetManager target = launchTarget(testName);
+		Assert.assertTrue(isListed(testName), "target missing");
+		File targetDirectory = new File(commonDirectory, testName);
+		Assert.assertTrue(targetDirectory.exists(), "target directory " + targetDirectory.getPath() + " missing");
+
+		target.killTarget();
+		Assert.assertTrue(targetDirectory.exists(), "killed target removed its directory");
+		Assert.assertFalse(isListed(testName), "target which was killed since the last listing is listed");
+		Assert.assertFalse(targetDirectory.exists(), "stale target directory " + targetDirectory.getPath() + " not deleted");
+	}
+
+	/**
+	 * Write an advertisement for a synthetic target, as the attach API of a target would.
+	 */
+	private static void createAdvertisement(File commonDir, String vmId, long pid) throws IOException {
+		File dir = new File(commonDir, vmId);
+		Assert.assertTrue(dir.mkdir(), "could not create " + dir.getPath());
+		String content = "version=0.1\n"
+				+ "processId=" + pid + "\n"
+				+ "vmId=" + vmId + "\n"
+				+ "displayName=" + vmId + "\n"
+				+ "replyFile=" + new File(dir, "replyInfo").getPath() + "\n"
+				+ "attachNotificationSync=" + new File(dir, "attachNotificationSync").getPath() + "\n";
+		try (FileOutputStream out = new FileOutputStream(new File(dir, "attachInfo"))) {
+			out.write(content.getBytes("ISO8859_1"));
+		}
+	}
+
+	/**
+	 * List the targets in a scratch common directory holding enough synthetic targets to be examined
+	 * on several threads. Some advertise this process and some a process which does not exist: the
+	 * listing must contain exactly the former and delete the directories of the latter.
+	 */
+	@Test
+	public void testManyTargets() throws IOException {
+		File scratchDir = new File(System.getProperty("java.io.tmpdir"), testName);
+		if (scratchDir.exists()) {
+			deleteRecursive(scratchDir);
+		}
+		Assert.assertTrue(scratchDir.mkdirs(), "could not create " + scratchDir.getPath());
+		long pid = Long.parseLong(ManagementFactory.getRuntimeMXBean().getName().split("@")[0]);
+
+		Set<String> liveIds = new HashSet<>();
+		List<File> staleDirs = new ArrayList<>();
+		try {
+			for (int i = 0; i < LIVE_TARGETS; i++) {
+				String id = "live" + i;
+				createAdvertisement(scratchDir, id, pid);
+				liveIds.add(id);
+			}
+			for (int i = 0; i < STALE_TARGETS; i++) {
+				String id = "stale" + i;
+				createAdvertisement(scratchDir, id, DEAD_PROCESS_ID);
+				staleDirs.add(new File(scratchDir, id));
+			}
+
+			List<String> vmArgs = new ArrayList<>();
+			vmArgs.add("-Dcom.ibm.tools.attach.directory=" + scratchDir.getAbsolutePath());
+			for (String property : new String[] { LIST_CACHE_TIMEOUT_PROPERTY, WATCH_DIRECTORY_PROPERTY }) {
+				String value = System.getProperty(property);
+				if (null != value) {
+					vmArgs.add("-D" + property + "=" + value);
+				}
+			}
+			TargetManager lister = new TargetManager(LISTVMS, LISTVMS, vmArgs, null);
+			Set<String> listedIds = new HashSet<>();
+			String line;
+			while ((null != (line = lister.getTgtOut().readLine())) && !line.contains(ListVms.LIST_VMS_EXIT)) {
+				logger.debug("listvms output: " + line);
+				if (line.startsWith(LISTVMS_ID_PREFIX)) {
+					listedIds.add(line.substring(LISTVMS_ID_PREFIX.length()).split(" ")[0]);
+				}
+			}
+			Assert.assertEquals(lister.terminateTarget(true), 0, "ListVms failed: " + lister.getErrOutput());
+
+			/* the lister may or may not list itself */
+			listedIds.remove(LISTVMS);
+			Assert.assertEquals(listedIds, liveIds, "wrong targets listed");
+			for (File dir : staleDirs) {
+				Assert.assertFalse(dir.exists(), "stale target directory " + dir.getPath() + " not deleted");
+			}
+		} finally {
+			deleteRecursive(scratchDir);
+		}
+	}
+}
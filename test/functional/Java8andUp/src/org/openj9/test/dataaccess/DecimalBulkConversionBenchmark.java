@@ -0,0 +1,241 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Compares converting a column of fixed-width records one value at a time with the
+ * bulk DecimalData conversions, for records in a byte array, a heap ByteBuffer and a
+ * direct ByteBuffer. The results of both are compared as they run.
+ *
+ * Each record is RECORD_SIZE bytes, with a Packed Decimal column and an External
+ * Decimal column.
+ *
+ * Usage: DecimalBulkConversionBenchmark [records [iterations]]
+ */
+public class DecimalBulkConversionBenchmark {
+
+	private static final int RECORD_SIZE = 32;
+	private static final int PACKED_OFFSET = 4;
+	private static final int PACKED_PRECISION = 15;
+	private static final int EXTERNAL_OFFSET = 16;
+	private static final int EXTERNAL_PRECISION = 9;
+	private static final int EXTERNAL_TYPE = DecimalData.EBCDIC_SIGN_SEPARATE_LEADING;
+
+	private static long sink;
+
+	public static void main(String[] args) {
+		int records = (args.length > 0) ? Integer.parseInt(args[0]) : 1000000;
+		int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+
+		Random random = new Random(records);
+		long[] longs = new long[records];
+		int[] ints = new int[records];
+		for (int i = 0; i < records; i++) {
+			longs[i] = random.nextLong() % 1000000000000000L;
+			ints[i] = random.nextInt() % 1000000000;
+		}
+
+		byte[] array = new byte[records * RECORD_SIZE];
+		for (int i = 0; i < records; i++) {
+			DecimalData.convertLongToPackedDecimal(longs[i], array, (i * RECORD_SIZE) + PACKED_OFFSET, PACKED_PRECISION, true);
+			DecimalData.convertIntegerToExternalDecimal(ints[i], array, (i * RECORD_SIZE) + EXTERNAL_OFFSET, EXTERNAL_PRECISION, true, EXTERNAL_TYPE);
+		}
+		ByteBuffer heap = ByteBuffer.wrap(array.clone());
+		ByteBuffer direct = ByteBuffer.allocateDirect(array.length);
+		direct.put(array).clear();
+
+		System.out.println(records + " records of " + RECORD_SIZE + " bytes, " + iterations + " iterations");
+		System.out.println(String.format("%-24s %-8s %16s %16s %8s", "conversion", "source", "single values/s", "bulk values/s", "speedup"));
+
+		// the first iteration is warm up for the JIT
+		for (int i = 0; i <= iterations; i++) {
+			boolean report = (i > 0);
+			packedToLong("byte[]", array, null, records, longs, report);
+			packedToLong("heap", null, heap, records, longs, report);
+			packedToLong("direct", null, direct, records, longs, report);
+			longToPacked("byte[]", array, null, records, longs, report);
+			longToPacked("direct", null, direct, records, longs, report);
+			externalToInteger("byte[]", array, null, records, ints, report);
+			externalToInteger("direct", null, direct, records, ints, report);
+			packedToBigDecimal("byte[]", array, records, longs, report);
+		}
+		if (sink == 42) {
+			System.out.println();
+		}
+	}
+
+	private static void packedToLong(String source, byte[] array, ByteBuffer buffer, int records, long[] expected, boolean report) {
+		long[] values = new long[records];
+		byte[] field = new byte[RECORD_SIZE];
+
+		long start = System.nanoTime();
+		for (int i = 0; i < records; i++) {
+			int offset = (i * RECORD_SIZE) + PACKED_OFFSET;
+			if (array != null) {
+				values[i] = DecimalData.convertPackedDecimalToLong(array, offset, PACKED_PRECISION, true);
+			} else {
+				copyField(buffer, offset, field, PACKED_PRECISION / 2 + 1);
+				values[i] = DecimalData.convertPackedDecimalToLong(field, 0, PACKED_PRECISION, true);
+			}
+		}
+		long singleTime = System.nanoTime() - start;
+		check(expected, values);
+
+		Arrays.fill(values, 0);
+		start = System.nanoTime();
+		if (array != null) {
+			DecimalData.convertPackedDecimalToLong(array, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, true, values, 0, records);
+		} else {
+			DecimalData.convertPackedDecimalToLong(buffer, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, true, values, 0, records);
+		}
+		long bulkTime = System.nanoTime() - start;
+		check(expected, values);
+
+		report("packed to long", source, records, singleTime, bulkTime, report);
+	}
+
+	private static void longToPacked(String source, byte[] array, ByteBuffer buffer, int records, long[] values, boolean report) {
+		byte[] field = new byte[RECORD_SIZE];
+		int size = PACKED_PRECISION / 2 + 1;
+
+		long start = System.nanoTime();
+		for (int i = 0; i < records; i++) {
+			int offset = (i * RECORD_SIZE) + PACKED_OFFSET;
+			if (array != null) {
+				DecimalData.convertLongToPackedDecimal(values[i], array, offset, PACKED_PRECISION, true);
+			} else {
+				DecimalData.convertLongToPackedDecimal(values[i], field, 0, PACKED_PRECISION, true);
+				for (int j = 0; j < size; j++) {
+					buffer.put(offset + j, field[j]);
+				}
+			}
+		}
+		long singleTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		if (array != null) {
+			DecimalData.convertLongToPackedDecimal(values, 0, records, array, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, true);
+		} else {
+			DecimalData.convertLongToPackedDecimal(values, 0, records, buffer, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, true);
+		}
+		long bulkTime = System.nanoTime() - start;
+
+		// read back what was written
+		long[] written = new long[records];
+		if (array != null) {
+			DecimalData.convertPackedDecimalToLong(array, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, true, written, 0, records);
+		} else {
+			DecimalData.convertPackedDecimalToLong(buffer, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, true, written, 0, records);
+		}
+		check(values, written);
+
+		report("long to packed", source, records, singleTime, bulkTime, report);
+	}
+
+	private static void externalToInteger(String source, byte[] array, ByteBuffer buffer, int records, int[] expected, boolean report) {
+		int[] values = new int[records];
+		byte[] field = new byte[RECORD_SIZE];
+
+		long start = System.nanoTime();
+		for (int i = 0; i < records; i++) {
+			int offset = (i * RECORD_SIZE) + EXTERNAL_OFFSET;
+			if (array != null) {
+				values[i] = DecimalData.convertExternalDecimalToInteger(array, offset, EXTERNAL_PRECISION, true, EXTERNAL_TYPE);
+			} else {
+				copyField(buffer, offset, field, EXTERNAL_PRECISION + 1);
+				values[i] = DecimalData.convertExternalDecimalToInteger(field, 0, EXTERNAL_PRECISION, true, EXTERNAL_TYPE);
+			}
+		}
+		long singleTime = System.nanoTime() - start;
+		if (!Arrays.equals(expected, values)) {
+			throw new AssertionError("single value conversion differs");
+		}
+
+		Arrays.fill(values, 0);
+		start = System.nanoTime();
+		if (array != null) {
+			DecimalData.convertExternalDecimalToInteger(array, EXTERNAL_OFFSET, RECORD_SIZE, EXTERNAL_PRECISION, true, EXTERNAL_TYPE, values, 0, records);
+		} else {
+			DecimalData.convertExternalDecimalToInteger(buffer, EXTERNAL_OFFSET, RECORD_SIZE, EXTERNAL_PRECISION, true, EXTERNAL_TYPE, values, 0, records);
+		}
+		long bulkTime = System.nanoTime() - start;
+		if (!Arrays.equals(expected, values)) {
+			throw new AssertionError("bulk conversion differs");
+		}
+
+		report("external to int", source, records, singleTime, bulkTime, report);
+	}
+
+	private static void packedToBigDecimal(String source, byte[] array, int records, long[] expected, boolean report) {
+		BigDecimal[] values = new BigDecimal[records];
+
+		long start = System.nanoTime();
+		for (int i = 0; i < records; i++) {
+			values[i] = DecimalData.convertPackedDecimalToBigDecimal(array, (i * RECORD_SIZE) + PACKED_OFFSET, PACKED_PRECISION, 2, true);
+		}
+		long singleTime = System.nanoTime() - start;
+		sink += values[records - 1].unscaledValue().longValue();
+
+		start = System.nanoTime();
+		DecimalData.convertPackedDecimalToBigDecimal(array, PACKED_OFFSET, RECORD_SIZE, PACKED_PRECISION, 2, true, values, 0, records);
+		long bulkTime = System.nanoTime() - start;
+		for (int i = 0; i < records; i++) {
+			if (values[i].unscaledValue().longValue() != expected[i]) {
+				throw new AssertionError("bulk conversion differs at record " + i);
+			}
+		}
+
+		report("packed to BigDecimal", source, records, singleTime, bulkTime, report);
+	}
+
+	private static void copyField(ByteBuffer buffer, int offset, byte[] field, int size) {
+		for (int j = 0; j < size; j++) {
+			field[j] = buffer.get(offset + j);
+		}
+	}
+
+	private static void check(long[] expected, long[] values) {
+		if (!Arrays.equals(expected, values)) {
+			throw new AssertionError("conversion differs");
+		}
+		sink += values[values.length - 1];
+	}
+
+	private static void report(String conversion, String source, int records, long singleTime, long bulkTime, boolean report) {
+		if (report) {
+			System.out.println(String.format("%-24s %-8s %,16d %,16d %7.2fx",
+					conversion,
+					source,
+					(long) (records * 1e9 / singleTime),
+					(long) (records * 1e9 / bulkTime),
+					(double) singleTime / bulkTime));
+		}
+	}
+
+}
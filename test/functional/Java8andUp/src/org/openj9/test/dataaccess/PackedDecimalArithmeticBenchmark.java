@@ -0,0 +1,176 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Compares the throughput of PackedDecimal multiply, divide and remainder with the
+ * BigInteger round trip they used to make (packed decimal to BigInteger, operate, and
+ * back), for operand precisions 1 to 31. The results of both are compared as they run.
+ *
+ * Usage: PackedDecimalArithmeticBenchmark [operations [iterations]]
+ *
+ * where operations is the number of operations timed per precision and operator.
+ */
+public class PackedDecimalArithmeticBenchmark {
+
+	private static final int MAX_PRECISION = 31;
+	private static final int OPERANDS = 1024;
+
+	private static final String[] OPERATORS = { "multiply", "divide", "remainder" };
+
+	private static long sink;
+
+	public static void main(String[] args) {
+		int operations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000000;
+		int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+
+		System.out.println(String.format("%-10s %9s %14s %14s %8s", "operator", "precision", "packed ops/s", "BigInteger ops/s", "speedup"));
+
+		// the first iteration is warm up for the JIT
+		for (int i = 0; i <= iterations; i++) {
+			for (int operator = 0; operator < OPERATORS.length; operator++) {
+				for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+					run(operator, precision, operations, i > 0);
+				}
+			}
+		}
+		if (sink == 42) {
+			System.out.println();
+		}
+	}
+
+	private static void run(int operator, int precision, int operations, boolean report) {
+		// the product of two operands needs twice the precision; quotients and remainders fit in the operand precision
+		int resultPrecision = (operator == 0) ? (2 * precision) : precision;
+		int length = precision / 2 + 1;
+		byte[] op1 = new byte[OPERANDS * length];
+		byte[] op2 = new byte[OPERANDS * length];
+		Random random = new Random(precision);
+		for (int i = 0; i < OPERANDS; i++) {
+			DecimalData.convertBigIntegerToPackedDecimal(randomValue(random, precision, false), op1, i * length, precision, true);
+			DecimalData.convertBigIntegerToPackedDecimal(randomValue(random, precision, true), op2, i * length, precision, true);
+		}
+
+		byte[] packedResult = new byte[resultPrecision / 2 + 1];
+		byte[] bigIntegerResult = new byte[resultPrecision / 2 + 1];
+
+		long start = System.nanoTime();
+		for (int i = 0; i < operations; i++) {
+			int offset = (i % OPERANDS) * length;
+			switch (operator) {
+			case 0:
+				PackedDecimal.multiplyPackedDecimal(packedResult, 0, resultPrecision, op1, offset, precision, op2, offset, precision, true);
+				break;
+			case 1:
+				PackedDecimal.dividePackedDecimal(packedResult, 0, resultPrecision, op1, offset, precision, op2, offset, precision, true);
+				break;
+			default:
+				PackedDecimal.remainderPackedDecimal(packedResult, 0, resultPrecision, op1, offset, precision, op2, offset, precision, true);
+				break;
+			}
+			sink += packedResult[packedResult.length - 1];
+		}
+		long packedTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < operations; i++) {
+			int offset = (i % OPERANDS) * length;
+			bigIntegerOp(operator, bigIntegerResult, resultPrecision, op1, offset, op2, offset, precision);
+			sink += bigIntegerResult[bigIntegerResult.length - 1];
+		}
+		long bigIntegerTime = System.nanoTime() - start;
+
+		for (int i = 0; i < OPERANDS; i++) {
+			int offset = i * length;
+			switch (operator) {
+			case 0:
+				PackedDecimal.multiplyPackedDecimal(packedResult, 0, resultPrecision, op1, offset, precision, op2, offset, precision, true);
+				break;
+			case 1:
+				PackedDecimal.dividePackedDecimal(packedResult, 0, resultPrecision, op1, offset, precision, op2, offset, precision, true);
+				break;
+			default:
+				PackedDecimal.remainderPackedDecimal(packedResult, 0, resultPrecision, op1, offset, precision, op2, offset, precision, true);
+				break;
+			}
+			bigIntegerOp(operator, bigIntegerResult, resultPrecision, op1, offset, op2, offset, precision);
+			if (!Arrays.equals(packedResult, bigIntegerResult)) {
+				throw new AssertionError(OPERATORS[operator] + " of precision " + precision + " operands " + i + " differs");
+			}
+		}
+
+		if (report) {
+			System.out.println(String.format("%-10s %9d %,14d %,16d %7.2fx",
+					OPERATORS[operator],
+					precision,
+					(long) (operations * 1e9 / packedTime),
+					(long) (operations * 1e9 / bigIntegerTime),
+					(double) bigIntegerTime / packedTime));
+		}
+	}
+
+	private static void bigIntegerOp(int operator, byte[] result, int resultPrecision,
+			byte[] op1, int op1Offset, byte[] op2, int op2Offset, int precision) {
+		BigInteger value1 = DecimalData.convertPackedDecimalToBigInteger(op1, op1Offset, precision, true);
+		BigInteger value2 = DecimalData.convertPackedDecimalToBigInteger(op2, op2Offset, precision, true);
+		BigInteger value;
+		switch (operator) {
+		case 0:
+			value = value1.multiply(value2);
+			break;
+		case 1:
+			value = value1.divide(value2);
+			break;
+		default:
+			value = value1.remainder(value2);
+			break;
+		}
+		// the conversion leaves leading digits which it does not need untouched
+		Arrays.fill(result, (byte) 0);
+		DecimalData.convertBigIntegerToPackedDecimal(value, result, 0, resultPrecision, true);
+		if (value.signum() == 0) {
+			// BigInteger has no negative zero; the sign of a zero result is that of the product of the operand signs
+			boolean negative = (value1.signum() < 0) != (value2.signum() < 0);
+			result[result.length - 1] = (byte) ((result[result.length - 1] & 0xF0) | (negative ? 0x0D : 0x0C));
+		}
+	}
+
+	private static BigInteger randomValue(Random random, int precision, boolean nonZero) {
+		char[] digits = new char[precision];
+		for (int i = 0; i < precision; i++) {
+			digits[i] = (char) ('0' + random.nextInt(10));
+		}
+		if (nonZero) {
+			digits[precision - 1] = (char) ('1' + random.nextInt(9));
+		}
+		BigInteger value = new BigInteger(new String(digits));
+		return random.nextBoolean() ? value.negate() : value;
+	}
+
+}
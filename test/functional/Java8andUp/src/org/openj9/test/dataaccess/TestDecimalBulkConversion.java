@@ -0,0 +1,611 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Tests that the bulk column conversions of DecimalData give the same results as
+ * converting each decimal with the single value methods, for byte arrays and for heap,
+ * direct and read-only byte buffers.
+ */
+@Test(groups = { "level.extended" })
+public class TestDecimalBulkConversion {
+
+	/* not an External Decimal type, used here for Packed Decimals */
+	private static final int PACKED = 0;
+
+	private static final int[] TYPES = {
+			PACKED,
+			DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING,
+			DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING,
+			DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING,
+			DecimalData.EBCDIC_SIGN_SEPARATE_LEADING
+	};
+
+	private static final int[] PRECISIONS = { 1, 2, 7, 9, 10, 15, 18, 19, 31 };
+
+	/* a byte that is not part of any decimal in a column */
+	private static final byte GAP = (byte) 0x5A;
+
+	private static final int INT = 0, LONG = 1, BIG_DECIMAL = 2;
+
+	private enum Kind {
+		ARRAY, HEAP, SLICED_HEAP, DIRECT, READ_ONLY_HEAP, READ_ONLY_DIRECT;
+
+		boolean isReadOnly() {
+			return (this == READ_ONLY_HEAP) || (this == READ_ONLY_DIRECT);
+		}
+	}
+
+	/**
+	 * A column of decimals of one type and precision.
+	 */
+	private static final class Column {
+		final int type;
+		final int precision;
+		final int scale;
+		final int offset;
+		final int stride;
+		final int count;
+		final int size;
+
+		Column(int type, int precision, int scale, int offset, int stride, int count) {
+			this.type = type;
+			this.precision = precision;
+			this.scale = scale;
+			this.offset = offset;
+			this.stride = stride;
+			this.count = count;
+			this.size = size(type, precision);
+		}
+
+		static Column random(Random random, int type, int precision, int count) {
+			int size = size(type, precision);
+			return new Column(type, precision, random.nextInt(4), random.nextInt(4), size + random.nextInt(4), count);
+		}
+
+		/**
+		 * @return the length of a buffer holding the column, with a few bytes after the last decimal
+		 */
+		int length() {
+			return (count == 0) ? offset : offset + ((count - 1) * stride) + size + (count % 3);
+		}
+
+		public String toString() {
+			return "type " + type + " precision " + precision + " scale " + scale + " offset " + offset
+					+ " stride " + stride + " count " + count;
+		}
+	}
+
+	private static int size(int type, int precision) {
+		return (type == PACKED) ? (precision / 2 + 1) : ((type <= DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING) ? precision : precision + 1);
+	}
+
+	private static int maxPrecision(int target) {
+		return (target == INT) ? 9 : ((target == LONG) ? 18 : Integer.MAX_VALUE);
+	}
+
+	private static BigDecimal randomValue(Random random, Column column) {
+		int digits = random.nextInt(column.precision) + 1;
+		BigInteger unscaled = new BigInteger(digits * 4, random).mod(BigInteger.TEN.pow(digits));
+		if (random.nextBoolean()) {
+			unscaled = unscaled.negate();
+		}
+		return new BigDecimal(unscaled, column.scale);
+	}
+
+	/* single value conversions */
+
+	private static Object toBinary(int target, Column column, byte[] bytes, int offset) {
+		if (column.type == PACKED) {
+			switch (target) {
+			case INT:
+				return Integer.valueOf(DecimalData.convertPackedDecimalToInteger(bytes, offset, column.precision, true));
+			case LONG:
+				return Long.valueOf(DecimalData.convertPackedDecimalToLong(bytes, offset, column.precision, true));
+			default:
+				return DecimalData.convertPackedDecimalToBigDecimal(bytes, offset, column.precision, column.scale, true);
+			}
+		}
+		switch (target) {
+		case INT:
+			return Integer.valueOf(DecimalData.convertExternalDecimalToInteger(bytes, offset, column.precision, true, column.type));
+		case LONG:
+			return Long.valueOf(DecimalData.convertExternalDecimalToLong(bytes, offset, column.precision, true, column.type));
+		default:
+			return DecimalData.convertExternalDecimalToBigDecimal(bytes, offset, column.precision, column.scale, true, column.type);
+		}
+	}
+
+	private static void toDecimal(int target, Column column, BigDecimal value, byte[] bytes, int offset) {
+		if (column.type == PACKED) {
+			switch (target) {
+			case INT:
+				DecimalData.convertIntegerToPackedDecimal(value.unscaledValue().intValue(), bytes, offset, column.precision, true);
+				break;
+			case LONG:
+				DecimalData.convertLongToPackedDecimal(value.unscaledValue().longValue(), bytes, offset, column.precision, true);
+				break;
+			default:
+				DecimalData.convertBigDecimalToPackedDecimal(value, bytes, offset, column.precision, true);
+				break;
+			}
+		} else {
+			switch (target) {
+			case INT:
+				DecimalData.convertIntegerToExternalDecimal(value.unscaledValue().intValue(), bytes, offset, column.precision, true, column.type);
+				break;
+			case LONG:
+				DecimalData.convertLongToExternalDecimal(value.unscaledValue().longValue(), bytes, offset, column.precision, true, column.type);
+				break;
+			default:
+				DecimalData.convertBigDecimalToExternalDecimal(value, bytes, offset, column.precision, true, column.type);
+				break;
+			}
+		}
+	}
+
+	/* bulk conversions, of a byte array or a buffer */
+
+	private static void bulkToBinary(int target, Column column, Object decimals, Object values, int valuesOffset) {
+		boolean packed = column.type == PACKED;
+		if (decimals instanceof byte[]) {
+			byte[] bytes = (byte[]) decimals;
+			switch (target) {
+			case INT:
+				if (packed) {
+					DecimalData.convertPackedDecimalToInteger(bytes, column.offset, column.stride, column.precision, true, (int[]) values, valuesOffset, column.count);
+				} else {
+					DecimalData.convertExternalDecimalToInteger(bytes, column.offset, column.stride, column.precision, true, column.type, (int[]) values, valuesOffset, column.count);
+				}
+				break;
+			case LONG:
+				if (packed) {
+					DecimalData.convertPackedDecimalToLong(bytes, column.offset, column.stride, column.precision, true, (long[]) values, valuesOffset, column.count);
+				} else {
+					DecimalData.convertExternalDecimalToLong(bytes, column.offset, column.stride, column.precision, true, column.type, (long[]) values, valuesOffset, column.count);
+				}
+				break;
+			default:
+				if (packed) {
+					DecimalData.convertPackedDecimalToBigDecimal(bytes, column.offset, column.stride, column.precision, column.scale, true, (BigDecimal[]) values, valuesOffset, column.count);
+				} else {
+					DecimalData.convertExternalDecimalToBigDecimal(bytes, column.offset, column.stride, column.precision, column.scale, true, column.type, (BigDecimal[]) values, valuesOffset, column.count);
+				}
+				break;
+			}
+		} else {
+			ByteBuffer buffer = (ByteBuffer) decimals;
+			switch (target) {
+			case INT:
+				if (packed) {
+					DecimalData.convertPackedDecimalToInteger(buffer, column.offset, column.stride, column.precision, true, (int[]) values, valuesOffset, column.count);
+				} else {
+					DecimalData.convertExternalDecimalToInteger(buffer, column.offset, column.stride, column.precision, true, column.type, (int[]) values, valuesOffset, column.count);
+				}
+				break;
+			case LONG:
+				if (packed) {
+					DecimalData.convertPackedDecimalToLong(buffer, column.offset, column.stride, column.precision, true, (long[]) values, valuesOffset, column.count);
+				} else {
+					DecimalData.convertExternalDecimalToLong(buffer, column.offset, column.stride, column.precision, true, column.type, (long[]) values, valuesOffset, column.count);
+				}
+				break;
+			default:
+				if (packed) {
+					DecimalData.convertPackedDecimalToBigDecimal(buffer, column.offset, column.stride, column.precision, column.scale, true, (BigDecimal[]) values, valuesOffset, column.count);
+				} else {
+					DecimalData.convertExternalDecimalToBigDecimal(buffer, column.offset, column.stride, column.precision, column.scale, true, column.type, (BigDecimal[]) values, valuesOffset, column.count);
+				}
+				break;
+			}
+		}
+	}
+
+	private static void bulkToDecimal(int target, Column column, Object values, int valuesOffset, Object decimals) {
+		boolean packed = column.type == PACKED;
+		if (decimals instanceof byte[]) {
+			byte[] bytes = (byte[]) decimals;
+			switch (target) {
+			case INT:
+				if (packed) {
+					DecimalData.convertIntegerToPackedDecimal((int[]) values, valuesOffset, column.count, bytes, column.offset, column.stride, column.precision, true);
+				} else {
+					DecimalData.convertIntegerToExternalDecimal((int[]) values, valuesOffset, column.count, bytes, column.offset, column.stride, column.precision, true, column.type);
+				}
+				break;
+			case LONG:
+				if (packed) {
+					DecimalData.convertLongToPackedDecimal((long[]) values, valuesOffset, column.count, bytes, column.offset, column.stride, column.precision, true);
+				} else {
+					DecimalData.convertLongToExternalDecimal((long[]) values, valuesOffset, column.count, bytes, column.offset, column.stride, column.precision, true, column.type);
+				}
+				break;
+			default:
+				if (packed) {
+					DecimalData.convertBigDecimalToPackedDecimal((BigDecimal[]) values, valuesOffset, column.count, bytes, column.offset, column.stride, column.precision, true);
+				} else {
+					DecimalData.convertBigDecimalToExternalDecimal((BigDecimal[]) values, valuesOffset, column.count, bytes, column.offset, column.stride, column.precision, true, column.type);
+				}
+				break;
+			}
+		} else {
+			ByteBuffer buffer = (ByteBuffer) decimals;
+			switch (target) {
+			case INT:
+				if (packed) {
+					DecimalData.convertIntegerToPackedDecimal((int[]) values, valuesOffset, column.count, buffer, column.offset, column.stride, column.precision, true);
+				} else {
+					DecimalData.convertIntegerToExternalDecimal((int[]) values, valuesOffset, column.count, buffer, column.offset, column.stride, column.precision, true, column.type);
+				}
+				break;
+			case LONG:
+				if (packed) {
+					DecimalData.convertLongToPackedDecimal((long[]) values, valuesOffset, column.count, buffer, column.offset, column.stride, column.precision, true);
+				} else {
+					DecimalData.convertLongToExternalDecimal((long[]) values, valuesOffset, column.count, buffer, column.offset, column.stride, column.precision, true, column.type);
+				}
+				break;
+			default:
+				if (packed) {
+					DecimalData.convertBigDecimalToPackedDecimal((BigDecimal[]) values, valuesOffset, column.count, buffer, column.offset, column.stride, column.precision, true);
+				} else {
+					DecimalData.convertBigDecimalToExternalDecimal((BigDecimal[]) values, valuesOffset, column.count, buffer, column.offset, column.stride, column.precision, true, column.type);
+				}
+				break;
+			}
+		}
+	}
+
+	/* buffers */
+
+	/**
+	 * @return a buffer of the given kind whose contents, from index 0, are the bytes
+	 */
+	private static ByteBuffer wrap(byte[] bytes, Kind kind) {
+		ByteBuffer buffer;
+		switch (kind) {
+		case HEAP:
+		case READ_ONLY_HEAP:
+			buffer = ByteBuffer.wrap(bytes.clone());
+			break;
+		case SLICED_HEAP:
+			/* a non-zero array offset */
+			buffer = ByteBuffer.allocate(bytes.length + 3);
+			buffer.position(3);
+			buffer = buffer.slice();
+			buffer.put(bytes);
+			break;
+		default:
+			buffer = ByteBuffer.allocateDirect(bytes.length);
+			buffer.put(bytes);
+			break;
+		}
+		/* the position is not used by the bulk conversions */
+		buffer.position(bytes.length / 2);
+		return kind.isReadOnly() ? buffer.asReadOnlyBuffer() : buffer;
+	}
+
+	private static byte[] contents(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.limit()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = buffer.get(i);
+		}
+		return bytes;
+	}
+
+	private static Object newValues(int target, int length) {
+		switch (target) {
+		case INT:
+			return new int[length];
+		case LONG:
+			return new long[length];
+		default:
+			return new BigDecimal[length];
+		}
+	}
+
+	private static Object boxed(Object values) {
+		if (values instanceof int[]) {
+			return Arrays.toString((int[]) values);
+		} else if (values instanceof long[]) {
+			return Arrays.toString((long[]) values);
+		}
+		return Arrays.asList((BigDecimal[]) values);
+	}
+
+	private static void set(Object values, int index, Object value) {
+		if (values instanceof int[]) {
+			((int[]) values)[index] = ((Integer) value).intValue();
+		} else if (values instanceof long[]) {
+			((long[]) values)[index] = ((Long) value).longValue();
+		} else {
+			((BigDecimal[]) values)[index] = (BigDecimal) value;
+		}
+	}
+
+	/**
+	 * @return a column of random decimals with GAP in the bytes between them, and the values written
+	 */
+	private static byte[] fill(Random random, int target, Column column, BigDecimal[] values) {
+		byte[] bytes = template(column);
+		for (int i = 0; i < column.count; i++) {
+			values[i] = randomValue(random, column);
+			toDecimal(target, column, values[i], bytes, column.offset + (i * column.stride));
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return the bytes of a column with GAP between the decimals and zero in their place. The single value
+	 * conversions from BigDecimal to Packed Decimal only write the bytes holding digits of the value.
+	 */
+	private static byte[] template(Column column) {
+		byte[] bytes = new byte[column.length()];
+		Arrays.fill(bytes, GAP);
+		for (int i = 0; i < column.count; i++) {
+			int offset = column.offset + (i * column.stride);
+			Arrays.fill(bytes, offset, offset + column.size, (byte) 0);
+		}
+		return bytes;
+	}
+
+	private void checkToBinary(int target) {
+		Random random = new Random(target);
+		for (int t = 0; t < TYPES.length; t++) {
+			for (int p = 0; p < PRECISIONS.length; p++) {
+				if (PRECISIONS[p] > maxPrecision(target)) {
+					continue;
+				}
+				int[] counts = { 0, 1, random.nextInt(50) + 2 };
+				for (int c = 0; c < counts.length; c++) {
+					Column column = Column.random(random, TYPES[t], PRECISIONS[p], counts[c]);
+					if (target != BIG_DECIMAL) {
+						column = new Column(column.type, column.precision, 0, column.offset, column.stride, column.count);
+					}
+					byte[] bytes = fill(random, target, column, new BigDecimal[column.count]);
+
+					/* the values either side of those converted are left alone */
+					Object expected = newValues(target, column.count + 4);
+					for (int i = 0; i < column.count; i++) {
+						set(expected, i + 2, toBinary(target, column, bytes, column.offset + (i * column.stride)));
+					}
+
+					Object actual = newValues(target, column.count + 4);
+					bulkToBinary(target, column, bytes, actual, 2);
+					AssertJUnit.assertEquals(column + " byte[]", boxed(expected), boxed(actual));
+
+					Kind[] kinds = Kind.values();
+					for (int k = 0; k < kinds.length; k++) {
+						ByteBuffer buffer = wrap(bytes, kinds[k]);
+						int position = buffer.position();
+						actual = newValues(target, column.count + 4);
+						bulkToBinary(target, column, buffer, actual, 2);
+						AssertJUnit.assertEquals(column + " " + kinds[k], boxed(expected), boxed(actual));
+						AssertJUnit.assertEquals(column + " " + kinds[k] + " position", position, buffer.position());
+					}
+				}
+			}
+		}
+	}
+
+	private void checkToDecimal(int target) {
+		Random random = new Random(target + 100);
+		for (int t = 0; t < TYPES.length; t++) {
+			for (int p = 0; p < PRECISIONS.length; p++) {
+				if (PRECISIONS[p] > maxPrecision(target)) {
+					continue;
+				}
+				int[] counts = { 0, 1, random.nextInt(50) + 2 };
+				for (int c = 0; c < counts.length; c++) {
+					Column column = Column.random(random, TYPES[t], PRECISIONS[p], counts[c]);
+					if (target != BIG_DECIMAL) {
+						column = new Column(column.type, column.precision, 0, column.offset, column.stride, column.count);
+					}
+					BigDecimal[] decimals = new BigDecimal[column.count];
+					byte[] expected = fill(random, target, column, decimals);
+
+					Object values = newValues(target, column.count + 4);
+					for (int i = 0; i < column.count; i++) {
+						Object value = (target == INT) ? Integer.valueOf(decimals[i].unscaledValue().intValue())
+								: (target == LONG) ? Long.valueOf(decimals[i].unscaledValue().longValue())
+								: (Object) decimals[i];
+						set(values, i + 2, value);
+					}
+
+					/* the bytes between the decimals are left alone */
+					byte[] template = template(column);
+
+					byte[] actual = template.clone();
+					bulkToDecimal(target, column, values, 2, actual);
+					AssertJUnit.assertTrue(column + " byte[]", Arrays.equals(expected, actual));
+
+					Kind[] kinds = Kind.values();
+					for (int k = 0; k < kinds.length; k++) {
+						ByteBuffer buffer = wrap(template, kinds[k]);
+						int position = buffer.position();
+						try {
+							bulkToDecimal(target, column, values, 2, buffer);
+							AssertJUnit.assertFalse(column + " " + kinds[k] + " is read only", kinds[k].isReadOnly() && (column.count > 0));
+						} catch (ReadOnlyBufferException e) {
+							AssertJUnit.assertTrue(column + " " + kinds[k] + " is not read only", kinds[k].isReadOnly());
+							AssertJUnit.assertTrue(column + " " + kinds[k] + " has nothing to convert", column.count > 0);
+							continue;
+						}
+						byte[] written = contents(buffer);
+						AssertJUnit.assertTrue(column + " " + kinds[k], Arrays.equals(kinds[k].isReadOnly() ? template : expected, written));
+						AssertJUnit.assertEquals(column + " " + kinds[k] + " position", position, buffer.position());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testToInteger() {
+		checkToBinary(INT);
+	}
+
+	@Test
+	public void testToLong() {
+		checkToBinary(LONG);
+	}
+
+	@Test
+	public void testToBigDecimal() {
+		checkToBinary(BIG_DECIMAL);
+	}
+
+	@Test
+	public void testFromInteger() {
+		checkToDecimal(INT);
+	}
+
+	@Test
+	public void testFromLong() {
+		checkToDecimal(LONG);
+	}
+
+	@Test
+	public void testFromBigDecimal() {
+		checkToDecimal(BIG_DECIMAL);
+	}
+
+	@Test
+	public void testZeroCountWithGaps() {
+		/* nothing is converted, however the stride and offset relate to the size of the buffer */
+		Kind[] kinds = Kind.values();
+		for (int t = 0; t < TYPES.length; t++) {
+			for (int target = INT; target <= BIG_DECIMAL; target++) {
+				Column column = new Column(TYPES[t], 9, 0, 3, size(TYPES[t], 9) + 5, 0);
+				for (int k = 0; k < kinds.length; k++) {
+					ByteBuffer buffer = wrap(new byte[2], kinds[k]);
+					Object values = newValues(target, 0);
+					bulkToBinary(target, column, buffer, values, 0);
+					bulkToDecimal(target, column, values, 0, buffer);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testManyChunks() {
+		/* a direct buffer is converted through a 64KB chunk, so use a column of several chunks */
+		Random random = new Random(3);
+		for (int t = 0; t < TYPES.length; t++) {
+			Column column = new Column(TYPES[t], 15, 0, 1, size(TYPES[t], 15) + 1, 20000);
+			BigDecimal[] decimals = new BigDecimal[column.count];
+			byte[] bytes = fill(random, LONG, column, decimals);
+
+			long[] values = new long[column.count];
+			bulkToBinary(LONG, column, wrap(bytes, Kind.DIRECT), values, 0);
+			for (int i = 0; i < column.count; i++) {
+				AssertJUnit.assertEquals(column + " value " + i, decimals[i].unscaledValue().longValue(), values[i]);
+			}
+
+			ByteBuffer buffer = wrap(template(column), Kind.DIRECT);
+			bulkToDecimal(LONG, column, values, 0, buffer);
+			AssertJUnit.assertTrue(column.toString(), Arrays.equals(bytes, contents(buffer)));
+		}
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		Column good = new Column(PACKED, 5, 0, 0, 3, 4);
+		byte[] bytes = new byte[12];
+		Kind[] kinds = Kind.values();
+
+		Column[] bad = {
+				/* negative count */
+				new Column(PACKED, 5, 0, 0, 3, -1),
+				/* stride smaller than a decimal */
+				new Column(PACKED, 5, 0, 0, 2, 4),
+		};
+		for (int i = 0; i < bad.length; i++) {
+			try {
+				bulkToBinary(INT, bad[i], bytes, new int[4], 0);
+				AssertJUnit.fail(bad[i] + ": expected IllegalArgumentException");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			for (int k = 0; k < kinds.length; k++) {
+				try {
+					bulkToDecimal(INT, bad[i], new int[4], 0, wrap(bytes, kinds[k]));
+					AssertJUnit.fail(bad[i] + " " + kinds[k] + ": expected IllegalArgumentException");
+				} catch (IllegalArgumentException e) {
+					// expected
+				}
+			}
+		}
+
+		/* the last decimal would pass the end, so none are converted */
+		Column tooLong = new Column(PACKED, 5, 0, 1, 3, 4);
+		int[] values = { 7, 7, 7, 7 };
+		for (int k = 0; k < kinds.length; k++) {
+			try {
+				bulkToBinary(INT, tooLong, wrap(bytes, kinds[k]), values, 0);
+				AssertJUnit.fail(kinds[k] + ": expected ArrayIndexOutOfBoundsException");
+			} catch (ArrayIndexOutOfBoundsException e) {
+				// expected
+			}
+			AssertJUnit.assertEquals(kinds[k].toString(), "[7, 7, 7, 7]", Arrays.toString(values));
+		}
+
+		/* too few values */
+		try {
+			bulkToBinary(INT, good, bytes, new int[4], 1);
+			AssertJUnit.fail("expected ArrayIndexOutOfBoundsException");
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testOverflow() {
+		Column column = new Column(PACKED, 10, 0, 0, 6, 2);
+		byte[] bytes = new byte[12];
+		DecimalData.convertLongToPackedDecimal(1L, bytes, 0, 10, true);
+		DecimalData.convertLongToPackedDecimal(9999999999L, bytes, 6, 10, true);
+
+		Object[] decimals = { bytes, wrap(bytes, Kind.DIRECT) };
+		for (int i = 0; i < decimals.length; i++) {
+			try {
+				bulkToBinary(INT, column, decimals[i], new int[2], 0);
+				AssertJUnit.fail("expected ArithmeticException");
+			} catch (ArithmeticException e) {
+				// expected
+			}
+		}
+	}
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+import com.ibm.dataaccess.PackedDecimalContext;
+
+/**
+ * Tests PackedDecimal add and subtract against BigInteger, for operands which are handled
+ * with longs (up to 31 digits) and a byte at a time (more digits), with and without a
+ * PackedDecimalContext. The result must follow the same rules for every operand precision:
+ * the high nibble of an even precision result is zero, and digits which do not fit in the
+ * result are lost, or cause an ArithmeticException if overflow is checked.
+ */
+@Test(groups = { "level.extended" })
+public class TestPackedDecimalAddSubtract {
+
+	private static final int MAX_PRECISION = 40;
+
+	private static int length(int precision) {
+		return precision / 2 + 1;
+	}
+
+	private static byte[] pack(BigInteger value, int precision) {
+		byte[] packed = new byte[length(precision)];
+		DecimalData.convertBigIntegerToPackedDecimal(value, packed, 0, precision, true);
+		return packed;
+	}
+
+	private static BigInteger unpack(byte[] packed, int offset, int precision) {
+		return DecimalData.convertPackedDecimalToBigInteger(packed, offset, precision, true);
+	}
+
+	private static BigInteger randomValue(Random random, int precision) {
+		int digits = random.nextInt(precision) + 1;
+		BigInteger value = new BigInteger(digits * 4, random).mod(BigInteger.TEN.pow(digits));
+		return random.nextBoolean() ? value.negate() : value;
+	}
+
+	/**
+	 * @return the low digits of the value that fit in the precision, with its sign
+	 */
+	private static BigInteger truncate(BigInteger value, int precision) {
+		BigInteger digits = value.abs().mod(BigInteger.TEN.pow(precision));
+		return (value.signum() < 0) ? digits.negate() : digits;
+	}
+
+	private static void apply(PackedDecimalContext context, boolean subtract, byte[] result, int resultOffset,
+			int resultPrecision, byte[] op1, int precision1, byte[] op2, int precision2, boolean checkOverflow) {
+		if (null == context) {
+			if (subtract) {
+				PackedDecimal.subtractPackedDecimal(result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			} else {
+				PackedDecimal.addPackedDecimal(result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			}
+		} else {
+			if (subtract) {
+				PackedDecimal.subtractPackedDecimal(context, result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			} else {
+				PackedDecimal.addPackedDecimal(context, result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			}
+		}
+	}
+
+	/**
+	 * Add or subtract random values of every operand precision up to MAX_PRECISION into results
+	 * which may be too short, and return the results.
+	 */
+	private static byte[][] checkAgainstBigInteger(PackedDecimalContext context, long seed) {
+		Random random = new Random(seed);
+		byte[][] results = new byte[MAX_PRECISION * 100][];
+		int index = 0;
+		for (int precision1 = 1; precision1 <= MAX_PRECISION; precision1++) {
+			for (int i = 0; i < 100; i++) {
+				int precision2 = random.nextInt(MAX_PRECISION) + 1;
+				BigInteger value1 = randomValue(random, precision1);
+				BigInteger value2 = randomValue(random, precision2);
+				boolean subtract = random.nextBoolean();
+				boolean checkOverflow = random.nextBoolean();
+				BigInteger expected = subtract ? value1.subtract(value2) : value1.add(value2);
+				int expectedDigits = expected.abs().toString().length();
+				int resultPrecision = Math.max(1, expectedDigits - 2 + random.nextInt(5));
+				boolean overflow = expectedDigits > resultPrecision;
+
+				byte[] result = new byte[length(resultPrecision) + 2];
+				Arrays.fill(result, (byte) 0xFF);
+				String message = value1 + " (precision " + precision1 + ") " + (subtract ? "-" : "+") + " "
+						+ value2 + " (precision " + precision2 + ") into precision " + resultPrecision
+						+ ((null == context) ? "" : " with a context");
+				try {
+					apply(context, subtract, result, 1, resultPrecision, pack(value1, precision1), precision1,
+							pack(value2, precision2), precision2, checkOverflow);
+					AssertJUnit.assertFalse(message + ": expected ArithmeticException", checkOverflow && overflow);
+					AssertJUnit.assertEquals(message, truncate(expected, resultPrecision), unpack(result, 1, resultPrecision));
+					if (resultPrecision % 2 == 0) {
+						AssertJUnit.assertEquals(message + ": high nibble of an even precision result", 0, result[1] & 0xF0);
+					}
+				} catch (ArithmeticException e) {
+					AssertJUnit.assertTrue(message + ": unexpected ArithmeticException", checkOverflow && overflow);
+				}
+				AssertJUnit.assertEquals(message + ": byte before the result", (byte) 0xFF, result[0]);
+				AssertJUnit.assertEquals(message + ": byte after the result", (byte) 0xFF, result[result.length - 1]);
+				results[index++] = result;
+			}
+		}
+		return results;
+	}
+
+	@Test
+	public void testAgainstBigInteger() {
+		checkAgainstBigInteger(null, 13);
+	}
+
+	@Test
+	public void testContextAgainstBigInteger() {
+		checkAgainstBigInteger(new PackedDecimalContext(), 13);
+	}
+
+	/**
+	 * A context reused for many operations must give the same results as a new context
+	 * and as no context.
+	 */
+	@Test
+	public void testReusedContext() {
+		PackedDecimalContext context = new PackedDecimalContext();
+		for (long seed = 1; seed <= 3; seed++) {
+			byte[][] withoutContext = checkAgainstBigInteger(null, seed);
+			byte[][] withNewContext = checkAgainstBigInteger(new PackedDecimalContext(), seed);
+			byte[][] withReusedContext = checkAgainstBigInteger(context, seed);
+			for (int i = 0; i < withoutContext.length; i++) {
+				AssertJUnit.assertTrue("result " + i + " with a new context", Arrays.equals(withoutContext[i], withNewContext[i]));
+				AssertJUnit.assertTrue("result " + i + " with a reused context", Arrays.equals(withoutContext[i], withReusedContext[i]));
+			}
+		}
+	}
+
+	/**
+	 * The same sums with operands of 31 digits or less, and of more than 31 digits, which
+	 * overflow the result or just fit in it.
+	 */
+	@Test
+	public void testShortAndLongOperands() {
+		PackedDecimalContext context = new PackedDecimalContext();
+		int[] precisions = { 18, 31, 32, 40 };
+		/* value1, value2 and the precision of their sum */
+		String[][] cases = {
+				{ "9999", "1", "4" },
+				{ "-5000", "-5000", "4" },
+				{ "999999999999999999", "1", "18" },
+				{ "-26", "-75", "2" },
+				{ "26", "-35", "1" },
+				{ "-9999", "1", "4" },
+				{ "1000", "-1", "3" },
+		};
+		for (int i = 0; i < precisions.length; i++) {
+			int precision = precisions[i];
+			for (int c = 0; c < cases.length; c++) {
+				BigInteger value1 = new BigInteger(cases[c][0]);
+				BigInteger value2 = new BigInteger(cases[c][1]);
+				int resultPrecision = Integer.parseInt(cases[c][2]);
+				for (int subtract = 0; subtract < 2; subtract++) {
+					BigInteger operand2 = (0 == subtract) ? value2 : value2.negate();
+					BigInteger expected = value1.add(value2);
+					boolean overflow = expected.abs().toString().length() > resultPrecision;
+					String message = value1 + ((0 == subtract) ? " + " : " - ") + operand2 + " with operand precision " + precision;
+					for (PackedDecimalContext each : new PackedDecimalContext[] { null, context }) {
+						byte[] result = new byte[length(resultPrecision)];
+						apply(each, 1 == subtract, result, 0, resultPrecision, pack(value1, precision), precision, pack(operand2, precision), precision, false);
+						AssertJUnit.assertEquals(message, truncate(expected, resultPrecision), unpack(result, 0, resultPrecision));
+						if (resultPrecision % 2 == 0) {
+							AssertJUnit.assertEquals(message + ": high nibble of an even precision result", 0, result[0] & 0xF0);
+						}
+						try {
+							apply(each, 1 == subtract, result, 0, resultPrecision, pack(value1, precision), precision, pack(operand2, precision), precision, true);
+							AssertJUnit.assertFalse(message + ": expected ArithmeticException for a result of " + expected + " in precision " + resultPrecision, overflow);
+							AssertJUnit.assertEquals(message, expected, unpack(result, 0, resultPrecision));
+						} catch (ArithmeticException e) {
+							AssertJUnit.assertTrue(message + ": unexpected ArithmeticException", overflow);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCancellingOperands() {
+		int[] precisions = { 9, 40 };
+		for (int i = 0; i < precisions.length; i++) {
+			int precision = precisions[i];
+			byte[] result = new byte[length(5)];
+			apply(null, false, result, 0, 5, pack(BigInteger.valueOf(-123), precision), precision, pack(BigInteger.valueOf(123), precision), precision, true);
+			AssertJUnit.assertEquals(BigInteger.ZERO, unpack(result, 0, 5));
+			/* a zero sum is positive */
+			AssertJUnit.assertEquals(0x0C, result[result.length - 1] & 0x0F);
+		}
+	}
+
+	@Test
+	public void testNullContext() {
+		int[] precisions = { 5, 40 };
+		for (int i = 0; i < precisions.length; i++) {
+			int precision = precisions[i];
+			try {
+				PackedDecimal.addPackedDecimal(null, new byte[length(precision)], 0, precision, pack(BigInteger.ONE, precision), 0, precision, pack(BigInteger.ONE, precision), 0, precision, true);
+				AssertJUnit.fail("Expected NullPointerException with precision " + precision);
+			} catch (NullPointerException e) {
+				// expected
+			}
+		}
+	}
+
+}
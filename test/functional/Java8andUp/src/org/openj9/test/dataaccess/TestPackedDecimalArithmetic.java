@@ -0,0 +1,219 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Tests PackedDecimal multiply, divide and remainder against BigInteger, for operands
+ * which are handled with longs (up to 31 digits) and with BigInteger (more digits), and
+ * that the high nibble of an even precision result is always zero.
+ */
+@Test(groups = { "level.extended" })
+public class TestPackedDecimalArithmetic {
+
+	private static final int MULTIPLY = 0, DIVIDE = 1, REMAINDER = 2;
+
+	private static final int MAX_PRECISION = 40;
+
+	private static int length(int precision) {
+		return precision / 2 + 1;
+	}
+
+	private static byte[] pack(BigInteger value, int precision) {
+		byte[] packed = new byte[length(precision)];
+		DecimalData.convertBigIntegerToPackedDecimal(value, packed, 0, precision, true);
+		return packed;
+	}
+
+	private static BigInteger unpack(byte[] packed, int offset, int precision) {
+		return DecimalData.convertPackedDecimalToBigInteger(packed, offset, precision, true);
+	}
+
+	private static BigInteger randomValue(Random random, int precision, boolean nonZero) {
+		BigInteger value;
+		do {
+			value = new BigInteger(random.nextInt(precision) + 1 < 4 ? 8 : precision * 4, random).mod(BigInteger.TEN.pow(random.nextInt(precision) + 1));
+		} while (nonZero && value.signum() == 0);
+		return random.nextBoolean() ? value.negate() : value;
+	}
+
+	private static void apply(int op, byte[] result, int resultOffset, int resultPrecision,
+			byte[] op1, int precision1, byte[] op2, int precision2, boolean checkOverflow) {
+		switch (op) {
+		case MULTIPLY:
+			PackedDecimal.multiplyPackedDecimal(result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			break;
+		case DIVIDE:
+			PackedDecimal.dividePackedDecimal(result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			break;
+		default:
+			PackedDecimal.remainderPackedDecimal(result, resultOffset, resultPrecision, op1, 0, precision1, op2, 0, precision2, checkOverflow);
+			break;
+		}
+	}
+
+	private static BigInteger expected(int op, BigInteger value1, BigInteger value2) {
+		switch (op) {
+		case MULTIPLY:
+			return value1.multiply(value2);
+		case DIVIDE:
+			return value1.divide(value2);
+		default:
+			return value1.remainder(value2);
+		}
+	}
+
+	/**
+	 * @return the low digits of the value that fit in the precision, with its sign
+	 */
+	private static BigInteger truncate(BigInteger value, int precision) {
+		BigInteger digits = value.abs().mod(BigInteger.TEN.pow(precision));
+		return (value.signum() < 0) ? digits.negate() : digits;
+	}
+
+	private static void assertTopNibble(String message, byte[] result, int offset, int precision) {
+		if (precision % 2 == 0) {
+			AssertJUnit.assertEquals(message + ": high nibble of an even precision result", 0, result[offset] & 0xF0);
+		}
+	}
+
+	@Test
+	public void testAgainstBigInteger() {
+		Random random = new Random(11);
+		for (int op = MULTIPLY; op <= REMAINDER; op++) {
+			for (int precision1 = 1; precision1 <= MAX_PRECISION; precision1++) {
+				for (int i = 0; i < 50; i++) {
+					int precision2 = random.nextInt(MAX_PRECISION) + 1;
+					BigInteger value1 = randomValue(random, precision1, false);
+					BigInteger value2 = randomValue(random, precision2, op != MULTIPLY);
+					BigInteger expected = expected(op, value1, value2);
+					int resultPrecision = Math.max(1, expected.abs().toString().length() + random.nextInt(3));
+
+					byte[] result = new byte[length(resultPrecision) + 2];
+					Arrays.fill(result, (byte) 0xFF);
+					apply(op, result, 1, resultPrecision, pack(value1, precision1), precision1, pack(value2, precision2), precision2, true);
+
+					String message = value1 + " op" + op + " " + value2 + " into precision " + resultPrecision;
+					AssertJUnit.assertEquals(message, expected, unpack(result, 1, resultPrecision));
+					assertTopNibble(message, result, 1, resultPrecision);
+					AssertJUnit.assertEquals(message + ": byte before the result", (byte) 0xFF, result[0]);
+					AssertJUnit.assertEquals(message + ": byte after the result", (byte) 0xFF, result[result.length - 1]);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testEvenPrecisionTopNibbleZeroed() {
+		/* 31 digit operands are handled with longs, 40 digit operands with BigInteger */
+		int[] precisions = { 10, 31, 40 };
+		for (int i = 0; i < precisions.length; i++) {
+			int precision = precisions[i];
+			/* 999 * 11 = 10989, and 98765 / 9 = 10973, each a digit longer than the result */
+			checkTruncated(MULTIPLY, BigInteger.valueOf(999), BigInteger.valueOf(11), precision, 4);
+			checkTruncated(DIVIDE, BigInteger.valueOf(98765), BigInteger.valueOf(-9), precision, 4);
+			checkTruncated(REMAINDER, new BigInteger("123456789"), BigInteger.valueOf(100000), precision, 4);
+			checkTruncated(MULTIPLY, new BigInteger("9999999999"), new BigInteger("9999999999"), precision, 10);
+		}
+	}
+
+	private static void checkTruncated(int op, BigInteger value1, BigInteger value2, int operandPrecision, int resultPrecision) {
+		BigInteger expected = expected(op, value1, value2);
+		String message = value1 + " op" + op + " " + value2 + " with operand precision " + operandPrecision;
+
+		byte[] result = new byte[length(resultPrecision)];
+		Arrays.fill(result, (byte) 0xFF);
+		apply(op, result, 0, resultPrecision, pack(value1, operandPrecision), operandPrecision, pack(value2, operandPrecision), operandPrecision, false);
+		AssertJUnit.assertEquals(message, truncate(expected, resultPrecision), unpack(result, 0, resultPrecision));
+		assertTopNibble(message, result, 0, resultPrecision);
+
+		try {
+			apply(op, result, 0, resultPrecision, pack(value1, operandPrecision), operandPrecision, pack(value2, operandPrecision), operandPrecision, true);
+			AssertJUnit.fail(message + ": expected ArithmeticException for a result of " + expected + " in precision " + resultPrecision);
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testOddPrecisionUsesAllNibbles() {
+		int[] precisions = { 5, 31, 41 };
+		for (int i = 0; i < precisions.length; i++) {
+			byte[] result = new byte[length(5)];
+			apply(MULTIPLY, result, 0, 5, pack(BigInteger.valueOf(999), precisions[i]), precisions[i], pack(BigInteger.valueOf(11), precisions[i]), precisions[i], true);
+			AssertJUnit.assertEquals(BigInteger.valueOf(10989), unpack(result, 0, 5));
+			AssertJUnit.assertEquals(0x10, result[0] & 0xF0);
+		}
+	}
+
+	@Test
+	public void testEvenPrecisionOperandTopNibbleIgnored() {
+		int[] precisions = { 4, 30, 40 };
+		for (int i = 0; i < precisions.length; i++) {
+			int precision = precisions[i];
+			byte[] op1 = pack(BigInteger.valueOf(1234), precision);
+			byte[] op2 = pack(BigInteger.valueOf(-2), precision);
+			/* not a digit in an even precision operand */
+			op1[0] |= (byte) 0x90;
+
+			byte[] result = new byte[length(9)];
+			apply(MULTIPLY, result, 0, 9, op1, precision, op2, precision, true);
+			AssertJUnit.assertEquals("precision " + precision, BigInteger.valueOf(-2468), unpack(result, 0, 9));
+			AssertJUnit.assertEquals("precision " + precision + ": operand top nibble", 0, op1[0] & 0xF0);
+		}
+	}
+
+	@Test
+	public void testDivideByZero() {
+		int[] precisions = { 5, 40 };
+		for (int i = 0; i < precisions.length; i++) {
+			int precision = precisions[i];
+			for (int op = DIVIDE; op <= REMAINDER; op++) {
+				try {
+					apply(op, new byte[length(precision)], 0, precision, pack(BigInteger.TEN, precision), precision, pack(BigInteger.ZERO, precision), precision, true);
+					AssertJUnit.fail("Expected ArithmeticException dividing by zero with precision " + precision);
+				} catch (ArithmeticException e) {
+					// expected
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNegativeZero() {
+		byte[] result = new byte[length(6)];
+		apply(MULTIPLY, result, 0, 6, pack(BigInteger.ZERO, 5), 5, pack(BigInteger.valueOf(-7), 5), 5, true);
+		/* a zero product keeps the sign of the operands */
+		AssertJUnit.assertEquals(0x0D, result[result.length - 1] & 0x0F);
+		AssertJUnit.assertEquals(BigInteger.ZERO, unpack(result, 0, 6));
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang;
+
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.ibm.jvm.AnnotationScanner;
+
+/**
+ * Measures the time taken to scan the classes of a jar file for annotations, as a
+ * dependency injection framework such as Spring does at startup when it looks for
+ * its stereotype annotations on every class of the application.
+ *
+ * Usage: java -Xshareclasses:name=scan AnnotationScanBenchmark [-bulk] jarFile [annotationType ...]
+ *
+ * The annotation types are loaded from the jar file and default to java.lang.Deprecated
+ * and java.lang.FunctionalInterface. Run twice with a new cache: the first run populates
+ * the cache and the second measures the startup time. To use the reflection data stored
+ * in the shared classes cache, add -Dcom.ibm.oti.shared.reflectionData=true to both runs.
+ * With -bulk the classes are scanned using com.ibm.jvm.AnnotationScanner rather than
+ * by calling Class.isAnnotationPresent() for each class.
+ */
+@SuppressWarnings("nls")
+public class AnnotationScanBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		boolean bulk = (args.length > 0) && "-bulk".equals(args[0]);
+		int firstArg = bulk ? 1 : 0;
+		if (args.length <= firstArg) {
+			System.err.println("Usage: java -Xshareclasses:name=scan AnnotationScanBenchmark [-bulk] jarFile [annotationType ...]");
+			System.exit(1);
+		}
+		File jar = new File(args[firstArg]);
+		URLClassLoader loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, AnnotationScanBenchmark.class.getClassLoader());
+		List<Class<? extends Annotation>> annotationTypes = new ArrayList<>();
+		if (args.length > (firstArg + 1)) {
+			for (int i = firstArg + 1; i < args.length; i++) {
+				annotationTypes.add(Class.forName(args[i], false, loader).asSubclass(Annotation.class));
+			}
+		} else {
+			annotationTypes.add(Deprecated.class);
+			annotationTypes.add(FunctionalInterface.class);
+		}
+
+		long start = System.nanoTime();
+		List<Class<?>> classes = new ArrayList<>();
+		try (JarFile jarFile = new JarFile(jar)) {
+			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+				String name = entries.nextElement().getName();
+				if (name.endsWith(".class") && !name.endsWith("module-info.class")) {
+					String className = name.substring(0, name.length() - ".class".length()).replace('/', '.');
+					try {
+						classes.add(Class.forName(className, false, loader));
+					} catch (ClassNotFoundException | LinkageError e) {
+						/* a dependency is missing, a scanner skips the class */
+					}
+				}
+			}
+		}
+		long loaded = System.nanoTime();
+
+		int matches = 0;
+		if (bulk) {
+			for (Class<? extends Annotation> annotationType : annotationTypes) {
+				matches += AnnotationScanner.getAnnotatedClasses(classes, annotationType).size();
+			}
+		} else {
+			for (Class<?> clazz : classes) {
+				for (Class<? extends Annotation> annotationType : annotationTypes) {
+					try {
+						if (clazz.isAnnotationPresent(annotationType)) {
+							matches += 1;
+						}
+					} catch (LinkageError e) {
+						/* an annotation refers to a missing class */
+					}
+				}
+			}
+		}
+		long scanned = System.nanoTime();
+
+		System.out.println((bulk ? "bulk, " : "") + "reflectionData=" + System.getProperty("com.ibm.oti.shared.reflectionData", "false")
+				+ ", " + classes.size() + " classes, " + annotationTypes.size() + " annotation types, " + matches + " matches");
+		System.out.println(String.format("load %,10d us", (loaded - start) / 1000));
+		System.out.println(String.format("scan %,10d us", (scanned - loaded) / 1000));
+	}
+
+}
@@ -66,6 +66,62 @@ public class Test_Throwable {
 		AssertJUnit.assertTrue("Failed to throw Throwable", false);
 	}
 
+	/**
+	 * @tests java.lang.Throwable#getStackTrace()
+	 */
+	@Test
+	public void test_getStackTraceSameStack() {
+		Throwable[] throwables = new Throwable[3];
+		for (int i = 0; i < throwables.length; i++) {
+			throwables[i] = new Throwable();
+		}
+		Throwable other = new Throwable();
+		StackTraceElement[] first = throwables[0].getStackTrace();
+		AssertJUnit.assertEquals("Wrong top frame", "test_getStackTraceSameStack", first[0].getMethodName());
+		/* modifying the copy returned must not change the trace of other throwables */
+		first[0] = null;
+		throwables[1].setStackTrace(new StackTraceElement[0]);
+		AssertJUnit.assertEquals("Wrong number of frames", 0, throwables[1].getStackTrace().length);
+		StackTraceElement[] last = throwables[2].getStackTrace();
+		AssertJUnit.assertEquals("Wrong top frame", "test_getStackTraceSameStack", last[0].getMethodName());
+		AssertJUnit.assertTrue("Different stack traces", java.util.Arrays.equals(throwables[0].getStackTrace(), last));
+		StackTraceElement[] otherTrace = other.getStackTrace();
+		AssertJUnit.assertEquals("Wrong number of frames", last.length, otherTrace.length);
+		AssertJUnit.assertTrue("Wrong line number", last[0].getLineNumber() != otherTrace[0].getLineNumber());
+	}
+
+	private static Throwable createInFirst(int value) {
+		return (value >= 0) ? new Throwable() : new Error();
+	}
+
+	private static Throwable createInSecond(int value) {
+		return (value >= 0) ? new Throwable() : new Error();
+	}
+
+	private static void checkTopFrames(Throwable throwable, String methodName) {
+		StackTraceElement[] trace = throwable.getStackTrace();
+		AssertJUnit.assertEquals("Wrong top frame", methodName, trace[0].getMethodName());
+		AssertJUnit.assertEquals("Wrong caller", "test_getStackTraceRecompiled", trace[1].getMethodName());
+	}
+
+	/**
+	 * The stack traces shared by throwables created at the same place must remain correct
+	 * while the methods creating them are recompiled and the garbage collector releases
+	 * the code of the old bodies, which the JIT may then reuse for other methods.
+	 *
+	 * @tests java.lang.Throwable#getStackTrace()
+	 */
+	@Test
+	public void test_getStackTraceRecompiled() {
+		for (int round = 0; round < 20; round++) {
+			for (int i = 0; i < 5000; i++) {
+				checkTopFrames(createInFirst(i), "createInFirst");
+				checkTopFrames(createInSecond(i), "createInSecond");
+			}
+			System.gc();
+		}
+	}
+
 	/**
 	 * @tests java.lang.Throwable#fillInStackTrace()
 	 */
@@ -0,0 +1,112 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time, allocation and retained heap of exceptions whose stack traces
+ * are used, as a logging library does, when many exceptions are created from the
+ * same few places and kept.
+ *
+ * Usage: java ThrowableBenchmark [exceptions [depth [sites]]]
+ *
+ * For a baseline where each exception creates its own stack trace, add
+ * -Djava.lang.throwable.stackTraceCacheSize=0
+ */
+@SuppressWarnings("nls")
+public class ThrowableBenchmark {
+
+	private static final PrintStream NULL_STREAM = new PrintStream(new OutputStream() {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	});
+
+	public static void main(String[] args) {
+		int exceptions = (args.length > 0) ? Integer.parseInt(args[0]) : 100000;
+		int depth = (args.length > 1) ? Integer.parseInt(args[1]) : 50;
+		int sites = (args.length > 2) ? Integer.parseInt(args[2]) : 4;
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		System.out.println("stackTraceCacheSize=" + System.getProperty("java.lang.throwable.stackTraceCacheSize", "default")
+				+ ", " + exceptions + " exceptions, depth " + depth + ", " + sites + " sites");
+		/* the first pass is warm up, for the JIT */
+		for (int pass = 0; pass < 2; pass++) {
+			Throwable[] kept = new Throwable[exceptions];
+			long usedBefore = usedHeap();
+			long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+			long start = System.nanoTime();
+			for (int i = 0; i < exceptions; i++) {
+				Throwable t = recurse(depth, i % sites);
+				if (0 == (i % 100)) {
+					t.printStackTrace(NULL_STREAM);
+				} else {
+					t.getStackTrace();
+				}
+				kept[i] = t;
+			}
+			long elapsed = System.nanoTime() - start;
+			long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+			long retained = usedHeap() - usedBefore;
+			if (pass > 0) {
+				System.out.println(String.format("%,10d ns/exception %,10d bytes allocated/exception %,10d bytes retained/exception",
+						elapsed / exceptions, allocated / exceptions, retained / exceptions));
+			}
+			if (kept[exceptions - 1] == null) {
+				throw new IllegalStateException();
+			}
+		}
+	}
+
+	private static long usedHeap() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static Throwable recurse(int depth, int site) {
+		if (depth > 0) {
+			return recurse(depth - 1, site);
+		}
+		switch (site % 4) {
+		case 0:
+			return new IllegalStateException("site 0");
+		case 1:
+			return new IllegalArgumentException("site 1");
+		case 2:
+			return new UnsupportedOperationException("site 2");
+		default:
+			return new RuntimeException("site " + site);
+		}
+	}
+
+}
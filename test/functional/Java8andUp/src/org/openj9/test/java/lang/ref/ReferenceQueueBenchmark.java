@@ -0,0 +1,144 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.ref;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ibm.jvm.ReferenceQueues;
+
+/**
+ * Measures the rate at which weak references cleared by the garbage collector are removed
+ * from a ReferenceQueue, while several threads allocate the referents of a weak cache.
+ * The references are removed one at a time with poll(), and in batches with
+ * ReferenceQueues.drainTo().
+ *
+ * Usage: ReferenceQueueBenchmark [allocators [consumers [seconds]]]
+ *
+ * Use a small nursery, e.g. -Xmn16m, for frequent collections.
+ */
+@SuppressWarnings("nls")
+public class ReferenceQueueBenchmark {
+
+	static final class Entry extends WeakReference<Object> {
+		final long key;
+
+		Entry(long key, Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.key = key;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int allocators = (args.length > 0) ? Integer.parseInt(args[0]) : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		int consumers = (args.length > 1) ? Integer.parseInt(args[1]) : 1;
+		int seconds = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+
+		System.out.println(allocators + " allocating threads, " + consumers + " consuming threads, " + seconds + "s per run");
+		// the first run of each is warm up, for the JIT
+		for (int round = 0; round < 2; round++) {
+			boolean report = (round > 0);
+			run("poll", allocators, consumers, report ? seconds : 1, false, report);
+			run("drainTo", allocators, consumers, report ? seconds : 1, true, report);
+		}
+	}
+
+	private static void run(String name, int allocators, int consumers, int seconds, boolean drain, boolean report) throws InterruptedException {
+		ReferenceQueue<Object> queue = new ReferenceQueue<>();
+		Map<Long, Entry> cache = new ConcurrentHashMap<>();
+		AtomicBoolean stop = new AtomicBoolean();
+		LongAdder created = new LongAdder();
+		LongAdder removed = new LongAdder();
+		Thread[] threads = new Thread[allocators + consumers];
+
+		for (int i = 0; i < allocators; i++) {
+			final long base = ((long) i) << 40;
+			threads[i] = new Thread(() -> {
+				long key = base;
+				while (!stop.get()) {
+					// the referent is garbage at once, so each entry is cleared by the next collection
+					Entry entry = new Entry(key, new byte[64], queue);
+					cache.put(Long.valueOf(key), entry);
+					key += 1;
+					created.increment();
+				}
+			});
+		}
+		for (int i = 0; i < consumers; i++) {
+			threads[allocators + i] = new Thread(() -> {
+				long count = 0;
+				try {
+					while (!stop.get()) {
+						if (drain) {
+							int drained = ReferenceQueues.drainTo(queue, ref -> cache.remove(Long.valueOf(((Entry) ref).key)), 1024);
+							if (0 == drained) {
+								Reference<?> ref = queue.remove(10);
+								if (null != ref) {
+									cache.remove(Long.valueOf(((Entry) ref).key));
+									drained = 1;
+								}
+							}
+							count += drained;
+						} else {
+							Reference<?> ref = queue.poll();
+							if (null == ref) {
+								ref = queue.remove(10);
+							}
+							if (null != ref) {
+								cache.remove(Long.valueOf(((Entry) ref).key));
+								count += 1;
+							}
+						}
+					}
+				} catch (InterruptedException e) {
+					// exit
+				}
+				removed.add(count);
+			});
+		}
+
+		long start = System.nanoTime();
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+		stop.set(true);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		long elapsed = System.nanoTime() - start;
+		if (report) {
+			System.out.println(String.format("%-8s %,12d references/s removed %,12d created/s (%d left in cache)",
+					name,
+					(long) (removed.sum() * 1e9 / elapsed),
+					(long) (created.sum() * 1e9 / elapsed),
+					cache.size()));
+		}
+	}
+
+}
@@ -29,6 +29,15 @@ import org.testng.AssertJUnit;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.ibm.jvm.ReferenceQueues;
 
 @Test(groups = { "level.sanity" })
 public class Test_ReferenceQueue {
@@ -137,6 +146,181 @@ public class Test_ReferenceQueue {
 		}
 	}
 
+	/**
+	 * @tests java.lang.ref.ReferenceQueue#poll()
+	 */
+	@Test
+	public void test_pollOrder() {
+		// more references than fit in the initial storage of the queue
+		final int count = 1000;
+		Object referent = new Object();
+		WeakReference[] refs = new WeakReference[count];
+		for (int i = 0; i < count; i++) {
+			refs[i] = new WeakReference(referent, rq);
+			AssertJUnit.assertTrue("Enqueue failed.", refs[i].enqueue());
+		}
+		for (int i = 0; i < count; i++) {
+			AssertJUnit.assertSame("Poll returned the wrong reference.", refs[i], rq.poll());
+		}
+		AssertJUnit.assertNull("Queue is not empty.", rq.poll());
+	}
+
+	/**
+	 * @tests com.ibm.jvm.ReferenceQueues#drainTo(ReferenceQueue, Consumer, int)
+	 */
+	@Test
+	public void test_drainTo() {
+		final int count = 300;
+		Object referent = new Object();
+		WeakReference[] refs = new WeakReference[count];
+		for (int i = 0; i < count; i++) {
+			refs[i] = new WeakReference(referent, rq);
+			refs[i].enqueue();
+		}
+		final List<Reference> drained = new ArrayList<>();
+		AssertJUnit.assertEquals(0, ReferenceQueues.drainTo(rq, drained::add, 0));
+		AssertJUnit.assertEquals(100, ReferenceQueues.drainTo(rq, drained::add, 100));
+		AssertJUnit.assertEquals(count - 100, ReferenceQueues.drainTo(rq, drained::add));
+		AssertJUnit.assertEquals(0, ReferenceQueues.drainTo(rq, drained::add));
+		AssertJUnit.assertEquals(count, drained.size());
+		for (int i = 0; i < count; i++) {
+			AssertJUnit.assertSame("Drained the wrong reference.", refs[i], drained.get(i));
+		}
+		AssertJUnit.assertFalse("Enqueued twice.", refs[0].enqueue());
+		AssertJUnit.assertNull("Queue is not empty.", rq.poll());
+	}
+
+	/**
+	 * @tests com.ibm.jvm.ReferenceQueues#drainTo(ReferenceQueue, Consumer)
+	 */
+	@Test
+	public void test_drainToConsumerException() {
+		final int count = 10;
+		final int accepted = 3;
+		Object referent = new Object();
+		WeakReference[] refs = new WeakReference[count];
+		for (int i = 0; i < count; i++) {
+			refs[i] = new WeakReference(referent, rq);
+			refs[i].enqueue();
+		}
+		final List<Reference> drained = new ArrayList<>();
+		try {
+			ReferenceQueues.drainTo(rq, ref -> {
+				drained.add(ref);
+				if (drained.size() == accepted) {
+					throw new IllegalStateException();
+				}
+			});
+			AssertJUnit.fail("Consumer exception not thrown.");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		AssertJUnit.assertEquals(accepted, drained.size());
+		// the references not passed to the consumer are still queued
+		for (int i = accepted; i < count; i++) {
+			AssertJUnit.assertSame("Poll returned the wrong reference.", refs[i], rq.poll());
+		}
+		AssertJUnit.assertNull("Queue is not empty.", rq.poll());
+	}
+
+	static final class IndexedReference extends WeakReference<Object> {
+		final int index;
+
+		IndexedReference(Object referent, ReferenceQueue<Object> queue, int index) {
+			super(referent, queue);
+			this.index = index;
+		}
+	}
+
+	/**
+	 * Remove references with drainTo() and poll() while other threads enqueue them. Every reference
+	 * must be removed exactly once, and each consumer must get the references of each producer in
+	 * the order they were enqueued.
+	 *
+	 * @tests com.ibm.jvm.ReferenceQueues#drainTo(ReferenceQueue, Consumer, int)
+	 */
+	@Test
+	public void test_drainToConcurrent() throws InterruptedException {
+		final int producers = 4;
+		final int consumers = 4;
+		final int perProducer = 50000;
+		final int total = producers * perProducer;
+		final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+		final Object referent = new Object();
+		final IndexedReference[] refs = new IndexedReference[total];
+		for (int i = 0; i < total; i++) {
+			refs[i] = new IndexedReference(referent, queue, i);
+		}
+		final AtomicIntegerArray removedCounts = new AtomicIntegerArray(total);
+		final AtomicInteger removed = new AtomicInteger();
+		final AtomicInteger failures = new AtomicInteger();
+		final long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			final int first = p * perProducer;
+			threads.add(new Thread(() -> {
+				for (int i = first; i < (first + perProducer); i++) {
+					if (!refs[i].enqueue()) {
+						failures.incrementAndGet();
+					}
+				}
+			}));
+		}
+		for (int c = 0; c < consumers; c++) {
+			final boolean usePoll = (0 == (c % 2));
+			threads.add(new Thread(() -> {
+				// the last index removed from each producer, which must increase
+				final int[] lastIndex = new int[producers];
+				Arrays.fill(lastIndex, -1);
+				int max = 1;
+				while ((removed.get() < total) && (System.nanoTime() < deadline)) {
+					int n;
+					if (usePoll) {
+						Reference<?> ref = queue.poll();
+						n = 0;
+						if (null != ref) {
+							n = 1;
+							int index = ((IndexedReference)ref).index;
+							removedCounts.incrementAndGet(index);
+							if (index <= lastIndex[index / perProducer]) {
+								failures.incrementAndGet();
+							}
+							lastIndex[index / perProducer] = index;
+						}
+					} else {
+						n = ReferenceQueues.drainTo(queue, ref -> {
+							int index = ((IndexedReference)ref).index;
+							removedCounts.incrementAndGet(index);
+							if (index <= lastIndex[index / perProducer]) {
+								failures.incrementAndGet();
+							}
+							lastIndex[index / perProducer] = index;
+						}, max);
+						// vary the batch size from 1 to 128
+						max = (max % 128) + 1;
+					}
+					if (0 == n) {
+						Thread.yield();
+					} else {
+						removed.addAndGet(n);
+					}
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		AssertJUnit.assertEquals("Enqueue failed or references out of order.", 0, failures.get());
+		AssertJUnit.assertEquals("Wrong number of references removed.", total, removed.get());
+		for (int i = 0; i < total; i++) {
+			AssertJUnit.assertEquals("Reference " + i + " removed the wrong number of times.", 1, removedCounts.get(i));
+		}
+		AssertJUnit.assertNull("Queue is not empty.", queue.poll());
+	}
+
 	/**
 	 * @tests java.lang.ref.ReferenceQueue#ReferenceQueue()
 	 */
@@ -0,0 +1,85 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.stackWalker;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time taken to walk stacks 10, 100 and 1,000 frames deep with StackWalker,
+ * collecting the frames, reading the method name and line number of each frame, and finding
+ * only the top frame.
+ *
+ * Usage: java StackWalkerBenchmark [iterations]
+ *
+ * For the previous path which fetches one frame per native call, add
+ * -Djava.lang.stackWalker.batchSize=1
+ * To find the method information of the frames only when it is requested, add
+ * -Djava.lang.stackWalker.lazyFrames=true
+ */
+@SuppressWarnings("nls")
+public class StackWalkerBenchmark {
+
+	private static final int[] DEPTHS = { 10, 100, 1000 };
+
+	public static void main(String[] args) {
+		int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 10000;
+		StackWalker walker = StackWalker.getInstance();
+
+		Function<Stream<StackFrame>, Object> collect = s -> s.collect(Collectors.toList());
+		Function<Stream<StackFrame>, Object> methodInfo = s -> s.mapToLong(f -> f.getMethodName().length() + f.getLineNumber()).sum();
+		Function<Stream<StackFrame>, Object> top = s -> s.findFirst().get();
+
+		System.out.println("batchSize=" + System.getProperty("java.lang.stackWalker.batchSize", "default")
+				+ " lazyFrames=" + System.getProperty("java.lang.stackWalker.lazyFrames", "false")
+				+ ", " + iterations + " iterations");
+		/* the first pass is warm up, for the JIT */
+		for (int pass = 0; pass < 2; pass++) {
+			boolean report = (pass > 0);
+			for (int depth : DEPTHS) {
+				int count = Math.max(1, iterations * 10 / depth);
+				time("collect", depth, count, report, () -> walker.walk(collect));
+				time("method info", depth, count, report, () -> walker.walk(methodInfo));
+				time("top frame", depth, count, report, () -> walker.walk(top));
+			}
+		}
+	}
+
+	private static void time(String name, int depth, int count, boolean report, Supplier<Object> walk) {
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			recurse(depth, walk);
+		}
+		long elapsed = System.nanoTime() - start;
+		if (report) {
+			System.out.println(String.format("%-12s depth %,5d %,12d ns/walk", name, depth, elapsed / count));
+		}
+	}
+
+	private static Object recurse(int depth, Supplier<Object> walk) {
+		return (depth > 1) ? recurse(depth - 1, walk) : walk.get();
+	}
+
+}
@@ -36,10 +36,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.Module;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.openj9.test.util.VersionCheck;
@@ -209,6 +211,36 @@ public class StackWalkerTest {
 		}
 	}
 
+	@Test
+	public void testDeepStack() {
+		final int depth = 300;
+		List<String> expected = null;
+		for (int estimatedDepth : new int[] { 1, 7, 1000 }) {
+			StackWalker walker = StackWalker.getInstance(Collections.emptySet(), estimatedDepth);
+			List<String> frames = recurse(depth, () -> walker.walk(s -> s.map(f -> getFullMethodNameFromFrame(f) + ":" + f.getLineNumber()).collect(Collectors.toList())));
+			assertTrue(frames.get(0).contains(".lambda$"), "wrong top frame " + frames.get(0));
+			/* recurse(depth) down to recurse(0) */
+			for (int i = 1; i <= (depth + 1); i++) {
+				assertTrue(frames.get(i).startsWith(StackWalkerTest.class.getName() + ".recurse:"), "wrong frame " + frames.get(i));
+			}
+			assertTrue(frames.get(depth + 2).startsWith(StackWalkerTest.class.getName() + ".testDeepStack:"), "wrong frame " + frames.get(depth + 2));
+			if (null == expected) {
+				expected = frames;
+			} else {
+				assertEquals(frames, expected, "different frames for estimatedDepth " + estimatedDepth);
+			}
+
+			List<String> top = recurse(depth, () -> walker.walk(s -> s.limit(3).map(StackFrame::getMethodName).collect(Collectors.toList())));
+			assertEquals(top.size(), 3, "wrong number of limited frames");
+			assertEquals(top.get(1), "recurse", "wrong limited frame");
+			assertEquals(top.get(2), "recurse", "wrong limited frame");
+		}
+	}
+
+	private static <T> T recurse(int depth, Supplier<T> action) {
+		return (depth > 0) ? recurse(depth - 1, action) : action.get();
+	}
+
 	@Test
 	public void testRecursiveStackWalk() {
 		final StackWalker walker = StackWalker.getInstance();
@@ -0,0 +1,337 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9.jsr292;
+
+import org.testng.annotations.Test;
+import org.testng.AssertJUnit;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Functional tests for java.lang.invoke.ConcurrentWeakKeyMap, the weak-keyed map behind the
+ * per-class handle caches and the MethodType intern table. The class is package private, so
+ * it is driven reflectively; on Java 9 and later this needs java.base/java.lang.invoke opened
+ * to the unnamed module.
+ */
+public class ConcurrentWeakKeyMapTest {
+	private static final int THREAD_COUNT = 8;
+
+	/**
+	 * Reflective wrapper around a single ConcurrentWeakKeyMap instance.
+	 */
+	static final class WeakKeyMap {
+		private static final Constructor<?> constructor;
+		private static final Method get;
+		private static final Method getKey;
+		private static final Method put;
+		private static final Method putKeyIfAbsent;
+		private static final Method remove;
+		private static final Method size;
+		private static final Field segments;
+
+		static {
+			try {
+				Class<?> mapClass = Class.forName("java.lang.invoke.ConcurrentWeakKeyMap");
+				constructor = mapClass.getDeclaredConstructor();
+				get = mapClass.getDeclaredMethod("get", Object.class);
+				getKey = mapClass.getDeclaredMethod("getKey", Object.class);
+				put = mapClass.getDeclaredMethod("put", Object.class, Object.class);
+				putKeyIfAbsent = mapClass.getDeclaredMethod("putKeyIfAbsent", Object.class, Object.class);
+				remove = mapClass.getDeclaredMethod("remove", Object.class);
+				size = mapClass.getDeclaredMethod("size");
+				segments = mapClass.getDeclaredField("segments");
+				constructor.setAccessible(true);
+				get.setAccessible(true);
+				getKey.setAccessible(true);
+				put.setAccessible(true);
+				putKeyIfAbsent.setAccessible(true);
+				remove.setAccessible(true);
+				size.setAccessible(true);
+				segments.setAccessible(true);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private final Object map;
+
+		WeakKeyMap() throws Throwable {
+			map = constructor.newInstance();
+		}
+
+		private Object invoke(Method method, Object... args) throws Throwable {
+			try {
+				return method.invoke(map, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		Object get(Object key) throws Throwable {
+			return invoke(get, key);
+		}
+
+		Object getKey(Object probe) throws Throwable {
+			return invoke(getKey, probe);
+		}
+
+		void put(Object key, Object value) throws Throwable {
+			invoke(put, key, value);
+		}
+
+		Object putKeyIfAbsent(Object key, Object value) throws Throwable {
+			return invoke(putKeyIfAbsent, key, value);
+		}
+
+		Object remove(Object key) throws Throwable {
+			return invoke(remove, key);
+		}
+
+		int size() throws Throwable {
+			return ((Integer)invoke(size)).intValue();
+		}
+
+		/* the number of segments which have been created */
+		int segmentCount() throws Throwable {
+			int count = 0;
+			for (Object segment : (Object[])segments.get(map)) {
+				if (segment != null) {
+					count += 1;
+				}
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * A key with value based equality, so equal probes can be created without holding the key.
+	 */
+	static final class Key {
+		final int id;
+
+		Key(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return (other instanceof Key) && (((Key)other).id == id);
+		}
+
+		@Override
+		public int hashCode() {
+			/* a poor hash, so that chains hold several entries */
+			return id & 0xFF;
+		}
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testPutGetRemove() throws Throwable {
+		WeakKeyMap map = new WeakKeyMap();
+		List<Key> keys = new ArrayList<Key>();
+
+		for (int i = 0; i < 2000; i++) {
+			Key key = new Key(i);
+			keys.add(key);
+			map.put(key, "value" + i);
+		}
+		AssertJUnit.assertEquals(2000, map.size());
+		for (int i = 0; i < 2000; i++) {
+			AssertJUnit.assertEquals("value" + i, map.get(new Key(i)));
+			AssertJUnit.assertSame(keys.get(i), map.getKey(new Key(i)));
+		}
+		AssertJUnit.assertNull(map.get(new Key(2000)));
+		AssertJUnit.assertNull(map.getKey(new Key(2000)));
+
+		/* put replaces the value but keeps the original key */
+		map.put(new Key(7), "replaced");
+		AssertJUnit.assertEquals("replaced", map.get(new Key(7)));
+		AssertJUnit.assertSame(keys.get(7), map.getKey(new Key(7)));
+		AssertJUnit.assertEquals(2000, map.size());
+
+		/* remove every third key, which unlinks entries from the middle of chains */
+		for (int i = 0; i < 2000; i += 3) {
+			Object expected = (i == 7) ? "replaced" : ("value" + i);
+			AssertJUnit.assertEquals(expected, map.remove(new Key(i)));
+			AssertJUnit.assertNull(map.remove(new Key(i)));
+		}
+		for (int i = 0; i < 2000; i++) {
+			if ((i % 3) == 0) {
+				AssertJUnit.assertNull(map.get(new Key(i)));
+			} else {
+				AssertJUnit.assertEquals((i == 7) ? "replaced" : ("value" + i), map.get(new Key(i)));
+			}
+		}
+		AssertJUnit.assertEquals(2000 - 667, map.size());
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testSegmentsCreatedOnDemand() throws Throwable {
+		WeakKeyMap map = new WeakKeyMap();
+		AssertJUnit.assertEquals(0, map.segmentCount());
+		AssertJUnit.assertNull(map.get(new Key(1)));
+		AssertJUnit.assertNull(map.getKey(new Key(1)));
+		AssertJUnit.assertNull(map.remove(new Key(1)));
+		AssertJUnit.assertEquals(0, map.size());
+		AssertJUnit.assertEquals(0, map.segmentCount());
+
+		Key key = new Key(1);
+		map.put(key, "value");
+		AssertJUnit.assertEquals(1, map.segmentCount());
+		AssertJUnit.assertEquals("value", map.get(new Key(1)));
+		AssertJUnit.assertEquals(1, map.size());
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testPutKeyIfAbsent() throws Throwable {
+		WeakKeyMap map = new WeakKeyMap();
+		Key first = new Key(1);
+		Key second = new Key(1);
+
+		AssertJUnit.assertSame(first, map.putKeyIfAbsent(first, "first"));
+		AssertJUnit.assertSame(first, map.putKeyIfAbsent(second, "second"));
+		AssertJUnit.assertEquals("first", map.get(second));
+		AssertJUnit.assertEquals(1, map.size());
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testKeysClearedAfterGC() throws Throwable {
+		WeakKeyMap map = new WeakKeyMap();
+		List<Key> live = new ArrayList<Key>();
+
+		for (int i = 0; i < 1000; i++) {
+			Key key = new Key(i);
+			if ((i % 2) == 0) {
+				live.add(key);
+			}
+			map.put(key, Integer.valueOf(i));
+		}
+		AssertJUnit.assertEquals(1000, map.size());
+
+		/* the odd keys are only weakly reachable from the map */
+		boolean cleared = false;
+		for (int attempt = 0; (attempt < 10) && !cleared; attempt++) {
+			System.gc();
+			Thread.sleep(100);
+			cleared = true;
+			for (int i = 1; i < 1000; i += 2) {
+				if (map.get(new Key(i)) != null) {
+					cleared = false;
+					break;
+				}
+			}
+		}
+		AssertJUnit.assertTrue("weakly referenced keys were not cleared", cleared);
+
+		/*
+		 * Stale entries are expunged from every segment by any update once the collector has
+		 * enqueued them, so keep updating a single key until the size reflects the cleared keys.
+		 */
+		int size = map.size();
+		for (int attempt = 0; (attempt < 10) && (size != 500); attempt++) {
+			Thread.sleep(100);
+			Key key = new Key(1000000);
+			map.put(key, key);
+			map.remove(key);
+			size = map.size();
+		}
+		AssertJUnit.assertEquals(500, size);
+		/* the even keys are still strongly held by live */
+		for (Key key : live) {
+			AssertJUnit.assertEquals(Integer.valueOf(key.id), map.get(new Key(key.id)));
+			AssertJUnit.assertSame(key, map.getKey(new Key(key.id)));
+		}
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testConcurrentAccess() throws Throwable {
+		final WeakKeyMap map = new WeakKeyMap();
+		final int perThread = 2000;
+		final Key[][] canonical = new Key[THREAD_COUNT][perThread];
+		final CountDownLatch start = new CountDownLatch(1);
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[THREAD_COUNT];
+
+		for (int t = 0; t < THREAD_COUNT; t++) {
+			final int thread = t;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int i = 0; i < perThread; i++) {
+							/* every thread interns the same shared ids ... */
+							canonical[thread][i] = (Key)map.putKeyIfAbsent(new Key(i), "shared");
+							/* ... and adds, reads and removes ids of its own */
+							Key own = new Key((thread + 1) * 100000 + i);
+							map.put(own, own);
+							if (map.get(new Key(own.id)) != own) {
+								throw new AssertionError("lost own key " + own.id);
+							}
+							if ((i % 2) == 0) {
+								if (map.remove(new Key(own.id)) != own) {
+									throw new AssertionError("could not remove own key " + own.id);
+								}
+							}
+						}
+						/* the odd own keys are their own values, so the map keeps them reachable */
+						for (int i = 1; i < perThread; i += 2) {
+							Key own = (Key)map.getKey(new Key((thread + 1) * 100000 + i));
+							if (own == null) {
+								throw new AssertionError("lost own key " + ((thread + 1) * 100000 + i));
+							}
+						}
+					} catch (Throwable e) {
+						synchronized (failure) {
+							failure[0] = e;
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+
+		/* all threads must agree on one canonical instance per shared id */
+		for (int i = 0; i < perThread; i++) {
+			Key expected = canonical[0][i];
+			AssertJUnit.assertNotNull(expected);
+			for (int t = 1; t < THREAD_COUNT; t++) {
+				AssertJUnit.assertSame(expected, canonical[t][i]);
+			}
+			AssertJUnit.assertSame(expected, map.getKey(new Key(i)));
+		}
+	}
+}
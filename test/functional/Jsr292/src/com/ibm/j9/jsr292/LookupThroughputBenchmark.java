@@ -0,0 +1,108 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9.jsr292;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of repeated findVirtual/findStatic/findGetter lookups on a single
+ * class from an increasing number of threads. The lookups all hit the per-class handle cache,
+ * so throughput should scale with the thread count rather than serialize on the cache.
+ *
+ * This is a standalone benchmark rather than part of the test suites; run it with
+ * java -cp jsr292test.jar com.ibm.j9.jsr292.LookupThroughputBenchmark
+ */
+public class LookupThroughputBenchmark {
+	private static final long RUN_MILLIS = 500;
+
+	public static void main(String[] args) throws Throwable {
+		int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+		/* warm up the caches and the JIT */
+		runLookups(1, RUN_MILLIS);
+
+		long singleThreaded = 0;
+		for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+			long lookups = runLookups(threads, RUN_MILLIS);
+			long perSecond = (lookups * 1000) / RUN_MILLIS;
+			if (threads == 1) {
+				singleThreaded = perSecond;
+			}
+			System.out.println("LookupThroughputBenchmark: threads=" + threads + " lookups/s=" + perSecond
+					+ " scaling=" + ((singleThreaded == 0) ? 0 : ((double)perSecond / singleThreaded)));
+		}
+	}
+
+	private static long runLookups(int threadCount, final long millis) throws Throwable {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		final MethodType virtualType = MethodType.methodType(int.class, int.class, int.class);
+		final MethodType staticType = MethodType.methodType(String.class, int.class);
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicLong total = new AtomicLong();
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[threadCount];
+
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					long count = 0;
+					try {
+						start.await();
+						long end = System.currentTimeMillis() + millis;
+						while (System.currentTimeMillis() < end) {
+							for (int j = 0; j < 100; j++) {
+								MethodHandle virtual = lookup.findVirtual(SamePackageExample.class, "addPublic", virtualType);
+								MethodHandle stat = lookup.findStatic(String.class, "valueOf", staticType);
+								MethodHandle getter = lookup.findGetter(SamePackageExample.class, "nonStaticPublicField", int.class);
+								if ((virtual == null) || (stat == null) || (getter == null)) {
+									throw new AssertionError("lookup returned null");
+								}
+							}
+							count += 300;
+						}
+					} catch (Throwable t) {
+						synchronized (failure) {
+							failure[0] = t;
+						}
+					}
+					total.addAndGet(count);
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+		return total.get();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9.jsr292;
+
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Interns millions of MethodTypes from 1 to 64 threads. Every thread walks the same set of
+ * signatures from a different starting point, so the run mixes first-time insertions with
+ * lookups of signatures already interned by other threads.
+ *
+ * This is a standalone benchmark rather than part of the test suites; run it with
+ * java -cp jsr292test.jar com.ibm.j9.jsr292.MethodTypeInternBenchmark
+ */
+public class MethodTypeInternBenchmark {
+	private static final Class<?>[] TYPES = {
+		int.class, long.class, double.class, float.class, boolean.class, byte.class,
+		Object.class, String.class, Integer.class, Long.class, Class.class, Thread.class,
+	};
+	private static final int PARAMETER_COUNT = 4;
+	private static final int SIGNATURES = pow(TYPES.length, PARAMETER_COUNT);
+	private static final int INTERNS_PER_RUN = 4_000_000;
+
+	private static int pow(int base, int exponent) {
+		int result = 1;
+		for (int i = 0; i < exponent; i++) {
+			result *= base;
+		}
+		return result;
+	}
+
+	public static void main(String[] args) throws Throwable {
+		for (int threads = 1; threads <= 64; threads <<= 1) {
+			long start = System.nanoTime();
+			runInterns(threads, INTERNS_PER_RUN / threads);
+			long elapsed = System.nanoTime() - start;
+			System.out.println("MethodTypeInternBenchmark: threads=" + threads + " interns/s="
+					+ (long)(INTERNS_PER_RUN * 1e9 / elapsed));
+		}
+	}
+
+	private static MethodType signature(int index) {
+		Class<?>[] parameters = new Class<?>[PARAMETER_COUNT];
+		for (int i = 0; i < PARAMETER_COUNT; i++) {
+			parameters[i] = TYPES[index % TYPES.length];
+			index /= TYPES.length;
+		}
+		return MethodType.methodType(void.class, parameters);
+	}
+
+	private static void runInterns(int threadCount, final int internsPerThread) throws Throwable {
+		final CountDownLatch start = new CountDownLatch(1);
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[threadCount];
+
+		for (int i = 0; i < threadCount; i++) {
+			final int offset = (int)(((long)i * SIGNATURES) / threadCount);
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int j = 0; j < internsPerThread; j++) {
+							int index = (offset + j) % SIGNATURES;
+							/* interning must be idempotent: both calls return the canonical instance */
+							if (signature(index) != signature(index)) {
+								throw new AssertionError("MethodType not interned: " + signature(index));
+							}
+						}
+					} catch (Throwable t) {
+						synchronized (failure) {
+							failure[0] = t;
+						}
+					}
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9.jsr292;
+
+import org.testng.annotations.Test;
+import org.testng.AssertJUnit;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Checks that MethodTypes are interned: equal types obtained through any factory, from any
+ * thread, are the same instance, and interned types that are no longer reachable are collected.
+ */
+public class MethodTypeInternTest {
+	private static final Class<?>[] TYPES = {
+		int.class, long.class, double.class, Object.class, String.class, Integer.class,
+	};
+	private static final int PARAMETER_COUNT = 3;
+	private static final int SIGNATURES = TYPES.length * TYPES.length * TYPES.length;
+	private static final int THREAD_COUNT = 8;
+
+	private static MethodType signature(int index) {
+		Class<?>[] parameters = new Class<?>[PARAMETER_COUNT];
+		for (int i = 0; i < PARAMETER_COUNT; i++) {
+			parameters[i] = TYPES[index % TYPES.length];
+			index /= TYPES.length;
+		}
+		return MethodType.methodType(void.class, parameters);
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testEqualTypesAreCanonical() throws Throwable {
+		MethodType type = MethodType.methodType(String.class, int.class, Object.class);
+		ClassLoader loader = MethodTypeInternTest.class.getClassLoader();
+
+		AssertJUnit.assertSame(type, MethodType.methodType(String.class, int.class, Object.class));
+		AssertJUnit.assertSame(type, MethodType.methodType(String.class, new Class<?>[] { int.class, Object.class }));
+		AssertJUnit.assertSame(type, MethodType.methodType(String.class, int.class).appendParameterTypes(Object.class));
+		AssertJUnit.assertSame(type, MethodType.fromMethodDescriptorString("(ILjava/lang/Object;)Ljava/lang/String;", loader));
+		AssertJUnit.assertSame(type, MethodType.genericMethodType(2).changeReturnType(String.class).changeParameterType(0, int.class));
+		AssertJUnit.assertNotSame(type, MethodType.methodType(String.class, int.class, String.class));
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testConcurrentInterning() throws Throwable {
+		final MethodType[][] interned = new MethodType[THREAD_COUNT][SIGNATURES];
+		final CountDownLatch start = new CountDownLatch(1);
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[THREAD_COUNT];
+
+		for (int t = 0; t < THREAD_COUNT; t++) {
+			final int thread = t;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						/* each thread starts at a different signature so that first insertions race with lookups */
+						for (int i = 0; i < SIGNATURES; i++) {
+							int index = (i + ((thread * SIGNATURES) / THREAD_COUNT)) % SIGNATURES;
+							interned[thread][index] = signature(index);
+						}
+					} catch (Throwable e) {
+						synchronized (failure) {
+							failure[0] = e;
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+
+		for (int i = 0; i < SIGNATURES; i++) {
+			MethodType expected = signature(i);
+			for (int t = 0; t < THREAD_COUNT; t++) {
+				AssertJUnit.assertSame("Signature " + expected + " on thread " + t, expected, interned[t][i]);
+			}
+		}
+	}
+
+	@Test(groups = { "level.extended" })
+	public void testUnreachableTypesAreCollected() throws Throwable {
+		/* signatures long and unusual enough that nothing else in the VM will hold them */
+		List<WeakReference<MethodType>> refs = new ArrayList<WeakReference<MethodType>>();
+		for (int i = 0; i < 100; i++) {
+			Class<?>[] parameters = new Class<?>[20];
+			for (int j = 0; j < parameters.length; j++) {
+				parameters[j] = (((i >> (j % 7)) & 1) == 0) ? MethodTypeInternTest.class : Thread.State.class;
+			}
+			parameters[i % parameters.length] = char[][].class;
+			refs.add(new WeakReference<MethodType>(MethodType.methodType(MethodTypeInternTest.class, parameters)));
+		}
+
+		boolean collected = false;
+		for (int attempt = 0; (attempt < 10) && !collected; attempt++) {
+			System.gc();
+			Thread.sleep(100);
+			collected = true;
+			for (WeakReference<MethodType> ref : refs) {
+				if (ref.get() != null) {
+					collected = false;
+					break;
+				}
+			}
+		}
+		AssertJUnit.assertTrue("Unreachable interned MethodTypes were not collected", collected);
+
+		/* interning the same signatures again must still produce canonical instances */
+		MethodType again = MethodType.methodType(MethodTypeInternTest.class, char[][].class);
+		AssertJUnit.assertSame(again, MethodType.methodType(MethodTypeInternTest.class, char[][].class));
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.trace.tests.format;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.ibm.jvm.trace.format.api.TraceContext;
+
+/**
+ * Checks that the trace records parsed from a memory mapping of a trace file, by
+ * TraceContext.getMappedContext() and addMappedData(), give the same trace points as
+ * the records read from the file by addData(RandomAccessFile, long).
+ */
+public class TestMappedTraceData extends TestCase {
+
+	private static void assertSameContext(TraceContext expected, TraceContext actual) {
+		assertEquals("records", expected.getTotalRecords(), actual.getTotalRecords());
+		assertEquals("trace points", expected.getTotalTracePoints(), actual.getTotalTracePoints());
+		assertEquals("errors", expected.getErrorCount(), actual.getErrorCount());
+		assertEquals("record size", expected.getRecordSize(), actual.getRecordSize());
+		assertEquals("header size", expected.getHeaderSize(), actual.getHeaderSize());
+	}
+
+	private static File copy(File source, int extraBytes) throws IOException {
+		File file = File.createTempFile("formattest", ".trc");
+		file.deleteOnExit();
+		InputStream in = new FileInputStream(source);
+		try {
+			OutputStream out = new FileOutputStream(file);
+			try {
+				byte[] buffer = new byte[64 * 1024];
+				int count;
+				while ((count = in.read(buffer)) > 0) {
+					out.write(buffer, 0, count);
+				}
+				out.write(new byte[extraBytes]);
+			} finally {
+				out.close();
+			}
+		} finally {
+			in.close();
+		}
+		return file;
+	}
+
+	public void testMappedMatchesRead() throws Exception {
+		File traceFile = TraceFiles.getTraceFile();
+		RandomAccessFile file = new RandomAccessFile(traceFile, "r");
+		try {
+			TraceContext read = TraceFiles.getReadContext(file);
+			TraceContext mapped = TraceFiles.getMappedContext(traceFile);
+
+			List<String> readTracepoints = TraceFiles.describeAll(read.getTracepoints());
+			List<String> mappedTracepoints = TraceFiles.describeAll(mapped.getTracepoints());
+
+			assertFalse("No trace points in " + traceFile, readTracepoints.isEmpty());
+			assertEquals(readTracepoints, mappedTracepoints);
+			assertSameContext(read, mapped);
+		} finally {
+			file.close();
+		}
+	}
+
+	public void testAddMappedData() throws Exception {
+		File traceFile = TraceFiles.getTraceFile();
+		TraceContext expected = TraceFiles.getMappedContext(traceFile);
+
+		RandomAccessFile file = new RandomAccessFile(traceFile, "r");
+		TraceContext context;
+		try {
+			byte[] header = new byte[expected.getHeaderSize()];
+			file.readFully(header);
+			context = TraceContext.getContext(header, header.length, TraceFiles.getDatFiles().get(0));
+			TraceFiles.addRemainingDatFiles(context);
+
+			long records = context.addMappedData(file, context.getHeaderSize());
+			assertEquals((traceFile.length() - context.getHeaderSize()) / context.getRecordSize(), records);
+		} finally {
+			file.close();
+		}
+
+		/* the mapping remains valid once the file is closed */
+		assertEquals(TraceFiles.describeAll(expected.getTracepoints()), TraceFiles.describeAll(context.getTracepoints()));
+		assertSameContext(expected, context);
+	}
+
+	public void testParallelOverMappedData() throws Exception {
+		File traceFile = TraceFiles.getTraceFile();
+		RandomAccessFile file = new RandomAccessFile(traceFile, "r");
+		try {
+			TraceContext read = TraceFiles.getReadContext(file);
+			TraceContext mapped = TraceFiles.getMappedContext(traceFile);
+
+			/* a single decoder returns trace points with equal time stamps in a fixed order */
+			assertEquals(TraceFiles.describeAll(read.getTracepoints(1)), TraceFiles.describeAll(mapped.getTracepoints(1)));
+		} finally {
+			file.close();
+		}
+	}
+
+	public void testTruncatedRecord() throws Exception {
+		File traceFile = TraceFiles.getTraceFile();
+		TraceContext expected = TraceFiles.getMappedContext(traceFile);
+		List<String> expectedTracepoints = TraceFiles.describeAll(expected.getTracepoints());
+
+		/* a partial record, too short to hold a record header, at the end of the file */
+		File truncated = copy(traceFile, 16);
+		TraceContext context = TraceContext.getMappedContext(truncated, TraceFiles.getDatFiles().get(0), null, null, null, null);
+		TraceFiles.addRemainingDatFiles(context);
+
+		assertEquals(expected.getErrorCount() + 1, context.getErrorCount());
+		assertEquals(expectedTracepoints, TraceFiles.describeAll(context.getTracepoints()));
+		truncated.delete();
+	}
+
+	public void testHeaderOnly() throws Exception {
+		File traceFile = TraceFiles.getTraceFile();
+		TraceContext full = TraceFiles.getMappedContext(traceFile);
+
+		File headerOnly = File.createTempFile("formattest", ".trc");
+		headerOnly.deleteOnExit();
+		RandomAccessFile in = new RandomAccessFile(traceFile, "r");
+		RandomAccessFile out = new RandomAccessFile(headerOnly, "rw");
+		try {
+			byte[] header = new byte[full.getHeaderSize()];
+			in.readFully(header);
+			out.write(header);
+		} finally {
+			in.close();
+			out.close();
+		}
+
+		TraceContext context = TraceContext.getMappedContext(headerOnly, TraceFiles.getDatFiles().get(0), null, null, null, null);
+		assertEquals(0, context.getTotalRecords());
+		assertFalse(context.getTracepoints().hasNext());
+		headerOnly.delete();
+	}
+
+}
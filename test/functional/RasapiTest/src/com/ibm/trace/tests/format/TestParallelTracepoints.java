@@ -0,0 +1,189 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.trace.tests.format;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import junit.framework.TestCase;
+
+import com.ibm.jvm.trace.format.api.TraceContext;
+
+/**
+ * Checks that TraceContext.getTracepoints(int), which decodes threads on a pool of workers,
+ * returns the same trace points with the same formatted data in the same order as the
+ * serial iterator from TraceContext.getTracepoints().
+ */
+public class TestParallelTracepoints extends TestCase {
+
+	/* the size of the batches ParallelTracepointIterator decodes for each thread */
+	private static final int BATCH_SIZE = 1024;
+
+	/* the trace points from the serial iterator, which consumes the context, so each test loads its own */
+	private static List<String> serial;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (serial == null) {
+			serial = TraceFiles.describeAll(TraceFiles.getMappedContext(TraceFiles.getTraceFile()).getTracepoints());
+		}
+	}
+
+	/**
+	 * The serial iterator doesn't define the order of trace points from different threads with the
+	 * same time stamp, so those are compared as a set. Everything else must be in the same order.
+	 */
+	private static void assertSameTracepoints(String message, List<String> expected, List<String> actual) {
+		assertEquals(message + ": number of trace points", expected.size(), actual.size());
+
+		int start = 0;
+		while (start < expected.size()) {
+			String time = timeOf(expected.get(start));
+			int end = start + 1;
+			while (end < expected.size() && timeOf(expected.get(end)).equals(time)) {
+				end++;
+			}
+
+			List<String> expectedRun = new ArrayList<String>(expected.subList(start, end));
+			List<String> actualRun = new ArrayList<String>(actual.subList(start, end));
+			if (expectedRun.size() > 1) {
+				Collections.sort(expectedRun);
+				Collections.sort(actualRun);
+			}
+			assertEquals(message + ": trace points " + start + " to " + (end - 1), expectedRun, actualRun);
+			start = end;
+		}
+
+		/* the order of each thread's own trace points is fully defined */
+		assertEquals(message + ": trace points by thread", byThread(expected), byThread(actual));
+	}
+
+	private static String field(String description, int index) {
+		/* skip any lost data reported ahead of the trace point */
+		while (description.startsWith("[missing ")) {
+			description = description.substring(description.indexOf("] ") + 2);
+		}
+		String[] fields = description.split(" ", index + 2);
+		return (fields.length > index) ? fields[index] : "";
+	}
+
+	private static String timeOf(String description) {
+		return field(description, 0);
+	}
+
+	private static Map<String, List<String>> byThread(List<String> descriptions) {
+		Map<String, List<String>> threads = new HashMap<String, List<String>>();
+		for (String description : descriptions) {
+			String thread = field(description, 1);
+			List<String> list = threads.get(thread);
+			if (list == null) {
+				list = new ArrayList<String>();
+				threads.put(thread, list);
+			}
+			list.add(description);
+		}
+		return threads;
+	}
+
+	public void testTraceData() {
+		Map<String, List<String>> threads = byThread(serial);
+		assertTrue("Expected trace from several threads, got " + threads.size(), threads.size() > 1);
+
+		int largest = 0;
+		for (List<String> tracepoints : threads.values()) {
+			largest = Math.max(largest, tracepoints.size());
+		}
+		assertTrue("Expected a thread with more than one batch of trace points, the largest has " + largest, largest > BATCH_SIZE);
+	}
+
+	public void testOneDecoder() throws Exception {
+		TraceContext context = TraceFiles.getMappedContext(TraceFiles.getTraceFile());
+		assertSameTracepoints("1 decoder", serial, TraceFiles.describeAll(context.getTracepoints(1)));
+	}
+
+	public void testSeveralDecoders() throws Exception {
+		int[] decoders = { 2, 4, Runtime.getRuntime().availableProcessors() };
+		for (int i = 0; i < decoders.length; i++) {
+			TraceContext context = TraceFiles.getMappedContext(TraceFiles.getTraceFile());
+			assertSameTracepoints(decoders[i] + " decoders", serial, TraceFiles.describeAll(context.getTracepoints(decoders[i])));
+		}
+	}
+
+	public void testMoreDecodersThanThreads() throws Exception {
+		TraceContext context = TraceFiles.getMappedContext(TraceFiles.getTraceFile());
+		assertSameTracepoints("64 decoders", serial, TraceFiles.describeAll(context.getTracepoints(64)));
+	}
+
+	public void testCounts() throws Exception {
+		TraceContext serialContext = TraceFiles.getMappedContext(TraceFiles.getTraceFile());
+		TraceFiles.describeAll(serialContext.getTracepoints());
+		TraceContext parallelContext = TraceFiles.getMappedContext(TraceFiles.getTraceFile());
+		TraceFiles.describeAll(parallelContext.getTracepoints(4));
+
+		assertEquals(serialContext.getTotalTracePoints(), parallelContext.getTotalTracePoints());
+		assertEquals(serialContext.getTotalRecords(), parallelContext.getTotalRecords());
+		assertEquals(serialContext.getErrorCount(), parallelContext.getErrorCount());
+	}
+
+	public void testEmptyContext() throws Exception {
+		/* a context with the header of the file but none of its records */
+		File file = TraceFiles.getTraceFile();
+		TraceContext context = TraceFiles.getMappedContext(file);
+		context = TraceContext.getContext(readHeader(file, context.getHeaderSize()), context.getHeaderSize(), TraceFiles.getDatFiles().get(0));
+		assertFalse(context.getTracepoints(4).hasNext());
+		try {
+			context.getTracepoints(4).next();
+			fail("Expected NoSuchElementException");
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	public void testInvalidDecoderCount() throws Exception {
+		TraceContext context = TraceFiles.getMappedContext(TraceFiles.getTraceFile());
+		try {
+			context.getTracepoints(0);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static byte[] readHeader(File file, int length) throws Exception {
+		byte[] header = new byte[length];
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			in.readFully(header);
+		} finally {
+			in.close();
+		}
+		return header;
+	}
+
+}
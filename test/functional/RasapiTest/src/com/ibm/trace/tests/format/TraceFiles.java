@@ -0,0 +1,175 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.trace.tests.format;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.ibm.jvm.trace.format.api.MissingDataException;
+import com.ibm.jvm.trace.format.api.TraceContext;
+import com.ibm.jvm.trace.format.api.TracePointImpl;
+
+/**
+ * Helpers for the trace formatter tests: generating a binary trace file, loading it into a
+ * context and formatting its trace points.
+ */
+class TraceFiles {
+
+	private static File traceFile;
+
+	/**
+	 * Runs TraceWorkload in a child JVM writing trace to a file. The file is generated on
+	 * the first call and shared by the tests after that.
+	 * @return the binary trace file
+	 */
+	static synchronized File getTraceFile() throws Exception {
+		if (traceFile == null) {
+			File file = File.createTempFile("formattest", ".trc");
+			file.deleteOnExit();
+
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+			ProcessBuilder builder = new ProcessBuilder(java,
+					"-Xtrace:maximal=all{level3},output=" + file.getAbsolutePath(),
+					"-cp", System.getProperty("java.class.path"),
+					TraceWorkload.class.getName());
+			builder.redirectErrorStream(true);
+			Process process = builder.start();
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					System.out.println("TraceWorkload: " + line);
+				}
+			} finally {
+				reader.close();
+			}
+
+			int rc = process.waitFor();
+			if (rc != 0) {
+				throw new IllegalStateException("TraceWorkload exited with " + rc);
+			}
+			if (file.length() == 0) {
+				throw new IllegalStateException("No trace was written to " + file);
+			}
+			traceFile = file;
+		}
+		return traceFile;
+	}
+
+	/**
+	 * @return the dat files holding the format strings of the trace points, the first of
+	 * which must be used to create a context
+	 */
+	static List<File> getDatFiles() {
+		File lib = new File(System.getProperty("java.home"), "lib");
+		List<File> files = new ArrayList<File>();
+		files.add(new File(lib, "J9TraceFormat.dat"));
+		File omr = new File(lib, "OMRTraceFormat.dat");
+		if (omr.exists()) {
+			files.add(omr);
+		}
+		return files;
+	}
+
+	static void addRemainingDatFiles(TraceContext context) throws IOException {
+		List<File> datFiles = getDatFiles();
+		for (int i = 1; i < datFiles.size(); i++) {
+			context.addMessageData(datFiles.get(i));
+		}
+	}
+
+	/**
+	 * @return a context holding all of the records of a trace file, parsed from a mapping of the file
+	 */
+	static TraceContext getMappedContext(File file) throws IOException {
+		TraceContext context = TraceContext.getMappedContext(file, getDatFiles().get(0), null, null, null, null);
+		addRemainingDatFiles(context);
+		return context;
+	}
+
+	/**
+	 * @return a context holding all of the records of a trace file, read from the file one record at a
+	 * time. The records are read again as their trace points are iterated, so the file must stay open
+	 * until then.
+	 */
+	static TraceContext getReadContext(RandomAccessFile file) throws IOException {
+		byte[] header = new byte[(int) Math.min(file.length(), 1 << 20)];
+		file.seek(0);
+		file.readFully(header);
+		TraceContext context = TraceContext.getContext(header, header.length, getDatFiles().get(0), null, null, null, null);
+		addRemainingDatFiles(context);
+
+		long length = file.length();
+		for (long offset = context.getHeaderSize(); offset < length; offset += context.getRecordSize()) {
+			try {
+				context.addData(file, offset);
+			} catch (IllegalArgumentException e) {
+				// counted by the context as an error
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * Describes a trace point with the fields the traceformat tool prints for it.
+	 */
+	static String describe(TracePointImpl tracepoint) {
+		String container = tracepoint.getContainerComponent();
+		return tracepoint.getRawTime()
+				+ " " + Long.toHexString(tracepoint.getThread().getThreadID())
+				+ " " + tracepoint.getComponentName() + (container != null ? "(" + container + ")" : "") + "." + tracepoint.getID()
+				+ " " + tracepoint.getType()
+				+ " " + tracepoint.getFormattedParameters();
+	}
+
+	/**
+	 * Describes each of the trace points returned by an iterator, in order. Lost data is
+	 * reported in the description of the trace point that follows it.
+	 */
+	static List<String> describeAll(Iterator tracepoints) {
+		List<String> descriptions = new ArrayList<String>();
+		String missing = "";
+		while (tracepoints.hasNext()) {
+			TracePointImpl tracepoint;
+			try {
+				tracepoint = (TracePointImpl) tracepoints.next();
+			} catch (MissingDataException e) {
+				missing += "[missing " + e.getMissingBytes() + "] ";
+				continue;
+			}
+			descriptions.add(missing + describe(tracepoint));
+			missing = "";
+		}
+		if (missing.length() > 0) {
+			descriptions.add(missing);
+		}
+		return descriptions;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.trace.tests.format;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.ibm.jvm.trace.format.api.TraceContext;
+
+/**
+ * Compares the rate at which trace records are added to a TraceContext and their
+ * trace points iterated when the records are read from the trace file with
+ * RandomAccessFile and when they are parsed from a memory mapping of the file.
+ *
+ * Usage: TraceReadBenchmark traceFile [iterations [datFile]]
+ *
+ * The dat file defaults to lib/J9TraceFormat.dat in java.home.
+ */
+public class TraceReadBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.err.println("Usage: TraceReadBenchmark traceFile [iterations [datFile]]");
+			System.exit(1);
+		}
+
+		File traceFile = new File(args[0]);
+		int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+		File datFile = (args.length > 2) ? new File(args[2])
+				: new File(System.getProperty("java.home") + File.separator + "lib" + File.separator + "J9TraceFormat.dat");
+
+		System.out.println("Trace file: " + traceFile + " (" + (traceFile.length() >> 20) + "MB), " + iterations + " iterations");
+
+		// the first iteration of each is warm up, for the JIT and the page cache
+		for (int i = 0; i <= iterations; i++) {
+			boolean report = (i > 0);
+			run("file", traceFile, datFile, false, report);
+			run("mapped", traceFile, datFile, true, report);
+		}
+	}
+
+	private static void run(String name, File traceFile, File datFile, boolean mapped, boolean report) throws Exception {
+		long start = System.nanoTime();
+
+		if (mapped) {
+			TraceContext context = TraceContext.getMappedContext(traceFile, datFile, null, null, null, null);
+			countTracepoints(context);
+			report(name, context, start, report);
+		} else {
+			// the records are read from the file as they are iterated, so keep it open until then
+			try (RandomAccessFile file = new RandomAccessFile(traceFile, "r")) {
+				byte[] header = new byte[(int) Math.min(file.length(), 1 << 20)];
+				file.readFully(header);
+				TraceContext context = TraceContext.getContext(header, header.length, datFile, null, null, null, null);
+
+				long length = file.length();
+				for (long offset = context.getHeaderSize(); offset < length; offset += context.getRecordSize()) {
+					try {
+						context.addData(file, offset);
+					} catch (IllegalArgumentException e) {
+						// counted by the context as an error
+					}
+				}
+
+				countTracepoints(context);
+				report(name, context, start, report);
+			}
+		}
+	}
+
+	private static long countTracepoints(TraceContext context) {
+		long count = 0;
+		Iterator tracepoints = context.getTracepoints();
+		while (tracepoints.hasNext()) {
+			try {
+				if (tracepoints.next() != null) {
+					count += 1;
+				}
+			} catch (NoSuchElementException e) {
+				// missing data, the iterator remains valid
+			}
+		}
+		return count;
+	}
+
+	private static void report(String name, TraceContext context, long start, boolean report) {
+		long elapsed = System.nanoTime() - start;
+		if (report) {
+			System.out.println(String.format("%-8s %,12d records/s %,14d tracepoints/s (%d records, %d errors)",
+					name,
+					(long) (context.getTotalRecords() * 1e9 / elapsed),
+					(long) (context.getTotalTracePoints() * 1e9 / elapsed),
+					context.getTotalRecords(),
+					context.getErrorCount()));
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.trace.tests.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Run with trace written to a file to produce trace data for the formatter tests. Several
+ * threads allocate, contend on a lock and start and stop, so that the trace file holds many
+ * records from threads whose trace points are interleaved in time.
+ *
+ * Usage: TraceWorkload [threads [iterations]]
+ */
+public class TraceWorkload {
+
+	private static final Object lock = new Object();
+
+	private static long total;
+
+	public static void main(String[] args) throws Exception {
+		int threadCount = (args.length > 0) ? Integer.parseInt(args[0]) : 4;
+		final int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 20000;
+
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < threadCount; i++) {
+			Thread thread = new Thread("TraceWorkload " + i) {
+				public void run() {
+					List<Object> retained = new ArrayList<Object>();
+					for (int j = 0; j < iterations; j++) {
+						retained.add(new StringBuilder("value ").append(j).toString());
+						if (retained.size() > 1000) {
+							retained.clear();
+						}
+						synchronized (lock) {
+							total += j;
+						}
+						if ((j % 1000) == 0) {
+							System.gc();
+						}
+					}
+				}
+			};
+			thread.start();
+			threads.add(thread);
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		System.out.println("TraceWorkload completed: " + total);
+	}
+
+}
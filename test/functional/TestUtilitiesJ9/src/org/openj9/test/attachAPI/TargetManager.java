@@ -465,6 +465,17 @@ public class TargetManager {
 
 	}
 
+	/**
+	 * Kill the target without letting it shut down, so that its target directory is left
+	 * behind as if it had crashed.
+	 * @return exit status of the target
+	 */
+	public int killTarget() throws InterruptedException {
+		active = false;
+		proc.destroyForcibly();
+		return proc.waitFor();
+	}
+
 	public synchronized String getErrOutput() {
 		return errOutput;
 	}
@@ -0,0 +1,106 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Checks the annotations of classes whose annotation type names are stored in a layered
+ * shared classes cache (-Dcom.ibm.oti.shared.reflectionData=true).
+ * <p>
+ * The argument names the groups of classes to load: none, A, or AB. Run with none to create
+ * layer 0, with A to add the A classes in layer 1, and with AB to add the B classes in layer 2.
+ * The A and B classes are the same size, so the B classes are at the same offsets in layer 2
+ * as the A classes in layer 1, and the names stored for the classes of one layer must not be
+ * found for the classes of the other.
+ */
+public class SharedReflectionDataLayers {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface MarkA {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface MarkB {
+	}
+
+	@MarkA static class A0 {}
+	@MarkA static class A1 {}
+	@MarkA static class A2 {}
+	@MarkA static class A3 {}
+	@MarkA static class A4 {}
+	@MarkA static class A5 {}
+	@MarkA static class A6 {}
+	@MarkA static class A7 {}
+
+	@MarkB static class B0 {}
+	@MarkB static class B1 {}
+	@MarkB static class B2 {}
+	@MarkB static class B3 {}
+	@MarkB static class B4 {}
+	@MarkB static class B5 {}
+	@MarkB static class B6 {}
+	@MarkB static class B7 {}
+
+	private static int failures;
+
+	/* the classes are only loaded when these methods run */
+	private static Class<?>[] classesA() {
+		return new Class<?>[] { A0.class, A1.class, A2.class, A3.class, A4.class, A5.class, A6.class, A7.class };
+	}
+
+	private static Class<?>[] classesB() {
+		return new Class<?>[] { B0.class, B1.class, B2.class, B3.class, B4.class, B5.class, B6.class, B7.class };
+	}
+
+	private static void check(Class<?> clazz, Class<? extends java.lang.annotation.Annotation> annotation, boolean expected) {
+		if (clazz.isAnnotationPresent(annotation) != expected) {
+			System.out.println("FAILED: " + clazz.getName() + ".isAnnotationPresent(" + annotation.getName() + ") is not " + expected);
+			failures += 1;
+		}
+		if ((null != clazz.getAnnotation(annotation)) != expected) {
+			System.out.println("FAILED: " + clazz.getName() + ".getAnnotation(" + annotation.getName() + ") is " + (expected ? "" : "not ") + "null");
+			failures += 1;
+		}
+	}
+
+	private static void checkClasses(Class<?>[] classes, boolean markedA) {
+		for (Class<?> clazz : classes) {
+			check(clazz, MarkA.class, markedA);
+			check(clazz, MarkB.class, !markedA);
+		}
+	}
+
+	public static void main(String[] args) {
+		String groups = (args.length > 0) ? args[0] : "none";
+		/* load the annotation types in every run, so that layers 1 and 2 only add the A and B classes */
+		System.out.println("annotation types: " + MarkA.class.getName() + " " + MarkB.class.getName());
+		if (groups.indexOf('A') >= 0) {
+			checkClasses(classesA(), true);
+		}
+		if (groups.indexOf('B') >= 0) {
+			checkClasses(classesB(), false);
+		}
+		if (0 == failures) {
+			System.out.println("PASSED: " + groups);
+		}
+	}
+}